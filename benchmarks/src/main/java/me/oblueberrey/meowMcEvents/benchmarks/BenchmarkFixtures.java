@@ -0,0 +1,77 @@
+package me.oblueberrey.meowMcEvents.benchmarks;
+
+import me.oblueberrey.meowMcEvents.platform.DebugCategory;
+import me.oblueberrey.meowMcEvents.platform.PlatformAdapter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Inputs for the core benchmarks: an in-memory platform and seeded player ids.
+ *
+ * The platform keeps a name per online player, a tick the benchmark sets and drops all
+ * debug output - the same as production with debug off. Player ids come from a fixed seed
+ * so every run sees the same input.
+ */
+final class BenchmarkFixtures {
+
+    static final long SEED = 42L;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * PlatformAdapter over plain maps; nothing here touches a server
+     */
+    static final class Platform implements PlatformAdapter {
+
+        private final Map<UUID, String> online = new ConcurrentHashMap<>();
+        volatile long tick;
+
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public long currentTick() {
+            return tick;
+        }
+
+        @Override
+        public boolean isOnline(UUID player) {
+            return online.containsKey(player);
+        }
+
+        @Override
+        public String getName(UUID player) {
+            return online.get(player);
+        }
+
+        @Override
+        public void debug(DebugCategory category, Supplier<String> message) {
+        }
+    }
+
+    /**
+     * {@code count} seeded player ids, all online on the given platform
+     */
+    static List<UUID> players(Platform platform, int count) {
+        platform.online.clear();
+        Random random = new Random(SEED);
+        List<UUID> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            platform.online.put(uuid, "Player" + i);
+            result.add(uuid);
+        }
+        return result;
+    }
+
+    static Set<UUID> uuids(List<UUID> players) {
+        Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+        uuids.addAll(players);
+        return uuids;
+    }
+}
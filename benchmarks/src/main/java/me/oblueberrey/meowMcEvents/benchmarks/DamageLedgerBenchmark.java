@@ -0,0 +1,61 @@
+package me.oblueberrey.meowMcEvents.benchmarks;
+
+import me.oblueberrey.meowMcEvents.managers.DamageLedger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kill attribution: recording a hit (every damage event) and looking up the last attacker
+ * (every fatal hit)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DamageLedgerBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int participants;
+
+    private UUID[] players;
+    private DamageLedger ledger;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.Platform platform = new BenchmarkFixtures.Platform();
+        players = BenchmarkFixtures.players(platform, participants).toArray(new UUID[0]);
+        ledger = new DamageLedger(platform);
+    }
+
+    /**
+     * Everyone tagged by their neighbour; redone each iteration so the 8s combat tag never lapses
+     */
+    @Setup(Level.Iteration)
+    public void tagEveryone() {
+        for (int i = 0; i < players.length; i++) {
+            ledger.record(players[i], players[(i + 1) % players.length], "melee");
+        }
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = index + 1 == players.length ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public void record() {
+        int victim = next();
+        ledger.record(players[victim], players[(victim + 1) % players.length], "melee");
+    }
+
+    @Benchmark
+    public UUID getLastAttacker() {
+        return ledger.getLastAttacker(players[next()]);
+    }
+}
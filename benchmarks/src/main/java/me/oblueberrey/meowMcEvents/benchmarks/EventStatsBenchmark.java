@@ -0,0 +1,92 @@
+package me.oblueberrey.meowMcEvents.benchmarks;
+
+import me.oblueberrey.meowMcEvents.managers.EventStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Placement and kill bookkeeping: eliminating the whole field, the results ordering and
+ * the top killers shown in the rankings
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventStatsBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int participants;
+
+    private final BenchmarkFixtures.Platform platform = new BenchmarkFixtures.Platform();
+    private UUID[] order;
+    private Set<UUID> uuids;
+
+    // Finished event: everyone but the winner dead, kills spread over the field
+    private EventStats finished;
+
+    /**
+     * Stats for an event that just started, reset before each recordDeaths call
+     */
+    @State(Scope.Thread)
+    public static class Started {
+        EventStats stats;
+
+        @Setup(Level.Trial)
+        public void create(EventStatsBenchmark benchmark) {
+            stats = new EventStats(benchmark.platform);
+        }
+
+        @Setup(Level.Invocation)
+        public void reset(EventStatsBenchmark benchmark) {
+            stats.reset();
+            stats.registerParticipants(benchmark.uuids);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<UUID> players = BenchmarkFixtures.players(platform, participants);
+        uuids = BenchmarkFixtures.uuids(players);
+        order = players.toArray(new UUID[0]);
+
+        finished = new EventStats(platform);
+        finished.registerParticipants(uuids);
+        Random random = new Random(BenchmarkFixtures.SEED);
+        for (int i = 0; i < order.length - 1; i++) {
+            platform.tick = i;
+            finished.recordDeath(order[i]);
+            UUID killer = order[i + 1 + random.nextInt(order.length - i - 1)];
+            finished.recordKill(killer, 1 + random.nextInt(5));
+        }
+    }
+
+    /**
+     * Every participant eliminated, a few per tick (the cost of a whole event's deaths)
+     */
+    @Benchmark
+    public int recordDeaths(Started state) {
+        for (int i = 0; i < order.length; i++) {
+            platform.tick = i / 3;
+            state.stats.recordDeath(order[i]);
+        }
+        return state.stats.getPlacement(order[0]);
+    }
+
+    @Benchmark
+    public List<UUID> getPlacementsInOrder() {
+        return finished.getPlacementsInOrder();
+    }
+
+    @Benchmark
+    public List<Map.Entry<UUID, Integer>> getTopKillers() {
+        return finished.getTopKillers(EventStats.LEADERBOARD_SIZE);
+    }
+}
@@ -0,0 +1,73 @@
+package me.oblueberrey.meowMcEvents.benchmarks;
+
+import me.oblueberrey.meowMcEvents.managers.KillFeedFormatter;
+import me.oblueberrey.meowMcEvents.managers.TeamRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building kill feed lines (team colors, weapon tag, distance) as KillFeedManager does for
+ * every kill, minus the broadcast
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KillFeedBenchmark {
+
+    // Legacy color per team, as TeamManager hands out for two teams
+    private static final String[] TEAM_COLORS = {"§c", "§9"};
+    // Fists, melee and ranged - ranged kills past 15 blocks get the distance tag
+    private static final String[] WEAPONS = {null, "DIAMOND_SWORD", "NETHERITE_AXE", "BOW"};
+
+    @Param({"10", "100", "500"})
+    public int participants;
+
+    private String[] names;
+    private String[] colors;
+    private KillFeedFormatter formatter;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkFixtures.Platform platform = new BenchmarkFixtures.Platform();
+        List<UUID> players = BenchmarkFixtures.players(platform, participants);
+        TeamRegistry teams = new TeamRegistry(platform);
+        teams.assignPlayers(players, 2);
+
+        names = new String[participants];
+        colors = new String[participants];
+        for (int i = 0; i < participants; i++) {
+            UUID uuid = players.get(i);
+            names[i] = platform.getName(uuid);
+            colors[i] = TEAM_COLORS[(teams.getTeam(uuid) - 1) % TEAM_COLORS.length];
+        }
+        formatter = new KillFeedFormatter(new Random(BenchmarkFixtures.SEED));
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = index + 1 == names.length ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public String formatKill() {
+        int killer = next();
+        int victim = (killer + 1) % names.length;
+        return formatter.formatKill(names[killer], colors[killer], names[victim], colors[victim],
+                WEAPONS[killer % WEAPONS.length], null, killer % 40);
+    }
+
+    @Benchmark
+    public String formatEnvironmentalDeath() {
+        int victim = next();
+        return formatter.formatEnvironmentalDeath(names[victim], colors[victim], "FALL");
+    }
+}
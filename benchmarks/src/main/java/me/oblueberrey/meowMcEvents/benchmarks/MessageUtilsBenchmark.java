@@ -0,0 +1,51 @@
+package me.oblueberrey.meowMcEvents.benchmarks;
+
+import me.oblueberrey.meowMcEvents.utils.MessageUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Color code translation and chat centering; the input is one chat line, so these are
+ * parameterized by message style rather than participant count
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageUtilsBenchmark {
+
+    @Param({"plain", "legacy", "hex"})
+    public String style;
+
+    private String message;
+    private String colored;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (style) {
+            case "plain":
+                message = "Player42 was eliminated by Player7 - 12 players remain";
+                break;
+            case "legacy":
+                message = "&6MeowEvents &8» &ePlayer42 &7was eliminated by &cPlayer7 &8- &a12 &7players remain";
+                break;
+            default:
+                message = "&#AAAAAA⚔ &#FFE566Player42 &#AAAAAAwas eliminated by &#FF5555Player7 &#666666- &#55FF5512 &#AAAAAAplayers remain";
+                break;
+        }
+        colored = MessageUtils.colorize(message);
+    }
+
+    @Benchmark
+    public String colorize() {
+        return MessageUtils.colorize(message);
+    }
+
+    @Benchmark
+    public String center() {
+        return MessageUtils.center(colored);
+    }
+}
@@ -0,0 +1,86 @@
+package me.oblueberrey.meowMcEvents.benchmarks;
+
+import me.oblueberrey.meowMcEvents.managers.TeamRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Team assignment at event start, the winner check's alive-team count and the
+ * auto-balance run after every elimination (teams of 4)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeamRegistryBenchmark {
+
+    private static final int TEAM_SIZE = 4;
+
+    @Param({"10", "100", "500"})
+    public int participants;
+
+    private final BenchmarkFixtures.Platform platform = new BenchmarkFixtures.Platform();
+    private List<UUID> players;
+    private TeamRegistry teams;
+    private Set<UUID> alive;
+
+    /**
+     * Fresh teams where every fourth team has lost two members, so there is something to move.
+     * Kept out of the main state so the per-invocation setup only runs for autoBalanceTeams.
+     */
+    @State(Scope.Thread)
+    public static class Unbalanced {
+        TeamRegistry teams;
+        Set<UUID> alive;
+
+        @Setup(Level.Invocation)
+        public void setUp(TeamRegistryBenchmark benchmark) {
+            teams = new TeamRegistry(benchmark.platform, new Random(BenchmarkFixtures.SEED));
+            teams.assignPlayers(benchmark.players, TEAM_SIZE);
+            alive = BenchmarkFixtures.uuids(benchmark.players);
+            for (int team = 1; team <= teams.getHighestTeamNumber(); team += 4) {
+                int removed = 0;
+                for (UUID member : teams.getTeamMembers(team)) {
+                    if (removed++ == 2) break;
+                    alive.remove(member);
+                }
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        players = BenchmarkFixtures.players(platform, participants);
+        teams = new TeamRegistry(platform, new Random(BenchmarkFixtures.SEED));
+        teams.assignPlayers(players, TEAM_SIZE);
+
+        // Mid-event: every other player is dead
+        alive = BenchmarkFixtures.uuids(players);
+        for (int i = 0; i < players.size(); i += 2) {
+            alive.remove(players.get(i));
+        }
+    }
+
+    @Benchmark
+    public int assignPlayers() {
+        teams.assignPlayers(players, TEAM_SIZE);
+        return teams.getTeamCount();
+    }
+
+    @Benchmark
+    public int getAliveTeamCount() {
+        return teams.getAliveTeamCount(alive);
+    }
+
+    @Benchmark
+    public boolean autoBalanceTeams(Unbalanced state) {
+        return state.teams.autoBalanceTeams(state.alive);
+    }
+}
@@ -0,0 +1,112 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.platform.DebugCategory;
+import me.oblueberrey.meowMcEvents.platform.PlatformAdapter;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kill attribution: who last hit each player, with what, and when.
+ *
+ * A hit credits the attacker for the combat tag duration; after that, or once the
+ * attacker has left, the victim's death is no longer theirs. Works on UUIDs only -
+ * DamageTracker maps players in and out.
+ */
+public class DamageLedger {
+
+    public static final long DEFAULT_COMBAT_TAG_MS = 8000;
+
+    private final PlatformAdapter platform;
+    private final long combatTagMillis;
+
+    // Victim UUID -> last hit taken
+    private final Map<UUID, Hit> lastHits = new ConcurrentHashMap<>();
+
+    public DamageLedger(PlatformAdapter platform) {
+        this(platform, DEFAULT_COMBAT_TAG_MS);
+    }
+
+    public DamageLedger(PlatformAdapter platform, long combatTagMillis) {
+        this.platform = platform;
+        this.combatTagMillis = combatTagMillis;
+    }
+
+    /**
+     * Record a hit; self-damage is ignored
+     */
+    public void record(UUID victim, UUID attacker, String cause) {
+        if (victim == null || attacker == null || victim.equals(attacker)) return;
+        lastHits.put(victim, new Hit(attacker, platform.currentTimeMillis(), cause));
+    }
+
+    /**
+     * The attacker to credit for this victim, or null if the tag expired or the attacker is offline
+     */
+    public UUID getLastAttacker(UUID victim) {
+        if (victim == null) return null;
+        Hit hit = lastHits.get(victim);
+        if (hit == null) return null;
+
+        if (platform.currentTimeMillis() - hit.time > combatTagMillis) {
+            // Combat tag expired - only drop it if no newer hit replaced it meanwhile
+            lastHits.remove(victim, hit);
+            return null;
+        }
+        return platform.isOnline(hit.attacker) ? hit.attacker : null;
+    }
+
+    /**
+     * Cause of the last hit, even if the combat tag has expired
+     */
+    public String getLastDamageCause(UUID victim) {
+        if (victim == null) return null;
+        Hit hit = lastHits.get(victim);
+        return hit != null ? hit.cause : null;
+    }
+
+    public boolean hasCombatTag(UUID victim) {
+        return getLastAttacker(victim) != null;
+    }
+
+    public void clear(UUID victim) {
+        lastHits.remove(victim);
+    }
+
+    public void clearAll() {
+        lastHits.clear();
+    }
+
+    /**
+     * Drop every expired combat tag
+     *
+     * @return how many were dropped
+     */
+    public int purgeExpired() {
+        long now = platform.currentTimeMillis();
+        int before = lastHits.size();
+        lastHits.values().removeIf(hit -> now - hit.time > combatTagMillis);
+        int purged = before - lastHits.size();
+        if (purged > 0) {
+            platform.debug(DebugCategory.DAMAGE_TRACKER, () -> "Purged " + purged + " expired combat tags");
+        }
+        return purged;
+    }
+
+    public int size() {
+        return lastHits.size();
+    }
+
+    private static final class Hit {
+        private final UUID attacker;
+        private final long time;
+        private final String cause;
+
+        private Hit(UUID attacker, long time, String cause) {
+            this.attacker = attacker;
+            this.time = time;
+            this.cause = cause;
+        }
+    }
+}
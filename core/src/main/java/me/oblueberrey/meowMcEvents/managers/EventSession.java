@@ -0,0 +1,403 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.platform.DebugCategory;
+import me.oblueberrey.meowMcEvents.platform.PlatformAdapter;
+import me.oblueberrey.meowMcEvents.utils.EventState;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * State and roster of one event by player UUID: the IDLE -> COUNTDOWN -> RUNNING ->
+ * ENDING -> IDLE lifecycle, who is queued, alive or spectating, and when the match is decided
+ *
+ * Only the bookkeeping lives here; teleports, kits, messages and the other server side
+ * effects stay with the caller, which runs them around these transitions.
+ */
+public class EventSession {
+
+    // Role bits kept per player so hot paths (movement) need a single map read
+    public static final int ROLE_QUEUED = 1;
+    public static final int ROLE_ALIVE = 1 << 1;
+    public static final int ROLE_SPECTATOR = 1 << 2;
+
+    private final PlatformAdapter platform;
+
+    private volatile EventState state = EventState.IDLE;
+    private volatile long eventId; // Countdown start time of the current/last event, tags log lines
+
+    // Thread-safe sets to prevent ConcurrentModificationException
+    private final Set<UUID> joinedPlayers = ConcurrentHashMap.newKeySet(); // Players who joined with /event
+    private final Set<UUID> alivePlayers = ConcurrentHashMap.newKeySet(); // Players currently alive in event
+    private final Set<UUID> spectators = ConcurrentHashMap.newKeySet(); // Players spectating the event
+    private final Set<UUID> pendingRespawn = ConcurrentHashMap.newKeySet(); // Died in event, awaiting respawn
+    private final Set<UUID> fallDamageImmune = ConcurrentHashMap.newKeySet(); // Temporary immunity after teleport
+    private final Set<UUID> spectatorGracePeriod = ConcurrentHashMap.newKeySet(); // Spectators with temporary invulnerability
+    private final Map<UUID, Integer> roleFlags = new ConcurrentHashMap<>(); // ROLE_* bits mirroring the sets above
+
+    // Read-only live views handed out to the boss bar, scoreboard and team balancing
+    private final Set<UUID> joinedView = Collections.unmodifiableSet(joinedPlayers);
+    private final Set<UUID> aliveView = Collections.unmodifiableSet(alivePlayers);
+    private final Set<UUID> spectatorView = Collections.unmodifiableSet(spectators);
+
+    // Lock to prevent race conditions in winner detection
+    private final Object winnerLock = new Object();
+    private final AtomicBoolean decided = new AtomicBoolean(false);
+
+    public EventSession(PlatformAdapter platform) {
+        this.platform = platform;
+    }
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * IDLE -> COUNTDOWN with an empty queue and a new event id
+     * @return false if a countdown or event is already active
+     */
+    public boolean beginCountdown() {
+        if (state != EventState.IDLE) {
+            platform.debug(DebugCategory.EVENT, () -> "Countdown/event already active (State: " + state + ")");
+            return false;
+        }
+        state = EventState.COUNTDOWN;
+        eventId = platform.currentTimeMillis();
+        joinedPlayers.clear();
+        roleFlags.clear();
+        return true;
+    }
+
+    /**
+     * Back to IDLE from the countdown, dropping the queue
+     */
+    public void cancelCountdown() {
+        state = EventState.IDLE;
+        joinedPlayers.clear();
+        roleFlags.clear();
+    }
+
+    /**
+     * Whether an event may start now (not already running or ending)
+     */
+    public boolean canStart() {
+        return state != EventState.RUNNING && state != EventState.ENDING;
+    }
+
+    /**
+     * -> RUNNING with nobody alive yet; add participants with {@link #addAlive(UUID)}
+     */
+    public void begin() {
+        state = EventState.RUNNING;
+        decided.set(false);
+        alivePlayers.clear();
+    }
+
+    /**
+     * -> ENDING: a winner was announced or the event is being stopped
+     */
+    public void end() {
+        state = EventState.ENDING;
+    }
+
+    /**
+     * -> IDLE so new events can start (start aborted or cleanup done)
+     */
+    public void reset() {
+        state = EventState.IDLE;
+    }
+
+    /**
+     * Forget every player: queue, alive, spectators, pending respawns and roles
+     */
+    public void clearRoster() {
+        joinedPlayers.clear();
+        alivePlayers.clear();
+        spectators.clear();
+        spectatorGracePeriod.clear();
+        pendingRespawn.clear();
+        fallDamageImmune.clear();
+        roleFlags.clear();
+    }
+
+    public EventState getState() {
+        return state;
+    }
+
+    public boolean isRunning() {
+        return state == EventState.RUNNING;
+    }
+
+    /**
+     * RUNNING or ENDING - players can still be eliminated
+     */
+    public boolean isActive() {
+        EventState current = state;
+        return current == EventState.RUNNING || current == EventState.ENDING;
+    }
+
+    /**
+     * Id of the current or most recent event (its countdown start time), 0 before the first
+     */
+    public long getEventId() {
+        return eventId;
+    }
+
+    // ==================== Roster ====================
+
+    /**
+     * Add a player to the queue
+     */
+    public void join(UUID uuid) {
+        joinedPlayers.add(uuid);
+        setRole(uuid, ROLE_QUEUED);
+    }
+
+    /**
+     * Take a player out of the queue and the alive set (spectating is left alone)
+     */
+    public void leave(UUID uuid) {
+        joinedPlayers.remove(uuid);
+        alivePlayers.remove(uuid);
+        clearRole(uuid, ROLE_QUEUED | ROLE_ALIVE);
+        fallDamageImmune.remove(uuid);
+    }
+
+    /**
+     * Add a participant at event start, fall damage immune until {@link #clearFallDamageImmunity()}
+     */
+    public void addAlive(UUID uuid) {
+        alivePlayers.add(uuid);
+        setRole(uuid, ROLE_ALIVE);
+        fallDamageImmune.add(uuid);
+    }
+
+    /**
+     * Mark a participant dead
+     * @return false if no event is running or ending
+     */
+    public boolean eliminate(UUID uuid) {
+        if (!isActive()) return false;
+        alivePlayers.remove(uuid);
+        clearRole(uuid, ROLE_ALIVE);
+        return true;
+    }
+
+    /**
+     * Add a spectator, invulnerable until {@link #endSpectatorGrace(UUID)}
+     */
+    public void addSpectator(UUID uuid) {
+        spectators.add(uuid);
+        setRole(uuid, ROLE_SPECTATOR);
+        spectatorGracePeriod.add(uuid);
+    }
+
+    public void endSpectatorGrace(UUID uuid) {
+        spectatorGracePeriod.remove(uuid);
+    }
+
+    public void removeSpectator(UUID uuid) {
+        spectators.remove(uuid);
+        clearRole(uuid, ROLE_SPECTATOR);
+        spectatorGracePeriod.remove(uuid);
+    }
+
+    public boolean hasJoined(UUID uuid) {
+        return joinedPlayers.contains(uuid);
+    }
+
+    public boolean isAlive(UUID uuid) {
+        return alivePlayers.contains(uuid);
+    }
+
+    public boolean isSpectator(UUID uuid) {
+        return spectators.contains(uuid);
+    }
+
+    public boolean isInSpectatorGrace(UUID uuid) {
+        return spectatorGracePeriod.contains(uuid);
+    }
+
+    /**
+     * Queued players (read-only live view)
+     */
+    public Set<UUID> getJoinedPlayers() {
+        return joinedView;
+    }
+
+    /**
+     * Alive players (read-only live view)
+     */
+    public Set<UUID> getAlivePlayers() {
+        return aliveView;
+    }
+
+    /**
+     * Spectators (read-only live view)
+     */
+    public Set<UUID> getSpectators() {
+        return spectatorView;
+    }
+
+    // ==================== Pending Respawn / Fall Damage ====================
+
+    public void markPendingRespawn(UUID uuid) {
+        pendingRespawn.add(uuid);
+    }
+
+    public boolean isPendingRespawn(UUID uuid) {
+        return pendingRespawn.contains(uuid);
+    }
+
+    public void clearPendingRespawn(UUID uuid) {
+        pendingRespawn.remove(uuid);
+    }
+
+    public boolean hasFallDamageImmunity(UUID uuid) {
+        return fallDamageImmune.contains(uuid);
+    }
+
+    public void clearFallDamageImmunity() {
+        fallDamageImmune.clear();
+    }
+
+    // ==================== Role Flags ====================
+
+    /**
+     * Get the ROLE_* bits for a player (0 if not part of the event in any way)
+     */
+    public int getRoleFlags(UUID uuid) {
+        Integer flags = roleFlags.get(uuid);
+        return flags != null ? flags : 0;
+    }
+
+    private void setRole(UUID uuid, int role) {
+        roleFlags.merge(uuid, role, (a, b) -> a | b);
+    }
+
+    private void clearRole(UUID uuid, int role) {
+        roleFlags.computeIfPresent(uuid, (key, flags) -> {
+            int remaining = flags & ~role;
+            return remaining == 0 ? null : remaining;
+        });
+    }
+
+    // ==================== Winner Detection ====================
+
+    /**
+     * Decide the match if it is over: one team (team mode) or one player (solo) left alive,
+     * or nobody left to win. A match is decided at most once per event, so callers can
+     * announce or stop without guarding against a second result.
+     *
+     * @param teams team membership; solo mode when it has no teams
+     */
+    public Outcome checkForWinner(TeamRegistry teams) {
+        if (state != EventState.RUNNING) {
+            return Outcome.NONE;
+        }
+
+        // Synchronize winner detection to prevent race conditions
+        synchronized (winnerLock) {
+            // Double-check after acquiring lock
+            if (state != EventState.RUNNING || decided.get()) {
+                return Outcome.NONE;
+            }
+
+            Outcome outcome;
+            // Team mode: check if only one team has alive players
+            if (teams.isTeamMode()) {
+                int aliveTeams = teams.getAliveTeamCount(alivePlayers);
+                platform.debug(DebugCategory.EVENT, () -> "Winner check - Team mode. Alive teams: " + aliveTeams + ", Alive players: " + alivePlayers.size());
+                if (aliveTeams > 1) {
+                    return Outcome.NONE;
+                }
+
+                int winningTeam = teams.getWinningTeam(alivePlayers);
+                if (winningTeam != -1) {
+                    platform.debug(DebugCategory.EVENT, () -> "Team winner detected: Team " + winningTeam);
+                    outcome = Outcome.team(winningTeam);
+                } else {
+                    platform.debug(DebugCategory.EVENT, () -> "No teams left, stopping event");
+                    outcome = Outcome.NO_WINNER;
+                }
+            }
+            // Solo mode: check if only one player is alive
+            else {
+                platform.debug(DebugCategory.EVENT, () -> "Winner check - Solo mode. Alive players: " + alivePlayers.size());
+                if (alivePlayers.size() > 1) {
+                    return Outcome.NONE;
+                }
+
+                UUID winner = alivePlayers.isEmpty() ? null : alivePlayers.iterator().next();
+                if (winner == null) {
+                    // No winner (everyone died somehow)
+                    platform.debug(DebugCategory.EVENT, () -> "No players left, stopping event");
+                    outcome = Outcome.NO_WINNER;
+                } else if (!platform.isOnline(winner)) {
+                    platform.debug(DebugCategory.EVENT, () -> "Winner player is offline, stopping event");
+                    outcome = Outcome.NO_WINNER;
+                } else {
+                    platform.debug(DebugCategory.EVENT, () -> "Solo winner detected: " + platform.getName(winner));
+                    outcome = Outcome.solo(winner);
+                }
+            }
+
+            // Prevent double announcement
+            return decided.compareAndSet(false, true) ? outcome : Outcome.NONE;
+        }
+    }
+
+    /**
+     * Result of a winner check
+     */
+    public static final class Outcome {
+
+        public enum Type {
+            NONE,       // Still being fought
+            SOLO,       // One player left
+            TEAM,       // One team left
+            NO_WINNER   // Nobody left (or the last player is offline) - stop the event
+        }
+
+        static final Outcome NONE = new Outcome(Type.NONE, null, -1);
+        static final Outcome NO_WINNER = new Outcome(Type.NO_WINNER, null, -1);
+
+        private final Type type;
+        private final UUID winner;
+        private final int team;
+
+        private Outcome(Type type, UUID winner, int team) {
+            this.type = type;
+            this.winner = winner;
+            this.team = team;
+        }
+
+        static Outcome solo(UUID winner) {
+            return new Outcome(Type.SOLO, winner, -1);
+        }
+
+        static Outcome team(int team) {
+            return new Outcome(Type.TEAM, null, team);
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * The winning player (SOLO only)
+         */
+        public UUID getWinner() {
+            return winner;
+        }
+
+        /**
+         * The winning team number (TEAM only)
+         */
+        public int getTeam() {
+            return team;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.platform.DebugCategory;
+import me.oblueberrey.meowMcEvents.platform.PlatformAdapter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-event statistics: placements, kills and the live leaderboards
+ *
+ * Player names are cached as they are seen so results can still name players who left.
+ */
+public class EventStats {
+
+    // Live top-K boards, updated as kills/damage happen so queries never sort
+    public static final int LEADERBOARD_SIZE = 10;
+
+    protected final PlatformAdapter platform;
+
+    // Death order and placements - O(1) record/lookup, same-tick teammate deaths tie
+    private final PlacementTracker placementTracker = new PlacementTracker();
+
+    // Thread-safe kill tracking - UUID -> kill count
+    private final Map<UUID, Integer> killCounts = new ConcurrentHashMap<>();
+
+    private final Leaderboard killBoard = new Leaderboard(LEADERBOARD_SIZE);
+    private final Leaderboard streakBoard = new Leaderboard(LEADERBOARD_SIZE);
+    private final Leaderboard damageBoard = new Leaderboard(LEADERBOARD_SIZE);
+
+    // Thread-safe player names cache (in case they disconnect)
+    private final Map<UUID, String> playerNames = new ConcurrentHashMap<>();
+
+    public EventStats(PlatformAdapter platform) {
+        this.platform = platform;
+    }
+
+    /**
+     * Reset all stats for a new event
+     */
+    public void reset() {
+        placementTracker.reset();
+        killCounts.clear();
+        killBoard.clear();
+        streakBoard.clear();
+        damageBoard.clear();
+        playerNames.clear();
+
+        platform.debug(DebugCategory.STATS, () -> "Event stats reset");
+    }
+
+    /**
+     * Register all participants at event start
+     */
+    public void registerParticipants(Set<UUID> participants) {
+        placementTracker.registerParticipants(participants);
+        for (UUID uuid : participants) {
+            killCounts.put(uuid, 0);
+            cacheName(uuid);
+        }
+
+        platform.debug(DebugCategory.STATS, () -> "Registered " + placementTracker.getTotalParticipants() + " participants");
+    }
+
+    /**
+     * Record a solo player's death (for placement tracking)
+     */
+    public void recordDeath(UUID uuid) {
+        recordDeath(uuid, PlacementTracker.NO_TEAM);
+    }
+
+    /**
+     * Record a player death (for placement tracking)
+     * Teammates dying in the same server tick share a placement (e.g. a team wiped at once)
+     * @param team the player's team, {@link PlacementTracker#NO_TEAM} in solo mode
+     */
+    public void recordDeath(UUID uuid, int team) {
+        if (placementTracker.recordDeath(uuid, platform.currentTick(), team)) {
+            cacheName(uuid);
+
+            platform.debug(DebugCategory.STATS, () -> "Recorded death for " + getPlayerName(uuid) +
+                    " - Placement: #" + getPlacement(uuid));
+        }
+    }
+
+    /**
+     * Record a kill
+     * @param streak the killer's streak including this kill
+     */
+    public void recordKill(UUID killerUuid, int streak) {
+        killCounts.merge(killerUuid, 1, Integer::sum);
+        killBoard.add(killerUuid, 1);
+        streakBoard.offer(killerUuid, streak);
+        cacheName(killerUuid);
+
+        platform.debug(DebugCategory.STATS, () -> getPlayerName(killerUuid) +
+                " now has " + killCounts.get(killerUuid) + " kills");
+    }
+
+    /**
+     * Record damage dealt by one participant to another
+     */
+    public void recordDamage(UUID attackerUuid, double damage) {
+        damageBoard.add(attackerUuid, damage);
+    }
+
+    private void cacheName(UUID uuid) {
+        String name = platform.getName(uuid);
+        if (name != null) {
+            playerNames.put(uuid, name);
+        }
+    }
+
+    /**
+     * Get placement for a player (1 = winner, higher = worse)
+     * Players who died first get higher (worse) placement numbers
+     */
+    public int getPlacement(UUID uuid) {
+        return placementTracker.getPlacement(uuid);
+    }
+
+    /**
+     * Whether the player died during the event (false for survivors and non-participants)
+     */
+    public boolean hasDied(UUID uuid) {
+        return placementTracker.hasDied(uuid);
+    }
+
+    /**
+     * Get kill count for a player
+     */
+    public int getKills(UUID uuid) {
+        return killCounts.getOrDefault(uuid, 0);
+    }
+
+    /**
+     * Every participant of the current event
+     */
+    public Set<UUID> getParticipants() {
+        return Collections.unmodifiableSet(killCounts.keySet());
+    }
+
+    /**
+     * Get player name from cache or the server
+     */
+    public String getPlayerName(UUID uuid) {
+        String cached = playerNames.get(uuid);
+        if (cached != null) {
+            return cached;
+        }
+        String name = platform.getName(uuid);
+        return name != null ? name : "Unknown";
+    }
+
+    /**
+     * Get player with most kills
+     */
+    public UUID getMostKillsPlayer() {
+        return killBoard.first();
+    }
+
+    /**
+     * Get top N players by kills (N is capped at LEADERBOARD_SIZE)
+     */
+    public List<Map.Entry<UUID, Integer>> getTopKillers(int n) {
+        List<Map.Entry<UUID, Integer>> result = new ArrayList<>();
+        for (Leaderboard.Entry entry : killBoard.top(n)) {
+            result.add(new AbstractMap.SimpleImmutableEntry<>(entry.getUuid(), (int) entry.getScore()));
+        }
+        return result;
+    }
+
+    /**
+     * Live board for kills, best streak or damage dealt
+     */
+    public Leaderboard getKillBoard() {
+        return killBoard;
+    }
+
+    public Leaderboard getStreakBoard() {
+        return streakBoard;
+    }
+
+    public Leaderboard getDamageBoard() {
+        return damageBoard;
+    }
+
+    /**
+     * Get placements in order (1st, 2nd, 3rd, etc.)
+     */
+    public List<UUID> getPlacementsInOrder() {
+        return placementTracker.getPlacementsInOrder();
+    }
+
+    /**
+     * Get total participants
+     */
+    public int getTotalParticipants() {
+        return placementTracker.getTotalParticipants();
+    }
+}
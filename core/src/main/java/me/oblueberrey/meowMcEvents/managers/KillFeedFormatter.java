@@ -0,0 +1,397 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.utils.ColorCodes;
+
+import java.util.Random;
+
+/**
+ * Builds the stylized kill feed lines: randomized verbs, weapon icons, distance tags and
+ * situational announcements
+ *
+ * Works on plain strings (player names, legacy color prefixes, material and damage cause
+ * names) so the formatting can run and be measured without a server.
+ */
+public class KillFeedFormatter {
+
+    // Improved RGB Colors, translated once up front
+    private static final String GOLD = ColorCodes.colorize("&#FFE566");
+    private static final String ORANGE = ColorCodes.colorize("&#FF9944");
+    private static final String GREY = ColorCodes.colorize("&#AAAAAA");
+    private static final String RED = ColorCodes.colorize("&#FF5555");
+    private static final String AQUA = ColorCodes.colorize("&#55FFFF");
+    private static final String WHITE = ColorCodes.colorize("&#FFFFFF");
+    private static final String DARK_GREY = ColorCodes.colorize("&#666666");
+    private static final String BOLD = ColorCodes.colorize("&l");
+    private static final String STREAK_COLOR = ColorCodes.colorize("&c&l");
+
+    // Weapon icons (Unicode)
+    private static final String SWORD_ICON = "\u2694";
+    private static final String BOW_ICON = "\u27B3";
+    private static final String AXE_ICON = "\u2692";
+    private static final String TRIDENT_ICON = "\u2191";
+    private static final String FIST_ICON = "\u270A";
+    private static final String SKULL_ICON = "\u2620";
+    private static final String FIRE_ICON = "\u2739";
+    private static final String MAGIC_ICON = "\u2728";
+    private static final String EXPLOSION_ICON = "\u2600";
+    private static final String FALL_ICON = "\u2193";
+    private static final String VOID_ICON = "\u2205";
+    private static final String DROWN_ICON = "\u224B";
+    private static final String BORDER_ICON = "\u26A0";
+    private static final String STAR_ICON = "\u2605";
+    private static final String CROSSHAIR_ICON = "\u25CE";
+
+    // Situational thresholds (blocks)
+    private static final double LONG_SHOT_DISTANCE = 30;
+    private static final double DISTANCE_TAG_MIN = 15;
+
+    // Streak messages
+    private static final String[] STREAK_TITLES = {
+        "", "", "",
+        "TRIPLE KILL",
+        "QUAD KILL",
+        "PENTA KILL",
+        "LEGENDARY",
+        "GODLIKE",
+        "UNSTOPPABLE",
+        "RAMPAGE",
+        "DOMINATING"
+    };
+
+    // ==================== Randomized Kill Messages ====================
+
+    private static final String[][] SWORD_MESSAGES = {
+        {"%killer%", "sliced", "%victim%"},
+        {"%killer%", "cut down", "%victim%"},
+        {"%killer%", "slashed", "%victim%"},
+        {"%killer%", "stabbed", "%victim%"},
+        {"%killer%", "impaled", "%victim%"},
+    };
+
+    private static final String[][] AXE_MESSAGES = {
+        {"%killer%", "chopped", "%victim%"},
+        {"%killer%", "cleaved", "%victim%"},
+        {"%killer%", "axed", "%victim%"},
+        {"%killer%", "split", "%victim%", "in two"},
+        {"%killer%", "hacked", "%victim%", "apart"},
+    };
+
+    private static final String[][] BOW_MESSAGES = {
+        {"%killer%", "shot", "%victim%"},
+        {"%killer%", "sniped", "%victim%"},
+        {"%killer%", "pierced", "%victim%"},
+        {"%killer%", "pinned", "%victim%"},
+        {"%killer%", "arrowed", "%victim%"},
+    };
+
+    private static final String[][] TRIDENT_MESSAGES = {
+        {"%killer%", "impaled", "%victim%", "with a trident"},
+        {"%killer%", "skewered", "%victim%"},
+        {"%killer%", "speared", "%victim%"},
+    };
+
+    private static final String[][] FIST_MESSAGES = {
+        {"%killer%", "punched", "%victim%", "to death"},
+        {"%killer%", "beat", "%victim%", "with bare fists"},
+        {"%killer%", "pummeled", "%victim%"},
+        {"%killer%", "knocked out", "%victim%"},
+    };
+
+    private static final String[][] GENERIC_MESSAGES = {
+        {"%killer%", "killed", "%victim%"},
+        {"%killer%", "eliminated", "%victim%"},
+        {"%killer%", "took out", "%victim%"},
+        {"%killer%", "finished", "%victim%"},
+    };
+
+    // Environmental death messages (no killer)
+    private static final String[][] FALL_MESSAGES = {
+        {"%victim%", "fell to their death"},
+        {"%victim%", "forgot they can't fly"},
+        {"%victim%", "hit the ground too hard"},
+        {"%victim%", "experienced gravity"},
+        {"%victim%", "made a leap of faith... and failed"},
+    };
+
+    private static final String[][] VOID_MESSAGES = {
+        {"%victim%", "fell into the void"},
+        {"%victim%", "was consumed by the void"},
+        {"%victim%", "discovered the abyss"},
+    };
+
+    private static final String[][] FIRE_MESSAGES = {
+        {"%victim%", "burned to a crisp"},
+        {"%victim%", "couldn't handle the heat"},
+        {"%victim%", "was roasted alive"},
+        {"%victim%", "went up in flames"},
+    };
+
+    private static final String[][] LAVA_MESSAGES = {
+        {"%victim%", "tried to swim in lava"},
+        {"%victim%", "took a lava bath"},
+        {"%victim%", "melted"},
+    };
+
+    private static final String[][] DROWN_MESSAGES = {
+        {"%victim%", "drowned"},
+        {"%victim%", "forgot to breathe"},
+        {"%victim%", "slept with the fishes"},
+    };
+
+    private static final String[][] EXPLOSION_MESSAGES = {
+        {"%victim%", "blew up"},
+        {"%victim%", "was blown to bits"},
+        {"%victim%", "exploded"},
+    };
+
+    private static final String[][] GENERIC_DEATH_MESSAGES = {
+        {"%victim%", "died"},
+        {"%victim%", "was eliminated"},
+        {"%victim%", "perished"},
+        {"%victim%", "met their end"},
+    };
+
+    private static final String[] BORDER_MESSAGES = {
+        " was consumed by the border",
+        " stayed in the danger zone too long",
+        " was punished by the arena",
+        " couldn't escape the border",
+    };
+
+    private final Random random;
+
+    public KillFeedFormatter() {
+        this(new Random());
+    }
+
+    /**
+     * @param random picks the message variant; seed it for reproducible output
+     */
+    public KillFeedFormatter(Random random) {
+        this.random = random;
+    }
+
+    // ==================== Messages ====================
+
+    /**
+     * Main kill line with randomized verb, weapon tag and distance for ranged kills
+     *
+     * @param killerColor legacy color prefix for the killer's name (team color)
+     * @param weaponType material name of the weapon, null or AIR for fists
+     * @param weaponDisplayName custom item name, null to derive one from the material
+     */
+    public String formatKill(String killerName, String killerColor, String victimName, String victimColor,
+                             String weaponType, String weaponDisplayName, double distance) {
+        String weaponCategory = getWeaponCategory(weaponType);
+        String[][] messagePool = getKillMessages(weaponCategory);
+        String[] chosen = messagePool[random.nextInt(messagePool.length)];
+
+        StringBuilder msg = new StringBuilder(96);
+        msg.append(DARK_GREY).append(SKULL_ICON).append(' ');
+
+        for (String part : chosen) {
+            if (part.equals("%killer%")) {
+                msg.append(killerColor).append(killerName);
+            } else if (part.equals("%victim%")) {
+                msg.append(victimColor).append(victimName);
+            } else {
+                msg.append(GREY).append(' ').append(part);
+            }
+        }
+
+        // Append weapon tag
+        msg.append(' ').append(DARK_GREY).append('[').append(ORANGE).append(getWeaponIcon(weaponType))
+                .append(' ').append(GOLD).append(getWeaponName(weaponType, weaponDisplayName))
+                .append(DARK_GREY).append(']');
+
+        // Append distance for ranged kills
+        if (distance >= DISTANCE_TAG_MIN && isRangedCategory(weaponCategory)) {
+            msg.append(' ').append(AQUA).append((int) distance).append('m');
+        }
+
+        return msg.toString();
+    }
+
+    /**
+     * Death without a killer
+     *
+     * @param cause damage cause name (FALL, VOID, LAVA...), null for a generic death
+     */
+    public String formatEnvironmentalDeath(String victimName, String victimColor, String cause) {
+        String[][] messagePool = getEnvironmentalMessages(cause);
+        String[] chosen = messagePool[random.nextInt(messagePool.length)];
+
+        StringBuilder msg = new StringBuilder(64);
+        msg.append(DARK_GREY).append(getDeathCauseIcon(cause)).append(' ');
+
+        for (String part : chosen) {
+            if (part.equals("%victim%")) {
+                msg.append(victimColor).append(victimName);
+            } else {
+                msg.append(GREY).append(' ').append(part);
+            }
+        }
+        return msg.toString();
+    }
+
+    public String formatBorderDeath(String victimName, String victimColor) {
+        String chosen = BORDER_MESSAGES[random.nextInt(BORDER_MESSAGES.length)];
+        return DARK_GREY + BORDER_ICON + " " + victimColor + victimName + GREY + chosen;
+    }
+
+    public String formatFirstBlood(String killerName, String killerColor) {
+        return formatSpecial(STAR_ICON, "FIRST BLOOD", killerColor + killerName, "drew first blood!", RED);
+    }
+
+    public String formatRevenge(String killerName, String killerColor, String victimName, String victimColor) {
+        return formatSpecial(SWORD_ICON, "REVENGE", killerColor + killerName,
+                "got revenge on " + victimColor + victimName + GREY + "!", ORANGE);
+    }
+
+    public String formatLongShot(String killerName, String killerColor, double distance) {
+        return formatSpecial(CROSSHAIR_ICON, "LONG SHOT", killerColor + killerName,
+                "sniped from " + WHITE + (int) distance + " blocks" + GREY + "!", AQUA);
+    }
+
+    /**
+     * Kill streak line
+     * @return null if the streak has no title (below a triple kill)
+     */
+    public String formatStreak(String killerName, String killerColor, int streak) {
+        if (streak < 0) return null;
+        String streakTitle = streak >= STREAK_TITLES.length ?
+            STREAK_TITLES[STREAK_TITLES.length - 1] : STREAK_TITLES[streak];
+        if (streakTitle.isEmpty()) return null;
+
+        return DARK_GREY + STAR_ICON + " " + STREAK_COLOR + streakTitle + " " + GREY + "- " +
+                killerColor + killerName + GREY + " (" + RED + streak + " kills" + GREY + ")";
+    }
+
+    private String formatSpecial(String icon, String title, String playerName,
+                                 String description, String titleColor) {
+        return DARK_GREY + icon + " " + titleColor + BOLD + title + " " +
+                GREY + "- " + playerName + " " + GREY + description;
+    }
+
+    // ==================== Weapons ====================
+
+    /**
+     * Ranged kill from far enough away to announce
+     */
+    public static boolean isLongShot(String weaponType, double distance) {
+        return distance >= LONG_SHOT_DISTANCE && isRangedWeapon(weaponType);
+    }
+
+    public static boolean isRangedWeapon(String weaponType) {
+        if (weaponType == null) return false;
+        String name = weaponType.toLowerCase();
+        return name.contains("bow") || name.contains("crossbow") || name.contains("trident");
+    }
+
+    private static boolean isFist(String weaponType) {
+        return weaponType == null || weaponType.equals("AIR");
+    }
+
+    private static boolean isRangedCategory(String category) {
+        return category.equals("bow") || category.equals("trident");
+    }
+
+    static String getWeaponCategory(String weaponType) {
+        if (isFist(weaponType)) return "fist";
+        String typeName = weaponType.toLowerCase();
+        if (typeName.contains("sword")) return "sword";
+        if (typeName.contains("axe") && !typeName.contains("pickaxe")) return "axe";
+        if (typeName.contains("bow") || typeName.contains("crossbow")) return "bow";
+        if (typeName.contains("trident")) return "trident";
+        return "generic";
+    }
+
+    private static String[][] getKillMessages(String category) {
+        switch (category) {
+            case "sword": return SWORD_MESSAGES;
+            case "axe": return AXE_MESSAGES;
+            case "bow": return BOW_MESSAGES;
+            case "trident": return TRIDENT_MESSAGES;
+            case "fist": return FIST_MESSAGES;
+            default: return GENERIC_MESSAGES;
+        }
+    }
+
+    private static String getWeaponIcon(String weaponType) {
+        if (isFist(weaponType)) return FIST_ICON;
+        String typeName = weaponType.toLowerCase();
+        if (typeName.contains("sword")) return SWORD_ICON;
+        if (typeName.contains("axe") && !typeName.contains("pickaxe")) return AXE_ICON;
+        if (typeName.contains("bow") || typeName.contains("crossbow")) return BOW_ICON;
+        if (typeName.contains("trident")) return TRIDENT_ICON;
+        if (typeName.contains("end_crystal") || typeName.contains("totem")) return MAGIC_ICON;
+        if (typeName.contains("tnt") || typeName.contains("firework")) return EXPLOSION_ICON;
+        if (typeName.contains("flint") || typeName.contains("fire") || typeName.contains("lava")) return FIRE_ICON;
+        return SWORD_ICON;
+    }
+
+    static String getWeaponName(String weaponType, String displayName) {
+        if (isFist(weaponType)) return "Fists";
+        if (displayName != null) {
+            return ColorCodes.strip(displayName);
+        }
+        String name = weaponType.toLowerCase()
+            .replace("_", " ")
+            .replace("netherite", "Neth.")
+            .replace("diamond", "Dia.")
+            .replace("golden", "Gold")
+            .replace("iron", "Iron")
+            .replace("stone", "Stone")
+            .replace("wooden", "Wood");
+
+        StringBuilder formatted = new StringBuilder(name.length());
+        boolean capitalizeNext = true;
+        for (char c : name.toCharArray()) {
+            if (c == ' ') {
+                formatted.append(c);
+                capitalizeNext = true;
+            } else if (capitalizeNext) {
+                formatted.append(Character.toUpperCase(c));
+                capitalizeNext = false;
+            } else {
+                formatted.append(c);
+            }
+        }
+        return formatted.toString();
+    }
+
+    // ==================== Environmental Causes ====================
+
+    private static String[][] getEnvironmentalMessages(String cause) {
+        if (cause == null) return GENERIC_DEATH_MESSAGES;
+        switch (cause) {
+            case "FALL": return FALL_MESSAGES;
+            case "VOID": return VOID_MESSAGES;
+            case "DROWNING": return DROWN_MESSAGES;
+            case "FIRE":
+            case "FIRE_TICK": return FIRE_MESSAGES;
+            case "LAVA": return LAVA_MESSAGES;
+            case "ENTITY_EXPLOSION":
+            case "BLOCK_EXPLOSION": return EXPLOSION_MESSAGES;
+            default: return GENERIC_DEATH_MESSAGES;
+        }
+    }
+
+    private static String getDeathCauseIcon(String cause) {
+        if (cause == null) return SKULL_ICON;
+        switch (cause) {
+            case "FALL": return FALL_ICON;
+            case "VOID": return VOID_ICON;
+            case "DROWNING": return DROWN_ICON;
+            case "FIRE":
+            case "FIRE_TICK":
+            case "LAVA": return FIRE_ICON;
+            case "ENTITY_EXPLOSION":
+            case "BLOCK_EXPLOSION": return EXPLOSION_ICON;
+            case "MAGIC":
+            case "WITHER":
+            case "POISON": return MAGIC_ICON;
+            default: return SKULL_ICON;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Fixed-size histogram of durations in nanoseconds.
+ *
+ * Log-linear buckets in the style of HdrHistogram: every power of two is split into 8
+ * sub-buckets, so any recorded value is reported within 12.5%. Values from 0 ns to about
+ * 18 minutes fit in 312 counters; larger ones land in the last bucket. Count, sum and max
+ * are exact.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int MAX_MAGNITUDE = 40;
+    static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BITS + 2) * SUB_COUNT;
+
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count;
+    private long sum;
+    private long max;
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets[bucketFor(nanos)]++;
+        count++;
+        sum += nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    /**
+     * Add another histogram's samples to this one
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] += other.buckets[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    public void clear() {
+        Arrays.fill(buckets, 0L);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Upper bound of the bucket holding the nearest-rank percentile (0-100), capped at max
+     */
+    public long percentile(double percent) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(Math.max(0.0, Math.min(100.0, percent)) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(max, upperBound(i));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * "p50 1.20ms p99 3.40ms max 5.00ms (n=12)" style summary
+     */
+    public String format() {
+        return String.format(Locale.ROOT, "p50 %.2fms p99 %.2fms max %.2fms (n=%d)",
+                percentile(50) / 1_000_000.0, percentile(99) / 1_000_000.0, max / 1_000_000.0, count);
+    }
+
+    static int bucketFor(long value) {
+        if (value < SUB_COUNT) return (int) value;
+        int magnitude = Math.min(MAX_MAGNITUDE, 63 - Long.numberOfLeadingZeros(value));
+        if (magnitude == MAX_MAGNITUDE && value >= (2L << MAX_MAGNITUDE)) return BUCKET_COUNT - 1;
+        int sub = (int) (value >>> (magnitude - SUB_BITS)) & (SUB_COUNT - 1);
+        return (magnitude - SUB_BITS + 1) * SUB_COUNT + sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_COUNT) return bucket;
+        int magnitude = bucket / SUB_COUNT + SUB_BITS - 1;
+        int sub = bucket % SUB_COUNT;
+        return ((long) (SUB_COUNT + sub + 1) << (magnitude - SUB_BITS)) - 1;
+    }
+}
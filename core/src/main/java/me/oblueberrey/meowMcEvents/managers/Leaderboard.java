@@ -0,0 +1,120 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.util.*;
+
+/**
+ * Bounded top-K leaderboard maintained incrementally.
+ *
+ * Scores only ever grow (kills, best streak, damage dealt), so a player who drops out
+ * of the top K can only come back through an update, which is checked on the spot.
+ * Updates cost O(log K), reading the board costs O(K) - nothing is sorted on demand.
+ * Ties are ordered by who reached the score first.
+ */
+public class Leaderboard {
+
+    /**
+     * Immutable board row
+     */
+    public static final class Entry {
+        private final UUID uuid;
+        private final double score;
+        private final long sequence;
+
+        private Entry(UUID uuid, double score, long sequence) {
+            this.uuid = uuid;
+            this.score = score;
+            this.sequence = sequence;
+        }
+
+        public UUID getUuid() {
+            return uuid;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    private static final Comparator<Entry> ORDER = (a, b) -> {
+        int cmp = Double.compare(b.score, a.score);
+        return cmp != 0 ? cmp : Long.compare(a.sequence, b.sequence);
+    };
+
+    private final int capacity;
+    private final Map<UUID, Entry> scores = new HashMap<>();
+    private final TreeSet<Entry> top = new TreeSet<>(ORDER);
+    private long sequence;
+
+    public Leaderboard(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Add to a player's score
+     */
+    public synchronized void add(UUID uuid, double delta) {
+        if (delta <= 0) return;
+        Entry current = scores.get(uuid);
+        set(uuid, current, (current != null ? current.score : 0) + delta);
+    }
+
+    /**
+     * Raise a player's score to the given value (lower values are ignored)
+     */
+    public synchronized void offer(UUID uuid, double score) {
+        Entry current = scores.get(uuid);
+        if (current != null ? score <= current.score : score <= 0) return;
+        set(uuid, current, score);
+    }
+
+    private void set(UUID uuid, Entry current, double score) {
+        Entry updated = new Entry(uuid, score, sequence++);
+        scores.put(uuid, updated);
+
+        if (current != null && top.remove(current)) {
+            top.add(updated);
+            return;
+        }
+        if (top.size() < capacity) {
+            top.add(updated);
+        } else if (ORDER.compare(updated, top.last()) < 0) {
+            top.pollLast();
+            top.add(updated);
+        }
+    }
+
+    public synchronized double getScore(UUID uuid) {
+        Entry entry = scores.get(uuid);
+        return entry != null ? entry.score : 0;
+    }
+
+    /**
+     * Best n players (n is capped at the board capacity), highest first
+     */
+    public synchronized List<Entry> top(int n) {
+        List<Entry> result = new ArrayList<>(Math.min(n, top.size()));
+        for (Entry entry : top) {
+            if (result.size() >= n) break;
+            result.add(entry);
+        }
+        return result;
+    }
+
+    /**
+     * Leader, or null if nobody has scored
+     */
+    public synchronized UUID first() {
+        return top.isEmpty() ? null : top.first().uuid;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized void clear() {
+        scores.clear();
+        top.clear();
+        sequence = 0;
+    }
+}
@@ -0,0 +1,162 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.util.*;
+
+/**
+ * Friends queuing together.
+ *
+ * Every member maps straight to its shared Party object, so "which party is this player
+ * in" is one hash lookup; invites map invitee -> pending invite and expire on their own.
+ * Team assignment packs each party into one team (see TeamBalancer).
+ */
+public class PartyManager {
+
+    /**
+     * Outcome of a party action, mapped to a message by the command
+     */
+    public enum Result {
+        SUCCESS,
+        SELF,
+        ALREADY_IN_PARTY,
+        ALREADY_INVITED,
+        NOT_LEADER,
+        PARTY_FULL,
+        NO_INVITE,
+        NOT_IN_PARTY
+    }
+
+    /**
+     * A party; the first member is the leader
+     */
+    public static final class Party {
+        private final List<UUID> members = new ArrayList<>(4);
+
+        private Party(UUID leader) {
+            members.add(leader);
+        }
+
+        public UUID getLeader() {
+            return members.get(0);
+        }
+
+        public List<UUID> getMembers() {
+            return Collections.unmodifiableList(members);
+        }
+
+        public int size() {
+            return members.size();
+        }
+    }
+
+    private static final class Invite {
+        private final UUID leader;
+        private final long expiresAt;
+
+        private Invite(UUID leader, long expiresAt) {
+            this.leader = leader;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final Map<UUID, Party> parties = new HashMap<>();   // member -> party
+    private final Map<UUID, Invite> invites = new HashMap<>();  // invitee -> invite
+    private final int maxSize;
+    private final long inviteMillis;
+
+    public PartyManager(int maxSize, long inviteMillis) {
+        this.maxSize = Math.max(2, maxSize);
+        this.inviteMillis = inviteMillis;
+    }
+
+    /**
+     * Invite a player; the inviter becomes leader of a new party if not in one
+     */
+    public Result invite(UUID inviter, UUID target, long now) {
+        if (inviter.equals(target)) return Result.SELF;
+        purgeExpired(now);
+        if (parties.containsKey(target)) return Result.ALREADY_IN_PARTY;
+
+        Party party = parties.get(inviter);
+        if (party != null && !party.getLeader().equals(inviter)) return Result.NOT_LEADER;
+        if (party != null && party.size() >= maxSize) return Result.PARTY_FULL;
+
+        Invite existing = invites.get(target);
+        if (existing != null && existing.leader.equals(inviter) && existing.expiresAt > now) {
+            return Result.ALREADY_INVITED;
+        }
+        invites.put(target, new Invite(inviter, now + inviteMillis));
+        return Result.SUCCESS;
+    }
+
+    /**
+     * Accept the pending invite and join the inviter's party
+     */
+    public Result accept(UUID invitee, long now) {
+        Invite invite = invites.remove(invitee);
+        if (invite == null || invite.expiresAt <= now) return Result.NO_INVITE;
+        if (parties.containsKey(invitee)) return Result.ALREADY_IN_PARTY;
+
+        Party party = parties.get(invite.leader);
+        if (party == null) {
+            party = new Party(invite.leader);
+            parties.put(invite.leader, party);
+        } else if (!party.getLeader().equals(invite.leader)) {
+            // Inviter joined someone else's party since
+            return Result.NO_INVITE;
+        }
+        if (party.size() >= maxSize) return Result.PARTY_FULL;
+
+        party.members.add(invitee);
+        parties.put(invitee, party);
+        return Result.SUCCESS;
+    }
+
+    /**
+     * Who invited this player (null if no live invite)
+     */
+    public UUID getPendingInviter(UUID invitee, long now) {
+        Invite invite = invites.get(invitee);
+        return invite != null && invite.expiresAt > now ? invite.leader : null;
+    }
+
+    /**
+     * Leave the party; leadership passes to the next member, a party of one is dissolved
+     */
+    public Result leave(UUID member) {
+        invites.remove(member);
+        Party party = parties.remove(member);
+        if (party == null) return Result.NOT_IN_PARTY;
+
+        party.members.remove(member);
+        if (party.size() == 1) {
+            parties.remove(party.members.get(0));
+            party.members.clear();
+        }
+        return Result.SUCCESS;
+    }
+
+    public Party getParty(UUID member) {
+        return parties.get(member);
+    }
+
+    /**
+     * Party key for team assignment (the leader), or null if solo
+     */
+    public UUID getPartyId(UUID member) {
+        Party party = parties.get(member);
+        return party != null ? party.getLeader() : null;
+    }
+
+    private void purgeExpired(long now) {
+        invites.values().removeIf(invite -> invite.expiresAt <= now);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void clear() {
+        parties.clear();
+        invites.clear();
+    }
+}
@@ -0,0 +1,124 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.util.*;
+
+/**
+ * Death order and placements for one event.
+ *
+ * Deaths are appended to an array and indexed by UUID, so recording a death and looking
+ * up a placement are O(1) and the ordered standings come out in a single pass.
+ * Teammates dying in the same tick (e.g. a whole team caught in one explosion) form a tie
+ * group and share the best placement of that group. Solo deaths never tie: two unrelated
+ * players dying in the same tick are ranked by the order they were recorded.
+ */
+public class PlacementTracker {
+
+    /**
+     * Team value for a player who is not on a team (solo mode)
+     */
+    public static final int NO_TEAM = -1;
+
+    private final Set<UUID> participants = new LinkedHashSet<>();
+    private final Map<UUID, Integer> deathIndex = new HashMap<>();
+
+    // Append-only death order: index 0 died first (last place)
+    private UUID[] deaths = new UUID[16];
+    private int[] deathGroup = new int[16];
+    private int deathCount;
+
+    // Last death index of each tie group
+    private int[] groupLastIndex = new int[16];
+    private int groupCount;
+    private long lastDeathTick = Long.MIN_VALUE;
+    private int lastDeathTeam = NO_TEAM;
+
+    private int totalParticipants;
+
+    public synchronized void reset() {
+        participants.clear();
+        deathIndex.clear();
+        Arrays.fill(deaths, 0, deathCount, null);
+        deathCount = 0;
+        groupCount = 0;
+        lastDeathTick = Long.MIN_VALUE;
+        lastDeathTeam = NO_TEAM;
+        totalParticipants = 0;
+    }
+
+    /**
+     * Register everyone who started the event
+     */
+    public synchronized void registerParticipants(Collection<UUID> uuids) {
+        participants.addAll(uuids);
+        totalParticipants = participants.size();
+    }
+
+    /**
+     * Record a death. A death in the same tick and on the same team as the previous one is tied with it.
+     * @param team the player's team, {@link #NO_TEAM} for solo players (never tied)
+     * @return false if the player was already recorded
+     */
+    public synchronized boolean recordDeath(UUID uuid, long tick, int team) {
+        if (deathIndex.containsKey(uuid)) return false;
+
+        if (deathCount == deaths.length) {
+            deaths = Arrays.copyOf(deaths, deathCount * 2);
+            deathGroup = Arrays.copyOf(deathGroup, deathCount * 2);
+        }
+
+        int index = deathCount++;
+        deaths[index] = uuid;
+        deathIndex.put(uuid, index);
+
+        if (groupCount == 0 || tick != lastDeathTick || team == NO_TEAM || team != lastDeathTeam) {
+            if (groupCount == groupLastIndex.length) {
+                groupLastIndex = Arrays.copyOf(groupLastIndex, groupCount * 2);
+            }
+            groupCount++;
+            lastDeathTick = tick;
+            lastDeathTeam = team;
+        }
+        deathGroup[index] = groupCount - 1;
+        groupLastIndex[groupCount - 1] = index;
+        return true;
+    }
+
+    public synchronized boolean hasDied(UUID uuid) {
+        return deathIndex.containsKey(uuid);
+    }
+
+    /**
+     * Placement for a player (1 = winner/still alive, higher = worse).
+     * Tied deaths share the best placement of their group.
+     */
+    public synchronized int getPlacement(UUID uuid) {
+        Integer index = deathIndex.get(uuid);
+        if (index == null) return 1;
+        int placement = totalParticipants - groupLastIndex[deathGroup[index]];
+        return Math.max(1, placement);
+    }
+
+    /**
+     * Survivors first, then the dead from last to first death
+     */
+    public synchronized List<UUID> getPlacementsInOrder() {
+        List<UUID> ordered = new ArrayList<>(participants.size() + deathCount);
+        for (UUID uuid : participants) {
+            if (!deathIndex.containsKey(uuid)) {
+                ordered.add(uuid);
+            }
+        }
+        for (int i = deathCount - 1; i >= 0; i--) {
+            ordered.add(deaths[i]);
+        }
+        return ordered;
+    }
+
+    public synchronized int getTotalParticipants() {
+        return totalParticipants;
+    }
+
+    public synchronized int getDeathCount() {
+        return deathCount;
+    }
+}
@@ -0,0 +1,99 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Multi-player Elo over event placements.
+ *
+ * A free-for-all result is read as every pair of participants having played each other:
+ * the better placement wins the pair, equal placements draw. Each player's change is the
+ * sum of (actual - expected) over all opponents, scaled by K / (n - 1) so one event moves
+ * a rating about as much as a single duel would.
+ */
+public final class RatingEngine {
+
+    public static final double DEFAULT_RATING = 1000.0;
+
+    /**
+     * Rating points per bucket when summing expected scores
+     */
+    static final double BUCKET_WIDTH = 4.0;
+
+    private RatingEngine() {
+    }
+
+    /**
+     * Chance that a player rated {@code rating} beats one rated {@code opponent}
+     */
+    public static double expectedScore(double rating, double opponent) {
+        return 1.0 / (1.0 + Math.pow(10.0, (opponent - rating) / 400.0));
+    }
+
+    /**
+     * Rating changes for one finished event.
+     *
+     * O(n log n + b^2) for b distinct rating buckets: wins and draws come from the sorted
+     * placements, and expected scores are summed per bucket of {@link #BUCKET_WIDTH} points
+     * rather than per pair. b is bounded by the rating spread (a few hundred at most), not by
+     * the lobby size. Both sides of a pair use the same bucketed ratings, so the changes still
+     * sum to zero; the bucketing moves a result by well under one rating point.
+     *
+     * @param ratings    current rating of each participant
+     * @param placements placement of each participant (1 = winner, ties allowed)
+     * @param kFactor    maximum change of a single pairing
+     * @return change to apply to each participant (sums to zero)
+     */
+    public static double[] computeDeltas(double[] ratings, int[] placements, double kFactor) {
+        int n = ratings.length;
+        double[] deltas = new double[n];
+        if (n < 2) return deltas;
+
+        // Opponents per rating bucket
+        Map<Long, Integer> bucketCounts = new HashMap<>();
+        long[] buckets = new long[n];
+        for (int i = 0; i < n; i++) {
+            buckets[i] = Math.round(ratings[i] / BUCKET_WIDTH);
+            bucketCounts.merge(buckets[i], 1, Integer::sum);
+        }
+        long[] keys = new long[bucketCounts.size()];
+        int[] counts = new int[keys.length];
+        int k = 0;
+        for (Map.Entry<Long, Integer> entry : bucketCounts.entrySet()) {
+            keys[k] = entry.getKey();
+            counts[k++] = entry.getValue();
+        }
+
+        // Expected score of a bucket against everyone else (minus the 0.5 against itself)
+        Map<Long, Double> expected = new HashMap<>(keys.length * 2);
+        for (int a = 0; a < keys.length; a++) {
+            double sum = -0.5;
+            for (int b = 0; b < keys.length; b++) {
+                sum += counts[b] * expectedScore(keys[a] * BUCKET_WIDTH, keys[b] * BUCKET_WIDTH);
+            }
+            expected.put(keys[a], sum);
+        }
+
+        int[] sorted = placements.clone();
+        Arrays.sort(sorted);
+        double scale = kFactor / (n - 1);
+        for (int i = 0; i < n; i++) {
+            int better = lowerBound(sorted, placements[i]);
+            int tied = lowerBound(sorted, placements[i] + 1) - better - 1;
+            double actual = (n - 1 - better - tied) + 0.5 * tied;
+            deltas[i] = scale * (actual - expected.get(buckets[i]));
+        }
+        return deltas;
+    }
+
+    private static int lowerBound(int[] sorted, int value) {
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
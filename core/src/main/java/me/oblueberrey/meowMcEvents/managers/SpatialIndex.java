@@ -0,0 +1,303 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * Uniform-grid spatial hash of alive participant positions (X/Z plane).
+ *
+ * Positions are bucketed into square cells (16 blocks = one chunk by default), so
+ * nearest and radius queries only visit the cells around the query point instead
+ * of scanning every alive player. Fed by the movement pipeline on block changes.
+ *
+ * Not thread-safe - only touch it from the main server thread.
+ */
+public class SpatialIndex {
+
+    private final int cellShift;
+    private final int cellSize;
+    private final ToIntFunction<UUID> teamLookup;
+
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<UUID, WorldGrid> worlds = new HashMap<>();
+
+    /**
+     * @param cellShift  log2 of the cell size in blocks (4 = 16 blocks)
+     * @param teamLookup resolves a player's team for team-filtered queries (-1 = no team)
+     */
+    public SpatialIndex(int cellShift, ToIntFunction<UUID> teamLookup) {
+        this.cellShift = Math.max(1, Math.min(8, cellShift));
+        this.cellSize = 1 << this.cellShift;
+        this.teamLookup = teamLookup;
+    }
+
+    /**
+     * Insert or move a player. Cheap when the player stays in the same cell.
+     */
+    public void update(UUID uuid, UUID worldId, double x, double y, double z) {
+        int cx = (int) Math.floor(x) >> cellShift;
+        int cz = (int) Math.floor(z) >> cellShift;
+
+        Entry entry = entries.get(uuid);
+        if (entry == null) {
+            entry = new Entry(uuid);
+            entries.put(uuid, entry);
+        } else if (entry.worldId.equals(worldId) && entry.cx == cx && entry.cz == cz) {
+            entry.x = x;
+            entry.y = y;
+            entry.z = z;
+            return;
+        } else {
+            detach(entry);
+        }
+
+        entry.worldId = worldId;
+        entry.x = x;
+        entry.y = y;
+        entry.z = z;
+        entry.cx = cx;
+        entry.cz = cz;
+        worlds.computeIfAbsent(worldId, k -> new WorldGrid()).add(entry);
+    }
+
+    /**
+     * Remove a player (death, quit, leave)
+     */
+    public void remove(UUID uuid) {
+        Entry entry = entries.remove(uuid);
+        if (entry != null) {
+            detach(entry);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        worlds.clear();
+    }
+
+    public boolean contains(UUID uuid) {
+        return entries.containsKey(uuid);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Find up to k players closest to (x, z), nearest first.
+     *
+     * @param exclude     player to skip (usually the one asking), may be null
+     * @param excludeTeam skip members of this team (values <= 0 disable the filter)
+     */
+    public List<UUID> nearest(UUID worldId, double x, double z, int k, UUID exclude, int excludeTeam) {
+        WorldGrid grid = worlds.get(worldId);
+        if (grid == null || k <= 0) {
+            return Collections.emptyList();
+        }
+
+        // Max-heap on distance so the current worst candidate is on top
+        PriorityQueue<Candidate> best = new PriorityQueue<>(k + 1,
+                (a, b) -> Double.compare(b.distanceSquared, a.distanceSquared));
+
+        int centerX = (int) Math.floor(x) >> cellShift;
+        int centerZ = (int) Math.floor(z) >> cellShift;
+        int maxRing = grid.maxRingFrom(centerX, centerZ);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            visitRing(grid, centerX, centerZ, ring, cell -> {
+                for (int i = 0; i < cell.size; i++) {
+                    Entry entry = cell.items[i];
+                    if (!accepts(entry, exclude, excludeTeam)) continue;
+                    double dx = entry.x - x;
+                    double dz = entry.z - z;
+                    double distanceSquared = dx * dx + dz * dz;
+                    if (best.size() < k) {
+                        best.add(new Candidate(entry.uuid, distanceSquared));
+                    } else if (distanceSquared < best.peek().distanceSquared) {
+                        best.poll();
+                        best.add(new Candidate(entry.uuid, distanceSquared));
+                    }
+                }
+            });
+
+            // Anything in the next ring is at least ring * cellSize away
+            if (best.size() == k) {
+                double bound = (double) ring * cellSize;
+                if (best.peek().distanceSquared <= bound * bound) {
+                    break;
+                }
+            }
+        }
+
+        Candidate[] sorted = best.toArray(new Candidate[0]);
+        Arrays.sort(sorted, Comparator.comparingDouble(c -> c.distanceSquared));
+        List<UUID> result = new ArrayList<>(sorted.length);
+        for (Candidate candidate : sorted) {
+            result.add(candidate.uuid);
+        }
+        return result;
+    }
+
+    /**
+     * Closest player not on excludeTeam, or null if nobody qualifies
+     */
+    public UUID nearestEnemy(UUID worldId, double x, double z, UUID self, int selfTeam) {
+        List<UUID> result = nearest(worldId, x, z, 1, self, selfTeam);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * All players within radius blocks of (x, z), in no particular order.
+     */
+    public List<UUID> withinRadius(UUID worldId, double x, double z, double radius, UUID exclude, int excludeTeam) {
+        List<UUID> result = new ArrayList<>();
+        WorldGrid grid = worlds.get(worldId);
+        if (grid == null || radius < 0) {
+            return result;
+        }
+
+        double radiusSquared = radius * radius;
+        int minCx = (int) Math.floor(x - radius) >> cellShift;
+        int maxCx = (int) Math.floor(x + radius) >> cellShift;
+        int minCz = (int) Math.floor(z - radius) >> cellShift;
+        int maxCz = (int) Math.floor(z + radius) >> cellShift;
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                Cell cell = grid.cells.get(key(cx, cz));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size; i++) {
+                    Entry entry = cell.items[i];
+                    if (!accepts(entry, exclude, excludeTeam)) continue;
+                    double dx = entry.x - x;
+                    double dz = entry.z - z;
+                    if (dx * dx + dz * dz <= radiusSquared) {
+                        result.add(entry.uuid);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Number of players within radius blocks of (x, z) - for zone scoring/proximity checks
+     */
+    public int countWithinRadius(UUID worldId, double x, double z, double radius, UUID exclude, int excludeTeam) {
+        return withinRadius(worldId, x, z, radius, exclude, excludeTeam).size();
+    }
+
+    // ==================== Internals ====================
+
+    private boolean accepts(Entry entry, UUID exclude, int excludeTeam) {
+        if (exclude != null && entry.uuid.equals(exclude)) return false;
+        return excludeTeam <= 0 || teamLookup == null || teamLookup.applyAsInt(entry.uuid) != excludeTeam;
+    }
+
+    private void detach(Entry entry) {
+        WorldGrid grid = worlds.get(entry.worldId);
+        if (grid == null) return;
+        grid.remove(entry);
+        if (grid.cells.isEmpty()) {
+            worlds.remove(entry.worldId);
+        }
+    }
+
+    private static void visitRing(WorldGrid grid, int centerX, int centerZ, int ring, java.util.function.Consumer<Cell> visitor) {
+        if (ring == 0) {
+            Cell cell = grid.cells.get(key(centerX, centerZ));
+            if (cell != null) visitor.accept(cell);
+            return;
+        }
+        for (int dx = -ring; dx <= ring; dx++) {
+            Cell top = grid.cells.get(key(centerX + dx, centerZ - ring));
+            if (top != null) visitor.accept(top);
+            Cell bottom = grid.cells.get(key(centerX + dx, centerZ + ring));
+            if (bottom != null) visitor.accept(bottom);
+        }
+        for (int dz = -ring + 1; dz <= ring - 1; dz++) {
+            Cell left = grid.cells.get(key(centerX - ring, centerZ + dz));
+            if (left != null) visitor.accept(left);
+            Cell right = grid.cells.get(key(centerX + ring, centerZ + dz));
+            if (right != null) visitor.accept(right);
+        }
+    }
+
+    private static long key(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private static final class Entry {
+        final UUID uuid;
+        UUID worldId;
+        double x, y, z;
+        int cx, cz;
+        int slot; // Position inside the cell array (swap-remove)
+
+        Entry(UUID uuid) {
+            this.uuid = uuid;
+        }
+    }
+
+    private static final class Cell {
+        Entry[] items = new Entry[4];
+        int size;
+    }
+
+    private static final class Candidate {
+        final UUID uuid;
+        final double distanceSquared;
+
+        Candidate(UUID uuid, double distanceSquared) {
+            this.uuid = uuid;
+            this.distanceSquared = distanceSquared;
+        }
+    }
+
+    /**
+     * Cells of one world plus the bounding box of occupied cells (bounds the ring search)
+     */
+    private static final class WorldGrid {
+        final Map<Long, Cell> cells = new HashMap<>();
+        int minCx = Integer.MAX_VALUE, maxCx = Integer.MIN_VALUE;
+        int minCz = Integer.MAX_VALUE, maxCz = Integer.MIN_VALUE;
+
+        void add(Entry entry) {
+            Cell cell = cells.computeIfAbsent(key(entry.cx, entry.cz), k -> new Cell());
+            if (cell.size == cell.items.length) {
+                cell.items = Arrays.copyOf(cell.items, cell.size * 2);
+            }
+            entry.slot = cell.size;
+            cell.items[cell.size++] = entry;
+
+            minCx = Math.min(minCx, entry.cx);
+            maxCx = Math.max(maxCx, entry.cx);
+            minCz = Math.min(minCz, entry.cz);
+            maxCz = Math.max(maxCz, entry.cz);
+        }
+
+        void remove(Entry entry) {
+            long cellKey = key(entry.cx, entry.cz);
+            Cell cell = cells.get(cellKey);
+            if (cell == null) return;
+
+            int last = --cell.size;
+            Entry moved = cell.items[last];
+            cell.items[entry.slot] = moved;
+            moved.slot = entry.slot;
+            cell.items[last] = null;
+
+            if (cell.size == 0) {
+                cells.remove(cellKey);
+                // Bounds only grow between clears; they just cap the ring search, so staying loose is fine
+            }
+        }
+
+        int maxRingFrom(int cx, int cz) {
+            if (cells.isEmpty()) return -1;
+            int ringX = Math.max(Math.abs(cx - minCx), Math.abs(maxCx - cx));
+            int ringZ = Math.max(Math.abs(cz - minCz), Math.abs(maxCz - cz));
+            return Math.max(ringX, ringZ);
+        }
+    }
+}
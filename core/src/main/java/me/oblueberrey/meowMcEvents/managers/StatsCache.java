@@ -0,0 +1,67 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent stats of online players, filled on join and dropped on quit.
+ *
+ * Participants of the running event are held: one who quits keeps their entry until
+ * the event's results are recorded, so the rating update still sees their real rating
+ * instead of the default.
+ */
+public class StatsCache<V> {
+
+    private final Map<UUID, V> entries = new ConcurrentHashMap<>();
+
+    // Main thread only
+    private final Set<UUID> held = new HashSet<>();
+    private final Set<UUID> departed = new HashSet<>();
+
+    public V get(UUID uuid) {
+        return entries.get(uuid);
+    }
+
+    /**
+     * Cache a loaded entry; a held player who rejoined is no longer dropped on release
+     */
+    public void put(UUID uuid, V value) {
+        entries.put(uuid, value);
+        departed.remove(uuid);
+    }
+
+    /**
+     * Keep these players' entries until {@link #release()}, even if they quit
+     */
+    public void hold(Collection<UUID> participants) {
+        held.addAll(participants);
+    }
+
+    /**
+     * Drop a player's entry, or defer it while they are held
+     */
+    public void unload(UUID uuid) {
+        if (held.contains(uuid)) {
+            departed.add(uuid);
+        } else {
+            entries.remove(uuid);
+        }
+    }
+
+    /**
+     * Results are recorded: drop the entries of held players who quit meanwhile
+     */
+    public void release() {
+        for (UUID uuid : departed) {
+            entries.remove(uuid);
+        }
+        held.clear();
+        departed.clear();
+    }
+
+    public void clear() {
+        entries.clear();
+        held.clear();
+        departed.clear();
+    }
+}
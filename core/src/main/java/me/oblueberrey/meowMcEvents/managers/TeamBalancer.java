@@ -0,0 +1,340 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.util.*;
+
+/**
+ * Rating-balanced team partitioning.
+ *
+ * Players are indexes into a ratings array and teams are 0-based indexes, so the same code
+ * serves the initial assignment and mid-event rebalancing. Team sizes are the same as filling
+ * teams one after another; strength is balanced on mean rating.
+ */
+public final class TeamBalancer {
+
+    /**
+     * Local search passes; fixed so the search stays O(n log n) however large the lobby is
+     */
+    static final int MAX_PASSES = 64;
+
+    private TeamBalancer() {
+    }
+
+    /**
+     * Team sizes for the given player count: full teams of teamSize, then one team with the rest
+     */
+    public static int[] capacities(int players, int teamSize) {
+        if (players <= 0 || teamSize < 1) return new int[0];
+        int teams = (players + teamSize - 1) / teamSize;
+        int[] capacities = new int[teams];
+        Arrays.fill(capacities, teamSize);
+        capacities[teams - 1] = players - (teams - 1) * teamSize;
+        return capacities;
+    }
+
+    /**
+     * Split solo players into teams with balanced mean rating (see {@link #partition(double[], int[], int)})
+     */
+    public static int[] partition(double[] ratings, int teamSize) {
+        return partition(ratings, null, teamSize);
+    }
+
+    /**
+     * Split players into teams with balanced mean rating, keeping parties together.
+     *
+     * Packing (first-fit-decreasing): parties largest first, then solos strongest first, each
+     * into the team with the lowest mean among those with enough free slots. Open teams sit
+     * in one heap per free-slot count, so a placement is O(teamSize log t). A party larger
+     * than teamSize is cut into teamSize chunks; any other party only goes into a team with
+     * room for all of it, and one that no longer fits anywhere whole is placed member by
+     * member at the end.
+     * Local search: repeatedly make the swap between the strongest or weakest team and any other
+     * team that most reduces the variance of team means (binary search over sorted members),
+     * until no such swap helps or {@link #MAX_PASSES} swaps were made. A pass is O(n log n), so
+     * the whole search is too. Only solo players are swapped.
+     * Players with equal ratings keep their input order, so callers shuffle first for variety.
+     *
+     * @param group party id of each player (shared id = same party), -1 for solo; null if all solo
+     * @return team index of each player
+     */
+    public static int[] partition(double[] ratings, int[] group, int teamSize) {
+        int n = ratings.length;
+        int[] capacities = capacities(n, teamSize);
+        int teams = capacities.length;
+        int[] team = new int[n];
+        if (teams == 0) return team;
+        int maxCapacity = capacities[0];
+
+        // Items to pack: parties (only those larger than a team are chunked) and solos
+        List<int[]> items = new ArrayList<>();
+        Map<Integer, List<Integer>> parties = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            if (group == null || group[i] < 0) {
+                items.add(new int[]{i});
+            } else {
+                parties.computeIfAbsent(group[i], k -> new ArrayList<>()).add(i);
+            }
+        }
+        for (List<Integer> party : parties.values()) {
+            for (int from = 0; from < party.size(); from += teamSize) {
+                List<Integer> chunk = party.subList(from, Math.min(party.size(), from + teamSize));
+                items.add(chunk.stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+        double[] itemRatings = new double[n];
+        for (int[] item : items) {
+            double sum = 0;
+            for (int player : item) sum += ratings[player];
+            for (int player : item) itemRatings[player] = sum;
+        }
+        items.sort((a, b) -> a.length != b.length ? Integer.compare(b.length, a.length)
+                : Double.compare(itemRatings[b[0]], itemRatings[a[0]]));
+
+        double[] totals = new double[teams];
+        int[] sizes = new int[teams];
+        Comparator<Integer> byMean = (a, b) -> {
+            int cmp = Double.compare(totals[a] / capacities[a], totals[b] / capacities[b]);
+            return cmp != 0 ? cmp : Integer.compare(a, b);
+        };
+        List<PriorityQueue<Integer>> byRoom = new ArrayList<>(maxCapacity + 1);
+        for (int room = 0; room <= maxCapacity; room++) byRoom.add(new PriorityQueue<>(byMean));
+        for (int t = 0; t < teams; t++) byRoom.get(capacities[t]).add(t);
+
+        boolean[] locked = new boolean[n];
+        List<Integer> overflow = new ArrayList<>();
+        for (int[] item : items) {
+            int room = bestRoom(byRoom, item.length, byMean);
+            if (room < 0) {
+                for (int player : item) overflow.add(player);
+                continue;
+            }
+            int t = byRoom.get(room).poll();
+            for (int player : item) {
+                team[player] = t;
+                totals[t] += ratings[player];
+                sizes[t]++;
+                locked[player] = item.length > 1;
+            }
+            if (room > item.length) byRoom.get(room - item.length).add(t);
+        }
+
+        // Parties that could not stay whole, strongest first
+        overflow.sort((a, b) -> Double.compare(ratings[b], ratings[a]));
+        for (int player : overflow) {
+            int room = bestRoom(byRoom, 1, byMean);
+            int t = byRoom.get(room).poll();
+            team[player] = t;
+            totals[t] += ratings[player];
+            sizes[t]++;
+            if (room > 1) byRoom.get(room - 1).add(t);
+        }
+
+        localSearch(ratings, team, totals, sizes, teams, locked);
+        return team;
+    }
+
+    /**
+     * Free-slot count of the lowest-mean team that can take {@code size} players, -1 if none
+     */
+    private static int bestRoom(List<PriorityQueue<Integer>> byRoom, int size, Comparator<Integer> byMean) {
+        int bestRoom = -1;
+        for (int room = size; room < byRoom.size(); room++) {
+            Integer head = byRoom.get(room).peek();
+            if (head != null && (bestRoom < 0 || byMean.compare(head, byRoom.get(bestRoom).peek()) < 0)) {
+                bestRoom = room;
+            }
+        }
+        return bestRoom;
+    }
+
+    private static void localSearch(double[] ratings, int[] team, double[] totals, int[] sizes, int teams,
+                                    boolean[] locked) {
+        if (teams < 2) return;
+
+        // Swappable members per team (party members stay put)
+        List<List<Integer>> members = new ArrayList<>(teams);
+        for (int t = 0; t < teams; t++) members.add(new ArrayList<>(sizes[t]));
+        for (int i = 0; i < team.length; i++) {
+            if (!locked[i]) members.get(team[i]).add(i);
+        }
+        for (List<Integer> list : members) list.sort(Comparator.comparingDouble(i -> ratings[i]));
+
+        double mean = 0;
+        for (double total : totals) mean += total;
+        mean /= team.length;
+
+        int[] swap = new int[2];
+        for (int pass = 0; pass < MAX_PASSES; pass++) {
+            int high = 0, low = 0;
+            for (int t = 1; t < teams; t++) {
+                if (totals[t] / sizes[t] > totals[high] / sizes[high]) high = t;
+                if (totals[t] / sizes[t] < totals[low] / sizes[low]) low = t;
+            }
+            if (high == low) return;
+
+            // Only swaps touching the strongest or weakest team can shrink the spread
+            double bestGain = 1e-9;
+            int bestFrom = -1, bestTo = -1, bestA = -1, bestB = -1;
+            for (int t = 0; t < teams; t++) {
+                if (t != high && bestSwap(ratings, members, totals, sizes, high, t, swap)) {
+                    double gain = swapGain(ratings, totals, sizes, high, t, swap, mean);
+                    if (gain > bestGain) {
+                        bestGain = gain; bestFrom = high; bestTo = t; bestA = swap[0]; bestB = swap[1];
+                    }
+                }
+                if (t != low && t != high && bestSwap(ratings, members, totals, sizes, t, low, swap)) {
+                    double gain = swapGain(ratings, totals, sizes, t, low, swap, mean);
+                    if (gain > bestGain) {
+                        bestGain = gain; bestFrom = t; bestTo = low; bestA = swap[0]; bestB = swap[1];
+                    }
+                }
+            }
+            if (bestFrom < 0) return;
+
+            double d = ratings[bestA] - ratings[bestB];
+            totals[bestFrom] -= d;
+            totals[bestTo] += d;
+            team[bestA] = bestTo;
+            team[bestB] = bestFrom;
+            replace(members.get(bestFrom), bestA, bestB, ratings);
+            replace(members.get(bestTo), bestB, bestA, ratings);
+        }
+    }
+
+    /**
+     * Pair (a in from, b in to) whose rating difference best equalizes the two team means
+     */
+    private static boolean bestSwap(double[] ratings, List<List<Integer>> members, double[] totals, int[] sizes,
+                                    int from, int to, int[] out) {
+        // Moving d rating points from 'from' to 'to': best d equalizes the two means
+        double ideal = (totals[from] * sizes[to] - totals[to] * sizes[from]) / (sizes[from] + sizes[to]);
+        if (ideal <= 1e-9) return false;
+
+        List<Integer> targets = members.get(to);
+        double bestError = ideal; // error of not swapping at all
+        boolean found = false;
+        for (int a : members.get(from)) {
+            int pos = lowerBound(targets, ratings, ratings[a] - ideal);
+            for (int k = Math.max(0, pos - 1); k <= Math.min(targets.size() - 1, pos); k++) {
+                int b = targets.get(k);
+                double d = ratings[a] - ratings[b];
+                double error = Math.abs(ideal - d);
+                if (d > 0 && error < bestError - 1e-9) {
+                    bestError = error;
+                    out[0] = a;
+                    out[1] = b;
+                    found = true;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Drop in the sum of squared team-mean deviations if the swap is made
+     */
+    private static double swapGain(double[] ratings, double[] totals, int[] sizes, int from, int to, int[] swap, double mean) {
+        double d = ratings[swap[0]] - ratings[swap[1]];
+        double fromBefore = totals[from] / sizes[from] - mean;
+        double toBefore = totals[to] / sizes[to] - mean;
+        double fromAfter = (totals[from] - d) / sizes[from] - mean;
+        double toAfter = (totals[to] + d) / sizes[to] - mean;
+        return fromBefore * fromBefore + toBefore * toBefore - fromAfter * fromAfter - toAfter * toAfter;
+    }
+
+    private static void replace(List<Integer> sorted, int removed, int added, double[] ratings) {
+        sorted.remove(Integer.valueOf(removed));
+        int pos = lowerBound(sorted, ratings, ratings[added]);
+        sorted.add(pos, added);
+    }
+
+    private static int lowerBound(List<Integer> sorted, double[] ratings, double value) {
+        int lo = 0, hi = sorted.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ratings[sorted.get(mid)] < value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Even out team sizes after players left, moving as few players as possible.
+     *
+     * Only acts when sizes differ by two or more. Each open slot is filled from an oversized
+     * team with the player whose rating brings the receiving team closest to the overall mean.
+     *
+     * @param team  current team index of each (alive) player
+     * @param teams number of teams
+     * @return new team index of each player (same array if nothing changed)
+     */
+    public static int[] rebalance(int[] team, double[] ratings, int teams) {
+        int n = team.length;
+        if (teams < 2 || n == 0) return team;
+
+        int[] sizes = new int[teams];
+        double[] totals = new double[teams];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sizes[team[i]]++;
+            totals[team[i]] += ratings[i];
+            sum += ratings[i];
+        }
+        int max = Integer.MIN_VALUE, min = Integer.MAX_VALUE;
+        for (int size : sizes) {
+            max = Math.max(max, size);
+            min = Math.min(min, size);
+        }
+        if (max - min < 2) return team;
+
+        // Larger teams keep the extra slots, so fewer players move
+        Integer[] bySize = new Integer[teams];
+        for (int t = 0; t < teams; t++) bySize[t] = t;
+        Arrays.sort(bySize, (a, b) -> Integer.compare(sizes[b], sizes[a]));
+        int[] targets = new int[teams];
+        int base = n / teams, extra = n % teams;
+        for (int k = 0; k < teams; k++) {
+            targets[bySize[k]] = base + (k < extra ? 1 : 0);
+        }
+
+        // Candidates: members of oversized teams, sorted by rating
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (sizes[team[i]] > targets[team[i]]) candidates.add(i);
+        }
+        candidates.sort(Comparator.comparingDouble(i -> ratings[i]));
+        boolean[] used = new boolean[n];
+
+        int[] result = team.clone();
+        double mean = sum / n;
+        for (int t = 0; t < teams; t++) {
+            while (sizes[t] < targets[t]) {
+                double wanted = mean * (sizes[t] + 1) - totals[t];
+                int pos = lowerBound(candidates, ratings, wanted);
+                int chosen = nearestAvailable(candidates, ratings, pos, wanted, used, result, sizes, targets);
+                if (chosen < 0) return result;
+
+                used[chosen] = true;
+                sizes[result[chosen]]--;
+                totals[result[chosen]] -= ratings[chosen];
+                result[chosen] = t;
+                sizes[t]++;
+                totals[t] += ratings[chosen];
+            }
+        }
+        return result;
+    }
+
+    private static int nearestAvailable(List<Integer> candidates, double[] ratings, int pos, double wanted,
+                                        boolean[] used, int[] team, int[] sizes, int[] targets) {
+        int left = pos - 1, right = pos;
+        while (left >= 0 || right < candidates.size()) {
+            double leftGap = left >= 0 ? wanted - ratings[candidates.get(left)] : Double.MAX_VALUE;
+            double rightGap = right < candidates.size() ? ratings[candidates.get(right)] - wanted : Double.MAX_VALUE;
+            int index = leftGap <= rightGap ? candidates.get(left--) : candidates.get(right++);
+            if (!used[index] && sizes[team[index]] > targets[team[index]]) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,532 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.platform.DebugCategory;
+import me.oblueberrey.meowMcEvents.platform.PlatformAdapter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Team membership by player UUID: assignment (see TeamBalancer), lookups, alive-team
+ * checks for the winner test, and auto-balancing as players drop out
+ *
+ * Subclasses add the server side (colors, messages) through the protected hooks.
+ */
+public class TeamRegistry {
+
+    protected static final int INITIAL_CAPACITY = 16;
+
+    // Null when running without a server (unit tests) - debug output is then dropped
+    protected final PlatformAdapter platform;
+
+    // Dense team storage indexed by team number (slot 0 unused); null slot = no such team
+    // Arrays are only replaced or written under teamLock, readers take the current reference
+    private volatile Set<UUID>[] teams;
+    private volatile int teamCount;
+    private volatile int highestTeam;
+    private final Map<UUID, Integer> playerTeams; // Player UUID -> Team number
+
+    // Lock for compound operations that need atomicity
+    protected final Object teamLock = new Object();
+
+    // Player rating lookup for balancing; null = everyone rated equally
+    private volatile ToDoubleFunction<UUID> ratingSource;
+
+    // Party lookup (player -> party id, null if solo); null = no parties
+    private volatile Function<UUID, UUID> partySource;
+
+    // Alive players of the running event; null = nobody counts as alive
+    private volatile Supplier<Set<UUID>> aliveSource;
+
+    // Shuffles players before assignment (used under teamLock)
+    private final Random random;
+
+    public TeamRegistry(PlatformAdapter platform) {
+        this(platform, new Random());
+    }
+
+    /**
+     * @param random shuffles players before assignment; seed it for reproducible teams
+     */
+    public TeamRegistry(PlatformAdapter platform, Random random) {
+        this.platform = platform;
+        this.random = random;
+        this.teams = newTeamArray(INITIAL_CAPACITY + 1);
+        this.playerTeams = new ConcurrentHashMap<>();
+    }
+
+    protected void debug(Supplier<String> message) {
+        if (platform != null) {
+            platform.debug(DebugCategory.TEAM, message);
+        }
+    }
+
+    private String nameOf(UUID uuid) {
+        String name = platform != null ? platform.getName(uuid) : null;
+        return name != null ? name : uuid.toString();
+    }
+
+    /**
+     * Set where player ratings come from (null to balance on team size only)
+     */
+    public void setRatingSource(ToDoubleFunction<UUID> ratingSource) {
+        this.ratingSource = ratingSource;
+    }
+
+    /**
+     * Set where party membership comes from (null to ignore parties)
+     */
+    public void setPartySource(Function<UUID, UUID> partySource) {
+        this.partySource = partySource;
+    }
+
+    /**
+     * Set where the alive player set comes from (the event session's)
+     */
+    public void setAliveSource(Supplier<Set<UUID>> aliveSource) {
+        this.aliveSource = aliveSource;
+    }
+
+    private double getRating(UUID uuid) {
+        ToDoubleFunction<UUID> source = ratingSource;
+        return source != null ? source.applyAsDouble(uuid) : RatingEngine.DEFAULT_RATING;
+    }
+
+    /**
+     * Assign players to teams automatically
+     * Balances teams on player rating (see TeamBalancer); equal ratings are split randomly
+     * Parties are kept on one team unless larger than the team size
+     * Handles uneven player counts (the last team takes the remainder)
+     */
+    public void assignPlayers(Collection<UUID> players, int teamSize) {
+        synchronized (teamLock) {
+            clearTeamsInternal();
+
+            if (players == null || players.isEmpty() || teamSize < 1) {
+                debug(() -> "assignPlayers called with invalid params: players=" + (players == null ? "null" : players.size()) + ", teamSize=" + teamSize);
+                return;
+            }
+
+            debug(() -> "Assigning " + players.size() + " players to teams of size " + teamSize);
+
+            // Shuffle first so players with equal ratings land randomly
+            List<UUID> shuffled = new ArrayList<>(players.size());
+            for (UUID uuid : players) {
+                if (uuid != null) shuffled.add(uuid);
+            }
+            Collections.shuffle(shuffled, random);
+
+            double[] ratings = new double[shuffled.size()];
+            int[] groups = new int[shuffled.size()];
+            Function<UUID, UUID> parties = partySource;
+            Map<UUID, Integer> groupIds = new HashMap<>();
+            for (int i = 0; i < ratings.length; i++) {
+                UUID uuid = shuffled.get(i);
+                ratings[i] = getRating(uuid);
+                UUID partyId = parties != null ? parties.apply(uuid) : null;
+                groups[i] = partyId != null ? groupIds.computeIfAbsent(partyId, k -> groupIds.size()) : -1;
+            }
+            int[] assignment = TeamBalancer.partition(ratings, groups, teamSize);
+
+            // Size storage (and any subclass palette) once for the whole assignment
+            int maxTeam = 0;
+            for (int team : assignment) {
+                maxTeam = Math.max(maxTeam, team + 1);
+            }
+            ensureCapacity(maxTeam);
+
+            for (int i = 0; i < assignment.length; i++) {
+                UUID uuid = shuffled.get(i);
+                int teamNumber = assignment[i] + 1;
+                addInternal(uuid, teamNumber);
+                double rating = ratings[i];
+                debug(() -> "Assigned " + nameOf(uuid) + " (rating " + Math.round(rating) + ") to Team " + teamNumber);
+            }
+
+            debug(() -> "Team assignment complete. Total teams: " + teamCount);
+        }
+    }
+
+    /**
+     * Get team number by UUID
+     * Returns -1 if player is not in a team
+     */
+    public int getTeam(UUID uuid) {
+        if (uuid == null) return -1;
+        return playerTeams.getOrDefault(uuid, -1);
+    }
+
+    /**
+     * Get all players in a specific team (live view, empty if the team does not exist)
+     */
+    public Set<UUID> getTeamMembers(int teamNumber) {
+        Set<UUID>[] current = teams;
+        if (teamNumber < 1 || teamNumber >= current.length || current[teamNumber] == null) {
+            return Collections.emptySet();
+        }
+        return current[teamNumber];
+    }
+
+    /**
+     * Check if a team with this number currently exists
+     */
+    public boolean hasTeam(int teamNumber) {
+        Set<UUID>[] current = teams;
+        return teamNumber >= 1 && teamNumber < current.length && current[teamNumber] != null;
+    }
+
+    /**
+     * Highest team number in use; iterate 1..this with {@link #hasTeam(int)} to visit every team
+     */
+    public int getHighestTeamNumber() {
+        return highestTeam;
+    }
+
+    /**
+     * Get total number of teams
+     */
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    /**
+     * Get the count of alive team members for a specific team
+     */
+    public int getAliveTeamMemberCount(int teamNumber) {
+        Supplier<Set<UUID>> source = aliveSource;
+        if (source == null) return 0;
+
+        Set<UUID> alivePlayers = source.get();
+
+        int count = 0;
+        for (UUID uuid : getTeamMembers(teamNumber)) {
+            if (alivePlayers.contains(uuid)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Remove player from team by UUID
+     * Used when player disconnects or dies
+     */
+    public void removeFromTeam(UUID uuid) {
+        if (uuid == null) return;
+
+        synchronized (teamLock) {
+            Integer teamNumber = playerTeams.remove(uuid);
+            if (teamNumber != null) {
+                removeFromSlot(uuid, teamNumber);
+            }
+        }
+    }
+
+    /**
+     * Check if a team has at least one alive player
+     */
+    public boolean isTeamAlive(int teamNumber, Set<UUID> alivePlayers) {
+        if (alivePlayers == null) return false;
+
+        for (UUID member : getTeamMembers(teamNumber)) {
+            if (alivePlayers.contains(member)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Get number of alive teams
+     */
+    public int getAliveTeamCount(Set<UUID> alivePlayers) {
+        if (alivePlayers == null) return 0;
+
+        Set<UUID>[] current = teams;
+        int last = Math.min(highestTeam, current.length - 1);
+        int aliveTeams = 0;
+
+        for (int teamNumber = 1; teamNumber <= last; teamNumber++) {
+            if (current[teamNumber] != null && isTeamAlive(teamNumber, alivePlayers)) {
+                aliveTeams++;
+            }
+        }
+
+        return aliveTeams;
+    }
+
+    /**
+     * Get the team number of the last alive team
+     * Returns -1 if no team is alive
+     */
+    public int getWinningTeam(Set<UUID> alivePlayers) {
+        if (alivePlayers == null) return -1;
+
+        Set<UUID>[] current = teams;
+        int last = Math.min(highestTeam, current.length - 1);
+        for (int teamNumber = 1; teamNumber <= last; teamNumber++) {
+            if (current[teamNumber] != null && isTeamAlive(teamNumber, alivePlayers)) {
+                return teamNumber;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get all team numbers that currently exist (a copy - hot paths should loop with
+     * {@link #getHighestTeamNumber()} and {@link #hasTeam(int)} instead)
+     */
+    public Set<Integer> getAllTeamNumbers() {
+        Set<Integer> numbers = new LinkedHashSet<>();
+        Set<UUID>[] current = teams;
+        int last = Math.min(highestTeam, current.length - 1);
+        for (int teamNumber = 1; teamNumber <= last; teamNumber++) {
+            if (current[teamNumber] != null) numbers.add(teamNumber);
+        }
+        return numbers;
+    }
+
+    // ==================== Storage ====================
+
+    @SuppressWarnings("unchecked")
+    private static Set<UUID>[] newTeamArray(int size) {
+        return (Set<UUID>[]) new Set<?>[size];
+    }
+
+    /**
+     * Grow team storage so team numbers up to maxTeam fit (under teamLock)
+     */
+    private void ensureCapacity(int maxTeam) {
+        if (maxTeam < teams.length) return;
+
+        int size = Math.max(maxTeam + 1, teams.length * 2);
+        teams = Arrays.copyOf(teams, size);
+        onCapacityChanged(size);
+    }
+
+    /**
+     * Called under teamLock after storage grows to hold team numbers below size
+     */
+    protected void onCapacityChanged(int size) {
+    }
+
+    /**
+     * Put a player in a team slot, creating the team if needed (under teamLock)
+     */
+    private void addInternal(UUID uuid, int teamNumber) {
+        ensureCapacity(teamNumber);
+        Set<UUID>[] current = teams;
+        Set<UUID> team = current[teamNumber];
+        if (team == null) {
+            // Thread-safe set - readers iterate without the lock
+            team = ConcurrentHashMap.newKeySet();
+            current[teamNumber] = team;
+            teamCount++;
+            highestTeam = Math.max(highestTeam, teamNumber);
+        }
+        team.add(uuid);
+        playerTeams.put(uuid, teamNumber);
+    }
+
+    /**
+     * Take a player out of a team slot, dropping the team once empty (under teamLock)
+     */
+    private void removeFromSlot(UUID uuid, int teamNumber) {
+        Set<UUID>[] current = teams;
+        if (teamNumber < 1 || teamNumber >= current.length) return;
+        Set<UUID> team = current[teamNumber];
+        if (team == null) return;
+
+        team.remove(uuid);
+        debug(() -> "Removed player from Team " + teamNumber + ". Team size now: " + team.size());
+
+        // Remove empty teams
+        if (team.isEmpty()) {
+            current[teamNumber] = null;
+            teamCount--;
+            if (teamNumber == highestTeam) {
+                int last = teamNumber - 1;
+                while (last > 0 && current[last] == null) last--;
+                highestTeam = last;
+            }
+            debug(() -> "Team " + teamNumber + " is now empty and removed");
+        }
+    }
+
+    /**
+     * Clear all team data
+     * Called when event stops
+     */
+    public void clearTeams() {
+        synchronized (teamLock) {
+            clearTeamsInternal();
+        }
+    }
+
+    /**
+     * Internal clear without lock - called from synchronized methods
+     */
+    private void clearTeamsInternal() {
+        int removedTeams = teamCount;
+        int playerCount = playerTeams.size();
+        Arrays.fill(teams, null);
+        teamCount = 0;
+        highestTeam = 0;
+        playerTeams.clear();
+        debug(() -> "Cleared all teams. Removed " + removedTeams + " teams and " + playerCount + " player assignments");
+    }
+
+    /**
+     * Check if team mode is active
+     * Returns true if teams have been assigned
+     */
+    public boolean isTeamMode() {
+        return teamCount > 0;
+    }
+
+    /**
+     * Get total number of players in all teams
+     */
+    public int getTotalPlayers() {
+        return playerTeams.size();
+    }
+
+    // ==================== Balancing ====================
+
+    /**
+     * Auto-balance teams by moving players from larger teams to smaller teams
+     * Called when a player leaves to keep teams balanced
+     * @param alivePlayers Set of alive player UUIDs to consider for balancing
+     * @return true if any rebalancing occurred
+     */
+    public boolean autoBalanceTeams(Set<UUID> alivePlayers) {
+        synchronized (teamLock) {
+            if (!isTeamMode() || teamCount < 2) {
+                debug(() -> "Auto-balance skipped: not in team mode or less than 2 teams");
+                return false;
+            }
+
+            // Flatten alive members of non-empty teams to indexes for the balancer
+            Set<UUID>[] current = teams;
+            int[] teamNumbers = new int[teamCount];
+            int teamsWithAlive = 0;
+            List<UUID> members = new ArrayList<>();
+            List<Integer> memberTeams = new ArrayList<>();
+            for (int teamNum = 1; teamNum <= highestTeam; teamNum++) {
+                if (current[teamNum] == null) continue;
+                int before = members.size();
+                for (UUID member : current[teamNum]) {
+                    if (alivePlayers.contains(member)) {
+                        members.add(member);
+                        memberTeams.add(teamsWithAlive);
+                    }
+                }
+                if (members.size() > before) {
+                    teamNumbers[teamsWithAlive++] = teamNum;
+                }
+            }
+
+            if (teamsWithAlive < 2) {
+                debug(() -> "Auto-balance skipped: less than 2 teams with alive players");
+                return false;
+            }
+
+            int[] assigned = new int[members.size()];
+            double[] ratings = new double[members.size()];
+            for (int i = 0; i < assigned.length; i++) {
+                assigned[i] = memberTeams.get(i);
+                ratings[i] = getRating(members.get(i));
+            }
+
+            // Fewest moves that even out sizes, picking players that keep team strength level
+            int[] target = TeamBalancer.rebalance(assigned, ratings, teamsWithAlive);
+
+            boolean balanced = false;
+            for (int i = 0; i < target.length; i++) {
+                if (target[i] == assigned[i]) continue;
+
+                UUID playerToMove = members.get(i);
+                int newTeam = teamNumbers[target[i]];
+                movePlayerToTeamInternal(playerToMove, newTeam);
+                onAutoBalanced(playerToMove, newTeam);
+
+                int oldTeam = teamNumbers[assigned[i]];
+                debug(() -> "Auto-balanced: moved player from Team " + oldTeam + " to Team " + newTeam);
+                balanced = true;
+            }
+
+            return balanced;
+        }
+    }
+
+    /**
+     * Called under teamLock for each player auto-balance moves
+     */
+    protected void onAutoBalanced(UUID player, int newTeam) {
+    }
+
+    /**
+     * Internal move without lock - called from synchronized methods
+     */
+    private void movePlayerToTeamInternal(UUID uuid, int newTeam) {
+        if (uuid == null || newTeam < 1) return;
+
+        // Remove from old team
+        Integer oldTeam = playerTeams.get(uuid);
+        if (oldTeam != null) {
+            removeFromSlot(uuid, oldTeam);
+        }
+
+        // Add to new team
+        addInternal(uuid, newTeam);
+
+        debug(() -> "Moved player from Team " + oldTeam + " to Team " + newTeam);
+    }
+
+    /**
+     * Move a player to a different team
+     * @param uuid Player UUID
+     * @param newTeam New team number
+     */
+    public void movePlayerToTeam(UUID uuid, int newTeam) {
+        if (uuid == null) return;
+
+        synchronized (teamLock) {
+            movePlayerToTeamInternal(uuid, newTeam);
+        }
+    }
+
+    /**
+     * Check if teams need balancing
+     * @param alivePlayers Set of alive player UUIDs
+     * @return true if teams are unbalanced (difference of 2+ players)
+     */
+    public boolean needsBalancing(Set<UUID> alivePlayers) {
+        if (!isTeamMode() || teamCount < 2) return false;
+
+        int maxSize = 0, minSize = Integer.MAX_VALUE;
+
+        Set<UUID>[] current = teams;
+        int last = Math.min(highestTeam, current.length - 1);
+        for (int teamNum = 1; teamNum <= last; teamNum++) {
+            Set<UUID> team = current[teamNum];
+            if (team == null) continue;
+            int aliveCount = 0;
+            for (UUID member : team) {
+                if (alivePlayers.contains(member)) {
+                    aliveCount++;
+                }
+            }
+            if (aliveCount > 0) { // Only count teams with alive players
+                maxSize = Math.max(maxSize, aliveCount);
+                minSize = Math.min(minSize, aliveCount);
+            }
+        }
+
+        return (maxSize - minSize) >= 2;
+    }
+}
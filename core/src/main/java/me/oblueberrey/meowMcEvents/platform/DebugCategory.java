@@ -0,0 +1,13 @@
+package me.oblueberrey.meowMcEvents.platform;
+
+/**
+ * Debug log categories core code writes to; the platform maps each one onto its own
+ * debug toggle
+ */
+public enum DebugCategory {
+    EVENT,
+    PLAYER,
+    TEAM,
+    STATS,
+    DAMAGE_TRACKER
+}
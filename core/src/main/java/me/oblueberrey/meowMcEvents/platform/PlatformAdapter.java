@@ -0,0 +1,39 @@
+package me.oblueberrey.meowMcEvents.platform;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * The few things core logic needs from the server it runs on.
+ *
+ * The plugin implements this over Bukkit; tests and benchmarks can use a fixed clock
+ * and an in-memory player list, so nothing in core has to touch server statics.
+ */
+public interface PlatformAdapter {
+
+    /**
+     * Wall-clock time in milliseconds, used for combat tags and other timeouts
+     */
+    long currentTimeMillis();
+
+    /**
+     * Current server tick; deaths in the same tick share a placement
+     */
+    long currentTick();
+
+    /**
+     * Whether the player is connected right now
+     */
+    boolean isOnline(UUID player);
+
+    /**
+     * Name of an online player, or null if they are not connected
+     */
+    String getName(UUID player);
+
+    /**
+     * Log a debug line if debugging is on for the category;
+     * the message is only built when it will be logged
+     */
+    void debug(DebugCategory category, Supplier<String> message);
+}
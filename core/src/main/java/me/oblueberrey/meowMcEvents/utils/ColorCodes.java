@@ -0,0 +1,66 @@
+package me.oblueberrey.meowMcEvents.utils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Chat color code translation as plain string work, so core code can build colored
+ * messages without the server API
+ */
+public final class ColorCodes {
+
+    public static final char SECTION = '§';
+
+    private static final Pattern HEX_PATTERN = Pattern.compile("&#([A-Fa-f0-9]{6})");
+    private static final String LEGACY_CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
+
+    private ColorCodes() {
+    }
+
+    /**
+     * Colorize a message supporting both legacy & codes and &#FFFFFF hex codes
+     * (same output as Bukkit's translateAlternateColorCodes after hex expansion)
+     */
+    public static String colorize(String message) {
+        if (message == null || message.isEmpty()) return "";
+
+        // Handle Hex colors
+        Matcher matcher = HEX_PATTERN.matcher(message);
+        StringBuilder buffer = new StringBuilder(message.length() + 16);
+        while (matcher.find()) {
+            String color = matcher.group(1);
+            StringBuilder replacement = new StringBuilder(14).append(SECTION).append('x');
+            for (int i = 0; i < color.length(); i++) {
+                replacement.append(SECTION).append(color.charAt(i));
+            }
+            matcher.appendReplacement(buffer, replacement.toString());
+        }
+        matcher.appendTail(buffer);
+
+        // Handle legacy & codes
+        for (int i = 0; i < buffer.length() - 1; i++) {
+            if (buffer.charAt(i) == '&' && LEGACY_CODES.indexOf(buffer.charAt(i + 1)) > -1) {
+                buffer.setCharAt(i, SECTION);
+                buffer.setCharAt(i + 1, Character.toLowerCase(buffer.charAt(i + 1)));
+            }
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Remove every translated color code (section sign plus a valid code character)
+     */
+    public static String strip(String message) {
+        if (message == null) return null;
+        StringBuilder result = new StringBuilder(message.length());
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (c == SECTION && i + 1 < message.length() && LEGACY_CODES.indexOf(message.charAt(i + 1)) > -1) {
+                i++;
+                continue;
+            }
+            result.append(c);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.platform.DebugCategory;
+import me.oblueberrey.meowMcEvents.platform.PlatformAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DamageLedgerTest {
+
+    private final Set<UUID> online = new HashSet<>();
+    private long now = 1_000_000L;
+
+    private final PlatformAdapter platform = new PlatformAdapter() {
+        @Override
+        public long currentTimeMillis() {
+            return now;
+        }
+
+        @Override
+        public long currentTick() {
+            return now / 50;
+        }
+
+        @Override
+        public boolean isOnline(UUID player) {
+            return online.contains(player);
+        }
+
+        @Override
+        public String getName(UUID player) {
+            return null;
+        }
+
+        @Override
+        public void debug(DebugCategory category, Supplier<String> message) {
+        }
+    };
+
+    private DamageLedger ledger;
+    private UUID victim;
+    private UUID attacker;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new DamageLedger(platform);
+        victim = UUID.randomUUID();
+        attacker = UUID.randomUUID();
+        online.add(victim);
+        online.add(attacker);
+    }
+
+    @Test
+    void getLastAttacker_ShouldCreditLatestHit() {
+        UUID second = UUID.randomUUID();
+        online.add(second);
+
+        ledger.record(victim, attacker, "melee");
+        now += 1000;
+        ledger.record(victim, second, "arrow");
+
+        assertEquals(second, ledger.getLastAttacker(victim));
+        assertEquals("arrow", ledger.getLastDamageCause(victim));
+    }
+
+    @Test
+    void record_ShouldIgnoreSelfDamage() {
+        ledger.record(victim, victim, "tnt");
+
+        assertNull(ledger.getLastAttacker(victim));
+        assertEquals(0, ledger.size());
+    }
+
+    @Test
+    void getLastAttacker_ShouldExpireAfterCombatTag() {
+        ledger.record(victim, attacker, "melee");
+
+        now += DamageLedger.DEFAULT_COMBAT_TAG_MS;
+        assertTrue(ledger.hasCombatTag(victim));
+
+        now += 1;
+        assertNull(ledger.getLastAttacker(victim));
+        assertNull(ledger.getLastDamageCause(victim)); // expired entry is dropped
+    }
+
+    @Test
+    void getLastAttacker_ShouldNotCreditOfflineAttacker() {
+        ledger.record(victim, attacker, "melee");
+        online.remove(attacker);
+
+        assertNull(ledger.getLastAttacker(victim));
+        assertEquals("melee", ledger.getLastDamageCause(victim));
+    }
+
+    @Test
+    void purgeExpired_ShouldKeepFreshTags() {
+        UUID other = UUID.randomUUID();
+        ledger.record(victim, attacker, "melee");
+        now += DamageLedger.DEFAULT_COMBAT_TAG_MS;
+        ledger.record(other, attacker, "melee");
+        now += 1;
+
+        assertEquals(1, ledger.purgeExpired());
+        assertNull(ledger.getLastDamageCause(victim));
+        assertEquals(attacker, ledger.getLastAttacker(other));
+    }
+}
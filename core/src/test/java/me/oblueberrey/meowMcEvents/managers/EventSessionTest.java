@@ -0,0 +1,126 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.platform.TestPlatform;
+import me.oblueberrey.meowMcEvents.utils.EventState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSessionTest {
+
+    private TestPlatform platform;
+    private EventSession session;
+    private TeamRegistry teams;
+    private UUID alice, bob, carol, dave;
+
+    @BeforeEach
+    void setUp() {
+        platform = new TestPlatform();
+        session = new EventSession(platform);
+        teams = new TeamRegistry(platform);
+        alice = platform.join("Alice");
+        bob = platform.join("Bob");
+        carol = platform.join("Carol");
+        dave = platform.join("Dave");
+    }
+
+    private void startWith(UUID... players) {
+        assertTrue(session.beginCountdown());
+        for (UUID uuid : players) {
+            session.join(uuid);
+        }
+        session.begin();
+        for (UUID uuid : players) {
+            session.addAlive(uuid);
+        }
+    }
+
+    @Test
+    void beginCountdown_ShouldOnlyStartFromIdle() {
+        assertTrue(session.beginCountdown());
+        assertEquals(EventState.COUNTDOWN, session.getState());
+        assertEquals(platform.now, session.getEventId());
+
+        assertFalse(session.beginCountdown());
+
+        session.cancelCountdown();
+        assertEquals(EventState.IDLE, session.getState());
+    }
+
+    @Test
+    void roleFlags_ShouldFollowTheRoster() {
+        startWith(alice, bob);
+
+        assertEquals(EventSession.ROLE_QUEUED | EventSession.ROLE_ALIVE, session.getRoleFlags(alice));
+
+        session.eliminate(alice);
+        session.addSpectator(alice);
+        assertEquals(EventSession.ROLE_QUEUED | EventSession.ROLE_SPECTATOR, session.getRoleFlags(alice));
+        assertTrue(session.isInSpectatorGrace(alice));
+
+        session.removeSpectator(alice);
+        session.leave(alice);
+        assertEquals(0, session.getRoleFlags(alice));
+    }
+
+    @Test
+    void eliminate_ShouldBeIgnoredWhenNoEventIsActive() {
+        assertFalse(session.eliminate(alice));
+    }
+
+    @Test
+    void checkForWinner_ShouldDecideSoloMatchOnce() {
+        startWith(alice, bob, carol);
+        assertEquals(EventSession.Outcome.Type.NONE, session.checkForWinner(teams).getType());
+
+        session.eliminate(alice);
+        session.eliminate(bob);
+        EventSession.Outcome outcome = session.checkForWinner(teams);
+
+        assertEquals(EventSession.Outcome.Type.SOLO, outcome.getType());
+        assertEquals(carol, outcome.getWinner());
+        assertEquals(EventSession.Outcome.Type.NONE, session.checkForWinner(teams).getType());
+    }
+
+    @Test
+    void checkForWinner_ShouldStopWhenTheLastPlayerIsOffline() {
+        startWith(alice, bob);
+        session.eliminate(alice);
+        platform.quit(bob);
+
+        assertEquals(EventSession.Outcome.Type.NO_WINNER, session.checkForWinner(teams).getType());
+    }
+
+    @Test
+    void checkForWinner_ShouldDecideTeamMatch() {
+        startWith(alice, bob, carol, dave);
+        teams.assignPlayers(Arrays.asList(alice, bob, carol, dave), 2);
+        int winningTeam = teams.getTeam(alice);
+        for (UUID uuid : Arrays.asList(alice, bob, carol, dave)) {
+            if (teams.getTeam(uuid) != winningTeam) session.eliminate(uuid);
+        }
+
+        EventSession.Outcome outcome = session.checkForWinner(teams);
+
+        assertEquals(EventSession.Outcome.Type.TEAM, outcome.getType());
+        assertEquals(winningTeam, outcome.getTeam());
+    }
+
+    @Test
+    void clearRoster_ShouldForgetEveryone() {
+        startWith(alice, bob);
+        session.markPendingRespawn(alice);
+        session.end();
+        session.clearRoster();
+        session.reset();
+
+        assertTrue(session.getJoinedPlayers().isEmpty());
+        assertTrue(session.getAlivePlayers().isEmpty());
+        assertFalse(session.isPendingRespawn(alice));
+        assertFalse(session.hasFallDamageImmunity(bob));
+        assertEquals(EventState.IDLE, session.getState());
+    }
+}
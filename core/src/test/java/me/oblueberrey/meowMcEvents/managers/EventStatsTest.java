@@ -0,0 +1,80 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.platform.TestPlatform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventStatsTest {
+
+    private TestPlatform platform;
+    private EventStats stats;
+    private UUID alice, bob, carol;
+
+    @BeforeEach
+    void setUp() {
+        platform = new TestPlatform();
+        stats = new EventStats(platform);
+        alice = platform.join("Alice");
+        bob = platform.join("Bob");
+        carol = platform.join("Carol");
+        stats.registerParticipants(new HashSet<>(Arrays.asList(alice, bob, carol)));
+    }
+
+    @Test
+    void recordDeath_ShouldTieTeammatesInTheSameTick() {
+        platform.tick = 5;
+        stats.recordDeath(alice, 1);
+        stats.recordDeath(bob, 1);
+
+        assertEquals(2, stats.getPlacement(alice));
+        assertEquals(2, stats.getPlacement(bob));
+        assertEquals(1, stats.getPlacement(carol));
+        assertTrue(stats.hasDied(alice));
+        assertFalse(stats.hasDied(carol));
+    }
+
+    @Test
+    void recordDeath_ShouldRankSoloDeathsInTheSameTick() {
+        platform.tick = 5;
+        stats.recordDeath(alice);
+        stats.recordDeath(bob);
+
+        assertEquals(3, stats.getPlacement(alice));
+        assertEquals(2, stats.getPlacement(bob));
+    }
+
+    @Test
+    void recordKill_ShouldUpdateCountsAndBoards() {
+        stats.recordKill(carol, 1);
+        stats.recordKill(carol, 2);
+        stats.recordKill(bob, 1);
+
+        assertEquals(2, stats.getKills(carol));
+        assertEquals(0, stats.getKills(alice));
+        assertEquals(carol, stats.getMostKillsPlayer());
+        assertEquals(carol, stats.getTopKillers(EventStats.LEADERBOARD_SIZE).get(0).getKey());
+    }
+
+    @Test
+    void getPlayerName_ShouldRememberPlayersWhoLeft() {
+        stats.recordDeath(alice);
+        platform.quit(alice);
+
+        assertEquals("Alice", stats.getPlayerName(alice));
+        assertEquals("Unknown", stats.getPlayerName(UUID.randomUUID()));
+    }
+
+    @Test
+    void reset_ShouldForgetParticipants() {
+        stats.recordKill(bob, 1);
+        stats.reset();
+
+        assertEquals(0, stats.getTotalParticipants());
+        assertTrue(stats.getParticipants().isEmpty());
+        assertNull(stats.getMostKillsPlayer());
+    }
+}
@@ -0,0 +1,64 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.utils.ColorCodes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KillFeedFormatterTest {
+
+    private KillFeedFormatter formatter;
+
+    @BeforeEach
+    void setUp() {
+        formatter = new KillFeedFormatter(new Random(1));
+    }
+
+    @Test
+    void formatKill_ShouldNameBothPlayersAndTheWeapon() {
+        String message = ColorCodes.strip(formatter.formatKill("Alice", "§c", "Bob", "§9",
+                "DIAMOND_SWORD", null, 3));
+
+        assertTrue(message.contains("Alice"));
+        assertTrue(message.contains("Bob"));
+        assertTrue(message.endsWith("[⚔ Dia. Sword]"), message);
+    }
+
+    @Test
+    void formatKill_ShouldTagDistanceOnlyForRangedKills() {
+        assertTrue(ColorCodes.strip(formatter.formatKill("Alice", "§c", "Bob", "§9", "BOW", null, 20.7)).endsWith(" 20m"));
+        assertFalse(ColorCodes.strip(formatter.formatKill("Alice", "§c", "Bob", "§9", "IRON_SWORD", null, 20.7)).endsWith("m"));
+    }
+
+    @Test
+    void formatKill_ShouldUseFistsAndStrippedDisplayName() {
+        assertTrue(ColorCodes.strip(formatter.formatKill("Alice", "§c", "Bob", "§9", null, null, 1)).endsWith("Fists]"));
+        assertTrue(ColorCodes.strip(formatter.formatKill("Alice", "§c", "Bob", "§9", "STONE_SWORD", "§6Excalibur", 1))
+                .endsWith("Excalibur]"));
+    }
+
+    @Test
+    void formatStreak_ShouldSkipStreaksWithoutTitle() {
+        assertNull(formatter.formatStreak("Alice", "§c", 2));
+        assertTrue(ColorCodes.strip(formatter.formatStreak("Alice", "§c", 3)).contains("TRIPLE KILL"));
+        assertTrue(ColorCodes.strip(formatter.formatStreak("Alice", "§c", 50)).contains("DOMINATING"));
+    }
+
+    @Test
+    void isLongShot_ShouldRequireRangedWeaponAndDistance() {
+        assertTrue(KillFeedFormatter.isLongShot("CROSSBOW", 30));
+        assertFalse(KillFeedFormatter.isLongShot("CROSSBOW", 29));
+        assertFalse(KillFeedFormatter.isLongShot("DIAMOND_SWORD", 60));
+        assertFalse(KillFeedFormatter.isLongShot(null, 60));
+    }
+
+    @Test
+    void colorize_ShouldTranslateHexAndLegacyCodes() {
+        assertEquals("§x§f§f§e§5§6§6Hi §lthere", ColorCodes.colorize("&#ffe566Hi &Lthere"));
+        assertEquals("§x§F§F§E§5§6§6a", ColorCodes.colorize("&#FFE566a"));
+        assertEquals("a & b", ColorCodes.colorize("a & b"));
+    }
+}
@@ -0,0 +1,77 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketFor_ShouldKeepValuesInsideTheirBucket() {
+        long[] values = {0, 1, 7, 8, 15, 16, 17, 1000, 123_456, 50_000_000, 1L << 40};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketFor(value);
+            assertTrue(bucket >= 0 && bucket < LatencyHistogram.BUCKET_COUNT, "bucket in range for " + value);
+            long upper = LatencyHistogram.upperBound(bucket);
+            assertTrue(upper >= value, "upper bound covers " + value);
+            assertTrue(upper <= value + value / 8 + 1, "within 12.5% for " + value);
+        }
+    }
+
+    @Test
+    void bucketFor_ShouldClampHugeValues() {
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketFor(Long.MAX_VALUE));
+    }
+
+    @Test
+    void percentile_ShouldBeWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500.0, histogram.getMean(), 0.001);
+        long p50 = histogram.percentile(50);
+        assertTrue(p50 >= 500_000 && p50 <= 562_500, "p50 was " + p50);
+        long p99 = histogram.percentile(99);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99 was " + p99);
+        assertEquals(1_000_000, histogram.percentile(100));
+    }
+
+    @Test
+    void add_ShouldMergeSamples() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        a.record(10);
+        b.record(5000);
+        b.record(7);
+
+        a.add(b);
+
+        assertEquals(3, a.getCount());
+        assertEquals(5017, a.getSum());
+        assertEquals(5000, a.getMax());
+    }
+
+    @Test
+    void clear_ShouldResetEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.clear();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.percentile(99));
+    }
+
+    @Test
+    void format_ShouldReportMilliseconds() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(2_500_000);
+
+        assertTrue(histogram.format().contains("max 2.50ms"));
+        assertTrue(histogram.format().contains("n=1"));
+    }
+}
@@ -0,0 +1,116 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    private Leaderboard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new Leaderboard(3);
+    }
+
+    private List<UUID> ids(List<Leaderboard.Entry> entries) {
+        List<UUID> result = new ArrayList<>();
+        for (Leaderboard.Entry entry : entries) {
+            result.add(entry.getUuid());
+        }
+        return result;
+    }
+
+    @Test
+    void add_ShouldOrderByScoreDescending() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+
+        board.add(a, 1);
+        board.add(b, 3);
+        board.add(c, 2);
+
+        assertEquals(Arrays.asList(b, c, a), ids(board.top(3)));
+        assertEquals(b, board.first());
+    }
+
+    @Test
+    void add_ShouldBreakTiesByWhoScoredFirst() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        board.add(first, 2);
+        board.add(second, 2);
+
+        assertEquals(Arrays.asList(first, second), ids(board.top(2)));
+    }
+
+    @Test
+    void add_ShouldLetOutsiderClimbBackIn() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID outsider = UUID.randomUUID();
+
+        board.add(outsider, 1);
+        board.add(a, 5);
+        board.add(b, 5);
+        board.add(c, 5);
+        assertFalse(ids(board.top(3)).contains(outsider));
+
+        board.add(outsider, 9);
+
+        assertEquals(outsider, board.first());
+        assertEquals(10, board.getScore(outsider));
+        assertEquals(3, board.top(10).size());
+    }
+
+    @Test
+    void offer_ShouldIgnoreLowerScores() {
+        UUID a = UUID.randomUUID();
+
+        board.offer(a, 4);
+        board.offer(a, 2);
+
+        assertEquals(4, board.getScore(a));
+    }
+
+    @Test
+    void top_ShouldMatchFullSortUnderRandomUpdates() {
+        Leaderboard large = new Leaderboard(10);
+        Map<UUID, Double> scores = new HashMap<>();
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            players.add(UUID.randomUUID());
+        }
+
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            UUID player = players.get(random.nextInt(players.size()));
+            double delta = 1 + random.nextInt(20);
+            large.add(player, delta);
+            scores.merge(player, delta, Double::sum);
+        }
+
+        List<Double> expected = new ArrayList<>(scores.values());
+        expected.sort(Comparator.reverseOrder());
+        List<Double> actual = new ArrayList<>();
+        for (Leaderboard.Entry entry : large.top(10)) {
+            actual.add(entry.getScore());
+        }
+        assertEquals(expected.subList(0, 10), actual);
+    }
+
+    @Test
+    void clear_ShouldEmptyBoard() {
+        board.add(UUID.randomUUID(), 1);
+        board.clear();
+
+        assertNull(board.first());
+        assertTrue(board.top(3).isEmpty());
+    }
+}
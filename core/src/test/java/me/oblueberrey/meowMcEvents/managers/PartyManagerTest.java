@@ -0,0 +1,79 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartyManagerTest {
+
+    private static final long INVITE_MILLIS = 60_000;
+
+    private PartyManager parties;
+    private UUID leader, friend, other, fourth;
+
+    @BeforeEach
+    void setUp() {
+        parties = new PartyManager(3, INVITE_MILLIS);
+        leader = UUID.randomUUID();
+        friend = UUID.randomUUID();
+        other = UUID.randomUUID();
+        fourth = UUID.randomUUID();
+    }
+
+    @Test
+    void accept_ShouldFormPartyLedByInviter() {
+        assertEquals(PartyManager.Result.SUCCESS, parties.invite(leader, friend, 0));
+        assertEquals(PartyManager.Result.SUCCESS, parties.accept(friend, 10));
+
+        assertSame(parties.getParty(leader), parties.getParty(friend));
+        assertEquals(leader, parties.getPartyId(friend));
+        assertEquals(2, parties.getParty(leader).size());
+    }
+
+    @Test
+    void accept_ShouldRejectExpiredInvite() {
+        parties.invite(leader, friend, 0);
+
+        assertEquals(PartyManager.Result.NO_INVITE, parties.accept(friend, INVITE_MILLIS + 1));
+        assertNull(parties.getParty(leader));
+    }
+
+    @Test
+    void invite_ShouldOnlyAllowLeader() {
+        parties.invite(leader, friend, 0);
+        parties.accept(friend, 0);
+
+        assertEquals(PartyManager.Result.NOT_LEADER, parties.invite(friend, other, 0));
+        assertEquals(PartyManager.Result.SELF, parties.invite(leader, leader, 0));
+        assertEquals(PartyManager.Result.ALREADY_IN_PARTY, parties.invite(other, friend, 0));
+    }
+
+    @Test
+    void invite_ShouldRespectMaxSize() {
+        parties.invite(leader, friend, 0);
+        parties.accept(friend, 0);
+        parties.invite(leader, other, 0);
+        parties.accept(other, 0);
+
+        assertEquals(PartyManager.Result.PARTY_FULL, parties.invite(leader, fourth, 0));
+    }
+
+    @Test
+    void leave_ShouldPassLeadershipAndDissolvePartyOfOne() {
+        parties.invite(leader, friend, 0);
+        parties.accept(friend, 0);
+        parties.invite(leader, other, 0);
+        parties.accept(other, 0);
+
+        parties.leave(leader);
+        assertNull(parties.getParty(leader));
+        assertEquals(friend, parties.getPartyId(other));
+
+        parties.leave(other);
+        assertNull(parties.getParty(friend));
+        assertEquals(PartyManager.Result.NOT_IN_PARTY, parties.leave(friend));
+    }
+}
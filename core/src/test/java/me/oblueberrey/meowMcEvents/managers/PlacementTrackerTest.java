@@ -0,0 +1,110 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementTrackerTest {
+
+    private PlacementTracker tracker;
+    private List<UUID> players;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new PlacementTracker();
+        players = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            players.add(UUID.randomUUID());
+        }
+        tracker.registerParticipants(players);
+    }
+
+    @Test
+    void getPlacement_ShouldRankFirstDeathLast() {
+        tracker.recordDeath(players.get(0), 1, PlacementTracker.NO_TEAM);
+        tracker.recordDeath(players.get(1), 2, PlacementTracker.NO_TEAM);
+
+        assertEquals(5, tracker.getPlacement(players.get(0)));
+        assertEquals(4, tracker.getPlacement(players.get(1)));
+        assertEquals(1, tracker.getPlacement(players.get(2)));
+    }
+
+    @Test
+    void recordDeath_ShouldIgnoreDuplicates() {
+        assertTrue(tracker.recordDeath(players.get(0), 1, PlacementTracker.NO_TEAM));
+        assertFalse(tracker.recordDeath(players.get(0), 5, PlacementTracker.NO_TEAM));
+
+        assertEquals(1, tracker.getDeathCount());
+        assertEquals(5, tracker.getPlacement(players.get(0)));
+    }
+
+    @Test
+    void getPlacement_ShouldTieSameTickTeammates() {
+        tracker.recordDeath(players.get(0), 10, 1);
+        tracker.recordDeath(players.get(1), 20, 2);
+        tracker.recordDeath(players.get(2), 20, 2);
+
+        assertEquals(5, tracker.getPlacement(players.get(0)));
+        assertEquals(3, tracker.getPlacement(players.get(1)));
+        assertEquals(3, tracker.getPlacement(players.get(2)));
+    }
+
+    @Test
+    void getPlacement_ShouldNotTieDifferentTeamsInSameTick() {
+        tracker.recordDeath(players.get(0), 20, 1);
+        tracker.recordDeath(players.get(1), 20, 2);
+
+        assertEquals(5, tracker.getPlacement(players.get(0)));
+        assertEquals(4, tracker.getPlacement(players.get(1)));
+    }
+
+    @Test
+    void getPlacement_ShouldNotTieSoloDeathsInSameTick() {
+        tracker.recordDeath(players.get(0), 20, PlacementTracker.NO_TEAM);
+        tracker.recordDeath(players.get(1), 20, PlacementTracker.NO_TEAM);
+
+        assertEquals(5, tracker.getPlacement(players.get(0)));
+        assertEquals(4, tracker.getPlacement(players.get(1)));
+    }
+
+    @Test
+    void getPlacementsInOrder_ShouldListSurvivorsThenLastDeathFirst() {
+        tracker.recordDeath(players.get(3), 1, PlacementTracker.NO_TEAM);
+        tracker.recordDeath(players.get(0), 2, PlacementTracker.NO_TEAM);
+        tracker.recordDeath(players.get(4), 3, PlacementTracker.NO_TEAM);
+
+        assertEquals(Arrays.asList(players.get(1), players.get(2), players.get(4), players.get(0), players.get(3)),
+                tracker.getPlacementsInOrder());
+    }
+
+    @Test
+    void recordDeath_ShouldGrowPastInitialCapacity() {
+        PlacementTracker large = new PlacementTracker();
+        List<UUID> many = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            many.add(UUID.randomUUID());
+        }
+        large.registerParticipants(many);
+
+        for (int i = 0; i < 149; i++) {
+            large.recordDeath(many.get(i), i, PlacementTracker.NO_TEAM);
+        }
+
+        assertEquals(150, large.getPlacement(many.get(0)));
+        assertEquals(2, large.getPlacement(many.get(148)));
+        assertEquals(1, large.getPlacement(many.get(149)));
+        assertEquals(many.get(149), large.getPlacementsInOrder().get(0));
+    }
+
+    @Test
+    void reset_ShouldForgetDeaths() {
+        tracker.recordDeath(players.get(0), 1, PlacementTracker.NO_TEAM);
+        tracker.reset();
+
+        assertFalse(tracker.hasDied(players.get(0)));
+        assertEquals(0, tracker.getTotalParticipants());
+    }
+}
@@ -0,0 +1,81 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingEngineTest {
+
+    @Test
+    void expectedScore_ShouldBeHalfForEqualRatings() {
+        assertEquals(0.5, RatingEngine.expectedScore(1200, 1200), 1e-9);
+        assertTrue(RatingEngine.expectedScore(1400, 1000) > 0.9);
+    }
+
+    @Test
+    void computeDeltas_ShouldRewardBetterPlacements() {
+        double[] ratings = {1000, 1000, 1000, 1000};
+        int[] placements = {1, 2, 3, 4};
+
+        double[] deltas = RatingEngine.computeDeltas(ratings, placements, 32);
+
+        assertTrue(deltas[0] > deltas[1]);
+        assertTrue(deltas[1] > 0);
+        assertTrue(deltas[2] < 0);
+        assertTrue(deltas[3] < deltas[2]);
+        // Winner of an even lobby gains half of K
+        assertEquals(16, deltas[0], 1e-9);
+    }
+
+    @Test
+    void computeDeltas_ShouldSumToZero() {
+        double[] ratings = {1500, 1100, 900, 1300, 700};
+        int[] placements = {3, 1, 2, 5, 3};
+
+        double sum = 0;
+        for (double delta : RatingEngine.computeDeltas(ratings, placements, 40)) sum += delta;
+
+        assertEquals(0, sum, 1e-9);
+    }
+
+    @Test
+    void computeDeltas_ShouldScaleWithSurprise() {
+        // Favourite wins: small gain; underdog wins: large gain
+        double favourite = RatingEngine.computeDeltas(new double[]{1600, 1000}, new int[]{1, 2}, 32)[0];
+        double underdog = RatingEngine.computeDeltas(new double[]{1000, 1600}, new int[]{1, 2}, 32)[0];
+
+        assertTrue(favourite < 2);
+        assertTrue(underdog > 30);
+    }
+
+    @Test
+    void computeDeltas_ShouldMatchPairwiseElo() {
+        Random random = new Random(11);
+        double[] ratings = new double[300];
+        int[] placements = new int[300];
+        for (int i = 0; i < ratings.length; i++) {
+            ratings[i] = 1000 + random.nextGaussian() * 300;
+            placements[i] = 1 + random.nextInt(150);
+        }
+
+        double[] deltas = RatingEngine.computeDeltas(ratings, placements, 32);
+
+        double scale = 32.0 / (ratings.length - 1);
+        for (int i = 0; i < ratings.length; i++) {
+            double exact = 0;
+            for (int j = 0; j < ratings.length; j++) {
+                if (j == i) continue;
+                double actual = placements[i] < placements[j] ? 1.0 : placements[i] == placements[j] ? 0.5 : 0.0;
+                exact += scale * (actual - RatingEngine.expectedScore(ratings[i], ratings[j]));
+            }
+            assertEquals(exact, deltas[i], 0.5);
+        }
+    }
+
+    @Test
+    void computeDeltas_ShouldHandleSoloParticipant() {
+        assertEquals(0, RatingEngine.computeDeltas(new double[]{1000}, new int[]{1}, 32)[0]);
+    }
+}
@@ -0,0 +1,147 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialIndexTest {
+
+    private SpatialIndex index;
+    private Map<UUID, Integer> teams;
+    private UUID world;
+
+    @BeforeEach
+    void setUp() {
+        teams = new HashMap<>();
+        index = new SpatialIndex(4, uuid -> teams.getOrDefault(uuid, -1));
+        world = UUID.randomUUID();
+    }
+
+    private UUID add(double x, double z) {
+        UUID uuid = UUID.randomUUID();
+        index.update(uuid, world, x, 64, z);
+        return uuid;
+    }
+
+    // ==================== Nearest Tests ====================
+
+    @Test
+    void nearest_ShouldReturnClosestFirst() {
+        UUID far = add(200, 200);
+        UUID near = add(3, 4);
+        UUID mid = add(-40, 10);
+
+        List<UUID> result = index.nearest(world, 0, 0, 3, null, -1);
+
+        assertEquals(Arrays.asList(near, mid, far), result);
+    }
+
+    @Test
+    void nearest_ShouldMatchBruteForce() {
+        Random random = new Random(42);
+        Map<UUID, double[]> positions = new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            double x = random.nextDouble() * 1000 - 500;
+            double z = random.nextDouble() * 1000 - 500;
+            positions.put(add(x, z), new double[]{x, z});
+        }
+
+        for (int q = 0; q < 50; q++) {
+            double qx = random.nextDouble() * 1200 - 600;
+            double qz = random.nextDouble() * 1200 - 600;
+
+            List<UUID> expected = new ArrayList<>(positions.keySet());
+            expected.sort(Comparator.comparingDouble(u -> {
+                double[] p = positions.get(u);
+                return (p[0] - qx) * (p[0] - qx) + (p[1] - qz) * (p[1] - qz);
+            }));
+
+            assertEquals(expected.subList(0, 5), index.nearest(world, qx, qz, 5, null, -1));
+        }
+    }
+
+    @Test
+    void nearest_ShouldSkipExcludedPlayer() {
+        UUID self = add(0, 0);
+        UUID other = add(50, 0);
+
+        assertEquals(Collections.singletonList(other), index.nearest(world, 0, 0, 1, self, -1));
+    }
+
+    @Test
+    void nearestEnemy_ShouldSkipTeammates() {
+        UUID self = add(0, 0);
+        UUID teammate = add(1, 1);
+        UUID enemy = add(30, 30);
+        teams.put(self, 1);
+        teams.put(teammate, 1);
+        teams.put(enemy, 2);
+
+        assertEquals(enemy, index.nearestEnemy(world, 0, 0, self, 1));
+    }
+
+    @Test
+    void nearestEnemy_ShouldReturnNullWhenAlone() {
+        UUID self = add(0, 0);
+        assertNull(index.nearestEnemy(world, 0, 0, self, -1));
+    }
+
+    @Test
+    void nearest_ShouldIgnoreOtherWorlds() {
+        UUID otherWorld = UUID.randomUUID();
+        index.update(UUID.randomUUID(), otherWorld, 0, 64, 0);
+
+        assertTrue(index.nearest(world, 0, 0, 1, null, -1).isEmpty());
+    }
+
+    // ==================== Radius Tests ====================
+
+    @Test
+    void withinRadius_ShouldReturnOnlyPlayersInsideCircle() {
+        UUID inside = add(10, 0);
+        UUID edge = add(0, 20);
+        add(15, 15); // ~21.2 blocks away
+        add(-100, 0);
+
+        Set<UUID> result = new HashSet<>(index.withinRadius(world, 0, 0, 20, null, -1));
+
+        assertEquals(new HashSet<>(Arrays.asList(inside, edge)), result);
+    }
+
+    @Test
+    void withinRadius_ShouldApplyTeamFilter() {
+        UUID ally = add(5, 5);
+        UUID enemy = add(-5, -5);
+        teams.put(ally, 1);
+        teams.put(enemy, 2);
+
+        assertEquals(Collections.singletonList(enemy), index.withinRadius(world, 0, 0, 10, null, 1));
+    }
+
+    // ==================== Update Tests ====================
+
+    @Test
+    void update_ShouldMovePlayerBetweenCells() {
+        UUID mover = add(0, 0);
+        add(100, 100);
+
+        index.update(mover, world, 500, 64, 500);
+
+        assertEquals(Collections.singletonList(mover), index.nearest(world, 490, 490, 1, null, -1));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void remove_ShouldDropPlayerFromQueries() {
+        UUID a = add(0, 0);
+        UUID b = add(1, 0);
+
+        index.remove(a);
+
+        assertFalse(index.contains(a));
+        assertEquals(Collections.singletonList(b), index.nearest(world, 0, 0, 5, null, -1));
+    }
+}
@@ -0,0 +1,72 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsCacheTest {
+
+    private StatsCache<Double> cache;
+    private UUID quitter, stayer, bystander;
+
+    @BeforeEach
+    void setUp() {
+        cache = new StatsCache<>();
+        quitter = UUID.randomUUID();
+        stayer = UUID.randomUUID();
+        bystander = UUID.randomUUID();
+        cache.put(quitter, 1600.0);
+        cache.put(stayer, 1000.0);
+        cache.put(bystander, 1200.0);
+    }
+
+    @Test
+    void unload_ShouldDropPlayerNotInEvent() {
+        cache.unload(bystander);
+
+        assertNull(cache.get(bystander));
+    }
+
+    @Test
+    void unload_ShouldKeepParticipantUntilResultsAreRecorded() {
+        cache.hold(List.of(quitter, stayer));
+
+        cache.unload(quitter);
+
+        // Rating still real when the results are rated
+        assertEquals(1600.0, cache.get(quitter));
+        double[] deltas = RatingEngine.computeDeltas(
+                new double[]{cache.get(quitter), cache.get(stayer)}, new int[]{2, 1}, 32.0);
+        assertTrue(deltas[0] < -16.0, "quitting favourite should lose more than an even match");
+
+        cache.release();
+
+        assertNull(cache.get(quitter));
+        assertEquals(1000.0, cache.get(stayer));
+    }
+
+    @Test
+    void release_ShouldKeepParticipantWhoRejoined() {
+        cache.hold(List.of(quitter));
+        cache.unload(quitter);
+        cache.put(quitter, 1600.0);
+
+        cache.release();
+
+        assertEquals(1600.0, cache.get(quitter));
+    }
+
+    @Test
+    void release_ShouldStopHolding() {
+        cache.hold(List.of(quitter));
+        cache.release();
+
+        cache.unload(quitter);
+
+        assertNull(cache.get(quitter));
+    }
+}
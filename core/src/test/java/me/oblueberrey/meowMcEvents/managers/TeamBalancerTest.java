@@ -0,0 +1,176 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamBalancerTest {
+
+    private static double[] means(double[] ratings, int[] team, int teams) {
+        double[] totals = new double[teams];
+        int[] sizes = new int[teams];
+        for (int i = 0; i < team.length; i++) {
+            totals[team[i]] += ratings[i];
+            sizes[team[i]]++;
+        }
+        for (int t = 0; t < teams; t++) totals[t] /= sizes[t];
+        return totals;
+    }
+
+    private static double spread(double[] means) {
+        return Arrays.stream(means).max().getAsDouble() - Arrays.stream(means).min().getAsDouble();
+    }
+
+    @Test
+    void capacities_ShouldMatchSequentialFill() {
+        assertArrayEquals(new int[]{2, 2, 1}, TeamBalancer.capacities(5, 2));
+        assertArrayEquals(new int[]{3, 3, 1}, TeamBalancer.capacities(7, 3));
+        assertArrayEquals(new int[]{4, 1}, TeamBalancer.capacities(5, 4));
+        assertArrayEquals(new int[]{1, 1}, TeamBalancer.capacities(2, 1));
+        assertEquals(0, TeamBalancer.capacities(0, 2).length);
+    }
+
+    @Test
+    void partition_ShouldSplitStackedLobbyEvenly() {
+        // Two strong, two weak: sequential filling would put both strong players together
+        double[] ratings = {1600, 1500, 900, 800};
+        int[] team = TeamBalancer.partition(ratings, 2);
+
+        assertNotEquals(team[0], team[1]);
+        assertEquals(0, spread(means(ratings, team, 2)), 1e-9);
+    }
+
+    @Test
+    void partition_ShouldRespectCapacities() {
+        double[] ratings = new double[23];
+        Random random = new Random(7);
+        for (int i = 0; i < ratings.length; i++) ratings[i] = 800 + random.nextInt(800);
+
+        int[] team = TeamBalancer.partition(ratings, 4);
+        int[] sizes = new int[6];
+        for (int t : team) sizes[t]++;
+
+        int[] expected = TeamBalancer.capacities(23, 4);
+        assertArrayEquals(expected, sizes);
+    }
+
+    @Test
+    void partition_ShouldBalance200PlayersQuickly() {
+        Random random = new Random(42);
+        double[] ratings = new double[200];
+        for (int i = 0; i < ratings.length; i++) ratings[i] = 1000 + random.nextGaussian() * 250;
+
+        TeamBalancer.partition(ratings, 4); // warm up
+        long start = System.nanoTime();
+        int[] team = TeamBalancer.partition(ratings, 4);
+        long micros = (System.nanoTime() - start) / 1000;
+
+        assertTrue(spread(means(ratings, team, 50)) < 10, "spread " + spread(means(ratings, team, 50)));
+        // A tick is 50ms
+        assertTrue(micros < 50_000, "took " + micros + "us");
+    }
+
+    @Test
+    void rebalance_ShouldIgnoreDifferenceOfOne() {
+        double[] ratings = {1000, 1000, 1000};
+        int[] team = {0, 0, 1};
+
+        assertSame(team, TeamBalancer.rebalance(team, ratings, 2));
+    }
+
+    @Test
+    void rebalance_ShouldMoveFewestPlayersTowardMean() {
+        // Team 0 has 4 players, team 1 lost everyone but one
+        double[] ratings = {1400, 1100, 900, 600, 1000};
+        int[] team = {0, 0, 0, 0, 1};
+
+        int[] result = TeamBalancer.rebalance(team, ratings, 2);
+
+        int moved = 0;
+        for (int i = 0; i < team.length; i++) {
+            if (team[i] != result[i]) moved++;
+        }
+        assertEquals(1, moved);
+        // Team 1 needs ~1000 to stay at the 1000 mean: the 1100 or 900 player moves, not 1400 or 600
+        assertTrue(result[1] == 1 || result[2] == 1);
+        assertEquals(0, result[0]);
+        assertEquals(0, result[3]);
+    }
+
+    @Test
+    void partition_ShouldKeepPartiesTogether() {
+        Random random = new Random(3);
+        double[] ratings = new double[40];
+        int[] group = new int[40];
+        Arrays.fill(group, -1);
+        for (int i = 0; i < ratings.length; i++) ratings[i] = 800 + random.nextInt(600);
+        // Parties of 3, 2, 2 and 4
+        group[0] = group[1] = group[2] = 7;
+        group[10] = group[11] = 8;
+        group[20] = group[21] = 9;
+        group[30] = group[31] = group[32] = group[33] = 10;
+
+        int[] team = TeamBalancer.partition(ratings, group, 4);
+
+        assertEquals(team[0], team[1]);
+        assertEquals(team[0], team[2]);
+        assertEquals(team[10], team[11]);
+        assertEquals(team[20], team[21]);
+        assertEquals(team[30], team[31]);
+        assertEquals(team[30], team[33]);
+        int[] sizes = new int[10];
+        for (int t : team) sizes[t]++;
+        assertArrayEquals(TeamBalancer.capacities(40, 4), sizes);
+    }
+
+    @Test
+    void partition_ShouldSplitOnlyOversizedParties() {
+        double[] ratings = new double[9];
+        Arrays.fill(ratings, 1000);
+        int[] group = {1, 1, 1, 1, 1, -1, -1, 2, 2};
+
+        int[] team = TeamBalancer.partition(ratings, group, 3);
+
+        // Party of five becomes chunks of 3 and 2; the pair stays whole
+        assertEquals(team[0], team[1]);
+        assertEquals(team[0], team[2]);
+        assertEquals(team[3], team[4]);
+        assertNotEquals(team[0], team[3]);
+        assertEquals(team[7], team[8]);
+    }
+
+    @Test
+    void partition_ShouldKeepTeamSizedPartyWholeWithShortLastTeam() {
+        double[] ratings = {1500, 1400, 1300, 1200, 900, 800, 700, 600, 1000, 1000};
+        // Two parties of exactly teamSize; 10 players at teamSize 4 gives teams of 4, 4 and 2
+        int[] group = {1, 1, 1, 1, 2, 2, 2, 2, -1, -1};
+
+        int[] team = TeamBalancer.partition(ratings, group, 4);
+        int[] sizes = new int[3];
+        for (int t : team) sizes[t]++;
+
+        assertArrayEquals(new int[]{4, 4, 2}, sizes);
+        for (int i = 1; i < 4; i++) assertEquals(team[0], team[i]);
+        for (int i = 5; i < 8; i++) assertEquals(team[4], team[i]);
+        assertNotEquals(team[0], team[4]);
+        assertEquals(team[8], team[9]);
+    }
+
+    @Test
+    void partition_ShouldPlaceAllPlayersWhenPartiesFragment() {
+        double[] ratings = new double[8];
+        Arrays.fill(ratings, 1000);
+        // 3 + 3 + 2 cannot pack into two teams of 4 without breaking the pair
+        int[] group = {1, 1, 1, 2, 2, 2, 3, 3};
+
+        int[] team = TeamBalancer.partition(ratings, group, 4);
+        int[] sizes = new int[2];
+        for (int t : team) sizes[t]++;
+
+        assertArrayEquals(new int[]{4, 4}, sizes);
+        assertEquals(team[0], team[2]);
+        assertEquals(team[3], team[5]);
+    }
+}
@@ -0,0 +1,87 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.platform.TestPlatform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamRegistryTest {
+
+    private TestPlatform platform;
+    private TeamRegistry teams;
+    private List<UUID> players;
+
+    @BeforeEach
+    void setUp() {
+        platform = new TestPlatform();
+        teams = new TeamRegistry(platform);
+        players = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            players.add(platform.join("Player" + i));
+        }
+    }
+
+    @Test
+    void assignPlayers_ShouldFillTeamsOfTheGivenSize() {
+        teams.assignPlayers(players, 3);
+
+        assertEquals(3, teams.getTeamCount());
+        assertEquals(8, teams.getTotalPlayers());
+        for (UUID uuid : players) {
+            assertTrue(teams.hasTeam(teams.getTeam(uuid)));
+        }
+    }
+
+    @Test
+    void assignPlayers_ShouldGrowPastInitialCapacity() {
+        List<UUID> many = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            many.add(UUID.randomUUID());
+        }
+
+        teams.assignPlayers(many, 1);
+
+        assertEquals(40, teams.getTeamCount());
+        assertEquals(40, teams.getHighestTeamNumber());
+    }
+
+    @Test
+    void getWinningTeam_ShouldReturnLastTeamAlive() {
+        teams.assignPlayers(players, 4);
+        int survivorTeam = teams.getTeam(players.get(0));
+        Set<UUID> alive = new HashSet<>(teams.getTeamMembers(survivorTeam));
+
+        assertEquals(1, teams.getAliveTeamCount(alive));
+        assertEquals(survivorTeam, teams.getWinningTeam(alive));
+        assertEquals(-1, teams.getWinningTeam(Collections.emptySet()));
+    }
+
+    @Test
+    void removeFromTeam_ShouldDropEmptyTeams() {
+        teams.assignPlayers(players.subList(0, 2), 1);
+        teams.removeFromTeam(players.get(1));
+
+        assertEquals(1, teams.getTeamCount());
+        assertEquals(-1, teams.getTeam(players.get(1)));
+    }
+
+    @Test
+    void autoBalanceTeams_ShouldEvenOutAliveMembers() {
+        teams.assignPlayers(players, 4);
+        Set<UUID> alive = new HashSet<>(players);
+        // Team of the first player loses three members
+        int shortTeam = teams.getTeam(players.get(0));
+        Iterator<UUID> members = new ArrayList<>(teams.getTeamMembers(shortTeam)).iterator();
+        for (int i = 0; i < 3; i++) {
+            alive.remove(members.next());
+        }
+        assertTrue(teams.needsBalancing(alive));
+
+        assertTrue(teams.autoBalanceTeams(alive));
+
+        assertFalse(teams.needsBalancing(alive));
+    }
+}
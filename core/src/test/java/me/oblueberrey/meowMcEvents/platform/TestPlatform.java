@@ -0,0 +1,51 @@
+package me.oblueberrey.meowMcEvents.platform;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * In-memory platform for core tests: a settable clock and tick, and a name per online player
+ */
+public class TestPlatform implements PlatformAdapter {
+
+    private final Map<UUID, String> online = new HashMap<>();
+    public long now = 1_000_000L;
+    public long tick;
+
+    public UUID join(String name) {
+        UUID uuid = UUID.randomUUID();
+        online.put(uuid, name);
+        return uuid;
+    }
+
+    public void quit(UUID uuid) {
+        online.remove(uuid);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now;
+    }
+
+    @Override
+    public long currentTick() {
+        return tick;
+    }
+
+    @Override
+    public boolean isOnline(UUID player) {
+        return online.containsKey(player);
+    }
+
+    @Override
+    public String getName(UUID player) {
+        return online.get(player);
+    }
+
+    @Override
+    public void debug(DebugCategory category, Supplier<String> message) {
+        message.get(); // Build it anyway so a broken message fails the test
+    }
+}
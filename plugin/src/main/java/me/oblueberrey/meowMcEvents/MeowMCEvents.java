@@ -1,8 +1,11 @@
 package me.oblueberrey.meowMcEvents;
 
 import me.oblueberrey.meowMcEvents.commands.*;
+import me.oblueberrey.meowMcEvents.gui.SpectatorGUI;
 import me.oblueberrey.meowMcEvents.listeners.*;
 import me.oblueberrey.meowMcEvents.managers.*;
+import me.oblueberrey.meowMcEvents.platform.PaperPlatform;
+import me.oblueberrey.meowMcEvents.platform.PlatformAdapter;
 import me.oblueberrey.meowMcEvents.utils.ConfigManager;
 import me.oblueberrey.meowMcEvents.utils.EventFeedback;
 import me.oblueberrey.meowMcEvents.utils.LicenseManager;
@@ -13,6 +16,7 @@ import org.bukkit.plugin.java.JavaPlugin;
 public class MeowMCEvents extends JavaPlugin {
 
     private static MeowMCEvents instance;
+    private PlatformAdapter platform;
     private EventManager eventManager;
     private TeamManager teamManager;
     private KillStreakManager killStreakManager;
@@ -20,6 +24,7 @@ public class MeowMCEvents extends JavaPlugin {
     private ConfigManager configManager;
     private KitManager kitManager;
     private SpectatorCompassListener spectatorCompassListener;
+    private SpectatorGUI spectatorGUI;
     private EventStatsManager eventStatsManager;
     private EventFeedback eventFeedback;
     private LicenseManager licenseManager;
@@ -28,8 +33,17 @@ public class MeowMCEvents extends JavaPlugin {
     private KillFeedManager killFeedManager;
     private ArenaManager arenaManager;
     private ArenaBoundaryListener arenaBoundaryListener;
+    private WaitingAreaListener waitingAreaListener;
+    private TrackingCompassManager trackingCompassManager;
     private LogManager logManager;
+    private Profiler profiler;
+    private PluginMetrics metrics; // null unless metrics.enabled
     private DamageTracker damageTracker;
+    private PlayerStatsStore playerStatsStore;
+    private MatchArchive matchArchive;
+    private ReplayRecorder replayRecorder;
+    private ReplayPlayback replayPlayback;
+    private PartyManager partyManager;
 
     @Override
     public void onEnable() {
@@ -39,16 +53,23 @@ public class MeowMCEvents extends JavaPlugin {
         configManager = new ConfigManager(this);
         configManager.loadConfig();
 
+        // Server access for the core logic
+        platform = new PaperPlatform(this);
+
         // Initialize logging
         logManager = new LogManager(this);
         logManager.info(LogManager.Category.EVENTS, "MeowMCEvents starting up...");
 
+        // Hot path profiler - created first so tasks and listeners can be wrapped
+        profiler = new Profiler(this);
+
         // License check
         licenseManager = new LicenseManager(this);
         licenseManager.validate();
 
         // Initialize managers
-        teamManager = new TeamManager();
+        teamManager = new TeamManager(platform);
+        teamManager.setTeamColors(configManager.getTeamColors());
         killStreakManager = new KillStreakManager();
         borderManager = new BorderManager(this);
         kitManager = new KitManager(this);
@@ -58,7 +79,28 @@ public class MeowMCEvents extends JavaPlugin {
         tabListManager = new TabListManager(this);
         killFeedManager = new KillFeedManager(this);
         damageTracker = new DamageTracker(this);
+        if (configManager.isPersistentStatsEnabled()) {
+            playerStatsStore = new PlayerStatsStore(this);
+            // Players already online after a reload
+            getServer().getOnlinePlayers().forEach(p -> playerStatsStore.load(p.getUniqueId(), p.getName()));
+            if (configManager.isBalanceTeamsByRating()) {
+                teamManager.setRatingSource(playerStatsStore::getRating);
+            }
+        }
+        if (configManager.isPartyEnabled()) {
+            partyManager = new PartyManager(configManager.getPartyMaxSize(), configManager.getPartyInviteTimeout() * 1000L);
+            teamManager.setPartySource(partyManager::getPartyId);
+        }
+        if (configManager.isHistoryEnabled()) {
+            matchArchive = new MatchArchive(this);
+        }
+        if (configManager.isReplayEnabled()) {
+            replayRecorder = new ReplayRecorder(this);
+            replayPlayback = new ReplayPlayback(this);
+        }
         eventManager = new EventManager(this, teamManager, killStreakManager, borderManager, kitManager, eventStatsManager, eventFeedback);
+        teamManager.setAliveSource(eventManager::getAliveView);
+        trackingCompassManager = new TrackingCompassManager(this, eventManager, teamManager);
 
         // Initialize arena system
         arenaManager = new ArenaManager(this);
@@ -72,7 +114,9 @@ public class MeowMCEvents extends JavaPlugin {
         getCommand("meowevents").setExecutor(new MeowEventsHelpCommand(this, eventManager));
         getCommand("event").setExecutor(new EventJoinCommand(this, eventManager));
         getCommand("eventleave").setExecutor(new LeaveCommand(this, eventManager));
-        getCommand("kits").setExecutor(new KitsCommand(this, eventManager));
+        KitsCommand kitsCommand = new KitsCommand(this, eventManager);
+        getCommand("kits").setExecutor(kitsCommand);
+        getCommand("kits").setTabCompleter(kitsCommand);
 
         // Register new commands
         PluginCommand arenaCmd = getCommand("arena");
@@ -86,35 +130,59 @@ public class MeowMCEvents extends JavaPlugin {
             spectateCmd.setExecutor(new EventSpectateCommand(this, eventManager));
         }
 
-        // Register listeners
-        getServer().getPluginManager().registerEvents(new PlayerDeathListener(this, eventManager, killStreakManager), this);
-        getServer().getPluginManager().registerEvents(new PlayerQuitListener(eventManager, teamManager), this);
-        getServer().getPluginManager().registerEvents(new BlockListener(eventManager), this);
-        getServer().getPluginManager().registerEvents(new CommandBlockListener(this, eventManager), this);
-        getServer().getPluginManager().registerEvents(new RegenListener(eventManager), this);
-        getServer().getPluginManager().registerEvents(new WaitingAreaListener(this, eventManager), this);
-        getServer().getPluginManager().registerEvents(new PvPListener(this, eventManager), this);
-        getServer().getPluginManager().registerEvents(new PlayerRespawnListener(this, eventManager), this);
-        getServer().getPluginManager().registerEvents(new DamageListener(this, eventManager), this);
+        // Register listeners (each handler timed by the profiler)
+        profiler.registerEvents(new PlayerDeathListener(this, eventManager, killStreakManager));
+        profiler.registerEvents(new PlayerQuitListener(eventManager, teamManager));
+        if (playerStatsStore != null) {
+            profiler.registerEvents(new PlayerJoinListener(playerStatsStore));
+        }
+        if (replayRecorder != null) {
+            profiler.registerEvents(replayRecorder);
+            profiler.registerEvents(replayPlayback);
+        }
+        profiler.registerEvents(new BlockListener(eventManager));
+        profiler.registerEvents(new CommandBlockListener(this, eventManager));
+        profiler.registerEvents(new RegenListener(eventManager));
+        waitingAreaListener = new WaitingAreaListener(this, eventManager);
+        profiler.registerEvents(waitingAreaListener);
+        profiler.registerEvents(new PvPListener(this, eventManager));
+        profiler.registerEvents(new PlayerRespawnListener(this, eventManager));
+        profiler.registerEvents(new DamageListener(this, eventManager));
 
         // Spectator compass listener
         spectatorCompassListener = new SpectatorCompassListener(this, eventManager, teamManager);
-        getServer().getPluginManager().registerEvents(spectatorCompassListener, this);
+        profiler.registerEvents(spectatorCompassListener);
+        spectatorGUI = new SpectatorGUI(this, eventManager, teamManager);
+        profiler.registerEvents(spectatorGUI);
 
         // Spectator protection listener
-        getServer().getPluginManager().registerEvents(new SpectatorProtectionListener(this, eventManager), this);
+        profiler.registerEvents(new SpectatorProtectionListener(this, eventManager));
 
         // Fatal damage listener - intercepts death and converts to spectator without dying
-        getServer().getPluginManager().registerEvents(new FatalDamageListener(this, eventManager, killStreakManager), this);
+        profiler.registerEvents(new FatalDamageListener(this, eventManager, killStreakManager));
 
         // Void and command listener - handles void deaths and /kill command interception
-        getServer().getPluginManager().registerEvents(new VoidAndCommandListener(this, eventManager), this);
+        VoidAndCommandListener voidAndCommandListener = new VoidAndCommandListener(this, eventManager);
+        profiler.registerEvents(voidAndCommandListener);
+
+        // Shared movement pipeline - one PlayerMoveEvent handler dispatching to movement rules
+        PlayerMoveListener playerMoveListener = new PlayerMoveListener(eventManager);
+        playerMoveListener.registerRule(voidAndCommandListener);
+        playerMoveListener.registerRule(arenaBoundaryListener);
+        playerMoveListener.registerRule(waitingAreaListener);
+        profiler.registerEvents(playerMoveListener);
 
         // Damage attribution listener - tracks projectiles, explosions, fire/lava for kill credit
-        getServer().getPluginManager().registerEvents(new DamageAttributionListener(this, eventManager, damageTracker), this);
+        profiler.registerEvents(new DamageAttributionListener(this, eventManager, damageTracker));
+
+        // Local Prometheus endpoint
+        if (configManager.isMetricsEnabled()) {
+            metrics = new PluginMetrics(this);
+            metrics.start();
+        }
 
         getLogger().info("MeowMCEvents v1.0 has been enabled!");
-        getLogger().info("Loaded " + kitManager.getKitNames().size() + " kits from config");
+        getLogger().info("Loaded " + kitManager.getKitNames().size() + " kits (" + kitManager.getKitStore().getKitNames().size() + " built-in)");
 
         if (configManager.isDebugEnabled()) {
             getLogger().info("[DEBUG] Debug mode is ENABLED - detailed logging will be shown in console");
@@ -136,6 +204,7 @@ public class MeowMCEvents extends JavaPlugin {
         // Save arenas
         if (arenaManager != null) {
             arenaManager.saveArenas();
+            arenaManager.shutdown();
         }
 
         // Clean up event feedback (remove boss bar, stop tasks)
@@ -153,18 +222,68 @@ public class MeowMCEvents extends JavaPlugin {
             tabListManager.stopTabList();
         }
 
+        // Stop compass tracking
+        if (trackingCompassManager != null) {
+            trackingCompassManager.stop();
+        }
+
         // Shutdown damage tracker
         if (damageTracker != null) {
             damageTracker.shutdown();
         }
 
+        // Finish pending kit saves
+        if (kitManager != null) {
+            kitManager.shutdown();
+        }
+
+        // Flush pending stats writes and close the database
+        if (playerStatsStore != null) {
+            playerStatsStore.shutdown();
+        }
+
+        // Flush pending match history writes
+        if (matchArchive != null) {
+            matchArchive.shutdown();
+        }
+
+        // Remove playback stands and finish the replay file
+        if (replayPlayback != null) {
+            replayPlayback.stopAll();
+        }
+        if (replayRecorder != null) {
+            replayRecorder.shutdown();
+        }
+
+        // Close the metrics endpoint
+        if (metrics != null) {
+            metrics.shutdown();
+        }
+
         getLogger().info("MeowMCEvents v1.0 has been disabled!");
+
+        // Last - write out everything logged during shutdown
+        if (logManager != null) {
+            logManager.shutdown();
+        }
     }
 
     public static MeowMCEvents getInstance() {
         return instance;
     }
 
+    public PlatformAdapter getPlatform() {
+        return platform;
+    }
+
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
+    public PluginMetrics getMetrics() {
+        return metrics;
+    }
+
     public EventManager getEventManager() {
         return eventManager;
     }
@@ -193,6 +312,30 @@ public class MeowMCEvents extends JavaPlugin {
         return spectatorCompassListener;
     }
 
+    public SpectatorGUI getSpectatorGUI() {
+        return spectatorGUI;
+    }
+
+    public PlayerStatsStore getPlayerStatsStore() {
+        return playerStatsStore;
+    }
+
+    public MatchArchive getMatchArchive() {
+        return matchArchive;
+    }
+
+    public PartyManager getPartyManager() {
+        return partyManager;
+    }
+
+    public ReplayRecorder getReplayRecorder() {
+        return replayRecorder;
+    }
+
+    public ReplayPlayback getReplayPlayback() {
+        return replayPlayback;
+    }
+
     public EventStatsManager getEventStatsManager() {
         return eventStatsManager;
     }
@@ -226,6 +369,14 @@ public class MeowMCEvents extends JavaPlugin {
         return arenaBoundaryListener;
     }
 
+    public WaitingAreaListener getWaitingAreaListener() {
+        return waitingAreaListener;
+    }
+
+    public TrackingCompassManager getTrackingCompassManager() {
+        return trackingCompassManager;
+    }
+
     public LogManager getLogManager() {
         return logManager;
     }
@@ -66,6 +66,12 @@ public class ArenaCommand implements CommandExecutor, TabCompleter {
             case "info":
                 handleInfo(player, args);
                 break;
+            case "shape":
+                handleShape(player, args);
+                break;
+            case "point":
+                handlePoint(player, args);
+                break;
             default:
                 sendUsage(player);
                 break;
@@ -103,6 +109,7 @@ public class ArenaCommand implements CommandExecutor, TabCompleter {
             MessageUtils.sendError(player, "Arena &#FFE566" + name + " &#FF5555does not exist.");
             return;
         }
+        if (rejectInUse(player, name)) return;
 
         if (arenaManager.setPos1(name, loc)) {
             MessageUtils.sendSuccess(player, "Pos1 set for &#FFE566" + name + " &#AAAAAAat " +
@@ -124,6 +131,7 @@ public class ArenaCommand implements CommandExecutor, TabCompleter {
             MessageUtils.sendError(player, "Arena &#FFE566" + name + " &#FF5555does not exist.");
             return;
         }
+        if (rejectInUse(player, name)) return;
 
         if (arenaManager.setPos2(name, loc)) {
             MessageUtils.sendSuccess(player, "Pos2 set for &#FFE566" + name + " &#AAAAAAat " +
@@ -139,6 +147,7 @@ public class ArenaCommand implements CommandExecutor, TabCompleter {
             return;
         }
         String name = args[1].toLowerCase();
+        if (rejectInUse(player, name)) return;
         if (arenaManager.deleteArena(name)) {
             MessageUtils.sendSuccess(player, "Arena &#FFE566" + name + " &#AAAAAAdeleted.");
         } else {
@@ -175,13 +184,111 @@ public class ArenaCommand implements CommandExecutor, TabCompleter {
             return;
         }
         if (!arena.isComplete()) {
-            MessageUtils.sendError(player, "Arena &#FFE566" + name + " &#FF5555is incomplete. Set both pos1 and pos2 first.");
+            MessageUtils.sendError(player, "Arena &#FFE566" + name + " &#FF5555is incomplete. Set both pos1 and pos2 (and the shape's data) first.");
             return;
         }
         arenaManager.setActiveArena(name);
         MessageUtils.sendSuccess(player, "Active arena set to &#FFE566" + name);
     }
 
+    private void handleShape(Player player, String[] args) {
+        if (args.length < 3) {
+            MessageUtils.sendError(player, "Usage: /arena shape <name> <cuboid|cylinder <radius>|polygon|mask <image>>");
+            return;
+        }
+        String name = args[1].toLowerCase();
+        if (arenaManager.getArena(name) == null) {
+            MessageUtils.sendError(player, "Arena &#FFE566" + name + " &#FF5555does not exist.");
+            return;
+        }
+        if (rejectInUse(player, name)) return;
+
+        switch (args[2].toLowerCase()) {
+            case "cuboid":
+                arenaManager.setCuboid(name);
+                MessageUtils.sendSuccess(player, "Arena &#FFE566" + name + " &#AAAAAAis now a cuboid between pos1 and pos2.");
+                break;
+            case "cylinder": {
+                if (args.length < 4) {
+                    MessageUtils.sendError(player, "Usage: /arena shape <name> cylinder <radius>");
+                    return;
+                }
+                int radius;
+                try {
+                    radius = Integer.parseInt(args[3]);
+                } catch (NumberFormatException e) {
+                    MessageUtils.sendError(player, "Radius must be a number.");
+                    return;
+                }
+                if (radius < 1 || radius > ArenaManager.MAX_RADIUS) {
+                    MessageUtils.sendError(player, "Radius must be between 1 and " + ArenaManager.MAX_RADIUS + ".");
+                    return;
+                }
+                Location loc = player.getLocation();
+                arenaManager.setCylinder(name, loc, radius);
+                MessageUtils.sendSuccess(player, "Arena &#FFE566" + name + " &#AAAAAAis now a cylinder of radius &#FFE566" + radius +
+                        " &#AAAAAAcentered at " + loc.getBlockX() + ", " + loc.getBlockZ() + ". Height comes from pos1/pos2.");
+                break;
+            }
+            case "polygon":
+                arenaManager.setPolygon(name);
+                MessageUtils.sendSuccess(player, "Arena &#FFE566" + name + " &#AAAAAAis now a polygon. Add at least 3 corners with &#FFE566/arena point " + name);
+                break;
+            case "mask": {
+                if (args.length < 4) {
+                    MessageUtils.sendError(player, "Usage: /arena shape <name> mask <image.png>");
+                    return;
+                }
+                String image = args[3];
+                if (!image.matches("[a-zA-Z0-9_.-]+") || image.contains("..")) {
+                    MessageUtils.sendError(player, "Invalid image file name.");
+                    return;
+                }
+                MessageUtils.sendInfo(player, "Compiling mask &#FFE566" + image + " &#AAAAAAfor &#FFE566" + name + "&#AAAAAA...");
+                arenaManager.setMaskImage(name, image, compiled -> {
+                    if (!player.isOnline()) return;
+                    if (compiled) {
+                        MessageUtils.sendSuccess(player, "Arena &#FFE566" + name + " &#AAAAAAnow uses mask &#FFE566" + image +
+                                " &#AAAAAAanchored at its min corner.");
+                    } else {
+                        MessageUtils.sendError(player, "Could not compile mask. Put a PNG up to " + ArenaManager.MAX_SPAN + "x" + ArenaManager.MAX_SPAN +
+                                " named &#FFE566" + image + " &#FF5555in the plugin's arenas folder and set pos1/pos2.");
+                    }
+                });
+                break;
+            }
+            default:
+                MessageUtils.sendError(player, "Unknown shape. Use cuboid, cylinder, polygon or mask.");
+                break;
+        }
+    }
+
+    private void handlePoint(Player player, String[] args) {
+        if (args.length < 2) {
+            MessageUtils.sendError(player, "Usage: /arena point <name>");
+            return;
+        }
+        String name = args[1].toLowerCase();
+        if (rejectInUse(player, name)) return;
+        Location loc = player.getLocation();
+        int count = arenaManager.addPolygonPoint(name, loc);
+        if (count < 0) {
+            MessageUtils.sendError(player, "Arena &#FFE566" + name + " &#FF5555does not exist or is not a polygon. Use &#FFE566/arena shape " + name + " polygon");
+            return;
+        }
+        MessageUtils.sendSuccess(player, "Corner &#FFE566#" + count + " &#AAAAAAadded at " + loc.getBlockX() + ", " + loc.getBlockZ() +
+                (count < 3 ? " &#AAAAAA(need at least 3)" : ""));
+    }
+
+    /**
+     * Bounds and shape of the active arena are locked while an event uses it
+     */
+    private boolean rejectInUse(Player player, String name) {
+        if (!arenaManager.isInUse(name)) return false;
+        MessageUtils.sendError(player, "Arena &#FFE566" + name + " &#FF5555is in use by the current event. Edit it after the event ends.");
+        return true;
+    }
+
     private void handleInfo(Player player, String[] args) {
         if (args.length < 2) {
             MessageUtils.sendError(player, "Usage: /arena info <name>");
@@ -214,6 +321,16 @@ public class ArenaCommand implements CommandExecutor, TabCompleter {
             player.sendMessage(MessageUtils.colorize(" &#AAAAAAPos2: &#FF5555not set"));
         }
 
+        String shapeInfo = arena.getShape().name().toLowerCase();
+        if (arena.getShape() == ArenaManager.Arena.Shape.CYLINDER) {
+            shapeInfo += " (radius " + arena.getRadius() + ")";
+        } else if (arena.getShape() == ArenaManager.Arena.Shape.POLYGON) {
+            shapeInfo += " (" + arena.getPolygon().size() + " corners)";
+        } else if (arena.getShape() == ArenaManager.Arena.Shape.MASK) {
+            shapeInfo += " (" + arena.getMaskImage() + ")";
+        }
+        player.sendMessage(MessageUtils.colorize(" &#AAAAAAShape: &#FFE566" + shapeInfo));
+
         if (arena.isComplete()) {
             player.sendMessage(MessageUtils.colorize(" &#AAAAAASize: &#FFE566" +
                     arena.getSizeX() + "x" + arena.getSizeY() + "x" + arena.getSizeZ()));
@@ -230,6 +347,8 @@ public class ArenaCommand implements CommandExecutor, TabCompleter {
         player.sendMessage(MessageUtils.colorize(" &#FFE566/arena create <name> &#AAAAAA- create arena"));
         player.sendMessage(MessageUtils.colorize(" &#FFE566/arena pos1 <name> &#AAAAAA- set corner 1"));
         player.sendMessage(MessageUtils.colorize(" &#FFE566/arena pos2 <name> &#AAAAAA- set corner 2"));
+        player.sendMessage(MessageUtils.colorize(" &#FFE566/arena shape <name> <type> &#AAAAAA- cuboid, cylinder <r>, polygon, mask <img>"));
+        player.sendMessage(MessageUtils.colorize(" &#FFE566/arena point <name> &#AAAAAA- add polygon corner"));
         player.sendMessage(MessageUtils.colorize(" &#FFE566/arena set <name> &#AAAAAA- set active arena"));
         player.sendMessage(MessageUtils.colorize(" &#FFE566/arena delete <name> &#AAAAAA- delete arena"));
         player.sendMessage(MessageUtils.colorize(" &#FFE566/arena list &#AAAAAA- list all arenas"));
@@ -241,7 +360,7 @@ public class ArenaCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
 
         if (args.length == 1) {
-            List<String> subcommands = Arrays.asList("create", "pos1", "pos2", "delete", "list", "set", "info");
+            List<String> subcommands = Arrays.asList("create", "pos1", "pos2", "shape", "point", "delete", "list", "set", "info");
             String input = args[0].toLowerCase();
             for (String sub : subcommands) {
                 if (sub.startsWith(input)) {
@@ -250,7 +369,8 @@ public class ArenaCommand implements CommandExecutor, TabCompleter {
             }
         } else if (args.length == 2) {
             String sub = args[0].toLowerCase();
-            if (sub.equals("pos1") || sub.equals("pos2") || sub.equals("delete") || sub.equals("set") || sub.equals("info")) {
+            if (sub.equals("pos1") || sub.equals("pos2") || sub.equals("shape") || sub.equals("point")
+                    || sub.equals("delete") || sub.equals("set") || sub.equals("info")) {
                 String input = args[1].toLowerCase();
                 for (String name : arenaManager.getArenaNames()) {
                     if (name.startsWith(input)) {
@@ -258,6 +378,13 @@ public class ArenaCommand implements CommandExecutor, TabCompleter {
                     }
                 }
             }
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("shape")) {
+            String input = args[2].toLowerCase();
+            for (String shape : Arrays.asList("cuboid", "cylinder", "polygon", "mask")) {
+                if (shape.startsWith(input)) {
+                    completions.add(shape);
+                }
+            }
         }
 
         return completions;
@@ -0,0 +1,271 @@
+package me.oblueberrey.meowMcEvents.commands;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.managers.EventManager;
+import me.oblueberrey.meowMcEvents.managers.PartyManager;
+import me.oblueberrey.meowMcEvents.utils.MessageUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public class EventJoinCommand implements CommandExecutor, TabCompleter {
+
+    private final MeowMCEvents plugin;
+    private final EventManager eventManager;
+
+    public EventJoinCommand(MeowMCEvents plugin, EventManager eventManager) {
+        this.plugin = plugin;
+        this.eventManager = eventManager;
+    }
+
+    private void debug(Supplier<String> message) {
+        if (plugin.getConfigManager().shouldLogPlayers()) {
+            plugin.getLogger().info("[DEBUG:JOIN] " + message.get());
+        }
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (!(sender instanceof Player)) {
+            MessageUtils.sendError(sender, "Only players can use this command.");
+            return true;
+        }
+
+        Player player = (Player) sender;
+
+        // Check permission
+        if (!player.hasPermission("meowevent.join")) {
+            player.sendMessage(plugin.getConfigManager().colorize("&7&cno permission"));
+            return true;
+        }
+
+        // Party management - /event party ...
+        if (args.length > 0 && args[0].equalsIgnoreCase("party")) {
+            handleParty(player, args);
+            return true;
+        }
+
+        // Check if event is running - allow joining as spectator
+        if (eventManager.isEventRunning()) {
+            // Check if already a spectator
+            if (eventManager.isSpectator(player)) {
+                MessageUtils.sendError(player, "You are already spectating this event.");
+                return true;
+            }
+
+            // Check if already in the event as a player
+            if (eventManager.isPlayerInEvent(player)) {
+                MessageUtils.sendError(player, "You are already in this event.");
+                return true;
+            }
+
+            // Check if mid-join spectating is allowed
+            if (!plugin.getConfigManager().isAllowMidJoinSpectate()) {
+                MessageUtils.sendError(player, "Spectating is not allowed for this event.");
+                return true;
+            }
+
+            // Add as spectator
+            eventManager.addSpectator(player);
+
+            // Teleport to event spawn location
+            Location eventSpawn = plugin.getConfigManager().getSpawnLocation();
+            if (eventSpawn != null && eventSpawn.getWorld() != null) {
+                player.teleport(eventSpawn);
+                debug(() -> player.getName() + " Teleported to event spawn as spectator");
+            }
+
+            MessageUtils.sendInfo(player, "You are now spectating. Use &f/leave &7to exit.");
+            return true;
+        }
+
+        // Check if countdown is active (this is when players CAN join)
+        if (!eventManager.isCountdownActive()) {
+            MessageUtils.sendError(player, "There is no ongoing event or countdown!");
+            return true;
+        }
+
+        // Check if already joined
+        if (eventManager.hasPlayerJoined(player)) {
+            player.sendMessage(plugin.getConfigManager().getMessage("already-joined"));
+            return true;
+        }
+
+        // Check max players limit
+        int maxPlayers = plugin.getConfigManager().getMaxPlayers();
+        if (maxPlayers > 0 && eventManager.getJoinedPlayerCount() >= maxPlayers) {
+            MessageUtils.sendError(player, "The event is full! (" + maxPlayers + " players max)");
+            return true;
+        }
+
+        // Add player to event queue
+        eventManager.addPlayer(player);
+
+        // Teleport player to event join spawn (waiting area)
+        Location eventSpawn = plugin.getConfigManager().getEventJoinSpawnLocation();
+        if (eventSpawn != null && eventSpawn.getWorld() != null) {
+            player.teleport(eventSpawn);
+            debug(() -> player.getName() + " teleported to event join spawn (waiting area)");
+        }
+
+        player.sendMessage(plugin.getConfigManager().getMessage("joined-event"));
+
+        return true;
+    }
+
+    // ==================== Parties ====================
+
+    private void handleParty(Player player, String[] args) {
+        PartyManager partyManager = plugin.getPartyManager();
+        if (partyManager == null) {
+            MessageUtils.sendError(player, "Parties are disabled.");
+            return;
+        }
+
+        UUID uuid = player.getUniqueId();
+        long now = System.currentTimeMillis();
+        String action = args.length > 1 ? args[1].toLowerCase() : "list";
+
+        switch (action) {
+            case "invite": {
+                if (args.length < 3) {
+                    MessageUtils.sendError(player, "Usage: /event party invite <player>");
+                    return;
+                }
+                Player target = Bukkit.getPlayerExact(args[2]);
+                if (target == null) {
+                    MessageUtils.sendError(player, "Player " + args[2] + " is not online.");
+                    return;
+                }
+                PartyManager.Result result = partyManager.invite(uuid, target.getUniqueId(), now);
+                if (result != PartyManager.Result.SUCCESS) {
+                    sendPartyError(player, result, target.getName());
+                    return;
+                }
+                MessageUtils.sendSuccess(player, "Invited &f" + target.getName() + " &7to your party.");
+                MessageUtils.sendInfo(target, "&f" + player.getName() + " &7invited you to their party. Use &f/event party accept");
+                debug(() -> player.getName() + " invited " + target.getName() + " to a party");
+                break;
+            }
+
+            case "accept": {
+                UUID inviter = partyManager.getPendingInviter(uuid, now);
+                PartyManager.Result result = partyManager.accept(uuid, now);
+                if (result != PartyManager.Result.SUCCESS) {
+                    sendPartyError(player, result, null);
+                    return;
+                }
+                Player leader = Bukkit.getPlayer(inviter);
+                notifyParty(partyManager.getParty(uuid), "&f" + player.getName() + " &7joined the party.");
+                debug(() -> player.getName() + " joined the party of " + (leader != null ? leader.getName() : inviter));
+                break;
+            }
+
+            case "leave": {
+                PartyManager.Party party = partyManager.getParty(uuid);
+                PartyManager.Result result = partyManager.leave(uuid);
+                if (result != PartyManager.Result.SUCCESS) {
+                    sendPartyError(player, result, null);
+                    return;
+                }
+                MessageUtils.sendSuccess(player, "You left the party.");
+                notifyParty(party, "&f" + player.getName() + " &7left the party.");
+                break;
+            }
+
+            case "list": {
+                PartyManager.Party party = partyManager.getParty(uuid);
+                if (party == null) {
+                    MessageUtils.sendInfo(player, "You are not in a party. Use &f/event party invite <player>");
+                    return;
+                }
+                List<String> names = new ArrayList<>();
+                for (UUID member : party.getMembers()) {
+                    Player online = Bukkit.getPlayer(member);
+                    String name = online != null ? online.getName() : member.toString().substring(0, 8);
+                    names.add(member.equals(party.getLeader()) ? name + " &e(leader)&f" : name);
+                }
+                MessageUtils.sendInfo(player, "Party (" + party.size() + "/" + partyManager.getMaxSize() + "): &f"
+                        + String.join("&7, &f", names));
+                break;
+            }
+
+            default:
+                MessageUtils.sendError(player, "Usage: /event party <invite|accept|leave|list>");
+                break;
+        }
+    }
+
+    private void sendPartyError(Player player, PartyManager.Result result, String targetName) {
+        switch (result) {
+            case SELF:
+                MessageUtils.sendError(player, "You cannot invite yourself.");
+                break;
+            case ALREADY_IN_PARTY:
+                MessageUtils.sendError(player, targetName != null ? targetName + " is already in a party." : "You are already in a party.");
+                break;
+            case ALREADY_INVITED:
+                MessageUtils.sendError(player, targetName + " already has your invite.");
+                break;
+            case NOT_LEADER:
+                MessageUtils.sendError(player, "Only the party leader can invite players.");
+                break;
+            case PARTY_FULL:
+                MessageUtils.sendError(player, "The party is full.");
+                break;
+            case NO_INVITE:
+                MessageUtils.sendError(player, "You have no pending party invite.");
+                break;
+            case NOT_IN_PARTY:
+                MessageUtils.sendError(player, "You are not in a party.");
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void notifyParty(PartyManager.Party party, String message) {
+        if (party == null) return;
+        for (UUID member : party.getMembers()) {
+            Player online = Bukkit.getPlayer(member);
+            if (online != null) {
+                MessageUtils.sendInfo(online, message);
+            }
+        }
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        List<String> completions = new ArrayList<>();
+        if (plugin.getPartyManager() == null) return completions;
+
+        if (args.length == 1) {
+            if ("party".startsWith(args[0].toLowerCase())) {
+                completions.add("party");
+            }
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("party")) {
+            for (String action : Arrays.asList("invite", "accept", "leave", "list")) {
+                if (action.startsWith(args[1].toLowerCase())) {
+                    completions.add(action);
+                }
+            }
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("party") && args[1].equalsIgnoreCase("invite")) {
+            for (Player online : Bukkit.getOnlinePlayers()) {
+                if (!online.equals(sender) && online.getName().toLowerCase().startsWith(args[2].toLowerCase())) {
+                    completions.add(online.getName());
+                }
+            }
+        }
+        return completions;
+    }
+}
@@ -0,0 +1,125 @@
+package me.oblueberrey.meowMcEvents.commands;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.gui.KitsGUI;
+import me.oblueberrey.meowMcEvents.managers.EventManager;
+import me.oblueberrey.meowMcEvents.managers.KitCodec;
+import me.oblueberrey.meowMcEvents.managers.KitStore;
+import me.oblueberrey.meowMcEvents.utils.ConfigManager;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class KitsCommand implements CommandExecutor, TabCompleter {
+
+    private final MeowMCEvents plugin;
+    private final EventManager eventManager;
+
+    // Improved RGB Colors
+    private static final String GREY = "&#AAAAAA";
+    private static final String RED = "&#FF5555";
+    private static final String YELLOW = "&#FFE566";
+    private static final String ORANGE = "&#FF9944";
+    private static final String GREEN = "&#55FF55";
+
+    public KitsCommand(MeowMCEvents plugin, EventManager eventManager) {
+        this.plugin = plugin;
+        this.eventManager = eventManager;
+    }
+
+    private String msg(String text) {
+        return ConfigManager.colorize(text);
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (!(sender instanceof Player)) {
+            sender.sendMessage(msg(GREY + "" + RED + "players only"));
+            return true;
+        }
+
+        Player player = (Player) sender;
+
+        if (!player.hasPermission("meowevent.admin")) {
+            player.sendMessage(msg(GREY + "" + RED + "no permission"));
+            return true;
+        }
+
+        if (args.length == 0) {
+            // Open kit selection GUI
+            KitsGUI gui = new KitsGUI(plugin, eventManager);
+            gui.openGUI(player);
+            return true;
+        }
+
+        KitStore kitStore = plugin.getKitManager().getKitStore();
+        switch (args[0].toLowerCase()) {
+            case "save":
+                if (args.length < 2) {
+                    player.sendMessage(msg(GREY + "-" + ORANGE + "usage " + GREY + "-" + YELLOW + "/kits save <name>"));
+                    return true;
+                }
+                if (!KitCodec.isValidName(args[1])) {
+                    player.sendMessage(msg(GREY + "" + RED + "kit names are letters, digits, _ and - (max 32)"));
+                    return true;
+                }
+                kitStore.save(args[1], player);
+                player.sendMessage(msg(GREY + "" + GREEN + "saved kit " + YELLOW + args[1] + GREY + " from your inventory"));
+                break;
+
+            case "delete":
+                if (args.length < 2) {
+                    player.sendMessage(msg(GREY + "-" + ORANGE + "usage " + GREY + "-" + YELLOW + "/kits delete <name>"));
+                    return true;
+                }
+                if (kitStore.delete(args[1])) {
+                    player.sendMessage(msg(GREY + "" + ORANGE + "deleted kit " + YELLOW + args[1]));
+                } else {
+                    player.sendMessage(msg(GREY + "" + RED + "no built-in kit " + YELLOW + args[1]));
+                }
+                break;
+
+            case "list":
+                List<String> names = kitStore.getKitNames();
+                if (names.isEmpty()) {
+                    player.sendMessage(msg(GREY + "" + ORANGE + "no built-in kits " + GREY + "-" + YELLOW + "/kits save <name>"));
+                } else {
+                    player.sendMessage(msg(GREY + "" + YELLOW + "built-in kits " + GREY + "-" + ORANGE + String.join(", ", names)));
+                }
+                break;
+
+            default:
+                player.sendMessage(msg(GREY + "-" + ORANGE + "usage " + GREY + "-" + YELLOW + "/kits [save|delete|list] [name]"));
+                break;
+        }
+
+        return true;
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        List<String> completions = new ArrayList<>();
+        if (!sender.hasPermission("meowevent.admin")) return completions;
+
+        if (args.length == 1) {
+            for (String action : Arrays.asList("save", "delete", "list")) {
+                if (action.startsWith(args[0].toLowerCase())) {
+                    completions.add(action);
+                }
+            }
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("delete")) {
+            for (String name : plugin.getKitManager().getKitStore().getKitNames()) {
+                if (name.toLowerCase().startsWith(args[1].toLowerCase())) {
+                    completions.add(name);
+                }
+            }
+        }
+        return completions;
+    }
+}
\ No newline at end of file
@@ -8,6 +8,8 @@ import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.function.Supplier;
+
 public class LeaveCommand implements CommandExecutor {
 
     private final MeowMCEvents plugin;
@@ -28,9 +30,9 @@ public class LeaveCommand implements CommandExecutor {
         return ConfigManager.colorize(text);
     }
 
-    private void debug(String message) {
+    private void debug(Supplier<String> message) {
         if (plugin.getConfigManager().shouldLogPlayers()) {
-            plugin.getLogger().info("[DEBUG:LEAVE] " + message);
+            plugin.getLogger().info("[DEBUG:LEAVE] " + message.get());
         }
     }
 
@@ -59,12 +61,12 @@ public class LeaveCommand implements CommandExecutor {
             return true;
         }
 
-        debug(player.getName() + " is leaving. InActiveEvent: " + inActiveEvent + ", InQueue: " + inQueue + ", IsSpectator: " + isSpectator);
+        debug(() -> player.getName() + " is leaving. InActiveEvent: " + inActiveEvent + ", InQueue: " + inQueue + ", IsSpectator: " + isSpectator);
 
         // Handle spectator leaving
         if (isSpectator) {
             eventManager.removeSpectator(player);
-            debug(player.getName() + " removed from spectators");
+            debug(() -> player.getName() + " removed from spectators");
         } else {
             // Remove from event (for active players or queue)
             eventManager.removePlayer(player);
@@ -83,12 +85,12 @@ public class LeaveCommand implements CommandExecutor {
         String endCommand = plugin.getConfigManager().getEndCommand();
         if (endCommand != null && !endCommand.isEmpty()) {
             player.performCommand(endCommand);
-            debug(player.getName() + " executed /" + endCommand);
+            debug(() -> player.getName() + " executed /" + endCommand);
         }
 
         // Check for winner after player leaves (only if event is running)
         if (eventManager.isEventRunning()) {
-            debug("Checking for winner after " + player.getName() + " left");
+            debug(() -> "Checking for winner after " + player.getName() + " left");
             eventManager.checkForWinner();
         }
 
@@ -3,17 +3,30 @@ package me.oblueberrey.meowMcEvents.commands;
 import me.oblueberrey.meowMcEvents.MeowMCEvents;
 import me.oblueberrey.meowMcEvents.gui.EventGUI;
 import me.oblueberrey.meowMcEvents.managers.EventManager;
+import me.oblueberrey.meowMcEvents.managers.LatencyHistogram;
+import me.oblueberrey.meowMcEvents.managers.MatchArchive;
+import me.oblueberrey.meowMcEvents.managers.Profiler;
+import me.oblueberrey.meowMcEvents.managers.ProfilerSection;
+import me.oblueberrey.meowMcEvents.managers.ReplayPlayback;
+import me.oblueberrey.meowMcEvents.managers.ReplayRecorder;
 import me.oblueberrey.meowMcEvents.utils.ConfigManager;
 import me.oblueberrey.meowMcEvents.utils.LogManager;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 
 public class MeowEventCommand implements CommandExecutor, TabCompleter {
 
@@ -29,6 +42,12 @@ public class MeowEventCommand implements CommandExecutor, TabCompleter {
     private static final String AQUA = "&#55FFFF";
     private static final String PINK = "&#FF7EB3";
 
+    // Matches listed per /meowevent history page
+    private static final int HISTORY_PAGE_SIZE = 10;
+
+    // Sections listed by /meowevent profile
+    private static final int PROFILE_LINES = 15;
+
     // Small caps alphabet for stylized text
     private static final String SMALL_CAPS = "ᴀʙᴄᴅᴇꜰɢʜɪᴊᴋʟᴍɴᴏᴘǫʀꜱᴛᴜᴠᴡxʏᴢ";
 
@@ -133,6 +152,18 @@ public class MeowEventCommand implements CommandExecutor, TabCompleter {
                 handleForceStart(player);
                 break;
 
+            case "history":
+                handleHistory(player, args.length >= 2 ? args[1] : null);
+                break;
+
+            case "replay":
+                handleReplay(player, args);
+                break;
+
+            case "profile":
+                handleProfile(player, args.length >= 2 ? args[1] : null);
+                break;
+
             default:
                 player.sendMessage(msg(GREY + "" + RED + "unknown command " + GREY + "-" + ORANGE + "/meowevent help"));
                 break;
@@ -266,6 +297,9 @@ public class MeowEventCommand implements CommandExecutor, TabCompleter {
         }
 
         plugin.getConfigManager().setEventJoinSpawnLocation(player.getLocation());
+        if (plugin.getWaitingAreaListener() != null) {
+            plugin.getWaitingAreaListener().refreshWaitingArea();
+        }
         player.sendMessage(msg(GREY + "" + GREEN + toSmallCaps("event join spawn set")));
         player.sendMessage(msg(GREY + "-" + ORANGE + "tp here on /event"));
         player.sendMessage(msg(GREY + "-" + ORANGE + player.getWorld().getName() + " " + YELLOW +
@@ -329,7 +363,11 @@ public class MeowEventCommand implements CommandExecutor, TabCompleter {
         }
 
         plugin.getConfigManager().reload();
+        plugin.getTeamManager().setTeamColors(plugin.getConfigManager().getTeamColors());
         plugin.getArenaManager().loadArenas();
+        if (plugin.getWaitingAreaListener() != null) {
+            plugin.getWaitingAreaListener().refreshWaitingArea();
+        }
 
         // Reload logs config
         if (plugin.getLogManager() != null) {
@@ -372,6 +410,248 @@ public class MeowEventCommand implements CommandExecutor, TabCompleter {
         }
     }
 
+    private void handleHistory(Player player, String arg) {
+        MatchArchive archive = plugin.getMatchArchive();
+        if (archive == null) {
+            player.sendMessage(msg(GREY + "" + RED + "match history is disabled"));
+            return;
+        }
+
+        // No argument - latest matches
+        if (arg == null) {
+            archive.findRecent(null, HISTORY_PAGE_SIZE, matches -> sendMatchList(player, "recent matches", matches));
+            return;
+        }
+
+        // Numeric argument - one match by id
+        try {
+            long id = Long.parseLong(arg);
+            archive.findMatch(id, match -> {
+                if (!player.isOnline()) return;
+                if (match == null) {
+                    player.sendMessage(msg(GREY + "" + RED + "no match #" + id));
+                    return;
+                }
+                sendMatchDetails(player, match);
+            });
+            return;
+        } catch (NumberFormatException ignored) {
+            // Not an id - treat as a player name
+        }
+
+        OfflinePlayer target = Bukkit.getOfflinePlayerIfCached(arg);
+        if (target == null) {
+            player.sendMessage(msg(GREY + "" + RED + "unknown player " + YELLOW + arg));
+            return;
+        }
+        String name = target.getName() != null ? target.getName() : arg;
+        archive.findRecent(target.getUniqueId(), HISTORY_PAGE_SIZE,
+                matches -> sendMatchList(player, name + " matches", matches));
+    }
+
+    private void sendMatchList(Player player, String title, List<MatchArchive.MatchSummary> matches) {
+        if (!player.isOnline()) return;
+        if (matches.isEmpty()) {
+            player.sendMessage(msg(GREY + "" + ORANGE + "no matches recorded"));
+            return;
+        }
+        SimpleDateFormat dateFormat = new SimpleDateFormat("MMM d HH:mm");
+        player.sendMessage("");
+        player.sendMessage(msg(GREY + "" + YELLOW + toSmallCaps(title)));
+        for (MatchArchive.MatchSummary match : matches) {
+            player.sendMessage(msg(YELLOW + "#" + match.getId() + " " + GREY + "-" + ORANGE
+                    + dateFormat.format(new Date(match.getEndedAt())) + " " + GREY + "-" + AQUA
+                    + formatMode(match.getTeamSize()) + " " + GREY + "-" + PINK
+                    + match.getParticipants().size() + " players " + GREY + "-" + GREEN
+                    + formatWinners(match)));
+        }
+        player.sendMessage("");
+    }
+
+    private void sendMatchDetails(Player player, MatchArchive.MatchSummary match) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+        long duration = match.getDurationSeconds();
+        player.sendMessage("");
+        player.sendMessage(msg(GREY + "" + YELLOW + toSmallCaps("match") + " #" + match.getId() + " " + GREY + "-" + ORANGE
+                + dateFormat.format(new Date(match.getEndedAt()))));
+        player.sendMessage(msg(GREY + "-" + ORANGE + "mode " + AQUA + formatMode(match.getTeamSize())
+                + GREY + " -" + ORANGE + "duration " + YELLOW + (duration / 60) + "m " + (duration % 60) + "s"
+                + GREY + " -" + ORANGE + "kills " + YELLOW + match.getKills().size()));
+        player.sendMessage(msg(GREY + "-" + ORANGE + "winners " + GREEN + formatWinners(match)));
+        if (match.getReplay() != null) {
+            player.sendMessage(msg(GREY + "-" + ORANGE + "replay " + YELLOW + "/meowevent replay play " + match.getReplay()));
+        }
+        for (JsonElement element : match.getParticipants()) {
+            JsonObject participant = element.getAsJsonObject();
+            int team = participant.get("team").getAsInt();
+            player.sendMessage(msg(YELLOW + "#" + participant.get("placement").getAsInt() + " " + GREY + "-" + PINK
+                    + participant.get("name").getAsString()
+                    + (team > 0 ? GREY + " (team " + team + ")" : "")
+                    + " " + GREY + "-" + ORANGE + participant.get("kills").getAsInt() + " kills"));
+        }
+        player.sendMessage("");
+    }
+
+    private void handleProfile(Player player, String arg) {
+        Profiler profiler = plugin.getProfiler();
+        if (profiler == null) {
+            player.sendMessage(msg(GREY + "" + RED + "profiler is not available"));
+            return;
+        }
+
+        int seconds = plugin.getConfigManager().getProfilerDefaultWindow();
+        if (arg != null) {
+            switch (arg.toLowerCase()) {
+                case "on":
+                    profiler.setEnabled(true);
+                    player.sendMessage(msg(GREY + "" + GREEN + "profiler " + YELLOW + "enabled"));
+                    return;
+                case "off":
+                    profiler.setEnabled(false);
+                    player.sendMessage(msg(GREY + "" + ORANGE + "profiler " + GREY + "disabled"
+                            + (profiler.isExported() ? " (metrics keep timing)" : "")));
+                    return;
+                case "reset":
+                    profiler.reset();
+                    player.sendMessage(msg(GREY + "" + GREEN + "profiler samples cleared"));
+                    return;
+                default:
+                    try {
+                        seconds = Math.max(1, Math.min(ProfilerSection.MAX_WINDOW_SECONDS, Integer.parseInt(arg)));
+                    } catch (NumberFormatException e) {
+                        player.sendMessage(msg(GREY + "-" + ORANGE + "usage " + GREY + "-" + YELLOW + "/meowevent profile [on|off|reset|seconds]"));
+                        return;
+                    }
+            }
+        }
+
+        List<Profiler.Result> results = profiler.report(seconds);
+        player.sendMessage("");
+        player.sendMessage(msg(GREY + "" + YELLOW + toSmallCaps("profiler") + " " + GREY + "-" + ORANGE + "last " + seconds + "s "
+                + GREY + "-" + (profiler.isTiming() ? GREEN + "recording" : RED + "off")));
+        if (results.isEmpty()) {
+            player.sendMessage(msg(GREY + "-" + ORANGE + (profiler.isTiming() ? "no samples yet" : "enable with /meowevent profile on")));
+        }
+        for (int i = 0; i < Math.min(PROFILE_LINES, results.size()); i++) {
+            Profiler.Result result = results.get(i);
+            LatencyHistogram histogram = result.getHistogram();
+            player.sendMessage(msg(YELLOW + result.getName() + " " + GREY + "-" + ORANGE + histogram.getCount() + "x "
+                    + GREY + "mean " + AQUA + formatMillis(histogram.getMean())
+                    + GREY + " p99 " + PINK + formatMillis(histogram.percentile(99))
+                    + GREY + " max " + RED + formatMillis(histogram.getMax())));
+        }
+        if (results.size() > PROFILE_LINES) {
+            player.sendMessage(msg(GREY + "-" + ORANGE + (results.size() - PROFILE_LINES) + " more sections"));
+        }
+        player.sendMessage("");
+    }
+
+    private String formatMillis(double nanos) {
+        return String.format(Locale.ROOT, "%.3fms", nanos / 1_000_000.0);
+    }
+
+    private void handleReplay(Player player, String[] args) {
+        ReplayRecorder recorder = plugin.getReplayRecorder();
+        ReplayPlayback playback = plugin.getReplayPlayback();
+        if (recorder == null || playback == null) {
+            player.sendMessage(msg(GREY + "" + RED + "replays are disabled"));
+            return;
+        }
+
+        String action = args.length >= 2 ? args[1].toLowerCase() : "list";
+        switch (action) {
+            case "list":
+                recorder.listReplays(HISTORY_PAGE_SIZE, names -> {
+                    if (!player.isOnline()) return;
+                    if (names.isEmpty()) {
+                        player.sendMessage(msg(GREY + "" + ORANGE + "no replays recorded"));
+                        return;
+                    }
+                    player.sendMessage(msg(GREY + "" + YELLOW + toSmallCaps("replays") + " " + GREY + "-" + ORANGE
+                            + "/meowevent replay play <name>"));
+                    for (String name : names) {
+                        player.sendMessage(msg(GREY + "-" + AQUA + name
+                                + (name.equals(recorder.getCurrentName()) ? GREEN + " (recording)" : "")));
+                    }
+                });
+                break;
+
+            case "play":
+                if (args.length < 3) {
+                    player.sendMessage(msg(GREY + "-" + ORANGE + "usage " + GREY + "-" + YELLOW + "/meowevent replay play <name>"));
+                    return;
+                }
+                String name = args[2];
+                recorder.load(name, decoder -> {
+                    if (!player.isOnline()) return;
+                    if (decoder == null) {
+                        player.sendMessage(msg(GREY + "" + RED + "no replay " + YELLOW + name));
+                    } else if (!playback.play(player, decoder)) {
+                        player.sendMessage(msg(GREY + "" + RED + "world " + YELLOW + decoder.getWorld() + RED + " is not loaded"));
+                    } else {
+                        player.sendMessage(msg(GREY + "" + GREEN + toSmallCaps("playing") + " " + YELLOW + name + " "
+                                + GREY + "-" + ORANGE + (decoder.getTickCount() / 20) + "s"));
+                    }
+                });
+                break;
+
+            case "seek":
+                if (args.length < 3) {
+                    player.sendMessage(msg(GREY + "-" + ORANGE + "usage " + GREY + "-" + YELLOW + "/meowevent replay seek <seconds>"));
+                    return;
+                }
+                try {
+                    int seconds = Integer.parseInt(args[2]);
+                    if (!playback.seek(player, Math.max(0, seconds))) {
+                        player.sendMessage(msg(GREY + "" + RED + "not watching a replay"));
+                        return;
+                    }
+                    int[] progress = playback.getProgress(player);
+                    player.sendMessage(msg(GREY + "" + GREEN + toSmallCaps("seek") + " " + YELLOW
+                            + progress[0] + "s" + GREY + "/" + progress[1] + "s"));
+                } catch (NumberFormatException e) {
+                    player.sendMessage(msg(GREY + "" + RED + "invalid number"));
+                }
+                break;
+
+            case "pause":
+                Boolean paused = playback.togglePause(player);
+                if (paused == null) {
+                    player.sendMessage(msg(GREY + "" + RED + "not watching a replay"));
+                } else {
+                    player.sendMessage(msg(GREY + "" + ORANGE + (paused ? "paused" : "resumed")));
+                }
+                break;
+
+            case "stop":
+                if (playback.stop(player)) {
+                    player.sendMessage(msg(GREY + "" + ORANGE + "replay stopped"));
+                } else {
+                    player.sendMessage(msg(GREY + "" + RED + "not watching a replay"));
+                }
+                break;
+
+            default:
+                player.sendMessage(msg(GREY + "-" + ORANGE + "usage " + GREY + "-" + YELLOW + "/meowevent replay [list|play|seek|pause|stop]"));
+                break;
+        }
+    }
+
+    private String formatMode(int teamSize) {
+        return teamSize <= 1 ? "solo" : teamSize + "v" + teamSize;
+    }
+
+    private String formatWinners(MatchArchive.MatchSummary match) {
+        List<String> names = new ArrayList<>();
+        for (JsonElement element : match.getParticipants()) {
+            JsonObject participant = element.getAsJsonObject();
+            if (match.getWinners().contains(participant.get("uuid"))) {
+                names.add(participant.get("name").getAsString());
+            }
+        }
+        return names.isEmpty() ? "none" : String.join(", ", names);
+    }
+
     private void sendHelpMessage(Player player) {
         player.sendMessage("");
         player.sendMessage(msg(GREY + "" + YELLOW + toSmallCaps("meowevents") + " " + GREY + "-" + ORANGE + toSmallCaps("admin commands")));
@@ -387,6 +667,9 @@ public class MeowEventCommand implements CommandExecutor, TabCompleter {
         player.sendMessage(msg(YELLOW + "/meowevent border <sec> " + GREY + "-" + ORANGE + "border interval"));
         player.sendMessage(msg(YELLOW + "/meowevent reload " + GREY + "-" + ORANGE + "reload config"));
         player.sendMessage(msg(YELLOW + "/meowevent debug " + GREY + "-" + ORANGE + "toggle debug"));
+        player.sendMessage(msg(YELLOW + "/meowevent history [player|id] " + GREY + "-" + ORANGE + "past matches"));
+        player.sendMessage(msg(YELLOW + "/meowevent replay [list|play|seek|pause|stop] " + GREY + "-" + ORANGE + "watch replays"));
+        player.sendMessage(msg(YELLOW + "/meowevent profile [on|off|reset|sec] " + GREY + "-" + ORANGE + "plugin timings"));
         player.sendMessage(msg(YELLOW + "/kits " + GREY + "-" + ORANGE + "select kit"));
         player.sendMessage("");
     }
@@ -396,7 +679,7 @@ public class MeowEventCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
 
         if (args.length == 1) {
-            List<String> subcommands = Arrays.asList("start", "forcestart", "stop", "setspawn", "setplayerspawn", "setevent", "team", "border", "reload", "debug", "help");
+            List<String> subcommands = Arrays.asList("start", "forcestart", "stop", "setspawn", "setplayerspawn", "setevent", "team", "border", "reload", "debug", "history", "replay", "profile", "help");
             String input = args[0].toLowerCase();
 
             for (String subcommand : subcommands) {
@@ -409,6 +692,25 @@ public class MeowEventCommand implements CommandExecutor, TabCompleter {
                 completions.addAll(Arrays.asList("1", "2", "3", "4", "5"));
             } else if (args[0].equalsIgnoreCase("border")) {
                 completions.addAll(Arrays.asList("10", "20", "30", "60"));
+            } else if (args[0].equalsIgnoreCase("replay")) {
+                for (String action : Arrays.asList("list", "play", "seek", "pause", "stop")) {
+                    if (action.startsWith(args[1].toLowerCase())) {
+                        completions.add(action);
+                    }
+                }
+            } else if (args[0].equalsIgnoreCase("profile")) {
+                for (String action : Arrays.asList("on", "off", "reset", "10", "30", "60")) {
+                    if (action.startsWith(args[1].toLowerCase())) {
+                        completions.add(action);
+                    }
+                }
+            } else if (args[0].equalsIgnoreCase("history")) {
+                String input = args[1].toLowerCase();
+                for (Player online : Bukkit.getOnlinePlayers()) {
+                    if (online.getName().toLowerCase().startsWith(input)) {
+                        completions.add(online.getName());
+                    }
+                }
             }
         }
 
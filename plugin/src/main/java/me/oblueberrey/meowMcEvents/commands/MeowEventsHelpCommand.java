@@ -1,6 +1,9 @@
 package me.oblueberrey.meowMcEvents.commands;
 
 import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.managers.EventStatsManager;
+import me.oblueberrey.meowMcEvents.managers.Leaderboard;
+import me.oblueberrey.meowMcEvents.managers.PlayerStatsStore;
 import me.oblueberrey.meowMcEvents.utils.ConfigManager;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -16,6 +19,7 @@ import java.util.List;
  * Help command for regular players
  * /meowevents help - shows player commands
  * /meowevents admin - shows admin commands (if permission)
+ * /meowevents top [kills|streak|damage|wins|alltime] - leaderboards
  */
 public class MeowEventsHelpCommand implements CommandExecutor, TabCompleter {
 
@@ -61,6 +65,11 @@ public class MeowEventsHelpCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
+        if (args[0].equalsIgnoreCase("top")) {
+            sendLeaderboard(sender, args.length > 1 ? args[1].toLowerCase() : "kills");
+            return true;
+        }
+
         if (args[0].equalsIgnoreCase("forcestart")) {
             if (sender.hasPermission("meowevent.admin")) {
                 handleForceStart(sender);
@@ -90,6 +99,65 @@ public class MeowEventsHelpCommand implements CommandExecutor, TabCompleter {
         eventManager.startEvent();
     }
 
+    /**
+     * kills/streak/damage: live boards of the current (or last) event
+     * wins/alltime: all-time boards from the persistent stats snapshot
+     */
+    private void sendLeaderboard(CommandSender sender, String board) {
+        if (board.equals("wins") || board.equals("alltime")) {
+            PlayerStatsStore statsStore = plugin.getPlayerStatsStore();
+            if (statsStore == null) {
+                sender.sendMessage(ConfigManager.colorize("&#FF5555persistent stats are disabled"));
+                return;
+            }
+            boolean wins = board.equals("wins");
+            List<PlayerStatsStore.PlayerStats> top = statsStore.getAllTimeTop(wins ? PlayerStatsStore.Board.WINS : PlayerStatsStore.Board.KILLS);
+            sender.sendMessage("");
+            sender.sendMessage(ConfigManager.colorize(YELLOW + "all-time " + (wins ? "wins" : "kills")));
+            if (top.isEmpty()) {
+                sender.sendMessage(ConfigManager.colorize(GREY + "-" + ORANGE + "no entries yet"));
+            }
+            for (int i = 0; i < top.size(); i++) {
+                PlayerStatsStore.PlayerStats stats = top.get(i);
+                int value = wins ? stats.getWins() : stats.getKills();
+                sender.sendMessage(ConfigManager.colorize(GREY + (i + 1) + ". " + YELLOW + stats.getName() + GREY + " - " + ORANGE + value));
+            }
+            sender.sendMessage("");
+            return;
+        }
+
+        EventStatsManager statsManager = plugin.getEventStatsManager();
+        Leaderboard leaderboard;
+        String title;
+        switch (board) {
+            case "streak":
+                leaderboard = statsManager.getStreakBoard();
+                title = "best streak";
+                break;
+            case "damage":
+                leaderboard = statsManager.getDamageBoard();
+                title = "damage dealt";
+                break;
+            default:
+                leaderboard = statsManager.getKillBoard();
+                title = "kills";
+                break;
+        }
+
+        List<Leaderboard.Entry> top = leaderboard.top(leaderboard.getCapacity());
+        sender.sendMessage("");
+        sender.sendMessage(ConfigManager.colorize(YELLOW + "event " + title));
+        if (top.isEmpty()) {
+            sender.sendMessage(ConfigManager.colorize(GREY + "-" + ORANGE + "no entries yet"));
+        }
+        for (int i = 0; i < top.size(); i++) {
+            Leaderboard.Entry entry = top.get(i);
+            String value = board.equals("damage") ? String.format("%.1f", entry.getScore()) : String.valueOf((int) entry.getScore());
+            sender.sendMessage(ConfigManager.colorize(GREY + (i + 1) + ". " + YELLOW + statsManager.getPlayerName(entry.getUuid()) + GREY + " - " + ORANGE + value));
+        }
+        sender.sendMessage("");
+    }
+
     private void sendPlayerHelp(CommandSender sender) {
         sender.sendMessage("");
         sender.sendMessage(ConfigManager.colorize(GREY + "" + YELLOW + "meowevents " + GREY + "-" + ORANGE + "player commands"));
@@ -97,6 +165,7 @@ public class MeowEventsHelpCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(ConfigManager.colorize(YELLOW + "/event " + GREY + "-" + ORANGE + "join an event or spectate"));
         sender.sendMessage(ConfigManager.colorize(YELLOW + "/eventleave " + GREY + "-" + ORANGE + "leave the current event"));
         sender.sendMessage(ConfigManager.colorize(YELLOW + "/meowevents info " + GREY + "-" + ORANGE + "event info and tips"));
+        sender.sendMessage(ConfigManager.colorize(YELLOW + "/meowevents top [kills|streak|damage|wins|alltime] " + GREY + "-" + ORANGE + "leaderboards"));
         sender.sendMessage("");
 
         if (sender.hasPermission("meowevent.admin")) {
@@ -143,7 +212,7 @@ public class MeowEventsHelpCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
 
         if (args.length == 1) {
-            List<String> subcommands = new ArrayList<>(Arrays.asList("help", "info"));
+            List<String> subcommands = new ArrayList<>(Arrays.asList("help", "info", "top"));
             if (sender.hasPermission("meowevent.admin")) {
                 subcommands.add("admin");
                 subcommands.add("forcestart");
@@ -155,6 +224,13 @@ public class MeowEventsHelpCommand implements CommandExecutor, TabCompleter {
                     completions.add(sub);
                 }
             }
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("top")) {
+            String input = args[1].toLowerCase();
+            for (String board : Arrays.asList("kills", "streak", "damage", "wins", "alltime")) {
+                if (board.startsWith(input)) {
+                    completions.add(board);
+                }
+            }
         }
 
         return completions;
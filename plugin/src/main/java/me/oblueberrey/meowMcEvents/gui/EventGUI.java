@@ -18,6 +18,7 @@ import org.bukkit.inventory.meta.SkullMeta;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 public class EventGUI implements Listener {
 
@@ -50,19 +51,19 @@ public class EventGUI implements Listener {
         this.plugin = plugin;
         this.eventManager = eventManager;
         if (listenerRegistered.compareAndSet(false, true)) {
-            plugin.getServer().getPluginManager().registerEvents(this, plugin);
-            debug("EventGUI listener registered");
+            plugin.getProfiler().registerEvents(this);
+            debug(() -> "EventGUI listener registered");
         }
     }
 
-    private void debug(String message) {
+    private void debug(Supplier<String> message) {
         if (plugin.getConfigManager().shouldLogGui()) {
-            plugin.getLogger().info("[DEBUG:GUI] " + message);
+            plugin.getLogger().info("[DEBUG:GUI] " + message.get());
         }
     }
 
     public void openGUI(Player player) {
-        debug(player.getName() + " Opened Event Manager GUI");
+        debug(() -> player.getName() + " Opened Event Manager GUI");
         Inventory gui = Bukkit.createInventory(null, 45, GUI_TITLE);
 
         // Decorative Border
@@ -271,7 +272,7 @@ public class EventGUI implements Listener {
                     player.sendMessage(MessageUtils.format(RED + "Event already in progress"));
                     return;
                 }
-                debug(player.getName() + " Clicked START EVENT - starting countdown");
+                debug(() -> player.getName() + " Clicked START EVENT - starting countdown");
                 player.closeInventory();
                 eventManager.startCountdown();
                 break;
@@ -281,7 +282,7 @@ public class EventGUI implements Listener {
                     player.sendMessage(MessageUtils.format(RED + "No permission"));
                     return;
                 }
-                debug(player.getName() + " Clicked SELECT KIT");
+                debug(() -> player.getName() + " Clicked SELECT KIT");
                 player.closeInventory();
                 Bukkit.getScheduler().runTaskLater(plugin, () -> {
                     KitsGUI kitsGUI = new KitsGUI(plugin, eventManager, true);
@@ -294,7 +295,7 @@ public class EventGUI implements Listener {
                     player.sendMessage(MessageUtils.format(RED + "No permission"));
                     return;
                 }
-                debug(player.getName() + " clicked GAME MODE - opening selection menu");
+                debug(() -> player.getName() + " clicked GAME MODE - opening selection menu");
                 player.closeInventory();
                 Bukkit.getScheduler().runTaskLater(plugin, () -> {
                     GameModeGUI gameModeGUI = new GameModeGUI(plugin, eventManager);
@@ -307,7 +308,7 @@ public class EventGUI implements Listener {
                     player.sendMessage(MessageUtils.format(RED + "No permission"));
                     return;
                 }
-                debug(player.getName() + " clicked KILL PLAYER");
+                debug(() -> player.getName() + " clicked KILL PLAYER");
                 openPlayerSelector(player);
                 break;
 
@@ -320,7 +321,7 @@ public class EventGUI implements Listener {
                     player.sendMessage(MessageUtils.format(RED + "No event running"));
                     return;
                 }
-                debug(player.getName() + " Clicked STOP EVENT");
+                debug(() -> player.getName() + " Clicked STOP EVENT");
                 player.closeInventory();
                 eventManager.stopEvent();
                 break;
@@ -331,7 +332,7 @@ public class EventGUI implements Listener {
                     return;
                 }
                 eventManager.toggleBuilding();
-                debug(player.getName() + " toggled building to " + eventManager.isBuildingAllowed());
+                debug(() -> player.getName() + " toggled building to " + eventManager.isBuildingAllowed());
                 player.sendMessage(MessageUtils.format(ORANGE + "Building " + (eventManager.isBuildingAllowed() ? GREEN + "Enabled" : RED + "Disabled")));
                 updateGUI(player);
                 break;
@@ -342,7 +343,7 @@ public class EventGUI implements Listener {
                     return;
                 }
                 eventManager.toggleNaturalRegen();
-                debug(player.getName() + " toggled natural regen to " + eventManager.isNaturalRegenAllowed());
+                debug(() -> player.getName() + " toggled natural regen to " + eventManager.isNaturalRegenAllowed());
                 player.sendMessage(MessageUtils.format(ORANGE + "Natural Regen " + (eventManager.isNaturalRegenAllowed() ? GREEN + "Enabled" : RED + "Disabled")));
                 updateGUI(player);
                 break;
@@ -353,7 +354,7 @@ public class EventGUI implements Listener {
                     return;
                 }
                 eventManager.toggleBreaking();
-                debug(player.getName() + " toggled breaking to " + eventManager.isBreakingAllowed());
+                debug(() -> player.getName() + " toggled breaking to " + eventManager.isBreakingAllowed());
                 player.sendMessage(MessageUtils.format(ORANGE + "Breaking " + (eventManager.isBreakingAllowed() ? GREEN + "Enabled" : RED + "Disabled")));
                 updateGUI(player);
                 break;
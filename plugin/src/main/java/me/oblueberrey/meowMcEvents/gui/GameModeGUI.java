@@ -38,7 +38,7 @@ public class GameModeGUI implements Listener {
         this.plugin = plugin;
         this.eventManager = eventManager;
         if (listenerRegistered.compareAndSet(false, true)) {
-            plugin.getServer().getPluginManager().registerEvents(this, plugin);
+            plugin.getProfiler().registerEvents(this);
         }
     }
 
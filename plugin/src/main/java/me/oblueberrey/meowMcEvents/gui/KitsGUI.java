@@ -16,6 +16,7 @@ import org.bukkit.inventory.ItemStack;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 public class KitsGUI implements Listener {
 
@@ -52,19 +53,19 @@ public class KitsGUI implements Listener {
         this.returnToMainMenu = returnToMainMenu;
         // Only register listener once to prevent memory leak (thread-safe)
         if (listenerRegistered.compareAndSet(false, true)) {
-            plugin.getServer().getPluginManager().registerEvents(this, plugin);
-            debug("KitsGUI listener registered");
+            plugin.getProfiler().registerEvents(this);
+            debug(() -> "KitsGUI listener registered");
         }
     }
 
-    private void debug(String message) {
+    private void debug(Supplier<String> message) {
         if (plugin.getConfigManager().shouldLogGui()) {
-            plugin.getLogger().info("[DEBUG:GUI] " + message);
+            plugin.getLogger().info("[DEBUG:GUI] " + message.get());
         }
     }
 
     public void openGUI(Player player) {
-        debug(player.getName() + " opened Kit Selection GUI");
+        debug(() -> player.getName() + " opened Kit Selection GUI");
         List<String> kits = kitManager.getKitNames();
 
         // Calculate GUI size - 54 slots for a spacious feel
@@ -195,7 +196,7 @@ public class KitsGUI implements Listener {
 
         // Handle back button
         if (event.getSlot() == 49) {
-            debug(player.getName() + " clicked back button");
+            debug(() -> player.getName() + " clicked back button");
             player.closeInventory();
             Bukkit.getScheduler().runTaskLater(plugin, () -> {
                 EventGUI mainGUI = new EventGUI(plugin, eventManager);
@@ -223,11 +224,11 @@ public class KitsGUI implements Listener {
         }
 
         // Get kit name from clicked item (remove formatting)
-        String kitName = org.bukkit.ChatColor.stripColor(clicked.getItemMeta().getDisplayName());
         // Remove the check mark characters if they were stripped but left weirdness
-        kitName = kitName.replace("\u2713", "").trim();
+        String kitName = org.bukkit.ChatColor.stripColor(clicked.getItemMeta().getDisplayName())
+                .replace("\u2713", "").trim();
 
-        debug(player.getName() + " selected kit: " + kitName);
+        debug(() -> player.getName() + " selected kit: " + kitName);
 
         // Set selected kit
         kitManager.setSelectedKit(kitName);
@@ -0,0 +1,456 @@
+package me.oblueberrey.meowMcEvents.gui;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.managers.EventManager;
+import me.oblueberrey.meowMcEvents.managers.Profiler;
+import me.oblueberrey.meowMcEvents.managers.TeamManager;
+import me.oblueberrey.meowMcEvents.utils.ConfigManager;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.Sound;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityRegainHealthEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Paged spectator teleport menu - a shared live roster of the event.
+ *
+ * Head items are built once per event: the skin profile is taken from the joining player
+ * (completed asynchronously if it has no textures yet) and cached, so opening the menu
+ * never triggers profile lookups. All spectators share one inventory per page, laid out
+ * once at event start. Deaths, team moves and health changes mutate only the affected
+ * slot, so N spectators watching cost one update. Health patching only runs while
+ * someone has the menu open.
+ */
+public class SpectatorGUI implements Listener {
+
+    private static final String GREY = "&#AAAAAA";
+    private static final String YELLOW = "&#FFE566";
+
+    private static final String GUI_TITLE = "&#666666\uD83D\uDC41 " + YELLOW + "Spectate Player";
+
+    // 5 rows of heads, bottom row for navigation
+    private static final int HEADS_PER_PAGE = 45;
+    private static final int SLOT_PREVIOUS = 45;
+    private static final int SLOT_PAGE_INFO = 49;
+    private static final int SLOT_NEXT = 53;
+
+    // Lore layout: health is always line 1 so it can be patched without rebuilding the item
+    private static final int HEALTH_LORE_LINE = 1;
+
+    private static final long HEALTH_FLUSH_TICKS = 10L;
+
+    private final MeowMCEvents plugin;
+    private final EventManager eventManager;
+    private final TeamManager teamManager;
+
+    // Skin-resolved head per participant, built at join
+    private final Map<UUID, ItemStack> headCache = new ConcurrentHashMap<>();
+
+    // Shared page inventories and the roster they show (slots are fixed for the whole event)
+    private final List<Inventory> pages = new ArrayList<>();
+    private final List<UUID> roster = new ArrayList<>();
+    private final Map<UUID, Integer> rosterIndex = new HashMap<>();
+    private final Map<UUID, Integer> shownTeam = new HashMap<>();
+    private final Set<UUID> eliminated = new HashSet<>();
+
+    // Players whose health lore needs patching
+    private final Set<UUID> healthDirty = ConcurrentHashMap.newKeySet();
+    private BukkitTask healthTask;
+
+    // Spectators currently looking at any page
+    private final Set<UUID> viewers = new HashSet<>();
+
+    public SpectatorGUI(MeowMCEvents plugin, EventManager eventManager, TeamManager teamManager) {
+        this.plugin = plugin;
+        this.eventManager = eventManager;
+        this.teamManager = teamManager;
+    }
+
+    private void debug(Supplier<String> message) {
+        if (plugin.getConfigManager().shouldLogGui()) {
+            plugin.getLogger().info("[DEBUG:GUI] " + message.get());
+        }
+    }
+
+    /**
+     * Marks the shared pages' holder so clicks are recognised without comparing titles
+     */
+    public static class PageHolder implements InventoryHolder {
+        private final int page;
+        private Inventory inventory;
+
+        PageHolder(int page) {
+            this.page = page;
+        }
+
+        public int getPage() {
+            return page;
+        }
+
+        @Override
+        public Inventory getInventory() {
+            return inventory;
+        }
+    }
+
+    // ==================== Head Cache ====================
+
+    /**
+     * Build and cache a participant's head. Called when a player joins the event.
+     */
+    public void cacheHead(Player player) {
+        UUID uuid = player.getUniqueId();
+        if (headCache.containsKey(uuid)) return;
+
+        ItemStack head = new ItemStack(Material.PLAYER_HEAD);
+        PlayerProfile profile = player.getPlayerProfile();
+        applyProfile(head, profile);
+        headCache.put(uuid, head);
+
+        if (!profile.hasTextures()) {
+            // Resolve the skin off the main thread, then swap it into the cached item
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                boolean completed = profile.complete(true);
+                if (!completed) return;
+                Bukkit.getScheduler().runTask(plugin, () -> {
+                    ItemStack cached = headCache.get(uuid);
+                    if (cached == null) return;
+                    applyProfile(cached, profile);
+                    if (rosterIndex.containsKey(uuid) && !eliminated.contains(uuid)) {
+                        renderEntry(uuid);
+                    }
+                    debug(() -> "Resolved skin for " + profile.getName());
+                });
+            });
+        }
+    }
+
+    private void applyProfile(ItemStack head, PlayerProfile profile) {
+        ItemMeta meta = head.getItemMeta();
+        if (meta instanceof SkullMeta) {
+            ((SkullMeta) meta).setPlayerProfile(profile);
+            head.setItemMeta(meta);
+        }
+    }
+
+    /**
+     * Lay out the roster for a running event (alive players at start, sorted by name)
+     */
+    public void start() {
+        clearPages();
+
+        List<Player> alive = new ArrayList<>();
+        for (UUID uuid : eventManager.getAliveView()) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null && player.isOnline()) {
+                alive.add(player);
+            }
+        }
+        alive.sort(Comparator.comparing(Player::getName));
+
+        int pageCount = Math.max(1, (alive.size() + HEADS_PER_PAGE - 1) / HEADS_PER_PAGE);
+        for (int i = 0; i < pageCount; i++) {
+            PageHolder holder = new PageHolder(i);
+            String title = pageCount > 1 ? GUI_TITLE + " &#666666(" + (i + 1) + "/" + pageCount + ")" : GUI_TITLE;
+            holder.inventory = Bukkit.createInventory(holder, 54, ConfigManager.colorize(title));
+            if (i > 0) holder.inventory.setItem(SLOT_PREVIOUS, createNavItem("&#FFE566\u2190 Previous Page"));
+            if (i < pageCount - 1) holder.inventory.setItem(SLOT_NEXT, createNavItem("&#FFE566Next Page \u2192"));
+            holder.inventory.setItem(SLOT_PAGE_INFO, createNavItem(GREY + "Page " + YELLOW + (i + 1) + GREY + "/" + pageCount));
+            pages.add(holder.inventory);
+        }
+
+        for (int i = 0; i < alive.size(); i++) {
+            UUID uuid = alive.get(i).getUniqueId();
+            roster.add(uuid);
+            rosterIndex.put(uuid, i);
+            renderEntry(uuid);
+        }
+        debug(() -> "Spectator roster built: " + alive.size() + " players, " + pageCount + " pages");
+    }
+
+    /**
+     * Drop all cached items and pages (event over)
+     */
+    public void reset() {
+        clearPages();
+        headCache.clear();
+    }
+
+    private void clearPages() {
+        stopHealthTask();
+        for (Inventory page : pages) {
+            for (Player viewer : getViewers(page)) {
+                viewer.closeInventory();
+            }
+        }
+        viewers.clear();
+        pages.clear();
+        roster.clear();
+        rosterIndex.clear();
+        shownTeam.clear();
+        eliminated.clear();
+        healthDirty.clear();
+    }
+
+    private void stopHealthTask() {
+        if (healthTask != null) {
+            healthTask.cancel();
+            healthTask = null;
+        }
+    }
+
+    // ==================== Incremental Updates ====================
+
+    /**
+     * Player died or left - swap their slot for an eliminated marker
+     */
+    public void markEliminated(UUID uuid) {
+        Integer index = rosterIndex.get(uuid);
+        if (index == null || !eliminated.add(uuid)) return;
+        healthDirty.remove(uuid);
+        setSlot(index, createEliminatedEntry(uuid));
+    }
+
+    /**
+     * Re-render entries whose team changed (auto-balance moves)
+     */
+    public void refreshTeams() {
+        for (UUID uuid : roster) {
+            if (eliminated.contains(uuid)) continue;
+            Integer team = shownTeam.get(uuid);
+            if (team == null || team != teamManager.getTeam(uuid)) {
+                renderEntry(uuid);
+            }
+        }
+    }
+
+    private void renderEntry(UUID uuid) {
+        Player target = Bukkit.getPlayer(uuid);
+        Integer index = rosterIndex.get(uuid);
+        if (target == null || index == null) return;
+        shownTeam.put(uuid, teamManager.getTeam(uuid));
+        setSlot(index, createEntry(target));
+    }
+
+    private void setSlot(int index, ItemStack item) {
+        pages.get(index / HEADS_PER_PAGE).setItem(index % HEADS_PER_PAGE, item);
+    }
+
+    // ==================== Pages ====================
+
+    /**
+     * Open a page of the shared menu for a spectator
+     */
+    public void open(Player spectator, int page) {
+        if (pages.isEmpty() || eventManager.getAlivePlayerCount() == 0) {
+            spectator.sendMessage(ChatColor.RED + "No players alive to spectate!");
+            return;
+        }
+
+        page = Math.max(0, Math.min(page, pages.size() - 1));
+        spectator.openInventory(pages.get(page));
+        spectator.playSound(spectator.getLocation(), Sound.BLOCK_CHEST_OPEN, 0.5f, 1.2f);
+    }
+
+    /**
+     * Copy of the cached head with the name/team/health lore for this event
+     */
+    private ItemStack createEntry(Player target) {
+        ItemStack cached = headCache.get(target.getUniqueId());
+        if (cached == null) {
+            cacheHead(target);
+            cached = headCache.get(target.getUniqueId());
+        }
+        ItemStack entry = cached.clone();
+        ItemMeta meta = entry.getItemMeta();
+        if (meta == null) return entry;
+
+        int team = teamManager.getTeam(target);
+        String teamColor = team != -1 ? teamManager.getTeamColorCode(team) : ChatColor.WHITE.toString();
+        meta.setDisplayName(teamColor + target.getName());
+
+        List<String> lore = new ArrayList<>();
+        lore.add("");
+        lore.add(formatHealth(target));
+        if (team != -1) {
+            lore.add(ChatColor.GRAY + "Team: " + teamManager.getFormattedTeamName(team));
+        }
+        lore.add("");
+        lore.add(ChatColor.YELLOW + "Click to teleport!");
+        meta.setLore(lore);
+        entry.setItemMeta(meta);
+        return entry;
+    }
+
+    private String formatHealth(Player target) {
+        double health = target.getHealth();
+        double maxHealth = target.getMaxHealth();
+        int healthBars = (int) ((health / maxHealth) * 10);
+        StringBuilder healthBar = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            healthBar.append(i < healthBars ? ChatColor.RED : ChatColor.DARK_GRAY).append('|');
+        }
+        return ChatColor.GRAY + "Health: " + healthBar + ChatColor.WHITE + " " + String.format("%.1f", health);
+    }
+
+    private ItemStack createEliminatedEntry(UUID uuid) {
+        ItemStack item = new ItemStack(Material.SKELETON_SKULL);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            Player target = Bukkit.getPlayer(uuid);
+            String name = target != null ? target.getName() : Bukkit.getOfflinePlayer(uuid).getName();
+            meta.setDisplayName(ChatColor.DARK_GRAY + "" + ChatColor.STRIKETHROUGH + (name != null ? name : "?"));
+            meta.setLore(Arrays.asList("", ChatColor.RED + "Eliminated"));
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+
+    private ItemStack createNavItem(String name) {
+        ItemStack item = new ItemStack(Material.ARROW);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName(ConfigManager.colorize(name));
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+
+    private List<Player> getViewers(Inventory inventory) {
+        List<Player> viewers = new ArrayList<>();
+        inventory.getViewers().forEach(human -> {
+            if (human instanceof Player) viewers.add((Player) human);
+        });
+        return viewers;
+    }
+
+    // ==================== Health Patching ====================
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDamage(EntityDamageEvent event) {
+        if (event.getEntity() instanceof Player) {
+            markHealthDirty((Player) event.getEntity());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onRegain(EntityRegainHealthEvent event) {
+        if (event.getEntity() instanceof Player) {
+            markHealthDirty((Player) event.getEntity());
+        }
+    }
+
+    private void markHealthDirty(Player player) {
+        UUID uuid = player.getUniqueId();
+        if (rosterIndex.containsKey(uuid) && !eliminated.contains(uuid)) {
+            healthDirty.add(uuid);
+        }
+    }
+
+    /**
+     * Patch the health lore line of changed entries in place.
+     * Only scheduled while the menu has viewers; changes queue up until then.
+     */
+    private void flushHealth() {
+        if (healthDirty.isEmpty()) return;
+
+        for (UUID uuid : healthDirty) {
+            healthDirty.remove(uuid);
+            Integer index = rosterIndex.get(uuid);
+            Player target = Bukkit.getPlayer(uuid);
+            if (index == null || target == null) continue;
+
+            Inventory page = pages.get(index / HEADS_PER_PAGE);
+            int slot = index % HEADS_PER_PAGE;
+            ItemStack entry = page.getItem(slot);
+            if (entry == null) continue;
+
+            ItemMeta meta = entry.getItemMeta();
+            List<String> lore = meta != null ? meta.getLore() : null;
+            if (lore == null || lore.size() <= HEALTH_LORE_LINE) continue;
+
+            lore.set(HEALTH_LORE_LINE, formatHealth(target));
+            meta.setLore(lore);
+            entry.setItemMeta(meta);
+            page.setItem(slot, entry);
+        }
+    }
+
+    // ==================== Viewers ====================
+
+    // A cancelled open gets no close event, so only count opens that happen
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        if (!(event.getInventory().getHolder() instanceof PageHolder)) return;
+        boolean first = viewers.isEmpty();
+        viewers.add(event.getPlayer().getUniqueId());
+        if (first) {
+            // Catch up on changes made while nobody was watching
+            flushHealth();
+            healthTask = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task spectator-health", this::flushHealth), HEALTH_FLUSH_TICKS, HEALTH_FLUSH_TICKS);
+        }
+    }
+
+    @EventHandler
+    public void onInventoryClose(InventoryCloseEvent event) {
+        if (!(event.getInventory().getHolder() instanceof PageHolder)) return;
+        viewers.remove(event.getPlayer().getUniqueId());
+        if (viewers.isEmpty()) {
+            stopHealthTask();
+        }
+    }
+
+    // ==================== Clicks ====================
+
+    @EventHandler
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (!(event.getView().getTopInventory().getHolder() instanceof PageHolder)) return;
+        event.setCancelled(true);
+        if (!(event.getWhoClicked() instanceof Player)) return;
+
+        Player spectator = (Player) event.getWhoClicked();
+        PageHolder holder = (PageHolder) event.getView().getTopInventory().getHolder();
+        if (event.getClickedInventory() != event.getView().getTopInventory()) return;
+
+        int slot = event.getSlot();
+        if (slot == SLOT_PREVIOUS && holder.getPage() > 0) {
+            open(spectator, holder.getPage() - 1);
+            return;
+        }
+        if (slot == SLOT_NEXT && holder.getPage() < pages.size() - 1) {
+            open(spectator, holder.getPage() + 1);
+            return;
+        }
+        if (slot >= HEADS_PER_PAGE) return;
+
+        int index = holder.getPage() * HEADS_PER_PAGE + slot;
+        if (index >= roster.size()) return;
+
+        Player target = Bukkit.getPlayer(roster.get(index));
+        spectator.closeInventory();
+        if (target == null || !target.isOnline() || !eventManager.isPlayerInEvent(target)) {
+            spectator.sendMessage(ChatColor.RED + "Player is no longer alive!");
+            return;
+        }
+        plugin.getSpectatorCompassListener().teleportToPlayer(spectator, target);
+    }
+}
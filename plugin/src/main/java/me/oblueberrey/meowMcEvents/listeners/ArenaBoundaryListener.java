@@ -3,21 +3,29 @@ package me.oblueberrey.meowMcEvents.listeners;
 import me.oblueberrey.meowMcEvents.MeowMCEvents;
 import me.oblueberrey.meowMcEvents.managers.ArenaManager;
 import me.oblueberrey.meowMcEvents.managers.EventManager;
+import me.oblueberrey.meowMcEvents.managers.Profiler;
 import me.oblueberrey.meowMcEvents.utils.ConfigManager;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.UUID;
 
-public class ArenaBoundaryListener {
+/**
+ * Keeps participants inside the active arena.
+ * Leaving the arena shell is caught on movement (via PlayerMoveListener);
+ * the repeating task only applies the time-based damage zone near the edge.
+ */
+public class ArenaBoundaryListener implements MovementRule {
 
     private final MeowMCEvents plugin;
     private final EventManager eventManager;
     private final ArenaManager arenaManager;
     private BukkitTask boundaryTask;
+    private volatile ArenaManager.Arena enforcedArena; // Non-null while enforcement is active
 
     public ArenaBoundaryListener(MeowMCEvents plugin, EventManager eventManager, ArenaManager arenaManager) {
         this.plugin = plugin;
@@ -31,42 +39,34 @@ public class ArenaBoundaryListener {
         ArenaManager.Arena activeArena = arenaManager.getActiveArena();
         if (activeArena == null || !activeArena.isComplete()) return;
 
+        enforcedArena = activeArena;
+
         int interval = plugin.getConfigManager().getArenaBoundaryCheckInterval();
 
-        boundaryTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        boundaryTask = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task arena-boundary", () -> {
             if (!eventManager.isEventRunning()) {
                 stopBoundaryCheck();
                 return;
             }
 
-            ArenaManager.Arena arena = arenaManager.getActiveArena();
-            if (arena == null || !arena.isComplete()) return;
+            ArenaManager.Arena arena = enforcedArena;
+            if (arena == null) return;
 
             int damageZone = plugin.getConfigManager().getArenaDamageZoneSize();
             double maxDamage = plugin.getConfigManager().getArenaDamageZoneMaxDamage();
 
-            // Check alive players - apply damage zone + boundary handling
+            // Check alive players - damage zone, plus a fallback for positions reached
+            // without a move event (teleports, pearls)
             for (UUID uuid : eventManager.getAlivePlayers()) {
                 Player player = Bukkit.getPlayer(uuid);
                 if (player == null || !player.isOnline()) continue;
 
-                if (!arena.contains(player.getLocation())) {
-                    // Outside arena - check how far
-                    int distanceOutside = getDistanceOutsideArena(arena, player.getLocation());
-
-                    if (distanceOutside >= 30) {
-                        // Far outside (30+ blocks) - kill them
-                        if (plugin.getKillFeedManager() != null) {
-                            plugin.getKillFeedManager().broadcastBorderDeath(player);
-                        }
-                        player.setHealth(0);
-                    } else {
-                        // Just outside - teleport back
-                        teleportBackToArena(player);
-                    }
+                Location loc = player.getLocation();
+                if (!arena.contains(loc)) {
+                    handleOutside(player, arena, loc, true);
                 } else if (damageZone > 0) {
                     // Inside arena - check if in damage zone
-                    int distFromEdge = arena.getDistanceFromEdge(player.getLocation());
+                    int distFromEdge = arena.getDistanceFromEdge(loc);
                     if (distFromEdge < damageZone) {
                         // Calculate damage: closer to edge = more damage
                         // distFromEdge=0 means at the very edge, distFromEdge=damageZone-1 means just entered zone
@@ -80,25 +80,59 @@ public class ArenaBoundaryListener {
 
                         // Warning sound at low intensity, louder near edge
                         if (intensity > 0.5) {
-                            player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS,
+                            player.playSound(loc, Sound.BLOCK_NOTE_BLOCK_BASS,
                                     (float) intensity, 0.5f);
                         }
                     }
                 }
             }
+        }), interval, interval);
+    }
 
-            // Check spectators - only teleport, no damage
-            for (UUID uuid : eventManager.getSpectators()) {
-                Player player = Bukkit.getPlayer(uuid);
-                if (player == null || !player.isOnline()) continue;
-                if (!arena.contains(player.getLocation())) {
-                    teleportBackToArena(player);
-                }
+    // ==================== Movement Rule ====================
+
+    @Override
+    public int getAxes() {
+        return AXIS_ALL;
+    }
+
+    @Override
+    public int getRoles() {
+        return EventManager.ROLE_ALIVE | EventManager.ROLE_SPECTATOR;
+    }
+
+    /**
+     * Arena shell check - runs as soon as an alive player or spectator crosses a block boundary
+     */
+    @Override
+    public boolean onMove(PlayerMoveEvent event, Player player, int roles) {
+        ArenaManager.Arena arena = enforcedArena;
+        if (arena == null) return false;
+
+        Location to = event.getTo();
+        if (arena.contains(to)) return false;
+
+        handleOutside(player, arena, to, (roles & EventManager.ROLE_ALIVE) != 0);
+        return true;
+    }
+
+    /**
+     * Alive players far outside (30+ blocks) are killed, everyone else is sent back.
+     * Spectators never take damage.
+     */
+    private void handleOutside(Player player, ArenaManager.Arena arena, Location loc, boolean alive) {
+        if (alive && arena.getDistanceOutside(loc) >= 30) {
+            if (plugin.getKillFeedManager() != null) {
+                plugin.getKillFeedManager().broadcastBorderDeath(player);
             }
-        }, interval, interval);
+            player.setHealth(0);
+        } else {
+            teleportBackToArena(player);
+        }
     }
 
     public void stopBoundaryCheck() {
+        enforcedArena = null;
         if (boundaryTask != null) {
             boundaryTask.cancel();
             boundaryTask = null;
@@ -106,7 +140,7 @@ public class ArenaBoundaryListener {
     }
 
     public boolean isActive() {
-        return boundaryTask != null;
+        return enforcedArena != null;
     }
 
     private void teleportBackToArena(Player player) {
@@ -116,35 +150,4 @@ public class ArenaBoundaryListener {
             player.sendMessage(ConfigManager.colorize("&#AAAAAA&#FF5555You left the arena boundary."));
         }
     }
-
-    /**
-     * Calculate how far outside the arena a location is (in blocks).
-     * Returns 0 if inside or on edge.
-     */
-    private int getDistanceOutsideArena(ArenaManager.Arena arena, Location loc) {
-        if (arena == null || !arena.isComplete() || loc == null) return 0;
-
-        Location pos1 = arena.getPos1();
-        Location pos2 = arena.getPos2();
-
-        int minX = Math.min(pos1.getBlockX(), pos2.getBlockX());
-        int maxX = Math.max(pos1.getBlockX(), pos2.getBlockX());
-        int minZ = Math.min(pos1.getBlockZ(), pos2.getBlockZ());
-        int maxZ = Math.max(pos1.getBlockZ(), pos2.getBlockZ());
-
-        int x = loc.getBlockX();
-        int z = loc.getBlockZ();
-
-        int distX = 0;
-        int distZ = 0;
-
-        if (x < minX) distX = minX - x;
-        else if (x > maxX) distX = x - maxX;
-
-        if (z < minZ) distZ = minZ - z;
-        else if (z > maxZ) distZ = z - maxZ;
-
-        // Return the maximum distance on either axis
-        return Math.max(distX, distZ);
-    }
 }
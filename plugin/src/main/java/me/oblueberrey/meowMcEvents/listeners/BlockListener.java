@@ -13,6 +13,8 @@ import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.player.PlayerBucketEmptyEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 
+import java.util.function.Supplier;
+
 public class BlockListener implements Listener {
 
     private final EventManager eventManager;
@@ -21,10 +23,10 @@ public class BlockListener implements Listener {
         this.eventManager = eventManager;
     }
 
-    private void debug(String message) {
+    private void debug(Supplier<String> message) {
         MeowMCEvents plugin = MeowMCEvents.getInstance();
         if (plugin != null && plugin.getConfigManager().isDebugEnabled()) {
-            plugin.getLogger().info("[DEBUG:BLOCK] " + message);
+            plugin.getLogger().info("[DEBUG:BLOCK] " + message.get());
         }
     }
 
@@ -58,7 +60,7 @@ public class BlockListener implements Listener {
         if (!eventManager.isBuildingAllowed()) {
             event.setCancelled(true);
             player.sendMessage(ConfigManager.colorize("&#AAAAAA&#FF5555building disabled"));
-            debug(player.getName() + " tried to place block but building is disabled");
+            debug(() -> player.getName() + " tried to place block but building is disabled");
         }
     }
 
@@ -92,7 +94,7 @@ public class BlockListener implements Listener {
         if (!eventManager.isBreakingAllowed()) {
             event.setCancelled(true);
             player.sendMessage(ConfigManager.colorize("&#AAAAAA&#FF5555breaking disabled"));
-            debug(player.getName() + " tried to break block but breaking is disabled");
+            debug(() -> player.getName() + " tried to break block but breaking is disabled");
         }
     }
 
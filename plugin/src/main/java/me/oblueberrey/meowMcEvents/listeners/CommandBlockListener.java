@@ -10,6 +10,8 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 
+import java.util.function.Supplier;
+
 public class CommandBlockListener implements Listener {
 
     private final MeowMCEvents plugin;
@@ -20,9 +22,9 @@ public class CommandBlockListener implements Listener {
         this.eventManager = eventManager;
     }
 
-    private void debug(String message) {
+    private void debug(Supplier<String> message) {
         if (plugin.getConfigManager().isDebugEnabled()) {
-            plugin.getLogger().info("[DEBUG:CMD] " + message);
+            plugin.getLogger().info("[DEBUG:CMD] " + message.get());
         }
     }
 
@@ -51,7 +53,7 @@ public class CommandBlockListener implements Listener {
         // Block /spawn for ALL event participants (players, spectators, waiting) - no exceptions
         if (command.startsWith("/spawn")) {
             event.setCancelled(true);
-            debug(player.getName() + " tried to use /spawn during event - blocked");
+            debug(() -> player.getName() + " tried to use /spawn during event - blocked");
             player.sendMessage(ChatColor.translateAlternateColorCodes('&',
                     plugin.getConfigManager().getMessage("command-blocked")));
             return;
@@ -62,7 +64,7 @@ public class CommandBlockListener implements Listener {
         for (String blocked : blacklisted) {
             if (command.startsWith("/" + blocked.toLowerCase())) {
                 event.setCancelled(true);
-                debug(player.getName() + " tried blacklisted command: " + command + " - blocked");
+                debug(() -> player.getName() + " tried blacklisted command: " + command + " - blocked");
                 player.sendMessage(ChatColor.translateAlternateColorCodes('&',
                         plugin.getConfigManager().getMessage("command-blocked")));
                 return;
@@ -74,27 +76,27 @@ public class CommandBlockListener implements Listener {
         for (String allowed : whitelisted) {
             if (command.startsWith("/" + allowed.toLowerCase())) {
                 event.setCancelled(false);
-                debug(player.getName() + " used whitelisted command: " + command);
+                debug(() -> player.getName() + " used whitelisted command: " + command);
                 return;
             }
         }
 
         // Allow commands for OPs
         if (player.isOp()) {
-            debug(player.getName() + " (OP) used command: " + command + " - allowed");
+            debug(() -> player.getName() + " (OP) used command: " + command + " - allowed");
             return;
         }
 
         // Allow commands for admins with permission
         if (player.hasPermission("meowevent.admin")) {
-            debug(player.getName() + " (admin) used command: " + command + " - allowed");
+            debug(() -> player.getName() + " (admin) used command: " + command + " - allowed");
             return;
         }
 
         // Block all other commands for regular players
         event.setCancelled(true);
         String state = inActiveEvent ? "event" : (isSpectator ? "spectating" : "waiting area");
-        debug(player.getName() + " tried to use command: " + command + " in " + state + " - blocked");
+        debug(() -> player.getName() + " tried to use command: " + command + " in " + state + " - blocked");
         player.sendMessage(ChatColor.translateAlternateColorCodes('&',
                 plugin.getConfigManager().getMessage("command-blocked")));
         player.sendMessage(ChatColor.translateAlternateColorCodes('&',
@@ -3,6 +3,7 @@ package me.oblueberrey.meowMcEvents.listeners;
 import me.oblueberrey.meowMcEvents.MeowMCEvents;
 import me.oblueberrey.meowMcEvents.managers.DamageTracker;
 import me.oblueberrey.meowMcEvents.managers.EventManager;
+import me.oblueberrey.meowMcEvents.managers.EventStatsManager;
 import org.bukkit.entity.*;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -147,6 +148,10 @@ public class DamageAttributionListener implements Listener {
         // Record the damage if we found an attacker
         if (attacker != null && eventManager.isPlayerInEvent(attacker) && !attacker.equals(victim)) {
             damageTracker.recordDamage(victim, attacker, cause);
+            EventStatsManager statsManager = plugin.getEventStatsManager();
+            if (statsManager != null) {
+                statsManager.recordDamage(attacker.getUniqueId(), event.getFinalDamage());
+            }
         }
     }
 
@@ -15,6 +15,9 @@ import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.projectiles.ProjectileSource;
 
+import java.util.Locale;
+import java.util.function.Supplier;
+
 /**
  * Intercepts fatal damage to prevent actual player death.
  * Instead of dying, players are immediately converted to spectators.
@@ -37,7 +40,7 @@ public class FatalDamageListener implements Listener {
         this.killStreakManager = killStreakManager;
     }
 
-    private void debug(String message) {
+    private void debug(Supplier<String> message) {
         LogManager log = plugin.getLogManager();
         if (log != null) {
             log.debug(LogManager.Category.SPECTATORS, message);
@@ -69,7 +72,7 @@ public class FatalDamageListener implements Listener {
 
         // This would kill the player - cancel and convert to spectator
         event.setCancelled(true);
-        debug("Intercepted fatal damage for " + victim.getName() + " (damage: " + finalDamage + ", health: " + currentHealth + ")");
+        debug(() -> "Intercepted fatal damage for " + victim.getName() + " (damage: " + finalDamage + ", health: " + currentHealth + ")");
 
         // Try to get killer from the damage event
         Player killer = getKillerFromEvent(event, victim);
@@ -78,10 +81,11 @@ public class FatalDamageListener implements Listener {
         if (killer == null) {
             DamageTracker damageTracker = plugin.getDamageTracker();
             if (damageTracker != null) {
-                killer = damageTracker.getLastAttacker(victim);
-                if (killer != null) {
+                Player attacker = damageTracker.getLastAttacker(victim);
+                killer = attacker;
+                if (attacker != null) {
                     String cause = damageTracker.getLastDamageCause(victim);
-                    debug("Killer attributed via combat tag: " + killer.getName() + " (" + cause + ")");
+                    debug(() -> "Killer attributed via combat tag: " + attacker.getName() + " (" + cause + ")");
                 }
             }
         }
@@ -93,7 +97,7 @@ public class FatalDamageListener implements Listener {
         }
 
         // Use EventManager's eliminatePlayer for centralized elimination logic
-        eventManager.eliminatePlayer(victim, killer);
+        eventManager.eliminatePlayer(victim, killer, event.getCause().name().toLowerCase(Locale.ROOT));
     }
 
     /**
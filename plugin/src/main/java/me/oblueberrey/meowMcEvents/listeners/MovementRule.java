@@ -0,0 +1,34 @@
+package me.oblueberrey.meowMcEvents.listeners;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+/**
+ * A movement check dispatched by {@link PlayerMoveListener}.
+ * Rules declare which block axes and which event roles they care about,
+ * so the shared listener can skip them without calling into the rule.
+ */
+public interface MovementRule {
+
+    int AXIS_X = 1;
+    int AXIS_Y = 1 << 1;
+    int AXIS_Z = 1 << 2;
+    int AXIS_XZ = AXIS_X | AXIS_Z;
+    int AXIS_ALL = AXIS_X | AXIS_Y | AXIS_Z;
+
+    /**
+     * Bitmask of AXIS_* values - the rule runs when the block coordinate changes on any of them
+     */
+    int getAxes();
+
+    /**
+     * Bitmask of EventManager.ROLE_* values the rule applies to
+     */
+    int getRoles();
+
+    /**
+     * Handle a block-changing move.
+     * @return true if the rule acted on the move (cancelled/teleported) and later rules should be skipped
+     */
+    boolean onMove(PlayerMoveEvent event, Player player, int roles);
+}
@@ -3,12 +3,15 @@ package me.oblueberrey.meowMcEvents.listeners;
 import me.oblueberrey.meowMcEvents.MeowMCEvents;
 import me.oblueberrey.meowMcEvents.managers.EventManager;
 import me.oblueberrey.meowMcEvents.managers.KillStreakManager;
+import me.oblueberrey.meowMcEvents.managers.PluginMetrics;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
 
+import java.util.function.Supplier;
+
 /**
  * Fallback death listener for edge cases where FatalDamageListener doesn't catch the death.
  * This should rarely trigger since FatalDamageListener handles most deaths by canceling fatal damage.
@@ -29,9 +32,9 @@ public class PlayerDeathListener implements Listener {
         this.killStreakManager = killStreakManager;
     }
 
-    private void debug(String message) {
+    private void debug(Supplier<String> message) {
         if (plugin.getConfigManager().shouldLogPlayers()) {
-            plugin.getLogger().info("[DEBUG:DEATH] " + message);
+            plugin.getLogger().info("[DEBUG:DEATH] " + message.get());
         }
     }
 
@@ -50,13 +53,13 @@ public class PlayerDeathListener implements Listener {
 
         // If player is already a spectator, ignore (they shouldn't die)
         if (eventManager.isSpectator(victim)) {
-            debug(victim.getName() + " is spectator and somehow died - clearing drops");
+            debug(() -> victim.getName() + " is spectator and somehow died - clearing drops");
             event.getDrops().clear();
             event.setDroppedExp(0);
             return;
         }
 
-        debug(victim.getName() + " died in event (fallback handler) - this shouldn't normally happen");
+        debug(() -> victim.getName() + " died in event (fallback handler) - this shouldn't normally happen");
 
         // Clear drops based on config (prevents item duplication exploit)
         if (plugin.getConfigManager().isClearDropsOnDeath()) {
@@ -74,7 +77,9 @@ public class PlayerDeathListener implements Listener {
         if (!eventManager.isPendingRespawn(victim)) {
             eventManager.markPlayerDead(victim);
             eventManager.markPendingRespawn(victim);
-            debug(victim.getName() + " marked for pending respawn (fallback path)");
+            PluginMetrics metrics = plugin.getMetrics();
+            if (metrics != null) metrics.elimination("death");
+            debug(() -> victim.getName() + " marked for pending respawn (fallback path)");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package me.oblueberrey.meowMcEvents.listeners;
+
+import me.oblueberrey.meowMcEvents.managers.PlayerStatsStore;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+
+/**
+ * Warms the persistent stats cache when a player joins
+ */
+public class PlayerJoinListener implements Listener {
+
+    private final PlayerStatsStore statsStore;
+
+    public PlayerJoinListener(PlayerStatsStore statsStore) {
+        this.statsStore = statsStore;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        statsStore.load(player.getUniqueId(), player.getName());
+    }
+}
@@ -0,0 +1,94 @@
+package me.oblueberrey.meowMcEvents.listeners;
+
+import me.oblueberrey.meowMcEvents.managers.EventManager;
+import me.oblueberrey.meowMcEvents.managers.SpatialIndex;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.Arrays;
+
+/**
+ * Single PlayerMoveEvent handler shared by all movement checks.
+ *
+ * Moves that stay inside the same block are dropped first, then non-participants
+ * are rejected with one role lookup. Only the rules whose axes and roles match
+ * the move are called. Alive players' horizontal block changes also feed the
+ * EventManager's SpatialIndex.
+ */
+public class PlayerMoveListener implements Listener {
+
+    private final EventManager eventManager;
+
+    // Copy-on-write array - rules are registered once at startup, read on every move
+    private volatile MovementRule[] rules = new MovementRule[0];
+
+    public PlayerMoveListener(EventManager eventManager) {
+        this.eventManager = eventManager;
+    }
+
+    /**
+     * Register a movement rule. Rules run in registration order.
+     */
+    public synchronized void registerRule(MovementRule rule) {
+        MovementRule[] updated = Arrays.copyOf(rules, rules.length + 1);
+        updated[rules.length] = rule;
+        rules = updated;
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+
+        // Head rotation and sub-block movement never matter to any rule
+        int axes = 0;
+        if (from.getBlockX() != to.getBlockX()) axes |= MovementRule.AXIS_X;
+        if (from.getBlockY() != to.getBlockY()) axes |= MovementRule.AXIS_Y;
+        if (from.getBlockZ() != to.getBlockZ()) axes |= MovementRule.AXIS_Z;
+        if (axes == 0) {
+            return;
+        }
+
+        Player player = event.getPlayer();
+        int roles = eventManager.getRoleFlags(player.getUniqueId());
+        if (roles == 0) {
+            return;
+        }
+
+        for (MovementRule rule : rules) {
+            if ((rule.getAxes() & axes) == 0 || (rule.getRoles() & roles) == 0) {
+                continue;
+            }
+            if (rule.onMove(event, player, roles)) {
+                return;
+            }
+        }
+
+        if ((roles & EventManager.ROLE_ALIVE) != 0 && (axes & MovementRule.AXIS_XZ) != 0) {
+            indexPosition(player, to);
+        }
+    }
+
+    /**
+     * Teleports don't fire PlayerMoveEvent - keep the spatial index in sync for alive players
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        Player player = event.getPlayer();
+        if ((eventManager.getRoleFlags(player.getUniqueId()) & EventManager.ROLE_ALIVE) == 0) {
+            return;
+        }
+        indexPosition(player, event.getTo());
+    }
+
+    private void indexPosition(Player player, Location to) {
+        if (to == null || to.getWorld() == null) return;
+        SpatialIndex index = eventManager.getSpatialIndex();
+        index.update(player.getUniqueId(), to.getWorld().getUID(), to.getX(), to.getY(), to.getZ());
+    }
+}
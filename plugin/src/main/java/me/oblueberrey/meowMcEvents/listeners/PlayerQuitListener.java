@@ -10,6 +10,8 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
 
+import java.util.function.Supplier;
+
 public class PlayerQuitListener implements Listener {
 
     private final EventManager eventManager;
@@ -20,11 +22,11 @@ public class PlayerQuitListener implements Listener {
         this.teamManager = teamManager;
     }
 
-    private void debug(String message) {
+    private void debug(Supplier<String> message) {
         MeowMCEvents plugin = MeowMCEvents.getInstance();
         if (plugin == null) return;
         if (plugin.getConfigManager().shouldLogPlayers()) {
-            plugin.getLogger().info("[DEBUG:QUIT] " + message);
+            plugin.getLogger().info("[DEBUG:QUIT] " + message.get());
         }
     }
 
@@ -46,10 +48,20 @@ public class PlayerQuitListener implements Listener {
             plugin.getDamageTracker().clearPlayer(player.getUniqueId());
         }
 
+        // Drop cached persistent stats
+        if (plugin != null && plugin.getPlayerStatsStore() != null) {
+            plugin.getPlayerStatsStore().unload(player.getUniqueId());
+        }
+
+        // Leave party (leadership passes on)
+        if (plugin != null && plugin.getPartyManager() != null) {
+            plugin.getPartyManager().leave(player.getUniqueId());
+        }
+
         // Check if player is a spectator - just remove them silently
         if (eventManager.isSpectator(player)) {
             eventManager.removeSpectator(player);
-            debug(player.getName() + " (spectator) disconnected and removed");
+            debug(() -> player.getName() + " (spectator) disconnected and removed");
             return;
         }
 
@@ -58,7 +70,7 @@ public class PlayerQuitListener implements Listener {
             return;
         }
 
-        debug(player.getName() + " disconnected while in event");
+        debug(() -> player.getName() + " disconnected while in event");
 
         // SECURITY: Clear inventory immediately to prevent item duplication exploit
         // Items could be picked up by others or saved to player data otherwise
@@ -70,11 +82,11 @@ public class PlayerQuitListener implements Listener {
 
         // Remove player from event
         eventManager.removePlayer(player);
-        debug(player.getName() + " removed from event due to disconnect");
+        debug(() -> player.getName() + " removed from event due to disconnect");
 
         // Check for winner after disconnect
         if (eventManager.isEventRunning()) {
-            debug("Checking for winner after " + player.getName() + " disconnect");
+            debug(() -> "Checking for winner after " + player.getName() + " disconnect");
             eventManager.checkForWinner();
 
             // Trigger auto-balance after player leaves (with slight delay)
@@ -30,7 +30,7 @@ public class PlayerRespawnListener implements Listener {
 
         // Check if this player died during an event and is pending respawn
         if (eventManager.isPendingRespawn(player)) {
-            if (log != null) log.info(LogManager.Category.SPECTATORS, "Player " + player.getName() + " respawning after event death - converting to spectator");
+            if (log != null) log.info(LogManager.Category.SPECTATORS, "Player {} respawning after event death - converting to spectator", player.getName());
 
             // Clear the pending respawn flag FIRST to prevent double processing
             eventManager.clearPendingRespawn(player);
@@ -44,11 +44,11 @@ public class PlayerRespawnListener implements Listener {
             
             if (eventWasRunning && eventSpawn != null && eventSpawn.getWorld() != null) {
                 event.setRespawnLocation(eventSpawn);
-                if (log != null) log.debug(LogManager.Category.SPECTATORS, "Set respawn location to event spawn for " + player.getName());
+                if (log != null) log.debug(LogManager.Category.SPECTATORS, "Set respawn location to event spawn for {}", player.getName());
             } else if (playerSpawn != null && playerSpawn.getWorld() != null) {
                 // Event ended or no event spawn - send to player spawn instead
                 event.setRespawnLocation(playerSpawn);
-                if (log != null) log.debug(LogManager.Category.SPECTATORS, "Event not running, set respawn to player spawn for " + player.getName());
+                if (log != null) log.debug(LogManager.Category.SPECTATORS, "Event not running, set respawn to player spawn for {}", player.getName());
             } else {
                 if (log != null) log.error(LogManager.Category.ERRORS, "Both spawns are NULL - Cannot set respawn location for " + player.getName());
             }
@@ -56,19 +56,19 @@ public class PlayerRespawnListener implements Listener {
             // Turn into spectator on next tick (after respawn completes)
             Bukkit.getScheduler().runTask(plugin, () -> {
                 if (!player.isOnline()) {
-                    if (log != null) log.warn(LogManager.Category.SPECTATORS, "Player " + player.getName() + " went offline before spectator conversion");
+                    if (log != null) log.warn(LogManager.Category.SPECTATORS, "Player {} went offline before spectator conversion", player.getName());
                     return;
                 }
 
                 // Check if player is already a spectator (prevent double conversion)
                 if (eventManager.isSpectator(player)) {
-                    if (log != null) log.debug(LogManager.Category.SPECTATORS, "Player " + player.getName() + " is already a spectator - skipping conversion");
+                    if (log != null) log.debug(LogManager.Category.SPECTATORS, "Player {} is already a spectator - skipping conversion", player.getName());
                     return;
                 }
 
                 // If event ended between death and respawn, reset player state properly
                 if (!eventManager.isEventRunning()) {
-                    if (log != null) log.warn(LogManager.Category.SPECTATORS, "Event ended before " + player.getName() + " could become spectator - resetting state");
+                    if (log != null) log.warn(LogManager.Category.SPECTATORS, "Event ended before {} could become spectator - resetting state", player.getName());
                     
                     // Reset player to clean state
                     player.setGameMode(org.bukkit.GameMode.SURVIVAL);
@@ -91,13 +91,13 @@ public class PlayerRespawnListener implements Listener {
                 try {
                     // Add as spectator directly (don't use command since it checks if already spectator)
                     eventManager.addSpectator(player);
-                    if (log != null) log.info(LogManager.Category.SPECTATORS, "Added " + player.getName() + " as spectator successfully");
+                    if (log != null) log.info(LogManager.Category.SPECTATORS, "Added {} as spectator successfully", player.getName());
 
                     // Teleport to event spawn
                     Location spawn = plugin.getConfigManager().getSpawnLocation();
                     if (spawn != null && spawn.getWorld() != null) {
                         player.teleport(spawn);
-                        if (log != null) log.debug(LogManager.Category.SPECTATORS, "Teleported " + player.getName() + " to event spawn");
+                        if (log != null) log.debug(LogManager.Category.SPECTATORS, "Teleported {} to event spawn", player.getName());
                     } else {
                         if (log != null) log.error(LogManager.Category.ERRORS, "FAILED to teleport " + player.getName() + " - event spawn is null");
                     }
@@ -149,15 +149,15 @@ public class PlayerRespawnListener implements Listener {
         if ("SPECTATOR".equalsIgnoreCase(gamemodeConfig)) {
             if (player.getGameMode() != org.bukkit.GameMode.SPECTATOR) {
                 player.setGameMode(org.bukkit.GameMode.SPECTATOR);
-                if (log != null) log.debug(LogManager.Category.SPECTATORS, 
-                    "Check " + checkNum + ": Fixed gamemode for " + player.getName());
+                if (log != null) log.debug(LogManager.Category.SPECTATORS,
+                    "Check {}: Fixed gamemode for {}", checkNum, player.getName());
             }
         } else {
             // Adventure mode with flying
             if (player.getGameMode() != org.bukkit.GameMode.ADVENTURE) {
                 player.setGameMode(org.bukkit.GameMode.ADVENTURE);
-                if (log != null) log.debug(LogManager.Category.SPECTATORS, 
-                    "Check " + checkNum + ": Fixed gamemode to ADVENTURE for " + player.getName());
+                if (log != null) log.debug(LogManager.Category.SPECTATORS,
+                    "Check {}: Fixed gamemode to ADVENTURE for {}", checkNum, player.getName());
             }
             if (!player.getAllowFlight()) {
                 player.setAllowFlight(true);
@@ -172,13 +172,13 @@ public class PlayerRespawnListener implements Listener {
             
             if (player.getInventory().getItem(compassSlot) == null) {
                 player.getInventory().setItem(compassSlot, SpectatorCompassListener.createSpectatorCompass());
-                if (log != null) log.debug(LogManager.Category.SPECTATORS, 
-                    "Check " + checkNum + ": Restored compass for " + player.getName());
+                if (log != null) log.debug(LogManager.Category.SPECTATORS,
+                    "Check {}: Restored compass for {}", checkNum, player.getName());
             }
             if (player.getInventory().getItem(leaveSlot) == null) {
                 player.getInventory().setItem(leaveSlot, SpectatorCompassListener.createLeaveDye());
-                if (log != null) log.debug(LogManager.Category.SPECTATORS, 
-                    "Check " + checkNum + ": Restored leave dye for " + player.getName());
+                if (log != null) log.debug(LogManager.Category.SPECTATORS,
+                    "Check {}: Restored leave dye for {}", checkNum, player.getName());
             }
         }
         
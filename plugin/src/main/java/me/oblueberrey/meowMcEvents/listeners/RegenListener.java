@@ -7,6 +7,8 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityRegainHealthEvent;
 
+import java.util.function.Supplier;
+
 public class RegenListener implements Listener {
 
     private final EventManager eventManager;
@@ -15,10 +17,14 @@ public class RegenListener implements Listener {
         this.eventManager = eventManager;
     }
 
-    private void debug(String message) {
+    private boolean isDebugging() {
         MeowMCEvents plugin = MeowMCEvents.getInstance();
-        if (plugin != null && plugin.getConfigManager().isDebugEnabled()) {
-            plugin.getLogger().info("[DEBUG:REGEN] " + message);
+        return plugin != null && plugin.getConfigManager().isDebugEnabled();
+    }
+
+    private void debug(Supplier<String> message) {
+        if (isDebugging()) {
+            MeowMCEvents.getInstance().getLogger().info("[DEBUG:REGEN] " + message.get());
         }
     }
 
@@ -49,7 +55,9 @@ public class RegenListener implements Listener {
             // If natural regen is not allowed, cancel it
             if (!eventManager.isNaturalRegenAllowed()) {
                 event.setCancelled(true);
-                debug(player.getName() + " natural regen blocked (reason: " + reason + ")");
+                if (isDebugging()) {
+                    debug(() -> player.getName() + " natural regen blocked (reason: " + reason + ")");
+                }
             }
         }
     }
@@ -1,6 +1,7 @@
 package me.oblueberrey.meowMcEvents.listeners;
 
 import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.gui.SpectatorGUI;
 import me.oblueberrey.meowMcEvents.managers.EventManager;
 import me.oblueberrey.meowMcEvents.managers.TeamManager;
 import me.oblueberrey.meowMcEvents.utils.ConfigManager;
@@ -24,10 +25,8 @@ import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerInteractAtEntityEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerSwapHandItemsEvent;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.inventory.meta.SkullMeta;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -46,7 +45,6 @@ public class SpectatorCompassListener implements Listener {
     private static final String GREEN = "&#55FF55";
     private static final String AQUA = "&#55FFFF";
 
-    private static final String GUI_TITLE = ConfigManager.colorize("&#666666\uD83D\uDC41 " + YELLOW + "Spectate Player");
     private static final String COMPASS_NAME = ConfigManager.colorize("&#666666\uD83E\uDDED " + YELLOW + "Player Tracker");
     private static final String LEAVE_DYE_NAME = ConfigManager.colorize("&#666666\u2716 " + RED + "Leave Event");
 
@@ -150,10 +148,8 @@ public class SpectatorCompassListener implements Listener {
 
         // Check if spectator - lock their inventory
         if (eventManager.isSpectator(player)) {
-            // Allow closing the spectator GUI
-            String title = event.getView().getTitle();
-            if (title.equals(GUI_TITLE)) {
-                // Allow clicking in spectator GUI to teleport
+            // Spectator menu clicks are handled by SpectatorGUI
+            if (event.getView().getTopInventory().getHolder() instanceof SpectatorGUI.PageHolder) {
                 return;
             }
             // Block all other inventory interactions
@@ -273,107 +269,10 @@ public class SpectatorCompassListener implements Listener {
     }
 
     /**
-     * Open the spectator teleport GUI
+     * Open the spectator teleport GUI (shared, paged menu)
      */
     private void openSpectatorGUI(Player spectator) {
-        List<Player> alivePlayers = getAlivePlayers();
-
-        if (alivePlayers.isEmpty()) {
-            spectator.sendMessage(ChatColor.RED + "No players alive to spectate!");
-            return;
-        }
-
-        int size = Math.min(54, ((alivePlayers.size() + 8) / 9) * 9);
-        if (size < 9) size = 9;
-
-        Inventory gui = Bukkit.createInventory(null, size, GUI_TITLE);
-
-        for (int i = 0; i < alivePlayers.size() && i < 54; i++) {
-            Player target = alivePlayers.get(i);
-            gui.setItem(i, createPlayerHead(target));
-        }
-
-        spectator.openInventory(gui);
-        spectator.playSound(spectator.getLocation(), Sound.BLOCK_CHEST_OPEN, 0.5f, 1.2f);
-    }
-
-    /**
-     * Create a player head item for the GUI
-     */
-    private ItemStack createPlayerHead(Player target) {
-        ItemStack skull = new ItemStack(Material.PLAYER_HEAD);
-        SkullMeta meta = (SkullMeta) skull.getItemMeta();
-
-        if (meta != null) {
-            meta.setOwningPlayer(target);
-
-            // Color name based on team
-            int team = teamManager.getTeam(target);
-            ChatColor teamColor = team != -1 ? teamManager.getTeamColor(team) : ChatColor.WHITE;
-            meta.setDisplayName(teamColor + target.getName());
-
-            List<String> lore = new ArrayList<>();
-            lore.add("");
-
-            // Show team info if in team mode
-            if (team != -1) {
-                lore.add(ChatColor.GRAY + "Team: " + teamColor + "Team " + team);
-            }
-
-            // Show health
-            double health = target.getHealth();
-            double maxHealth = target.getMaxHealth();
-            int healthBars = (int) ((health / maxHealth) * 10);
-            StringBuilder healthBar = new StringBuilder();
-            for (int i = 0; i < 10; i++) {
-                if (i < healthBars) {
-                    healthBar.append(ChatColor.RED + "|");
-                } else {
-                    healthBar.append(ChatColor.DARK_GRAY + "|");
-                }
-            }
-            lore.add(ChatColor.GRAY + "Health: " + healthBar.toString() + ChatColor.WHITE + " " + String.format("%.1f", health));
-
-            // Show distance
-            lore.add("");
-            lore.add(ChatColor.YELLOW + "Click to teleport!");
-
-            meta.setLore(lore);
-            skull.setItemMeta(meta);
-        }
-
-        return skull;
-    }
-
-    @EventHandler
-    public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getWhoClicked() instanceof Player)) return;
-
-        String title = event.getView().getTitle();
-        if (!title.equals(GUI_TITLE)) return;
-
-        event.setCancelled(true);
-
-        Player spectator = (Player) event.getWhoClicked();
-        ItemStack clicked = event.getCurrentItem();
-
-        if (clicked == null || clicked.getType() != Material.PLAYER_HEAD) return;
-
-        // SECURITY: Check instanceof before casting to prevent ClassCastException
-        if (!(clicked.getItemMeta() instanceof SkullMeta)) return;
-        SkullMeta meta = (SkullMeta) clicked.getItemMeta();
-        if (meta.getOwningPlayer() == null) return;
-
-        Player target = meta.getOwningPlayer().getPlayer();
-        if (target == null || !target.isOnline()) {
-            spectator.sendMessage(ChatColor.RED + "Player is no longer online!");
-            spectator.closeInventory();
-            return;
-        }
-
-        // Teleport spectator to target
-        teleportToPlayer(spectator, target);
-        spectator.closeInventory();
+        plugin.getSpectatorGUI().open(spectator, 0);
     }
 
     /**
@@ -461,13 +360,13 @@ public class SpectatorCompassListener implements Listener {
     /**
      * Teleport spectator to a target player
      */
-    private void teleportToPlayer(Player spectator, Player target) {
+    public void teleportToPlayer(Player spectator, Player target) {
         spectator.teleport(target.getLocation());
         spectator.playSound(spectator.getLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, 0.5f, 1.0f);
 
         // Show team color in message
         int team = teamManager.getTeam(target);
-        ChatColor teamColor = team != -1 ? teamManager.getTeamColor(team) : ChatColor.WHITE;
+        String teamColor = team != -1 ? teamManager.getTeamColorCode(team) : ChatColor.WHITE.toString();
 
         spectator.sendMessage(ChatColor.GRAY + "Now spectating: " + teamColor + target.getName() +
                 ChatColor.GRAY + " | " + ChatColor.RED + String.format("%.1f", target.getHealth()) + " HP");
@@ -478,7 +377,7 @@ public class SpectatorCompassListener implements Listener {
      */
     private List<Player> getAlivePlayers() {
         List<Player> players = new ArrayList<>();
-        for (UUID uuid : eventManager.getAlivePlayers()) {
+        for (UUID uuid : eventManager.getAliveView()) {
             Player player = Bukkit.getPlayer(uuid);
             if (player != null && player.isOnline()) {
                 players.add(player);
@@ -14,19 +14,24 @@ import org.bukkit.event.player.PlayerMoveEvent;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Handles void death protection and /kill command interception.
  * 
- * Void Protection:
+ * Void Protection (movement rule, dispatched by PlayerMoveListener):
  * - Catches players falling below Y=-64 (void)
  * - Eliminates them before they die naturally
  * 
  * Command Interception:
  * - Intercepts /kill, /suicide commands
  * - Uses eliminatePlayer() instead of letting them die normally
+ *
+ * Both only apply to players still in the fight ({@link EventManager#isPlayerInEvent}, the
+ * alive set). Spectators and eliminated players are left alone, as they always were:
+ * there is nothing to eliminate them from.
  */
-public class VoidAndCommandListener implements Listener {
+public class VoidAndCommandListener implements Listener, MovementRule {
 
     private final MeowMCEvents plugin;
     private final EventManager eventManager;
@@ -42,7 +47,7 @@ public class VoidAndCommandListener implements Listener {
         this.eventManager = eventManager;
     }
 
-    private void debug(String message) {
+    private void debug(Supplier<String> message) {
         LogManager log = plugin.getLogManager();
         if (log != null) {
             log.debug(LogManager.Category.PLAYERS, message);
@@ -51,36 +56,44 @@ public class VoidAndCommandListener implements Listener {
 
     // ==================== VOID PROTECTION ====================
 
+    @Override
+    public int getAxes() {
+        return AXIS_Y;
+    }
+
     /**
-     * Catch players falling into the void and eliminate them before natural death.
+     * ROLE_ALIVE is the role bit for the players isPlayerInEvent covers
      */
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
-    public void onPlayerMove(PlayerMoveEvent event) {
-        // Only check Y level changes for performance
-        if (event.getFrom().getBlockY() == event.getTo().getBlockY()) {
-            return;
-        }
+    @Override
+    public int getRoles() {
+        return EventManager.ROLE_ALIVE;
+    }
 
-        Player player = event.getPlayer();
+    /**
+     * Catch players falling into the void and eliminate them before natural death.
+     * Dispatched by PlayerMoveListener only when the block Y changes for an alive player.
+     */
+    @Override
+    public boolean onMove(PlayerMoveEvent event, Player player, int roles) {
         Location to = event.getTo();
 
         // Check if below void threshold
         if (to.getY() > VOID_THRESHOLD) {
-            return;
+            return false;
         }
 
-        // Only handle players in the event
+        // Only handle players in the event (same check as the command interception)
         if (!eventManager.isEventRunning() || !eventManager.isPlayerInEvent(player)) {
-            return;
+            return false;
         }
 
         // Prevent double processing
         if (!beingProcessed.add(player.getUniqueId())) {
-            return;
+            return true;
         }
 
         try {
-            debug("Player " + player.getName() + " fell into void at Y=" + to.getY());
+            debug(() -> "Player " + player.getName() + " fell into void at Y=" + to.getY());
 
             // Cancel movement to prevent further void damage
             event.setCancelled(true);
@@ -89,9 +102,10 @@ public class VoidAndCommandListener implements Listener {
             Player killer = null;
             me.oblueberrey.meowMcEvents.managers.DamageTracker damageTracker = plugin.getDamageTracker();
             if (damageTracker != null) {
-                killer = damageTracker.getLastAttacker(player);
-                if (killer != null) {
-                    debug("Void death attributed to " + killer.getName() + " via combat tag");
+                Player attacker = damageTracker.getLastAttacker(player);
+                killer = attacker;
+                if (attacker != null) {
+                    debug(() -> "Void death attributed to " + attacker.getName() + " via combat tag");
                 }
             }
 
@@ -102,7 +116,7 @@ public class VoidAndCommandListener implements Listener {
             }
 
             // Eliminate the player with killer attribution if available
-            eventManager.eliminatePlayer(player, killer);
+            eventManager.eliminatePlayer(player, killer, "void");
             
         } finally {
             // Clear processing flag after a short delay
@@ -110,6 +124,7 @@ public class VoidAndCommandListener implements Listener {
                 beingProcessed.remove(player.getUniqueId());
             }, 20L);
         }
+        return true;
     }
 
     // ==================== COMMAND INTERCEPTION ====================
@@ -139,7 +154,7 @@ public class VoidAndCommandListener implements Listener {
             return;
         }
 
-        debug("Intercepted kill command from " + player.getName() + ": " + command);
+        debug(() -> "Intercepted kill command from " + player.getName() + ": " + command);
 
         // Cancel the command
         event.setCancelled(true);
@@ -149,7 +164,7 @@ public class VoidAndCommandListener implements Listener {
 
         try {
             // Eliminate the player properly
-            eventManager.eliminatePlayer(player, null);
+            eventManager.eliminatePlayer(player, null, "command");
             player.sendMessage(me.oblueberrey.meowMcEvents.utils.ConfigManager.colorize(
                     "&#AAAAAAYou have been eliminated from the event."));
         } finally {
@@ -3,6 +3,7 @@ package me.oblueberrey.meowMcEvents.listeners;
 import me.oblueberrey.meowMcEvents.MeowMCEvents;
 import me.oblueberrey.meowMcEvents.managers.EventManager;
 import me.oblueberrey.meowMcEvents.utils.ConfigManager;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -15,6 +16,7 @@ import org.bukkit.event.entity.FoodLevelChangeEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerPickupItemEvent;
 import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 
@@ -22,15 +24,35 @@ import org.bukkit.event.player.PlayerSwapHandItemsEvent;
  * Blocks most events for players in the waiting area (joined but event not started)
  * Allows: chat messages, /leave command
  * Blocks: PvP, block break/place, item drops, inventory, interactions
+ * Keeps queued players within waiting-area.radius of the event join spawn (movement rule)
  */
-public class WaitingAreaListener implements Listener {
+public class WaitingAreaListener implements Listener, MovementRule {
 
     private final MeowMCEvents plugin;
     private final EventManager eventManager;
 
+    // Cached waiting area bounds (refreshed on reload / setevent)
+    private volatile Location waitingCenter;
+    private volatile double waitingRadiusSquared;
+
     public WaitingAreaListener(MeowMCEvents plugin, EventManager eventManager) {
         this.plugin = plugin;
         this.eventManager = eventManager;
+        refreshWaitingArea();
+    }
+
+    /**
+     * Re-read the waiting area center and radius from config
+     */
+    public void refreshWaitingArea() {
+        int radius = plugin.getConfigManager().getWaitingAreaRadius();
+        Location center = plugin.getConfigManager().getEventJoinSpawnLocation();
+        if (radius <= 0 || center == null || center.getWorld() == null) {
+            waitingCenter = null;
+            return;
+        }
+        waitingRadiusSquared = (double) radius * radius;
+        waitingCenter = center;
     }
 
     /**
@@ -157,4 +179,40 @@ public class WaitingAreaListener implements Listener {
             event.setCancelled(true);
         }
     }
+
+    // ==================== Movement Rule ====================
+
+    @Override
+    public int getAxes() {
+        return AXIS_XZ;
+    }
+
+    @Override
+    public int getRoles() {
+        return EventManager.ROLE_QUEUED;
+    }
+
+    /**
+     * Pull queued players back to the join spawn if they wander past the waiting radius
+     */
+    @Override
+    public boolean onMove(PlayerMoveEvent event, Player player, int roles) {
+        Location center = waitingCenter;
+        if (center == null || !eventManager.isCountdownActive()) {
+            return false;
+        }
+
+        Location to = event.getTo();
+        if (to.getWorld() == center.getWorld()) {
+            double dx = to.getX() - center.getX();
+            double dz = to.getZ() - center.getZ();
+            if (dx * dx + dz * dz <= waitingRadiusSquared) {
+                return false;
+            }
+        }
+
+        player.teleport(center);
+        player.sendActionBar(ConfigManager.colorize("&#FF5555Stay in the waiting area until the event starts."));
+        return true;
+    }
 }
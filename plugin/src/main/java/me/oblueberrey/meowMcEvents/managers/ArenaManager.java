@@ -0,0 +1,764 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.utils.EventState;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class ArenaManager {
+
+    // Shape size limits keep a compiled mask to a few MB (the grid is span + 2 * margin per side)
+    public static final int MAX_RADIUS = 512;
+    public static final int MAX_SPAN = 1024;
+
+    private final MeowMCEvents plugin;
+    // Thread-safe map for arena storage
+    private final Map<String, Arena> arenas;
+    private volatile String activeArenaName;
+    private File arenasFile;
+    private FileConfiguration arenasConfig;
+    // Builds masks and touches .mask files off the main thread, one at a time
+    private final ExecutorService compiler;
+
+    public ArenaManager(MeowMCEvents plugin) {
+        this.plugin = plugin;
+        this.arenas = new ConcurrentHashMap<>();
+        this.activeArenaName = "";
+        this.compiler = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MeowMCEvents-Arenas");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stop compiling (disable); pending compiles are dropped
+     */
+    public void shutdown() {
+        compiler.shutdownNow();
+    }
+
+    public void loadArenas() {
+        arenasFile = new File(plugin.getDataFolder(), "arenas.yml");
+        if (!arenasFile.exists()) {
+            plugin.saveResource("arenas.yml", false);
+        }
+        arenasConfig = YamlConfiguration.loadConfiguration(arenasFile);
+
+        arenas.clear();
+        activeArenaName = arenasConfig.getString("active-arena", "");
+
+        ConfigurationSection arenasSection = arenasConfig.getConfigurationSection("arenas");
+        if (arenasSection == null) return;
+
+        for (String name : arenasSection.getKeys(false)) {
+            ConfigurationSection arenaSection = arenasSection.getConfigurationSection(name);
+            if (arenaSection == null) continue;
+
+            Arena arena = new Arena(name);
+
+            // Load pos1
+            if (arenaSection.contains("pos1")) {
+                String worldName = arenaSection.getString("pos1.world", "world");
+                World world = Bukkit.getWorld(worldName);
+                if (world != null) {
+                    double x = arenaSection.getDouble("pos1.x");
+                    double y = arenaSection.getDouble("pos1.y");
+                    double z = arenaSection.getDouble("pos1.z");
+                    arena.setPos1(new Location(world, x, y, z));
+                }
+            }
+
+            // Load pos2
+            if (arenaSection.contains("pos2")) {
+                String worldName = arenaSection.getString("pos2.world", "world");
+                World world = Bukkit.getWorld(worldName);
+                if (world != null) {
+                    double x = arenaSection.getDouble("pos2.x");
+                    double y = arenaSection.getDouble("pos2.y");
+                    double z = arenaSection.getDouble("pos2.z");
+                    arena.setPos2(new Location(world, x, y, z));
+                }
+            }
+
+            // Load shape (defaults to cuboid for older arenas.yml files)
+            String shapeName = arenaSection.getString("shape", "CUBOID");
+            try {
+                arena.setShape(Arena.Shape.valueOf(shapeName.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("[Arenas] Unknown shape '" + shapeName + "' for arena " + name + ", using cuboid.");
+            }
+            arena.setCylinder(arenaSection.getDouble("center.x"), arenaSection.getDouble("center.z"),
+                    arenaSection.getInt("radius", 0));
+            for (String point : arenaSection.getStringList("polygon")) {
+                String[] parts = point.split(",");
+                if (parts.length != 2) continue;
+                try {
+                    arena.addPolygonPoint(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+            arena.setMaskImage(arenaSection.getString("mask-image", null));
+            arenas.put(name.toLowerCase(), arena);
+            compileShape(arena, null);
+        }
+
+        plugin.getLogger().info("[Arenas] Loaded " + arenas.size() + " arena(s). Active: " +
+                (activeArenaName.isEmpty() ? "none" : activeArenaName));
+    }
+
+    public void saveArenas() {
+        if (arenasConfig == null || arenasFile == null) return;
+
+        arenasConfig.set("arenas", null);
+        arenasConfig.set("active-arena", activeArenaName);
+
+        for (Map.Entry<String, Arena> entry : arenas.entrySet()) {
+            String path = "arenas." + entry.getKey();
+            Arena arena = entry.getValue();
+
+            if (arena.getPos1() != null && arena.getPos1().getWorld() != null) {
+                arenasConfig.set(path + ".pos1.world", arena.getPos1().getWorld().getName());
+                arenasConfig.set(path + ".pos1.x", arena.getPos1().getX());
+                arenasConfig.set(path + ".pos1.y", arena.getPos1().getY());
+                arenasConfig.set(path + ".pos1.z", arena.getPos1().getZ());
+            }
+
+            if (arena.getPos2() != null && arena.getPos2().getWorld() != null) {
+                arenasConfig.set(path + ".pos2.world", arena.getPos2().getWorld().getName());
+                arenasConfig.set(path + ".pos2.x", arena.getPos2().getX());
+                arenasConfig.set(path + ".pos2.y", arena.getPos2().getY());
+                arenasConfig.set(path + ".pos2.z", arena.getPos2().getZ());
+            }
+
+            if (arena.getShape() != Arena.Shape.CUBOID) {
+                arenasConfig.set(path + ".shape", arena.getShape().name());
+            }
+            if (arena.getShape() == Arena.Shape.CYLINDER) {
+                arenasConfig.set(path + ".center.x", arena.getCenterX());
+                arenasConfig.set(path + ".center.z", arena.getCenterZ());
+                arenasConfig.set(path + ".radius", arena.getRadius());
+            }
+            if (arena.getShape() == Arena.Shape.POLYGON) {
+                List<String> points = new ArrayList<>();
+                for (int[] point : arena.getPolygon()) {
+                    points.add(point[0] + "," + point[1]);
+                }
+                arenasConfig.set(path + ".polygon", points);
+            }
+            if (arena.getShape() == Arena.Shape.MASK) {
+                arenasConfig.set(path + ".mask-image", arena.getMaskImage());
+            }
+        }
+
+        try {
+            arenasConfig.save(arenasFile);
+        } catch (IOException e) {
+            plugin.getLogger().severe("[Arenas] Failed to save arenas.yml: " + e.getMessage());
+        }
+    }
+
+    public boolean createArena(String name) {
+        String key = name.toLowerCase();
+        if (arenas.containsKey(key)) return false;
+        arenas.put(key, new Arena(name));
+        saveArenas();
+        return true;
+    }
+
+    public boolean deleteArena(String name) {
+        String key = name.toLowerCase();
+        if (!arenas.containsKey(key) || isInUse(key)) return false;
+        Arena removed = arenas.remove(key);
+        removed.nextShapeVersion(); // Drop any compile still running for it
+        File maskFile = new File(getArenaDataFolder(), key + ".mask");
+        runCompiler(() -> deleteMaskFile(maskFile));
+        if (activeArenaName.equalsIgnoreCase(name)) {
+            activeArenaName = "";
+        }
+        saveArenas();
+        return true;
+    }
+
+    public boolean setPos1(String name, Location loc) {
+        String key = name.toLowerCase();
+        Arena arena = arenas.get(key);
+        if (arena == null || isInUse(key)) return false;
+
+        // Validate same world if pos2 is set
+        if (arena.getPos2() != null && arena.getPos2().getWorld() != null
+                && loc.getWorld() != null && !loc.getWorld().equals(arena.getPos2().getWorld())) {
+            return false;
+        }
+
+        arena.setPos1(loc);
+        compileShape(arena, null);
+        saveArenas();
+        return true;
+    }
+
+    public boolean setPos2(String name, Location loc) {
+        String key = name.toLowerCase();
+        Arena arena = arenas.get(key);
+        if (arena == null || isInUse(key)) return false;
+
+        // Validate same world if pos1 is set
+        if (arena.getPos1() != null && arena.getPos1().getWorld() != null
+                && loc.getWorld() != null && !loc.getWorld().equals(arena.getPos1().getWorld())) {
+            return false;
+        }
+
+        arena.setPos2(loc);
+        compileShape(arena, null);
+        saveArenas();
+        return true;
+    }
+
+    public Arena getArena(String name) {
+        return arenas.get(name.toLowerCase());
+    }
+
+    public Set<String> getArenaNames() {
+        return new HashSet<>(arenas.keySet());
+    }
+
+    public void setActiveArena(String name) {
+        this.activeArenaName = name.toLowerCase();
+        saveArenas();
+    }
+
+    public String getActiveArenaName() {
+        return activeArenaName;
+    }
+
+    public Arena getActiveArena() {
+        if (activeArenaName.isEmpty()) return null;
+        return arenas.get(activeArenaName);
+    }
+
+    public boolean isInsideActiveArena(Location loc) {
+        Arena arena = getActiveArena();
+        if (arena == null || !arena.isComplete()) return true; // No arena = no restriction
+        return arena.contains(loc);
+    }
+
+    /**
+     * Whether the arena is the active one while an event is counting down or running.
+     * Its bounds and shape can't change then: a recompile would leave it without a footprint
+     * and the boundary check would act on a half-edited arena.
+     */
+    public boolean isInUse(String name) {
+        EventManager eventManager = plugin.getEventManager();
+        return eventManager != null && eventManager.getState() != EventState.IDLE
+                && !activeArenaName.isEmpty() && activeArenaName.equalsIgnoreCase(name);
+    }
+
+    // ==================== Arena Shapes ====================
+
+    /**
+     * Folder next to arenas.yml holding compiled masks and mask images
+     */
+    public File getArenaDataFolder() {
+        return new File(plugin.getDataFolder(), "arenas");
+    }
+
+    public boolean setCuboid(String name) {
+        Arena arena = arenas.get(name.toLowerCase());
+        if (arena == null || isInUse(name)) return false;
+        arena.setShape(Arena.Shape.CUBOID);
+        compileShape(arena, null);
+        saveArenas();
+        return true;
+    }
+
+    /**
+     * Make the arena a cylinder around the given center. Returns false if the arena doesn't exist,
+     * is in use or the radius is outside 1..MAX_RADIUS.
+     */
+    public boolean setCylinder(String name, Location center, int radius) {
+        Arena arena = arenas.get(name.toLowerCase());
+        if (arena == null || radius <= 0 || radius > MAX_RADIUS || isInUse(name)) return false;
+        arena.setShape(Arena.Shape.CYLINDER);
+        arena.setCylinder(center.getBlockX() + 0.5, center.getBlockZ() + 0.5, radius);
+        compileShape(arena, null);
+        saveArenas();
+        return true;
+    }
+
+    /**
+     * Switch the arena to polygon mode with no vertices yet
+     */
+    public boolean setPolygon(String name) {
+        Arena arena = arenas.get(name.toLowerCase());
+        if (arena == null || isInUse(name)) return false;
+        arena.setShape(Arena.Shape.POLYGON);
+        arena.clearPolygon();
+        compileShape(arena, null);
+        saveArenas();
+        return true;
+    }
+
+    /**
+     * Add a polygon vertex at the location's block column.
+     * Returns the new vertex count, or -1 if the arena doesn't exist, isn't a polygon or is in use.
+     */
+    public int addPolygonPoint(String name, Location loc) {
+        Arena arena = arenas.get(name.toLowerCase());
+        if (arena == null || arena.getShape() != Arena.Shape.POLYGON || isInUse(name)) return -1;
+        arena.addPolygonPoint(loc.getBlockX(), loc.getBlockZ());
+        compileShape(arena, null);
+        saveArenas();
+        return arena.getPolygon().size();
+    }
+
+    /**
+     * Use an image in the arenas folder as the footprint (light opaque pixels = inside),
+     * anchored at the arena's min X/Z corner. Returns false if the arena doesn't exist or is in use.
+     *
+     * @param onCompiled called on the main thread with whether the mask compiled (skipped if the
+     *                   arena is edited again first)
+     */
+    public boolean setMaskImage(String name, String imageName, Consumer<Boolean> onCompiled) {
+        Arena arena = arenas.get(name.toLowerCase());
+        if (arena == null || isInUse(name)) return false;
+        arena.setShape(Arena.Shape.MASK);
+        arena.setMaskImage(imageName);
+        compileShape(arena, onCompiled);
+        saveArenas();
+        return true;
+    }
+
+    /**
+     * Compile a non-cuboid footprint, reusing the persisted .mask file when the shape is unchanged.
+     * A cuboid (or a shape that can't be compiled yet) has no .mask file, so a stale one is removed.
+     *
+     * The mask is read or built on the compiler thread from a snapshot of the shape and installed
+     * back on the main thread; the arena has no footprint (is incomplete) until then. A result is
+     * dropped if the arena was edited again in the meantime.
+     */
+    private void compileShape(Arena arena, Consumer<Boolean> onCompiled) {
+        int version = arena.nextShapeVersion();
+        arena.setMask(null);
+        File folder = getArenaDataFolder();
+        File maskFile = new File(folder, arena.getName().toLowerCase() + ".mask");
+        if (arena.getShape() == Arena.Shape.CUBOID || arena.getPos1() == null || arena.getPos2() == null) {
+            runCompiler(() -> deleteMaskFile(maskFile));
+            return;
+        }
+
+        File imageFile = arena.getShape() == Arena.Shape.MASK && arena.getMaskImage() != null
+                ? new File(folder, arena.getMaskImage()) : null;
+        String signature = arena.getShapeSignature(imageFile);
+        Supplier<ArenaMask> builder = maskBuilder(arena, signature, imageFile);
+        String arenaName = arena.getName();
+        String shapeName = arena.getShape().name().toLowerCase();
+
+        runCompiler(() -> {
+            ArenaMask mask = ArenaMask.read(maskFile, signature);
+            if (mask == null) {
+                long start = System.currentTimeMillis();
+                mask = builder.get();
+                if (mask == null) {
+                    deleteMaskFile(maskFile);
+                } else {
+                    try {
+                        mask.write(maskFile);
+                    } catch (IOException e) {
+                        plugin.getLogger().warning("[Arenas] Failed to save mask for " + arenaName + ": " + e.getMessage());
+                    }
+                    plugin.getLogger().info("[Arenas] Compiled " + shapeName + " mask for "
+                            + arenaName + " in " + (System.currentTimeMillis() - start) + "ms");
+                }
+            }
+
+            ArenaMask compiled = mask;
+            if (!plugin.isEnabled()) return;
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (arena.getShapeVersion() != version) return; // Edited again, a newer compile is queued
+                arena.setMask(compiled);
+                if (onCompiled != null) onCompiled.accept(compiled != null);
+            });
+        });
+    }
+
+    private void runCompiler(Runnable task) {
+        if (compiler.isShutdown()) return;
+        compiler.execute(task);
+    }
+
+    private void deleteMaskFile(File maskFile) {
+        if (maskFile.exists() && !maskFile.delete()) {
+            plugin.getLogger().warning("[Arenas] Could not delete stale mask " + maskFile.getName());
+        }
+    }
+
+    /**
+     * Capture the shape definition on the main thread; the returned builder only uses the copy
+     * and runs on the compiler thread. Builds null if the shape is incomplete or too large.
+     */
+    private Supplier<ArenaMask> maskBuilder(Arena arena, String signature, File imageFile) {
+        String arenaName = arena.getName();
+        switch (arena.getShape()) {
+            case CYLINDER: {
+                int radius = arena.getRadius();
+                double cx = arena.getCenterX();
+                double cz = arena.getCenterZ();
+                return () -> {
+                    if (radius <= 0 || radius > MAX_RADIUS) {
+                        plugin.getLogger().warning("[Arenas] Cylinder radius of " + arenaName + " must be 1-" + MAX_RADIUS + ".");
+                        return null;
+                    }
+                    double radiusSquared = (double) radius * radius;
+                    return ArenaMask.compile(signature,
+                            (int) Math.floor(cx - radius), (int) Math.floor(cz - radius),
+                            (int) Math.floor(cx + radius), (int) Math.floor(cz + radius),
+                            (x, z) -> {
+                                double dx = x + 0.5 - cx;
+                                double dz = z + 0.5 - cz;
+                                return dx * dx + dz * dz <= radiusSquared;
+                            });
+                };
+            }
+            case POLYGON: {
+                List<int[]> points = new ArrayList<>(arena.getPolygon());
+                return () -> {
+                    if (points.size() < 3) return null;
+                    int minX = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+                    int maxX = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+                    for (int[] point : points) {
+                        minX = Math.min(minX, point[0]);
+                        maxX = Math.max(maxX, point[0]);
+                        minZ = Math.min(minZ, point[1]);
+                        maxZ = Math.max(maxZ, point[1]);
+                    }
+                    if (maxX - minX >= MAX_SPAN || maxZ - minZ >= MAX_SPAN) {
+                        plugin.getLogger().warning("[Arenas] Polygon of " + arenaName + " spans more than " + MAX_SPAN + " blocks.");
+                        return null;
+                    }
+                    return ArenaMask.compile(signature, minX, minZ, maxX, maxZ,
+                            (x, z) -> isInsidePolygon(points, x + 0.5, z + 0.5));
+                };
+            }
+            case MASK: {
+                int originX = Math.min(arena.getPos1().getBlockX(), arena.getPos2().getBlockX());
+                int originZ = Math.min(arena.getPos1().getBlockZ(), arena.getPos2().getBlockZ());
+                return () -> {
+                    if (imageFile == null || !imageFile.exists()) {
+                        plugin.getLogger().warning("[Arenas] Mask image for " + arenaName + " not found: "
+                                + (imageFile != null ? imageFile.getPath() : "none"));
+                        return null;
+                    }
+                    BufferedImage image;
+                    try {
+                        image = ImageIO.read(imageFile);
+                    } catch (IOException e) {
+                        plugin.getLogger().warning("[Arenas] Failed to read mask image " + imageFile.getName() + ": " + e.getMessage());
+                        return null;
+                    }
+                    if (image == null || image.getWidth() > MAX_SPAN || image.getHeight() > MAX_SPAN) {
+                        plugin.getLogger().warning("[Arenas] Mask image " + imageFile.getName() + " is unreadable or larger than "
+                                + MAX_SPAN + "x" + MAX_SPAN + ".");
+                        return null;
+                    }
+                    return ArenaMask.compile(signature, originX, originZ,
+                            originX + image.getWidth() - 1, originZ + image.getHeight() - 1,
+                            (x, z) -> isMaskPixelInside(image.getRGB(x - originX, z - originZ)));
+                };
+            }
+            default:
+                return () -> null;
+        }
+    }
+
+    /**
+     * Even-odd ray cast; vertices sit at block centers
+     */
+    private static boolean isInsidePolygon(List<int[]> points, double x, double z) {
+        boolean inside = false;
+        for (int i = 0, j = points.size() - 1; i < points.size(); j = i++) {
+            double xi = points.get(i)[0] + 0.5, zi = points.get(i)[1] + 0.5;
+            double xj = points.get(j)[0] + 0.5, zj = points.get(j)[1] + 0.5;
+            if ((zi > z) != (zj > z) && x < (xj - xi) * (z - zi) / (zj - zi) + xi) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    private static boolean isMaskPixelInside(int argb) {
+        int alpha = (argb >>> 24) & 0xFF;
+        int red = (argb >> 16) & 0xFF;
+        int green = (argb >> 8) & 0xFF;
+        int blue = argb & 0xFF;
+        return alpha >= 128 && (red * 299 + green * 587 + blue * 114) / 1000 >= 128;
+    }
+
+    /**
+     * Represents an arena. pos1/pos2 give the world, the vertical range and (for cuboids)
+     * the XZ rectangle. Cylinder, polygon and mask shapes define their XZ footprint
+     * separately and are compiled into an ArenaMask for O(1) lookups.
+     */
+    public static class Arena {
+
+        public enum Shape {
+            CUBOID, CYLINDER, POLYGON, MASK
+        }
+
+        private final String name;
+        private Location pos1;
+        private Location pos2;
+
+        private Shape shape = Shape.CUBOID;
+        private double centerX;
+        private double centerZ;
+        private int radius;
+        private final List<int[]> polygon = new ArrayList<>(); // XZ vertices
+        private String maskImage;
+        private volatile ArenaMask mask; // Compiled footprint for non-cuboid shapes
+        private int shapeVersion; // Bumped per compile so a stale result isn't installed (main thread)
+
+        // Cached block bounds from pos1/pos2 (hot path avoids recomputing min/max)
+        private int minX, maxX, minY, maxY, minZ, maxZ;
+
+        public Arena(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Location getPos1() {
+            return pos1;
+        }
+
+        public void setPos1(Location pos1) {
+            this.pos1 = pos1;
+            refreshBounds();
+        }
+
+        public Location getPos2() {
+            return pos2;
+        }
+
+        public void setPos2(Location pos2) {
+            this.pos2 = pos2;
+            refreshBounds();
+        }
+
+        private void refreshBounds() {
+            if (pos1 == null || pos2 == null) return;
+            minX = Math.min(pos1.getBlockX(), pos2.getBlockX());
+            maxX = Math.max(pos1.getBlockX(), pos2.getBlockX());
+            minY = Math.min(pos1.getBlockY(), pos2.getBlockY());
+            maxY = Math.max(pos1.getBlockY(), pos2.getBlockY());
+            minZ = Math.min(pos1.getBlockZ(), pos2.getBlockZ());
+            maxZ = Math.max(pos1.getBlockZ(), pos2.getBlockZ());
+        }
+
+        // ==================== Shape ====================
+
+        public Shape getShape() {
+            return shape;
+        }
+
+        public void setShape(Shape shape) {
+            this.shape = shape;
+            this.mask = null;
+        }
+
+        public double getCenterX() {
+            return centerX;
+        }
+
+        public double getCenterZ() {
+            return centerZ;
+        }
+
+        public int getRadius() {
+            return radius;
+        }
+
+        public void setCylinder(double centerX, double centerZ, int radius) {
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+            this.radius = radius;
+            this.mask = null;
+        }
+
+        public List<int[]> getPolygon() {
+            return polygon;
+        }
+
+        public void addPolygonPoint(int x, int z) {
+            polygon.add(new int[]{x, z});
+            this.mask = null;
+        }
+
+        public void clearPolygon() {
+            polygon.clear();
+            this.mask = null;
+        }
+
+        public String getMaskImage() {
+            return maskImage;
+        }
+
+        public void setMaskImage(String maskImage) {
+            this.maskImage = maskImage;
+            this.mask = null;
+        }
+
+        public ArenaMask getMask() {
+            return mask;
+        }
+
+        public void setMask(ArenaMask mask) {
+            this.mask = mask;
+        }
+
+        int nextShapeVersion() {
+            return ++shapeVersion;
+        }
+
+        int getShapeVersion() {
+            return shapeVersion;
+        }
+
+        public boolean isComplete() {
+            boolean corners = pos1 != null && pos2 != null
+                    && pos1.getWorld() != null && pos2.getWorld() != null;
+            return corners && (shape == Shape.CUBOID || mask != null);
+        }
+
+        public boolean contains(Location loc) {
+            if (!isComplete()) return true;
+            if (loc == null || loc.getWorld() == null) return false;
+            if (!loc.getWorld().equals(pos1.getWorld())) return false;
+
+            int y = loc.getBlockY();
+            if (y < minY || y > maxY) return false;
+
+            int x = loc.getBlockX();
+            int z = loc.getBlockZ();
+            if (shape != Shape.CUBOID) {
+                return mask.contains(x, z);
+            }
+
+            return x >= minX && x <= maxX
+                    && z >= minZ && z <= maxZ;
+        }
+
+        public int getSizeX() {
+            if (!isComplete()) return 0;
+            return maxX - minX + 1;
+        }
+
+        public int getSizeY() {
+            if (!isComplete()) return 0;
+            return maxY - minY + 1;
+        }
+
+        public int getSizeZ() {
+            if (!isComplete()) return 0;
+            return maxZ - minZ + 1;
+        }
+
+        /**
+         * Get the minimum distance from a location to any edge of the arena.
+         * Returns 0 if at the very edge, higher values = further inside.
+         * Returns -1 if outside the arena or arena is incomplete.
+         */
+        public int getDistanceFromEdge(Location loc) {
+            if (!isComplete() || loc == null) return -1;
+            if (!loc.getWorld().equals(pos1.getWorld())) return -1;
+
+            int x = loc.getBlockX();
+            int z = loc.getBlockZ();
+
+            if (shape != Shape.CUBOID) {
+                return Math.max(0, mask.getSignedDistance(x, z));
+            }
+
+            // Distance from each wall
+            int distFromMinX = x - minX;
+            int distFromMaxX = maxX - x;
+            int distFromMinZ = z - minZ;
+            int distFromMaxZ = maxZ - z;
+
+            // Minimum distance to any wall (XZ plane only - Y is ignored for gameplay)
+            int minDist = Math.min(Math.min(distFromMinX, distFromMaxX),
+                    Math.min(distFromMinZ, distFromMaxZ));
+
+            return Math.max(0, minDist);
+        }
+
+        /**
+         * How far outside the arena footprint a location is (in blocks, XZ only).
+         * Returns 0 if inside or on edge.
+         */
+        public int getDistanceOutside(Location loc) {
+            if (!isComplete() || loc == null) return 0;
+
+            int x = loc.getBlockX();
+            int z = loc.getBlockZ();
+
+            if (shape != Shape.CUBOID) {
+                return Math.max(0, -mask.getSignedDistance(x, z));
+            }
+
+            int distX = 0;
+            int distZ = 0;
+
+            if (x < minX) distX = minX - x;
+            else if (x > maxX) distX = x - maxX;
+
+            if (z < minZ) distZ = minZ - z;
+            else if (z > maxZ) distZ = z - maxZ;
+
+            // Return the maximum distance on either axis
+            return Math.max(distX, distZ);
+        }
+
+        /**
+         * Describes the shape definition - a persisted mask is only reused when this matches
+         */
+        String getShapeSignature(File imageFile) {
+            StringBuilder sig = new StringBuilder(shape.name());
+            switch (shape) {
+                case CYLINDER:
+                    sig.append(':').append(centerX).append(',').append(centerZ).append(',').append(radius);
+                    break;
+                case POLYGON:
+                    for (int[] point : polygon) {
+                        sig.append(':').append(point[0]).append(',').append(point[1]);
+                    }
+                    break;
+                case MASK:
+                    sig.append(':').append(maskImage).append(',').append(minX).append(',').append(minZ);
+                    if (imageFile != null) {
+                        sig.append(',').append(imageFile.length()).append(',').append(imageFile.lastModified());
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return sig.toString();
+        }
+    }
+}
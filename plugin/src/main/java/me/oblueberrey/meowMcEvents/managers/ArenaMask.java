@@ -0,0 +1,198 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.io.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Precompiled XZ column grid for non-cuboid arena shapes.
+ *
+ * Each column stores a signed Chebyshev distance:
+ *  - inside columns: blocks to the edge (0 = edge column), same meaning as the cuboid getDistanceFromEdge
+ *  - outside columns: negative distance to the nearest inside column
+ * so containment and edge distance are single array reads no matter how complex the shape is.
+ * The grid extends MARGIN blocks past the shape so "how far outside" stays exact near the arena.
+ */
+public class ArenaMask {
+
+    public static final int MARGIN = 32;
+
+    private static final int MAGIC = 0x4D4D534B; // "MMSK"
+    private static final int VERSION = 1;
+
+    /**
+     * Decides whether a block column belongs to the shape
+     */
+    @FunctionalInterface
+    public interface ColumnTest {
+        boolean inside(int x, int z);
+    }
+
+    private final String signature;
+    private final int originX;
+    private final int originZ;
+    private final int width;
+    private final int depth;
+    private final short[] distances;
+
+    private ArenaMask(String signature, int originX, int originZ, int width, int depth, short[] distances) {
+        this.signature = signature;
+        this.originX = originX;
+        this.originZ = originZ;
+        this.width = width;
+        this.depth = depth;
+        this.distances = distances;
+    }
+
+    /**
+     * Compile a shape whose columns all lie within [minX..maxX] x [minZ..maxZ].
+     *
+     * @param signature describes the shape definition; a persisted mask is reused only if it matches
+     */
+    public static ArenaMask compile(String signature, int minX, int minZ, int maxX, int maxZ, ColumnTest test) {
+        int originX = minX - MARGIN;
+        int originZ = minZ - MARGIN;
+        int width = (maxX - minX + 1) + MARGIN * 2;
+        int depth = (maxZ - minZ + 1) + MARGIN * 2;
+
+        boolean[] inside = new boolean[width * depth];
+        for (int dz = MARGIN; dz < depth - MARGIN; dz++) {
+            for (int dx = MARGIN; dx < width - MARGIN; dx++) {
+                inside[dz * width + dx] = test.inside(originX + dx, originZ + dz);
+            }
+        }
+
+        int[] toOutside = chessboardTransform(inside, width, depth, true);
+        int[] toInside = chessboardTransform(inside, width, depth, false);
+
+        short[] distances = new short[width * depth];
+        for (int i = 0; i < distances.length; i++) {
+            int value = inside[i] ? toOutside[i] - 1 : -toInside[i];
+            distances[i] = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, value));
+        }
+        return new ArenaMask(signature, originX, originZ, width, depth, distances);
+    }
+
+    /**
+     * Two-pass chessboard distance transform.
+     * For each cell of the selected kind, the distance to the nearest cell of the other kind
+     * (cells of the other kind are 0). Cells outside the grid count as outside.
+     */
+    private static int[] chessboardTransform(boolean[] inside, int width, int depth, boolean measureInside) {
+        int far = width + depth;
+        int[] dist = new int[width * depth];
+        for (int i = 0; i < dist.length; i++) {
+            dist[i] = inside[i] == measureInside ? far : 0;
+        }
+
+        // Forward pass: neighbours above and to the left
+        for (int z = 0; z < depth; z++) {
+            for (int x = 0; x < width; x++) {
+                int i = z * width + x;
+                if (dist[i] == 0) continue;
+                int best = dist[i];
+                if (measureInside && (x == 0 || z == 0)) best = 1; // grid border is outside
+                if (x > 0) best = Math.min(best, dist[i - 1] + 1);
+                if (z > 0) {
+                    best = Math.min(best, dist[i - width] + 1);
+                    if (x > 0) best = Math.min(best, dist[i - width - 1] + 1);
+                    if (x < width - 1) best = Math.min(best, dist[i - width + 1] + 1);
+                }
+                dist[i] = best;
+            }
+        }
+
+        // Backward pass: neighbours below and to the right
+        for (int z = depth - 1; z >= 0; z--) {
+            for (int x = width - 1; x >= 0; x--) {
+                int i = z * width + x;
+                if (dist[i] == 0) continue;
+                int best = dist[i];
+                if (measureInside && (x == width - 1 || z == depth - 1)) best = 1;
+                if (x < width - 1) best = Math.min(best, dist[i + 1] + 1);
+                if (z < depth - 1) {
+                    best = Math.min(best, dist[i + width] + 1);
+                    if (x < width - 1) best = Math.min(best, dist[i + width + 1] + 1);
+                    if (x > 0) best = Math.min(best, dist[i + width - 1] + 1);
+                }
+                dist[i] = best;
+            }
+        }
+        return dist;
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Signed distance for a block column (see class docs). Columns beyond the grid are
+     * outside; their distance is measured to the grid edge plus the margin.
+     */
+    public int getSignedDistance(int x, int z) {
+        int dx = x - originX;
+        int dz = z - originZ;
+        if (dx < 0 || dz < 0 || dx >= width || dz >= depth) {
+            int outX = dx < 0 ? -dx : Math.max(0, dx - width + 1);
+            int outZ = dz < 0 ? -dz : Math.max(0, dz - depth + 1);
+            return -(Math.max(outX, outZ) + MARGIN);
+        }
+        return distances[dz * width + dx];
+    }
+
+    public boolean contains(int x, int z) {
+        return getSignedDistance(x, z) >= 0;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    // ==================== Persistence ====================
+
+    public void write(File file) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(new FileOutputStream(file))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(signature);
+            out.writeInt(originX);
+            out.writeInt(originZ);
+            out.writeInt(width);
+            out.writeInt(depth);
+            for (short value : distances) {
+                out.writeShort(value);
+            }
+        }
+    }
+
+    /**
+     * Read a persisted mask. Returns null if the file is missing, corrupt,
+     * or was compiled from a different shape definition.
+     */
+    public static ArenaMask read(File file, String expectedSignature) {
+        if (!file.exists()) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(new FileInputStream(file))))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return null;
+            String signature = in.readUTF();
+            if (!signature.equals(expectedSignature)) return null;
+
+            int originX = in.readInt();
+            int originZ = in.readInt();
+            int width = in.readInt();
+            int depth = in.readInt();
+            if (width <= 0 || depth <= 0 || (long) width * depth > 64L * 1024 * 1024) return null;
+
+            short[] distances = new short[width * depth];
+            for (int i = 0; i < distances.length; i++) {
+                distances[i] = in.readShort();
+            }
+            return new ArenaMask(signature, originX, originZ, width, depth, distances);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
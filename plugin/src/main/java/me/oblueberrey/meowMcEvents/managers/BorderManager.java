@@ -0,0 +1,379 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.utils.MessageUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.WorldBorder;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Event border. Two modes (border.mode):
+ *  - world: shrinks the world's global WorldBorder around the event spawn and restores it
+ *    afterwards; the world's own damage settings are left alone
+ *  - per-player: a virtual border (Paper per-player WorldBorder API) centered on the active
+ *    arena and shown only to the event's participants and spectators, so other players and
+ *    parallel events in the same world are unaffected. Virtual borders don't hurt anyone, so
+ *    damage is computed here from cached bounds using border.damage-buffer and
+ *    border.damage-amount, the same way the server does for a world border.
+ */
+public class BorderManager {
+
+    private static final long DAMAGE_INTERVAL_TICKS = 10L;
+
+    private final MeowMCEvents plugin;
+    private BukkitTask shrinkTask;
+    private BukkitTask damageTask;
+    private int startSize;
+    private int minSize;
+    private int shrinkInterval;
+    private int currentSize;
+    private double originalBorderSize;
+    private Location originalCenter;
+
+    // Per-player mode state
+    private WorldBorder virtualBorder;
+    private final Set<UUID> borderViewers = ConcurrentHashMap.newKeySet();
+    private volatile World borderWorld;
+    private volatile double borderCenterX;
+    private volatile double borderCenterZ;
+    // Size lerp cached at each shrink step (virtual borders are not ticked server-side)
+    private volatile double lerpFromSize;
+    private volatile double lerpToSize;
+    private volatile long lerpStartMillis;
+    private volatile long lerpDurationMillis;
+
+    public BorderManager(MeowMCEvents plugin) {
+        this.plugin = plugin;
+        this.startSize = plugin.getConfigManager().getBorderStartSize();
+        this.minSize = plugin.getConfigManager().getBorderShrinkTo();
+        this.shrinkInterval = plugin.getConfigManager().getBorderIntervalSeconds();
+        this.currentSize = startSize;
+    }
+
+    private void debug(Supplier<String> message) {
+        if (plugin.getConfigManager().shouldLogBorder()) {
+            plugin.getLogger().info("[DEBUG:BORDER] " + message.get());
+        }
+    }
+
+    /**
+     * Start the border shrinking task
+     * Centers border at the given location (spawn, or arena center in per-player mode) and begins shrinking every interval.
+     * In per-player mode only the given viewers (plus later addViewer calls) see the border.
+     */
+    public void startBorderShrink(World world, Location center, Collection<Player> viewers) {
+        if (world == null || center == null) {
+            plugin.getLogger().warning("Cannot start border shrink: world or center is null");
+            debug(() -> "startBorderShrink failed - world=" + (world == null ? "null" : world.getName()) + ", center=" + (center == null ? "null" : "valid"));
+            return;
+        }
+
+        // Check if border is enabled in config
+        if (!plugin.getConfigManager().isBorderEnabled()) {
+            debug(() -> "Border shrinking is disabled in config");
+            return;
+        }
+
+        // Stop any existing task
+        stopBorderShrink();
+
+        if (virtualBorder != null) {
+            clearViewers();
+        }
+
+        final WorldBorder border;
+        if (plugin.getConfigManager().isPerPlayerBorder()) {
+            // Virtual border - the world's own border is never touched
+            border = Bukkit.createWorldBorder();
+            virtualBorder = border;
+            borderWorld = world;
+            borderCenterX = center.getX();
+            borderCenterZ = center.getZ();
+            setLerp(startSize, startSize, 0);
+            border.setDamageBuffer(plugin.getConfigManager().getBorderDamageBuffer());
+            border.setDamageAmount(plugin.getConfigManager().getBorderDamageAmount());
+            debug(() -> "Per-player border mode for world " + world.getName());
+        } else {
+            border = world.getWorldBorder();
+
+            // Save original border settings
+            originalBorderSize = border.getSize();
+            originalCenter = border.getCenter();
+
+            debug(() -> "Saved original border: size=" + originalBorderSize + ", center=" + (originalCenter != null ? originalCenter.getBlockX() + "," + originalCenter.getBlockZ() : "null"));
+        }
+
+        // Set initial border
+        border.setCenter(center);
+        border.setSize(startSize);
+        currentSize = startSize;
+
+        debug(() -> "Border initialized at " + startSize + "x" + startSize + " centered at " + center.getBlockX() + "," + center.getBlockZ());
+
+        if (virtualBorder != null) {
+            for (Player viewer : viewers) {
+                addViewer(viewer);
+            }
+            startDamageTask(border.getDamageBuffer(), border.getDamageAmount());
+        }
+
+        // Calculate shrink amount per interval
+        int totalShrinks = (startSize - minSize) / 10; // Shrink by 10 blocks each time
+        if (totalShrinks <= 0) totalShrinks = 1;
+
+        final int shrinkAmount = Math.max(10, (startSize - minSize) / totalShrinks);
+
+        debug(() -> "Shrink settings: interval=" + shrinkInterval + "s, amount=" + shrinkAmount + " blocks, minSize=" + minSize);
+
+        // Start repeating task (runs every X seconds)
+        shrinkTask = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task border-shrink", () -> {
+            if (currentSize > minSize) {
+                int previousSize = currentSize;
+                currentSize = Math.max(minSize, currentSize - shrinkAmount);
+
+                // Smooth shrink over the interval duration (prevents teleport glitches)
+                // A virtual border pushes the change only to the players it is assigned to
+                border.setSize(currentSize, shrinkInterval);
+                if (border == virtualBorder) {
+                    setLerp(previousSize, currentSize, shrinkInterval * 1000L);
+                }
+
+                // Broadcast message
+                String sizeStr = currentSize + "x" + currentSize;
+                String borderTitle = MessageUtils.gradient("BORDER SHRINK", "#FF5555", "#FF9944");
+                plugin.getEventFeedback().broadcastSmallAnnouncement(
+                        "&#666666\u26A0 " + borderTitle + " &#666666\u26A0",
+                        "&#FF9944New bounds: &#FFE566" + sizeStr
+                );
+
+                debug(() -> "Border shrinking: " + previousSize + " -> " + currentSize);
+            } else {
+                // Minimum size reached, keep border at minimum
+                border.setSize(minSize);
+                if (border == virtualBorder) {
+                    setLerp(minSize, minSize, 0);
+                }
+                debug(() -> "Border reached minimum size: " + minSize);
+            }
+        }), shrinkInterval * 20L, shrinkInterval * 20L); // Convert seconds to ticks
+    }
+
+    /**
+     * Stop border shrinking task
+     */
+    public void stopBorderShrink() {
+        if (shrinkTask != null) {
+            shrinkTask.cancel();
+            shrinkTask = null;
+            debug(() -> "Border shrinking task stopped");
+        }
+        if (damageTask != null) {
+            damageTask.cancel();
+            damageTask = null;
+        }
+    }
+
+    // ==================== Per-Player Border ====================
+
+    /**
+     * Show the event border to a player (participant or spectator). No-op in world mode.
+     */
+    public void addViewer(Player player) {
+        WorldBorder border = virtualBorder;
+        if (border == null || player == null) return;
+        if (borderViewers.add(player.getUniqueId())) {
+            player.setWorldBorder(border);
+        }
+    }
+
+    /**
+     * Give a player back the world's own border
+     */
+    public void removeViewer(Player player) {
+        if (player == null) return;
+        if (borderViewers.remove(player.getUniqueId()) && player.isOnline()) {
+            player.setWorldBorder(null);
+        }
+    }
+
+    private void clearViewers() {
+        for (UUID uuid : borderViewers) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null && player.isOnline()) {
+                player.setWorldBorder(null);
+            }
+        }
+        borderViewers.clear();
+        virtualBorder = null;
+        borderWorld = null;
+    }
+
+    private void setLerp(double from, double to, long durationMillis) {
+        lerpFromSize = from;
+        lerpToSize = to;
+        lerpDurationMillis = durationMillis;
+        lerpStartMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Current virtual border size, interpolated like the client does during a shrink
+     */
+    private double getVirtualSize() {
+        long duration = lerpDurationMillis;
+        if (duration <= 0) return lerpToSize;
+        double progress = (System.currentTimeMillis() - lerpStartMillis) / (double) duration;
+        if (progress >= 1.0) return lerpToSize;
+        return lerpFromSize + (lerpToSize - lerpFromSize) * Math.max(0.0, progress);
+    }
+
+    /**
+     * How far (in blocks) a location is outside the virtual border, 0 if inside
+     */
+    public double getDistanceOutsideBorder(Location loc) {
+        if (virtualBorder == null || loc == null || loc.getWorld() != borderWorld) return 0;
+        double half = getVirtualSize() / 2.0;
+        double outX = Math.abs(loc.getX() - borderCenterX) - half;
+        double outZ = Math.abs(loc.getZ() - borderCenterZ) - half;
+        return Math.max(0, Math.max(outX, outZ));
+    }
+
+    /**
+     * Virtual borders never damage anyone - hurt alive players outside like a world border does:
+     * past the buffer, amount per block (at least 1), every 10 ticks like the damage cooldown
+     */
+    private void startDamageTask(double buffer, double amount) {
+        if (amount <= 0) return;
+
+        damageTask = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task border-damage", () -> {
+            EventManager eventManager = plugin.getEventManager();
+            if (eventManager == null || !eventManager.isEventRunning()) return;
+
+            for (UUID uuid : borderViewers) {
+                Player player = Bukkit.getPlayer(uuid);
+                if (player == null || !eventManager.isPlayerInEvent(player)) continue;
+                double beyondBuffer = getDistanceOutsideBorder(player.getLocation()) - buffer;
+                if (beyondBuffer > 0) {
+                    player.damage(Math.max(1, Math.floor(beyondBuffer * amount)));
+                }
+            }
+        }), DAMAGE_INTERVAL_TICKS, DAMAGE_INTERVAL_TICKS);
+    }
+
+    /**
+     * Reset border to original world settings
+     * Called when event stops
+     */
+    public void resetBorder(World world) {
+        if (world == null) {
+            plugin.getLogger().warning("Cannot reset border: world is null");
+            debug(() -> "resetBorder failed - world is null");
+            return;
+        }
+
+        debug(() -> "Resetting border for world: " + world.getName());
+        stopBorderShrink();
+
+        if (virtualBorder != null) {
+            // Per-player mode: hand everyone their normal border back, the world border was never changed
+            clearViewers();
+            currentSize = startSize;
+            debug(() -> "Per-player border cleared");
+            return;
+        }
+
+        WorldBorder border = world.getWorldBorder();
+
+        // Restore original settings or use default
+        if (originalCenter != null) {
+            border.setCenter(originalCenter);
+            debug(() -> "Restored original center: " + originalCenter.getBlockX() + "," + originalCenter.getBlockZ());
+        } else {
+            border.setCenter(0, 0);
+            debug(() -> "No original center saved, using 0,0");
+        }
+
+        if (originalBorderSize > 0) {
+            border.setSize(originalBorderSize);
+            debug(() -> "Restored original size: " + originalBorderSize);
+        } else {
+            border.setSize(59999968); // Default Minecraft border size
+            debug(() -> "No original size saved, using default: 59999968");
+        }
+
+        currentSize = startSize;
+        debug(() -> "Border reset complete. currentSize reset to: " + startSize);
+    }
+
+    /**
+     * Set shrink interval in seconds
+     * Can be changed via command
+     */
+    public void setShrinkInterval(int seconds) {
+        if (seconds < 10) {
+            plugin.getLogger().warning("Shrink interval too low, setting to minimum 10 seconds");
+            seconds = 10; // Minimum 10 seconds to prevent lag
+        }
+        this.shrinkInterval = seconds;
+        plugin.getLogger().info("Border shrink interval set to " + seconds + " seconds");
+    }
+
+    /**
+     * Get current border size
+     */
+    public int getCurrentSize() {
+        return currentSize;
+    }
+
+    /**
+     * Get shrink interval
+     */
+    public int getShrinkInterval() {
+        return shrinkInterval;
+    }
+
+    /**
+     * Check if border is currently shrinking
+     */
+    public boolean isShrinking() {
+        return shrinkTask != null;
+    }
+
+    /**
+     * Get start size from config
+     */
+    public int getStartSize() {
+        return startSize;
+    }
+
+    /**
+     * Get minimum size from config
+     */
+    public int getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * Force set border to specific size (emergency use)
+     */
+    public void setBorderSize(World world, int size) {
+        if (world == null) return;
+
+        WorldBorder border = virtualBorder != null ? virtualBorder : world.getWorldBorder();
+        border.setSize(size);
+        if (border == virtualBorder) {
+            setLerp(size, size, 0);
+        }
+        currentSize = size;
+        plugin.getLogger().info("Border manually set to " + size + "x" + size);
+    }
+}
\ No newline at end of file
@@ -5,9 +5,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Tracks damage sources for proper kill attribution.
@@ -22,24 +21,16 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DamageTracker {
 
     private final MeowMCEvents plugin;
-    
-    // Maps victim UUID -> attacker UUID (last player who damaged them)
-    private final Map<UUID, UUID> lastDamager = new ConcurrentHashMap<>();
-    
-    // Maps victim UUID -> timestamp of last damage
-    private final Map<UUID, Long> lastDamageTime = new ConcurrentHashMap<>();
-    
-    // Maps victim UUID -> damage cause description (for kill feed)
-    private final Map<UUID, String> lastDamageCause = new ConcurrentHashMap<>();
-    
-    // Combat tag duration in milliseconds (default 8 seconds)
-    private static final long COMBAT_TAG_DURATION_MS = 8000;
-    
+
+    // Attribution itself lives in core; this class maps players in and out
+    private final DamageLedger ledger;
+
     // Cleanup task
     private BukkitTask cleanupTask;
 
     public DamageTracker(MeowMCEvents plugin) {
         this.plugin = plugin;
+        this.ledger = new DamageLedger(plugin.getPlatform());
         startCleanupTask();
     }
 
@@ -54,14 +45,11 @@ public class DamageTracker {
         if (victim == null || attacker == null) return;
         if (victim.equals(attacker)) return; // Ignore self-damage
         
-        UUID victimId = victim.getUniqueId();
-        UUID attackerId = attacker.getUniqueId();
-        
-        lastDamager.put(victimId, attackerId);
-        lastDamageTime.put(victimId, System.currentTimeMillis());
-        lastDamageCause.put(victimId, cause);
-        
-        debug("Recorded damage: " + attacker.getName() + " -> " + victim.getName() + " (" + cause + ")");
+        ledger.record(victim.getUniqueId(), attacker.getUniqueId(), cause);
+
+        if (plugin.getConfigManager().isDebugEnabled()) {
+            debug(() -> "Recorded damage: " + attacker.getName() + " -> " + victim.getName() + " (" + cause + ")");
+        }
     }
 
     /**
@@ -71,23 +59,8 @@ public class DamageTracker {
     public Player getLastAttacker(Player victim) {
         if (victim == null) return null;
         
-        UUID victimId = victim.getUniqueId();
-        UUID attackerId = lastDamager.get(victimId);
-        
-        if (attackerId == null) return null;
-        
-        // Check if combat tag expired
-        Long damageTime = lastDamageTime.get(victimId);
-        if (damageTime == null) return null;
-        
-        long elapsed = System.currentTimeMillis() - damageTime;
-        if (elapsed > COMBAT_TAG_DURATION_MS) {
-            // Combat tag expired, clear data
-            clearPlayer(victimId);
-            return null;
-        }
-        
-        return Bukkit.getPlayer(attackerId);
+        UUID attackerId = ledger.getLastAttacker(victim.getUniqueId());
+        return attackerId != null ? Bukkit.getPlayer(attackerId) : null;
     }
 
     /**
@@ -95,7 +68,7 @@ public class DamageTracker {
      */
     public String getLastDamageCause(Player victim) {
         if (victim == null) return null;
-        return lastDamageCause.get(victim.getUniqueId());
+        return ledger.getLastDamageCause(victim.getUniqueId());
     }
 
     /**
@@ -109,38 +82,22 @@ public class DamageTracker {
      * Clear tracking data for a player (on death, quit, etc.)
      */
     public void clearPlayer(UUID uuid) {
-        lastDamager.remove(uuid);
-        lastDamageTime.remove(uuid);
-        lastDamageCause.remove(uuid);
+        ledger.clear(uuid);
     }
 
     /**
      * Clear all tracking data (on event end).
      */
     public void clearAll() {
-        lastDamager.clear();
-        lastDamageTime.clear();
-        lastDamageCause.clear();
+        ledger.clearAll();
     }
 
     /**
      * Start periodic cleanup of expired combat tags.
      */
     private void startCleanupTask() {
-        cleanupTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            long now = System.currentTimeMillis();
-            
-            // Remove expired entries
-            lastDamageTime.entrySet().removeIf(entry -> {
-                if (now - entry.getValue() > COMBAT_TAG_DURATION_MS) {
-                    UUID victimId = entry.getKey();
-                    lastDamager.remove(victimId);
-                    lastDamageCause.remove(victimId);
-                    return true;
-                }
-                return false;
-            });
-        }, 200L, 200L); // Run every 10 seconds
+        cleanupTask = Bukkit.getScheduler().runTaskTimer(plugin,
+                Profiler.timed(plugin, "task damage-tracker-cleanup", ledger::purgeExpired), 200L, 200L); // Run every 10 seconds
     }
 
     /**
@@ -154,9 +111,9 @@ public class DamageTracker {
         clearAll();
     }
 
-    private void debug(String message) {
+    private void debug(Supplier<String> message) {
         if (plugin.getConfigManager().isDebugEnabled()) {
-            plugin.getLogger().info("[DEBUG:DAMAGE_TRACKER] " + message);
+            plugin.getLogger().info("[DEBUG:DAMAGE_TRACKER] " + message.get());
         }
     }
 }
@@ -1,24 +1,27 @@
 package me.oblueberrey.meowMcEvents.managers;
 
 import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.gui.SpectatorGUI;
 import me.oblueberrey.meowMcEvents.listeners.ArenaBoundaryListener;
-import me.oblueberrey.meowMcEvents.listeners.SpectatorCompassListener;
 import me.oblueberrey.meowMcEvents.utils.EventFeedback;
 import me.oblueberrey.meowMcEvents.utils.EventState;
+import me.oblueberrey.meowMcEvents.utils.LogFields;
 import me.oblueberrey.meowMcEvents.utils.LogManager;
 import me.oblueberrey.meowMcEvents.utils.MessageUtils;
 import org.bukkit.*;
 import org.bukkit.boss.BarColor;
 import org.bukkit.entity.Player;
-import org.bukkit.GameMode;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class EventManager {
 
+    // Role bits kept per player so hot paths (movement) need a single map read
+    public static final int ROLE_QUEUED = EventSession.ROLE_QUEUED;
+    public static final int ROLE_ALIVE = EventSession.ROLE_ALIVE;
+    public static final int ROLE_SPECTATOR = EventSession.ROLE_SPECTATOR;
+
     private final MeowMCEvents plugin;
     private final TeamManager teamManager;
     private final KillStreakManager killStreakManager;
@@ -27,28 +30,22 @@ public class EventManager {
     private final EventStatsManager eventStatsManager;
     private final EventFeedback eventFeedback;
 
-    private volatile EventState state;
+    private final EventSession session; // State machine and roster (queued/alive/spectating)
     private volatile boolean buildingAllowed;
     private volatile boolean breakingAllowed;
     private volatile boolean naturalRegenAllowed;
     private volatile int teamSize;
-    private final Set<UUID> joinedPlayers; // Players who joined with /event (thread-safe)
-    private final Set<UUID> alivePlayers; // Players currently alive in event (thread-safe)
-    private final Set<UUID> spectators; // Players spectating the event (thread-safe)
     private BukkitTask winnerCheckTask;
     private BukkitTask countdownTask;
     private volatile boolean gracePeriodActive;
     private BukkitTask gracePeriodTask;
-    private final Set<UUID> pendingRespawn; // Players who died in event, awaiting respawn
-    private final Set<UUID> fallDamageImmune; // Temporary fall damage immunity after teleport
-    private final Set<UUID> spectatorGracePeriod; // Spectators with temporary invulnerability
+    private volatile boolean kitLockActive; // PvP stays off until every participant has a kit
+    private final KitDistributor kitDistributor;
+    private final SpatialIndex spatialIndex; // Alive player positions for proximity queries
+    private final SpectatorController spectatorController; // Spectator game mode, items and visibility
     private ArenaManager arenaManager;
     private ArenaBoundaryListener arenaBoundaryListener;
 
-    // Lock to prevent race conditions in winner detection
-    private final Object winnerLock = new Object();
-    private final AtomicBoolean winnerAnnounced = new AtomicBoolean(false);
-
     public EventManager(MeowMCEvents plugin, TeamManager teamManager,
                         KillStreakManager killStreakManager, BorderManager borderManager, KitManager kitManager,
                         EventStatsManager eventStatsManager, EventFeedback eventFeedback) {
@@ -57,20 +54,16 @@ public class EventManager {
         this.killStreakManager = killStreakManager;
         this.borderManager = borderManager;
         this.kitManager = kitManager;
+        this.kitDistributor = new KitDistributor(plugin, kitManager);
         this.eventStatsManager = eventStatsManager;
         this.eventFeedback = eventFeedback;
-        this.state = EventState.IDLE;
+        this.session = new EventSession(plugin.getPlatform());
         this.buildingAllowed = plugin.getConfigManager().isDefaultBuildingAllowed();
         this.breakingAllowed = plugin.getConfigManager().isDefaultBreakingAllowed();
         this.naturalRegenAllowed = plugin.getConfigManager().isDefaultNaturalRegenAllowed();
         this.teamSize = plugin.getConfigManager().getDefaultMode(); // Load from config
-        // Use thread-safe sets to prevent ConcurrentModificationException
-        this.joinedPlayers = ConcurrentHashMap.newKeySet();
-        this.alivePlayers = ConcurrentHashMap.newKeySet();
-        this.spectators = ConcurrentHashMap.newKeySet();
-        this.pendingRespawn = ConcurrentHashMap.newKeySet();
-        this.fallDamageImmune = ConcurrentHashMap.newKeySet();
-        this.spectatorGracePeriod = ConcurrentHashMap.newKeySet();
+        this.spatialIndex = new SpatialIndex(4, teamManager::getTeam); // 16-block cells
+        this.spectatorController = new SpectatorController(plugin, eventFeedback, session::isSpectator);
 
         if (plugin.getConfigManager().shouldLogEvents()) {
             plugin.getLogger().info("[DEBUG:EVENT] EventManager initialized. Default mode: " + teamSize + ", Building: " + buildingAllowed + ", Breaking: " + breakingAllowed + ", NaturalRegen: " + naturalRegenAllowed);
@@ -84,15 +77,12 @@ public class EventManager {
         if (!plugin.getLicenseManager().canStartEvent()) {
             return;
         }
-        if (state != EventState.IDLE) {
-            if (plugin.getConfigManager().shouldLogEvents()) {
-                plugin.getLogger().info("[DEBUG:EVENT] Countdown/event already active (State: " + state + ")");
-            }
+        if (!session.beginCountdown()) {
             return;
         }
 
-        state = EventState.COUNTDOWN;
-        joinedPlayers.clear();
+        spatialIndex.clear();
+        resetSpectatorGUI();
 
         int countdownSeconds = plugin.getConfigManager().getCountdownSeconds();
 
@@ -123,7 +113,7 @@ public class EventManager {
 
         // Start countdown task
         final int[] timeLeft = {countdownSeconds};
-        countdownTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        countdownTask = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task countdown", () -> {
             timeLeft[0]--;
 
             // Broadcast at specific intervals
@@ -134,7 +124,7 @@ public class EventManager {
                         "&6&l[MeowEvent] &c" + timeLeft[0] + " seconds &eremaining to join! Use /event to join!"));
 
                 // Play countdown tick sound and show title to joined players
-                for (UUID uuid : joinedPlayers) {
+                for (UUID uuid : session.getJoinedPlayers()) {
                     Player player = Bukkit.getPlayer(uuid);
                     if (player != null) {
                         eventFeedback.playCountdownTick(player, timeLeft[0]);
@@ -151,7 +141,7 @@ public class EventManager {
                 // Start the actual event
                 startEvent();
             }
-        }, 20L, 20L); // Run every second
+        }), 20L, 20L); // Run every second
     }
 
     /**
@@ -162,8 +152,9 @@ public class EventManager {
             countdownTask.cancel();
             countdownTask = null;
         }
-        state = EventState.IDLE;
-        joinedPlayers.clear();
+        session.cancelCountdown();
+        spatialIndex.clear();
+        resetSpectatorGUI();
 
         Bukkit.broadcastMessage(ChatColor.translateAlternateColorCodes('&',
                 "&c&l[MeowEvent] &eEvent countdown has been cancelled!"));
@@ -193,16 +184,29 @@ public class EventManager {
      * Check if countdown is active (players can join)
      */
     public boolean isCountdownActive() {
-        return state == EventState.COUNTDOWN;
+        return session.getState() == EventState.COUNTDOWN;
     }
 
     /**
      * Add player to event queue
      */
     public void addPlayer(Player player) {
-        joinedPlayers.add(player.getUniqueId());
+        session.join(player.getUniqueId());
+
+        // Build the spectator menu head now so skins are resolved before anyone opens it
+        SpectatorGUI spectatorGUI = plugin.getSpectatorGUI();
+        if (spectatorGUI != null) {
+            spectatorGUI.cacheHead(player);
+        }
+        PluginMetrics metrics = plugin.getMetrics();
+        if (metrics != null) metrics.playerJoined();
         if (plugin.getConfigManager().shouldLogPlayers()) {
-            plugin.getLogger().info("[DEBUG:PLAYER] " + player.getName() + " joined event queue. Total queued: " + joinedPlayers.size());
+            plugin.getLogger().info("[DEBUG:PLAYER] " + player.getName() + " joined event queue. Total queued: " + session.getJoinedPlayers().size());
+        }
+        LogManager log = plugin.getLogManager();
+        if (log != null && log.isLoggable(LogManager.LogLevel.INFO, LogManager.Category.PLAYERS)) {
+            log.info(LogManager.Category.PLAYERS, player.getName() + " joined the event",
+                    LogFields.of().player(player.getUniqueId()).count("queued", session.getJoinedPlayers().size()));
         }
     }
 
@@ -211,18 +215,27 @@ public class EventManager {
      */
     public void removePlayer(Player player) {
         UUID uuid = player.getUniqueId();
-        joinedPlayers.remove(uuid);
-        alivePlayers.remove(uuid);
-        fallDamageImmune.remove(uuid);
+        session.leave(uuid);
+        spatialIndex.remove(uuid);
+        if (!session.isSpectator(uuid)) {
+            borderManager.removeViewer(player);
+        }
         teamManager.removeFromTeam(player);
         killStreakManager.resetStreak(player);
 
-        // Clear potion effects
-        player.getActivePotionEffects().forEach(effect ->
-            player.removePotionEffect(effect.getType()));
+        SpectatorGUI spectatorGUI = plugin.getSpectatorGUI();
+        if (spectatorGUI != null) {
+            spectatorGUI.markEliminated(uuid);
+        }
+        ReplayRecorder replayRecorder = plugin.getReplayRecorder();
+        if (replayRecorder != null) {
+            replayRecorder.markRemoved(uuid);
+        }
+
+        SpectatorController.clearEffects(player);
 
         if (plugin.getConfigManager().shouldLogPlayers()) {
-            plugin.getLogger().info("[DEBUG:PLAYER] " + player.getName() + " removed from event. Alive: " + alivePlayers.size() + ", Queued: " + joinedPlayers.size());
+            plugin.getLogger().info("[DEBUG:PLAYER] " + player.getName() + " removed from event. Alive: " + session.getAlivePlayers().size() + ", Queued: " + session.getJoinedPlayers().size());
         }
     }
 
@@ -230,14 +243,14 @@ public class EventManager {
      * Check if player has joined the event
      */
     public boolean hasPlayerJoined(Player player) {
-        return joinedPlayers.contains(player.getUniqueId());
+        return session.hasJoined(player.getUniqueId());
     }
 
     /**
      * Check if player is currently in the event
      */
     public boolean isPlayerInEvent(Player player) {
-        return alivePlayers.contains(player.getUniqueId());
+        return session.isAlive(player.getUniqueId());
     }
 
     /**
@@ -247,45 +260,12 @@ public class EventManager {
      * Spectators are hidden from non-spectators (only other spectators can see them)
      */
     public void addSpectator(Player player) {
-        spectators.add(player.getUniqueId());
+        session.addSpectator(player.getUniqueId());
 
-        // Set gamemode from config (ADVENTURE or SPECTATOR)
-        String gamemodeConfig = plugin.getConfigManager().getSpectatorGamemode();
-        if ("SPECTATOR".equalsIgnoreCase(gamemodeConfig)) {
-            player.setGameMode(GameMode.SPECTATOR);
-        } else {
-            // Default to ADVENTURE mode with flying
-            player.setGameMode(GameMode.ADVENTURE);
-            player.setAllowFlight(true);
-            player.setFlying(true);
-            // Set flight speed from config
-            float flightSpeed = plugin.getConfigManager().getSpectatorFlightSpeed();
-            player.setFlySpeed(flightSpeed);
-        }
-
-        // Clear and give spectator items (only if not in SPECTATOR gamemode)
-        player.getInventory().clear();
-        if (!"SPECTATOR".equalsIgnoreCase(gamemodeConfig)) {
-            int compassSlot = plugin.getConfigManager().getCompassSlot();
-            int leaveSlot = plugin.getConfigManager().getLeaveSlot();
-            player.getInventory().setItem(compassSlot, SpectatorCompassListener.createSpectatorCompass());
-            player.getInventory().setItem(leaveSlot, SpectatorCompassListener.createLeaveDye());
-        }
-
-        // Hide spectator from all non-spectators (alive players and non-event players)
-        // Only other spectators can see this spectator
-        for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-            if (!onlinePlayer.equals(player)) {
-                if (spectators.contains(onlinePlayer.getUniqueId())) {
-                    // Other spectators can see this spectator
-                    onlinePlayer.showPlayer(plugin, player);
-                    player.showPlayer(plugin, onlinePlayer);
-                } else {
-                    // Non-spectators cannot see this spectator
-                    onlinePlayer.hidePlayer(plugin, player);
-                }
-            }
-        }
+        spectatorController.apply(player);
+
+        // Spectators see the event border (per-player border mode)
+        borderManager.addViewer(player);
 
         // Add to boss bar and play spectator feedback
         eventFeedback.addPlayerToBossBar(player);
@@ -297,15 +277,14 @@ public class EventManager {
             scoreboardManager.addPlayer(player);
         }
 
-        // Add spectator grace period (temporary invulnerability)
-        spectatorGracePeriod.add(player.getUniqueId());
+        // End the spectator grace period (temporary invulnerability)
         int graceTicks = plugin.getConfigManager().getSpectatorGracePeriodTicks();
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            spectatorGracePeriod.remove(player.getUniqueId());
+            session.endSpectatorGrace(player.getUniqueId());
         }, graceTicks);
 
         if (plugin.getConfigManager().shouldLogPlayers()) {
-            plugin.getLogger().info("[DEBUG:PLAYER] " + player.getName() + " added as spectator (adventure+fly, hidden from non-spectators, grace: " + graceTicks + " ticks). Total spectators: " + spectators.size());
+            plugin.getLogger().info("[DEBUG:PLAYER] " + player.getName() + " added as spectator (adventure+fly, hidden from non-spectators, grace: " + graceTicks + " ticks). Total spectators: " + session.getSpectators().size());
         }
     }
 
@@ -313,34 +292,17 @@ public class EventManager {
      * Check if spectator is in grace period (invulnerable)
      */
     public boolean isSpectatorInGracePeriod(Player player) {
-        return spectatorGracePeriod.contains(player.getUniqueId());
+        return session.isInSpectatorGrace(player.getUniqueId());
     }
 
     /**
      * Remove player from spectators
      */
     public void removeSpectator(Player player) {
-        spectators.remove(player.getUniqueId());
-        spectatorGracePeriod.remove(player.getUniqueId());
+        session.removeSpectator(player.getUniqueId());
+        borderManager.removeViewer(player);
 
-        // Reset game mode and flight
-        player.setGameMode(GameMode.SURVIVAL);
-        player.setAllowFlight(false);
-        player.setFlying(false);
-        player.setFlySpeed(0.1f); // Reset to default flight speed
-        player.getInventory().clear();
-
-        // Clear potion effects
-        player.getActivePotionEffects().forEach(effect ->
-            player.removePotionEffect(effect.getType()));
-
-        // Make visible to all players again
-        for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-            onlinePlayer.showPlayer(plugin, player);
-        }
-
-        // Remove from boss bar
-        eventFeedback.removePlayerFromBossBar(player);
+        spectatorController.restore(player);
 
         // Remove from scoreboard
         ScoreboardManager scoreboardManager = plugin.getScoreboardManager();
@@ -348,28 +310,27 @@ public class EventManager {
             scoreboardManager.removePlayer(player);
         }
 
-        // Clear spectator compass tracking
-        if (plugin.getSpectatorCompassListener() != null) {
-            plugin.getSpectatorCompassListener().clearSpectatorIndex(player);
-        }
-
         if (plugin.getConfigManager().shouldLogPlayers()) {
-            plugin.getLogger().info("[DEBUG:PLAYER] " + player.getName() + " removed from spectators. Remaining spectators: " + spectators.size());
+            plugin.getLogger().info("[DEBUG:PLAYER] " + player.getName() + " removed from spectators. Remaining spectators: " + session.getSpectators().size());
         }
     }
 
+    public KitDistributor getKitDistributor() {
+        return kitDistributor;
+    }
+
     /**
      * Check if player is a spectator
      */
     public boolean isSpectator(Player player) {
-        return spectators.contains(player.getUniqueId());
+        return session.isSpectator(player.getUniqueId());
     }
 
     /**
      * Get spectator count
      */
     public int getSpectatorCount() {
-        return spectators.size();
+        return session.getSpectators().size();
     }
 
     /**
@@ -378,35 +339,38 @@ public class EventManager {
     public void startEvent() {
         LogManager log = plugin.getLogManager();
 
-        if (state == EventState.RUNNING || state == EventState.ENDING) {
-            if (log != null) log.warn(LogManager.Category.EVENTS, "startEvent() called but state is " + state + " - aborting");
+        if (!session.canStart()) {
+            if (log != null) log.warn(LogManager.Category.EVENTS, "startEvent() called but state is {} - aborting", session.getState());
             return;
         }
 
         List<Player> players = new ArrayList<>();
+        Set<UUID> joinedPlayers = session.getJoinedPlayers();
         for (UUID uuid : joinedPlayers) {
             Player player = Bukkit.getPlayer(uuid);
             if (player != null && player.isOnline()) {
                 players.add(player);
             } else {
-                if (log != null) log.warn(LogManager.Category.PLAYERS, "Player with UUID " + uuid + " is null or offline during event start");
+                if (log != null) log.warn(LogManager.Category.PLAYERS, "Player with UUID {} is null or offline during event start", uuid);
             }
         }
 
-        if (log != null) log.info(LogManager.Category.EVENTS, "Starting event with " + players.size() + " online players (joined: " + joinedPlayers.size() + ")");
+        if (log != null && log.isLoggable(LogManager.LogLevel.INFO, LogManager.Category.EVENTS)) {
+            log.info(LogManager.Category.EVENTS, "Starting event with " + players.size() + " online players (joined: " + joinedPlayers.size() + ")",
+                    LogFields.of().count("players", players.size()).count("joined", joinedPlayers.size()).count("teamSize", teamSize));
+        }
 
         // Check minimum player requirement
         if (players.size() < plugin.getConfigManager().getMinPlayers()) {
-            if (log != null) log.error(LogManager.Category.EVENTS, "NOT ENOUGH PLAYERS - Required: " + plugin.getConfigManager().getMinPlayers() + ", Got: " + players.size());
+            if (log != null) log.error(LogManager.Category.EVENTS, () -> "NOT ENOUGH PLAYERS - Required: " + plugin.getConfigManager().getMinPlayers() + ", Got: " + players.size());
             Bukkit.broadcastMessage(MessageUtils.colorize(MessageUtils.PREFIX + plugin.getConfigManager().getMessage("not-enough-players")));
-            state = EventState.IDLE;
+            session.reset();
             return;
         }
 
         // Initialize event state
-        state = EventState.RUNNING;
-        winnerAnnounced.set(false); // Reset winner flag for new event
-        alivePlayers.clear();
+        session.begin();
+        spatialIndex.clear();
         killStreakManager.clearAllStreaks();
         eventStatsManager.reset();
 
@@ -437,30 +401,29 @@ public class EventManager {
         Location spawn = plugin.getConfigManager().getSpawnLocation();
         if (spawn == null || spawn.getWorld() == null) {
             plugin.getLogger().severe("[ERROR] Spawn location or world is null! Check config.yml spawn settings.");
-            state = EventState.IDLE;
+            session.reset();
             return;
         }
 
+        PluginMetrics metrics = plugin.getMetrics();
+        if (metrics != null) metrics.eventStarted();
+
         if (plugin.getConfigManager().shouldLogEvents()) {
             plugin.getLogger().info("[DEBUG:EVENT] Teleporting players to spawn: " + spawn.getWorld().getName() + " at " + spawn.getBlockX() + ", " + spawn.getBlockY() + ", " + spawn.getBlockZ());
         }
 
         for (Player player : players) {
             player.teleport(spawn);
-            alivePlayers.add(player.getUniqueId());
+            session.addAlive(player.getUniqueId()); // Fall damage immune for the first 3 seconds
+            spatialIndex.update(player.getUniqueId(), spawn.getWorld().getUID(), spawn.getX(), spawn.getY(), spawn.getZ());
 
-            // Clear potion effects for a clean start
-            player.getActivePotionEffects().forEach(effect ->
-                player.removePotionEffect(effect.getType()));
+            SpectatorController.clearEffects(player);
 
             // Reset health and hunger
             player.setHealth(player.getMaxHealth());
             player.setFoodLevel(20);
             player.setSaturation(20f);
 
-            // Grant temporary fall damage immunity (3 seconds)
-            fallDamageImmune.add(player.getUniqueId());
-
             // Send team notification if in team mode
             if (teamSize > 1) {
                 int team = teamManager.getTeam(player);
@@ -470,21 +433,27 @@ public class EventManager {
             }
         }
         
-        // Give kits after a short delay to ensure teleport is complete
-        // This prevents kit command issues from player not being fully loaded at location
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            for (Player player : players) {
-                if (player != null && player.isOnline() && isPlayerInEvent(player)) {
-                    kitManager.giveSelectedKit(player);
-                }
-            }
-        }, 5L); // 5 tick delay (0.25 seconds)
+        // Give kits spread over ticks once teleports settle; PvP is locked until all are applied
+        kitLockActive = true;
+        kitDistributor.distribute(players, this::isPlayerInEvent, this::onKitsDistributed);
 
         // Register all participants for stats tracking
-        eventStatsManager.registerParticipants(alivePlayers);
+        eventStatsManager.registerParticipants(session.getAlivePlayers());
+        PlayerStatsStore statsStore = plugin.getPlayerStatsStore();
+        if (statsStore != null) {
+            statsStore.holdParticipants(session.getAlivePlayers());
+        }
+        MatchArchive matchArchive = plugin.getMatchArchive();
+        if (matchArchive != null) {
+            matchArchive.beginMatch(teamSize);
+        }
+        ReplayRecorder replayRecorder = plugin.getReplayRecorder();
+        if (replayRecorder != null) {
+            replayRecorder.start(players, spawn.getWorld());
+        }
 
         // Start border shrinking
-        borderManager.startBorderShrink(spawn.getWorld(), spawn);
+        borderManager.startBorderShrink(spawn.getWorld(), getBorderCenter(spawn), players);
 
         // Broadcast start message
         String startTitle = MessageUtils.colorize("&a&lEVENT BEGUN");
@@ -509,20 +478,31 @@ public class EventManager {
         for (Player player : players) {
             eventFeedback.addPlayerToBossBar(player);
         }
-        eventFeedback.startBossBarUpdates(alivePlayers, spectators, players.size());
+        eventFeedback.startBossBarUpdates(session.getAlivePlayers(), session.getSpectators(), players.size());
 
         // Start live scoreboard sidebar
         ScoreboardManager scoreboardManager = plugin.getScoreboardManager();
         if (scoreboardManager != null) {
-            scoreboardManager.startScoreboard(alivePlayers);
+            scoreboardManager.startScoreboard(session.getAlivePlayers());
         }
 
         // Start tab list formatting
         TabListManager tabListManager = plugin.getTabListManager();
         if (tabListManager != null) {
-            tabListManager.startTabList(alivePlayers);
+            tabListManager.startTabList(session.getAlivePlayers());
         }
 
+        // Start nearest-enemy compass tracking (if enabled)
+        TrackingCompassManager trackingCompassManager = plugin.getTrackingCompassManager();
+        if (trackingCompassManager != null) {
+            trackingCompassManager.start();
+        }
+
+        // Lay out the shared spectator roster
+        SpectatorGUI spectatorGUI = plugin.getSpectatorGUI();
+        if (spectatorGUI != null) {
+            spectatorGUI.start();
+        }
 
         // Start winner check task (runs every second)
         startWinnerCheckTask();
@@ -532,7 +512,7 @@ public class EventManager {
 
         // Remove fall damage immunity after 3 seconds
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            fallDamageImmune.clear();
+            session.clearFallDamageImmunity();
             if (plugin.getConfigManager().shouldLogEvents()) {
                 plugin.getLogger().info("[DEBUG:EVENT] Fall damage immunity expired for all players");
             }
@@ -546,7 +526,7 @@ public class EventManager {
         }
 
         if (plugin.getConfigManager().shouldLogEvents()) {
-            plugin.getLogger().info("[DEBUG:EVENT] Event started successfully. Alive players: " + alivePlayers.size());
+            plugin.getLogger().info("[DEBUG:EVENT] Event started successfully. Alive players: " + session.getAlivePlayers().size());
         }
     }
 
@@ -576,23 +556,47 @@ public class EventManager {
         // Schedule end of grace period
         gracePeriodTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
             gracePeriodActive = false;
-            String pvpEnabledTitle = MessageUtils.colorize("&c&lPVP ENABLED");
-            eventFeedback.broadcastSmallAnnouncement(
-                    "&#666666\u2694 " + pvpEnabledTitle + " &#666666\u2694",
-                    "&#FF9944The grace period has ended! Fight!"
-            );
+            gracePeriodTask = null;
 
             if (plugin.getConfigManager().shouldLogEvents()) {
-                plugin.getLogger().info("[DEBUG:EVENT] Grace period ended");
+                plugin.getLogger().info("[DEBUG:EVENT] Grace period ended" + (kitLockActive ? ", waiting for kits" : ""));
+            }
+            if (!kitLockActive) {
+                announcePvpEnabled();
             }
         }, gracePeriodSeconds * 20L);
     }
 
+    /**
+     * Every participant has their kit - lift the kit lock
+     * Announces PvP only if a grace period ran and ended before the kits were done
+     */
+    private void onKitsDistributed(int failed) {
+        kitLockActive = false;
+        if (!session.isRunning()) return;
+
+        if (plugin.getConfigManager().shouldLogEvents()) {
+            plugin.getLogger().info("[DEBUG:EVENT] Kit distribution finished (" + failed + " failed), kit lock lifted");
+        }
+        if (!gracePeriodActive && plugin.getConfigManager().getPvpGracePeriodSeconds() > 0) {
+            announcePvpEnabled();
+        }
+    }
+
+    private void announcePvpEnabled() {
+        String pvpEnabledTitle = MessageUtils.colorize("&c&lPVP ENABLED");
+        eventFeedback.broadcastSmallAnnouncement(
+                "&#666666\u2694 " + pvpEnabledTitle + " &#666666\u2694",
+                "&#FF9944The grace period has ended! Fight!"
+        );
+    }
+
     /**
      * Check if grace period is currently active
+     * Also true while kits are still being handed out at event start
      */
     public boolean isGracePeriodActive() {
-        return gracePeriodActive;
+        return gracePeriodActive || kitLockActive;
     }
 
     /**
@@ -600,22 +604,24 @@ public class EventManager {
      */
     public void stopEvent() {
         // If countdown is active, cancel it
-        if (state == EventState.COUNTDOWN) {
+        if (session.getState() == EventState.COUNTDOWN) {
             cancelCountdown();
 
             // Teleport waiting players back to player eventspectate
             Location playerSpawn = plugin.getConfigManager().getPlayerSpawnLocation();
-            for (UUID uuid : joinedPlayers) {
+            for (UUID uuid : session.getJoinedPlayers()) {
                 Player player = Bukkit.getPlayer(uuid);
                 if (player != null && player.isOnline() && playerSpawn != null && playerSpawn.getWorld() != null) {
                     player.teleport(playerSpawn);
                 }
             }
-            joinedPlayers.clear();
+            session.clearRoster();
+            spatialIndex.clear();
+            resetSpectatorGUI();
             return;
         }
 
-        if (state != EventState.RUNNING && state != EventState.ENDING) {
+        if (!session.isActive()) {
             if (plugin.getConfigManager().shouldLogEvents()) {
                 plugin.getLogger().info("[DEBUG:EVENT] Attempted to stop event but no event running");
             }
@@ -623,10 +629,19 @@ public class EventManager {
         }
 
         if (plugin.getConfigManager().shouldLogEvents()) {
-            plugin.getLogger().info("[DEBUG:EVENT] Stopping event. Alive players before cleanup: " + alivePlayers.size());
+            plugin.getLogger().info("[DEBUG:EVENT] Stopping event. Alive players before cleanup: " + session.getAlivePlayers().size());
         }
 
-        state = EventState.ENDING;
+        // ENDING means a winner was already announced (and counted)
+        PluginMetrics metrics = plugin.getMetrics();
+        if (metrics != null && session.isRunning()) metrics.eventFinished("stopped");
+
+        // Force-stops and draws still count: survivors share first place, nobody wins
+        if (session.isRunning()) {
+            saveEventResults(Collections.emptySet());
+        }
+
+        session.end();
 
         // Stop winner check task
         if (winnerCheckTask != null) {
@@ -641,154 +656,14 @@ public class EventManager {
         }
         gracePeriodActive = false;
 
-        // Stop arena boundary enforcement
-        if (arenaBoundaryListener != null) {
-            arenaBoundaryListener.stopBoundaryCheck();
-        }
-        pendingRespawn.clear();
-        fallDamageImmune.clear();
-
-        // Reset border - use spawn location world instead of first world
-        Location spawn = plugin.getConfigManager().getSpawnLocation();
-        World world = spawn != null && spawn.getWorld() != null ? spawn.getWorld() : null;
-        if (world == null && !plugin.getServer().getWorlds().isEmpty()) {
-            world = plugin.getServer().getWorlds().get(0);
-        }
-        if (world != null) {
-            borderManager.resetBorder(world);
-        }
-
-        // Remove boss bar
-        eventFeedback.removeBossBar();
-
-        // Stop scoreboard
-        ScoreboardManager scoreboardManager = plugin.getScoreboardManager();
-        if (scoreboardManager != null) {
-            scoreboardManager.stopScoreboard();
-        }
-
-        // Stop tab list formatting
-        TabListManager tabListManager = plugin.getTabListManager();
-        if (tabListManager != null) {
-            tabListManager.stopTabList();
-        }
-
-        // Collect all players to send /spawn to (alive players + spectators)
-        Set<Player> playersToSpawn = new HashSet<>();
-
-        // Prepare alive players for /spawn
-        for (UUID uuid : alivePlayers) {
-            Player player = Bukkit.getPlayer(uuid);
-            if (player != null && player.isOnline()) {
-                player.getInventory().clear();
-                player.setHealth(20.0);
-                player.setFoodLevel(20);
-                // Clear potion effects
-                player.getActivePotionEffects().forEach(effect ->
-                    player.removePotionEffect(effect.getType()));
-                playersToSpawn.add(player);
-            }
-        }
-
-        // Prepare spectators for /spawn - reset their state first
-        for (UUID uuid : spectators) {
-            Player player = Bukkit.getPlayer(uuid);
-            if (player != null && player.isOnline()) {
-                // Reset spectator mode
-                player.setGameMode(GameMode.SURVIVAL);
-                player.setAllowFlight(false);
-                player.setFlying(false);
-                player.getInventory().clear();
-                // Clear potion effects
-                player.getActivePotionEffects().forEach(effect ->
-                    player.removePotionEffect(effect.getType()));
-                // Make spectators visible to all players again
-                for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-                    onlinePlayer.showPlayer(plugin, player);
-                }
-                // Remove from boss bar
-                eventFeedback.removePlayerFromBossBar(player);
-                // Clear spectator compass tracking
-                if (plugin.getSpectatorCompassListener() != null) {
-                    plugin.getSpectatorCompassListener().clearSpectatorIndex(player);
-                }
-                playersToSpawn.add(player);
-            }
-        }
-
-        // Clear teams, ranks, players, and spectators BEFORE making them run /spawn
-        teamManager.clearTeams();
-        killStreakManager.clearAllStreaks();
-        joinedPlayers.clear();
-        alivePlayers.clear();
-        spectators.clear();
-        spectatorGracePeriod.clear();
-
-        // Clear damage tracker
-        DamageTracker damageTracker = plugin.getDamageTracker();
-        if (damageTracker != null) {
-            damageTracker.clearAll();
-        }
+        Set<Player> playersToSpawn = tearDown();
 
         // Broadcast stop message
         Bukkit.broadcastMessage(MessageUtils.colorize(
                 plugin.getConfigManager().getMessage("event-stop")));
 
-        // Get configurable delay and command from config
-        final int delayTicks = plugin.getConfigManager().getEndSpawnDelayTicks();
-        final String endCommand = plugin.getConfigManager().getEndCommand();
-        final Set<Player> finalPlayersToSpawn = playersToSpawn;
-        final LogManager log = plugin.getLogManager();
-
-        if (log != null) log.info(LogManager.Category.EVENTS, "Scheduling /" + endCommand + " for " + finalPlayersToSpawn.size() + " players in " + delayTicks + " ticks");
-
-        // Skip command execution if end-command is empty
-        if (endCommand == null || endCommand.isEmpty()) {
-            if (log != null) log.info(LogManager.Category.EVENTS, "end-command is empty, skipping command execution");
-            state = EventState.IDLE;
-            return;
-        }
-
-        // Execute command 3 times with 1 tick delay between each
-        // Use console dispatch to bypass other plugins blocking player commands
-        for (int i = 0; i < 3; i++) {
-            final int attempt = i + 1;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                if (log != null) log.info(LogManager.Category.EVENTS, "Executing /" + endCommand + " for players via console (attempt " + attempt + "/3)...");
-
-                int successCount = 0;
-                int failCount = 0;
-
-                for (Player player : finalPlayersToSpawn) {
-                    if (player != null && player.isOnline()) {
-                        try {
-                            // Use console dispatch with player name substitution
-                            // Supports %player% placeholder or appends player name if not present
-                            String command = endCommand;
-                            if (command.contains("%player%")) {
-                                command = command.replace("%player%", player.getName());
-                            } else {
-                                // If no placeholder, append player name (e.g., "spawn" -> "spawn PlayerName")
-                                command = command + " " + player.getName();
-                            }
-                            Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
-                            successCount++;
-                            if (log != null && attempt == 1) log.debug(LogManager.Category.PLAYERS, "Console executed /" + command + " for " + player.getName());
-                        } catch (Exception e) {
-                            failCount++;
-                            if (log != null && attempt == 1) log.error(LogManager.Category.ERRORS, "Exception executing /" + endCommand + " for " + player.getName() + ": " + e.getMessage(), e);
-                        }
-                    } else {
-                        failCount++;
-                        if (log != null && attempt == 1) log.warn(LogManager.Category.PLAYERS, "Player in spawn list is null or offline - skipping");
-                    }
-                }
-
-                if (log != null) log.info(LogManager.Category.EVENTS, "stopEvent() attempt " + attempt + " complete - /" + endCommand + " executed: " + successCount + " success, " + failCount + " failed");
-            }, delayTicks + i); // Each attempt 1 tick apart
-        }
-
-        state = EventState.IDLE;
+        session.reset();
+        sendToSpawn(playersToSpawn, "stopEvent");
     }
 
     /**
@@ -802,84 +677,31 @@ public class EventManager {
         }
 
         winnerCheckTask = Bukkit.getScheduler().runTaskTimer(plugin,
-                this::checkForWinner, 20L, 20L); // Run every 1 second
+                Profiler.timed(plugin, "task winner-check", this::checkForWinner), 20L, 20L); // Run every 1 second
     }
 
     /**
      * Check if there's a winner
      */
     public void checkForWinner() {
-        if (state != EventState.RUNNING) {
-            return;
-        }
-
-        // Synchronize winner detection to prevent race conditions
-        synchronized (winnerLock) {
-            // Double-check after acquiring lock
-            if (state != EventState.RUNNING || winnerAnnounced.get()) {
-                return;
-            }
-
-            // Team mode: check if only one team has alive players
-            if (teamManager.isTeamMode()) {
-                int aliveTeams = teamManager.getAliveTeamCount(alivePlayers);
-
-                if (plugin.getConfigManager().shouldLogEvents()) {
-                    plugin.getLogger().info("[DEBUG:EVENT] Winner check - Team mode. Alive teams: " + aliveTeams + ", Alive players: " + alivePlayers.size());
-                }
-
-                if (aliveTeams <= 1) {
-                    int winningTeam = teamManager.getWinningTeam(alivePlayers);
-                    if (winningTeam != -1) {
-                        // Prevent double announcement
-                        if (winnerAnnounced.compareAndSet(false, true)) {
-                            if (plugin.getConfigManager().shouldLogEvents()) {
-                                plugin.getLogger().info("[DEBUG:EVENT] Team winner detected: Team " + winningTeam);
-                            }
-                            announceTeamWinner(winningTeam);
-                        }
-                    } else {
-                        // No teams left, stop event
-                        if (plugin.getConfigManager().shouldLogEvents()) {
-                            plugin.getLogger().info("[DEBUG:EVENT] No teams left, stopping event");
-                        }
-                        stopEvent();
-                    }
-                }
-            }
-            // Solo mode: check if only one player is alive
-            else {
-                if (plugin.getConfigManager().shouldLogEvents()) {
-                    plugin.getLogger().info("[DEBUG:EVENT] Winner check - Solo mode. Alive players: " + alivePlayers.size());
-                }
-
-                if (alivePlayers.size() <= 1) {
-                    if (alivePlayers.size() == 1) {
-                        UUID winnerUUID = alivePlayers.iterator().next();
-                        Player winner = Bukkit.getPlayer(winnerUUID);
-                        if (winner != null) {
-                            // Prevent double announcement
-                            if (winnerAnnounced.compareAndSet(false, true)) {
-                                if (plugin.getConfigManager().shouldLogEvents()) {
-                                    plugin.getLogger().info("[DEBUG:EVENT] Solo winner detected: " + winner.getName());
-                                }
-                                announceSoloWinner(winner);
-                            }
-                        } else {
-                            if (plugin.getConfigManager().shouldLogEvents()) {
-                                plugin.getLogger().info("[DEBUG:EVENT] Winner player is offline, stopping event");
-                            }
-                            stopEvent();
-                        }
-                    } else {
-                        // No winner (everyone died somehow)
-                        if (plugin.getConfigManager().shouldLogEvents()) {
-                            plugin.getLogger().info("[DEBUG:EVENT] No players left, stopping event");
-                        }
-                        stopEvent();
-                    }
+        EventSession.Outcome outcome = session.checkForWinner(teamManager);
+        switch (outcome.getType()) {
+            case SOLO:
+                Player winner = Bukkit.getPlayer(outcome.getWinner());
+                if (winner != null) {
+                    announceSoloWinner(winner);
+                } else {
+                    stopEvent();
                 }
-            }
+                break;
+            case TEAM:
+                announceTeamWinner(outcome.getTeam());
+                break;
+            case NO_WINNER:
+                stopEvent();
+                break;
+            default:
+                break;
         }
     }
 
@@ -888,7 +710,10 @@ public class EventManager {
      */
     private void announceSoloWinner(Player winner) {
         // Stop event FIRST to prevent multiple calls
-        state = EventState.ENDING;
+        session.end();
+
+        PluginMetrics metrics = plugin.getMetrics();
+        if (metrics != null) metrics.eventFinished("winner");
 
         // Stop winner check task
         if (winnerCheckTask != null) {
@@ -896,27 +721,15 @@ public class EventManager {
             winnerCheckTask = null;
         }
 
-        String message = plugin.getConfigManager().getMessage("winner-solo")
-                .replace("%player%", winner.getName());
-
-        // Broadcast solo winner
-        String winTitle = MessageUtils.colorize("&6&lVICTORY");
-        eventFeedback.broadcastAnnouncement(
-                "&#666666\u2B50 " + winTitle + " &#666666\u2B50",
-                "&#FFE566" + winner.getName() + " &#FF9944has won the event!",
-                "&#AAAAAAcongratulations on your triumph!"
-        );
+        LogManager log = plugin.getLogManager();
+        if (log != null && log.isLoggable(LogManager.LogLevel.INFO, LogManager.Category.EVENTS)) {
+            log.info(LogManager.Category.EVENTS, "Solo winner: " + winner.getName(),
+                    LogFields.of().player(winner.getUniqueId()));
+        }
 
-        // Full winner celebration effects
-        eventFeedback.onWin(winner);
+        eventFeedback.announceSoloWinner(winner);
 
-        // Send winner title to all other players
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!player.equals(winner)) {
-                eventFeedback.sendTitle(player, "&6&lWINNER", "&e" + winner.getName(), 10, 70, 20);
-                eventFeedback.playSound(player, Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
-            }
-        }
+        saveEventResults(Collections.singleton(winner.getUniqueId()));
 
         // Announce rankings after 3 seconds
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
@@ -932,7 +745,10 @@ public class EventManager {
      */
     private void announceTeamWinner(int teamNumber) {
         // Stop event FIRST to prevent multiple calls
-        state = EventState.ENDING;
+        session.end();
+
+        PluginMetrics metrics = plugin.getMetrics();
+        if (metrics != null) metrics.eventFinished("winner");
 
         // Stop winner check task
         if (winnerCheckTask != null) {
@@ -940,31 +756,17 @@ public class EventManager {
             winnerCheckTask = null;
         }
 
-        ChatColor teamColor = teamManager.getTeamColor(teamNumber);
-        String message = plugin.getConfigManager().getMessage("winner-team")
-                .replace("%team%", teamColor + "Team " + teamNumber);
-
-        // Broadcast team winner
-        String teamWinTitle = MessageUtils.colorize("&6&lVICTORY");
-        eventFeedback.broadcastAnnouncement(
-                "&#666666\u2B50 " + teamWinTitle + " &#666666\u2B50",
-                teamColor + "Team " + teamNumber + " &#FF9944has won the event!",
-                "&#AAAAAAteamwork led to success!"
-        );
+        LogManager log = plugin.getLogManager();
+        if (log != null && log.isLoggable(LogManager.LogLevel.INFO, LogManager.Category.EVENTS)) {
+            log.info(LogManager.Category.EVENTS, "Team winner: Team " + teamNumber,
+                    LogFields.of().team(teamNumber).count("alive", session.getAlivePlayers().size()));
+        }
 
-        // Get winning team members for celebration
         Set<UUID> winningTeamMembers = teamManager.getTeamMembers(teamNumber);
+        eventFeedback.announceTeamWinner(winningTeamMembers, teamNumber, teamManager.getTeamColor(teamNumber),
+                teamManager.getFormattedTeamName(teamNumber));
 
-        // Full team winner celebration effects
-        eventFeedback.onTeamWin(winningTeamMembers, teamNumber, teamColor);
-
-        // Send title to all non-winning players
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!winningTeamMembers.contains(player.getUniqueId())) {
-                eventFeedback.sendTitle(player, "&6&lWINNER", teamColor + "Team " + teamNumber, 10, 70, 20);
-                eventFeedback.playSound(player, Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
-            }
-        }
+        saveEventResults(winningTeamMembers);
 
         // Announce rankings after 3 seconds
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
@@ -979,12 +781,27 @@ public class EventManager {
      * Common cleanup logic after a winner is announced
      */
     private void cleanupAfterWinner() {
+        Set<Player> playersToSpawn = tearDown();
+
+        // Reset state to IDLE so new events can start
+        session.reset();
+        sendToSpawn(playersToSpawn, "cleanupAfterWinner");
+    }
+
+    /**
+     * Undo everything a running event set up: tasks, border, HUD, player states and the roster.
+     * Teams, ranks, players and spectators are cleared BEFORE anyone is sent to /spawn so
+     * CommandBlockListener won't block them (state is already ENDING).
+     *
+     * @return the alive players and spectators to send to spawn
+     */
+    private Set<Player> tearDown() {
         // Stop arena boundary enforcement
         if (arenaBoundaryListener != null) {
             arenaBoundaryListener.stopBoundaryCheck();
         }
-        pendingRespawn.clear();
-        fallDamageImmune.clear();
+        kitDistributor.cancel();
+        kitLockActive = false;
 
         // Remove boss bar
         eventFeedback.removeBossBar();
@@ -1001,6 +818,12 @@ public class EventManager {
             tabListManager.stopTabList();
         }
 
+        // Stop compass tracking
+        TrackingCompassManager trackingCompassManager = plugin.getTrackingCompassManager();
+        if (trackingCompassManager != null) {
+            trackingCompassManager.stop();
+        }
+
         // SECURITY: Use spawn location world instead of blindly getting first world
         Location spawn = plugin.getConfigManager().getSpawnLocation();
         World world = spawn != null && spawn.getWorld() != null ? spawn.getWorld() : null;
@@ -1015,70 +838,51 @@ public class EventManager {
         Set<Player> playersToSpawn = new HashSet<>();
 
         // Prepare alive players for /spawn
-        for (UUID uuid : alivePlayers) {
+        for (UUID uuid : session.getAlivePlayers()) {
             Player player = Bukkit.getPlayer(uuid);
             if (player != null && player.isOnline()) {
                 player.getInventory().clear();
                 player.setHealth(20.0);
                 player.setFoodLevel(20);
-                // Clear potion effects
-                player.getActivePotionEffects().forEach(effect ->
-                    player.removePotionEffect(effect.getType()));
+                SpectatorController.clearEffects(player);
                 playersToSpawn.add(player);
             }
         }
 
         // Prepare spectators for /spawn - reset their state first
-        for (UUID uuid : spectators) {
+        for (UUID uuid : session.getSpectators()) {
             Player player = Bukkit.getPlayer(uuid);
             if (player != null && player.isOnline()) {
-                // Reset spectator mode
-                player.setGameMode(GameMode.SURVIVAL);
-                player.setAllowFlight(false);
-                player.setFlying(false);
-                player.getInventory().clear();
-                // Clear potion effects
-                player.getActivePotionEffects().forEach(effect ->
-                    player.removePotionEffect(effect.getType()));
-                // Make spectators visible to all players again
-                for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-                    onlinePlayer.showPlayer(plugin, player);
-                }
-                // Remove from boss bar
-                eventFeedback.removePlayerFromBossBar(player);
-                // Clear spectator compass tracking
-                if (plugin.getSpectatorCompassListener() != null) {
-                    plugin.getSpectatorCompassListener().clearSpectatorIndex(player);
-                }
+                spectatorController.restore(player);
                 playersToSpawn.add(player);
             }
         }
 
-        // Clear teams, ranks, players, and spectators BEFORE making them run /spawn
-        // This ensures CommandBlockListener won't block them (state is already ENDING)
         teamManager.clearTeams();
         killStreakManager.clearAllStreaks();
-        joinedPlayers.clear();
-        alivePlayers.clear();
-        spectators.clear();
-        spectatorGracePeriod.clear();
+        session.clearRoster();
+        spatialIndex.clear();
+        resetSpectatorGUI();
+        stopReplayRecording();
 
         // Clear damage tracker
         DamageTracker damageTracker = plugin.getDamageTracker();
         if (damageTracker != null) {
             damageTracker.clearAll();
         }
+        return playersToSpawn;
+    }
 
-        // Reset state to IDLE so new events can start
-        state = EventState.IDLE;
-
-        // Get configurable delay and command from config
+    /**
+     * Run the configured end-command for every player after the end-spawn delay
+     * Executed 3 times, 1 tick apart, via console to bypass other plugins blocking player commands
+     */
+    private void sendToSpawn(Set<Player> playersToSpawn, String source) {
         final int delayTicks = plugin.getConfigManager().getEndSpawnDelayTicks();
         final String endCommand = plugin.getConfigManager().getEndCommand();
-        final Set<Player> finalPlayersToSpawn = playersToSpawn;
         final LogManager log = plugin.getLogManager();
 
-        if (log != null) log.info(LogManager.Category.EVENTS, "cleanupAfterWinner: Scheduling /" + endCommand + " for " + finalPlayersToSpawn.size() + " players in " + delayTicks + " ticks");
+        if (log != null) log.info(LogManager.Category.EVENTS, "{}: Scheduling /{} for {} players in {} ticks", source, endCommand, playersToSpawn.size(), delayTicks);
 
         // Skip command execution if end-command is empty
         if (endCommand == null || endCommand.isEmpty()) {
@@ -1086,31 +890,25 @@ public class EventManager {
             return;
         }
 
-        // Execute command 3 times with 1 tick delay between each
-        // Use console dispatch to bypass other plugins blocking player commands
         for (int i = 0; i < 3; i++) {
             final int attempt = i + 1;
             Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                if (log != null) log.info(LogManager.Category.EVENTS, "cleanupAfterWinner: Executing /" + endCommand + " for players via console (attempt " + attempt + "/3)...");
+                if (log != null) log.info(LogManager.Category.EVENTS, "{}: Executing /{} for players via console (attempt {}/3)...", source, endCommand, attempt);
 
                 int successCount = 0;
                 int failCount = 0;
 
-                for (Player player : finalPlayersToSpawn) {
+                for (Player player : playersToSpawn) {
                     if (player != null && player.isOnline()) {
                         try {
-                            // Use console dispatch with player name substitution
                             // Supports %player% placeholder or appends player name if not present
-                            String command = endCommand;
-                            if (command.contains("%player%")) {
-                                command = command.replace("%player%", player.getName());
-                            } else {
-                                // If no placeholder, append player name (e.g., "spawn" -> "spawn PlayerName")
-                                command = command + " " + player.getName();
-                            }
+                            // (e.g., "spawn" -> "spawn PlayerName")
+                            String command = endCommand.contains("%player%")
+                                    ? endCommand.replace("%player%", player.getName())
+                                    : endCommand + " " + player.getName();
                             Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
                             successCount++;
-                            if (log != null && attempt == 1) log.debug(LogManager.Category.PLAYERS, "Console executed /" + command + " for " + player.getName());
+                            if (log != null && attempt == 1) log.debug(LogManager.Category.PLAYERS, "Console executed /{} for {}", command, player.getName());
                         } catch (Exception e) {
                             failCount++;
                             if (log != null && attempt == 1) log.error(LogManager.Category.ERRORS, "Exception executing /" + endCommand + " for " + player.getName() + ": " + e.getMessage(), e);
@@ -1121,7 +919,7 @@ public class EventManager {
                     }
                 }
 
-                if (log != null) log.info(LogManager.Category.EVENTS, "cleanupAfterWinner attempt " + attempt + " complete - /" + endCommand + " executed: " + successCount + " success, " + failCount + " failed");
+                if (log != null) log.info(LogManager.Category.EVENTS, "{} attempt {} complete - /{} executed: {} success, {} failed", source, attempt, endCommand, successCount, failCount);
             }, delayTicks + i); // Each attempt 1 tick apart
         }
     }
@@ -1130,7 +928,7 @@ public class EventManager {
      * Kill a player (from GUI) - eliminates without going through damage/death cycle
      */
     public void killPlayer(Player target, Player admin) {
-        if (state != EventState.RUNNING) {
+        if (!session.isRunning()) {
             admin.sendMessage(me.oblueberrey.meowMcEvents.utils.ConfigManager.colorize(
                     "&#AAAAAA&#FF5555no event running"));
             return;
@@ -1143,7 +941,7 @@ public class EventManager {
         }
 
         // Eliminate player directly without dealing damage
-        eliminatePlayer(target, null);
+        eliminatePlayer(target, null, "admin");
 
         admin.sendMessage(me.oblueberrey.meowMcEvents.utils.ConfigManager.colorize(
                 "&#AAAAAA&#55FF55killed &#FFE566" + target.getName()));
@@ -1157,12 +955,40 @@ public class EventManager {
      * @param killer The killer (can be null for admin kills)
      */
     public void eliminatePlayer(Player victim, Player killer) {
-        if (state != EventState.RUNNING && state != EventState.ENDING) return;
+        eliminatePlayer(victim, killer, killer != null ? "player" : "admin");
+    }
+
+    /**
+     * @param cause short lowercase cause for the eliminations metric ("void", "command", a damage cause...)
+     */
+    public void eliminatePlayer(Player victim, Player killer, String cause) {
+        Profiler profiler = plugin.getProfiler();
+        if (profiler == null) {
+            eliminatePlayerInternal(victim, killer, cause);
+            return;
+        }
+        ProfilerSection section = profiler.section("elimination");
+        long start = section.begin();
+        try {
+            eliminatePlayerInternal(victim, killer, cause);
+        } finally {
+            section.end(start);
+        }
+    }
+
+    private void eliminatePlayerInternal(Player victim, Player killer, String cause) {
+        if (!session.isActive()) return;
         if (!isPlayerInEvent(victim)) return;
         if (isSpectator(victim)) return;
+
+        PluginMetrics metrics = plugin.getMetrics();
+        if (metrics != null) metrics.elimination(cause);
         
         LogManager log = plugin.getLogManager();
-        if (log != null) log.info(LogManager.Category.PLAYERS, "Eliminating " + victim.getName() + " directly (killer: " + (killer != null ? killer.getName() : "admin/system") + ")");
+        if (log != null && log.isLoggable(LogManager.LogLevel.INFO, LogManager.Category.PLAYERS)) {
+            log.info(LogManager.Category.PLAYERS, "Eliminating " + victim.getName() + " directly (killer: " + (killer != null ? killer.getName() : "admin/system") + ")",
+                    LogFields.of().player(victim.getUniqueId()).team(teamManager.getTeam(victim)).count("alive", session.getAlivePlayers().size()));
+        }
         
         // Clear inventory immediately
         victim.getInventory().clear();
@@ -1173,8 +999,7 @@ public class EventManager {
         victim.setFoodLevel(20);
         victim.setSaturation(20f);
         victim.setFireTicks(0);
-        victim.getActivePotionEffects().forEach(effect -> 
-            victim.removePotionEffect(effect.getType()));
+        SpectatorController.clearEffects(victim);
 
         // Handle killer stats
         if (killer != null && !killer.equals(victim) && isPlayerInEvent(killer)) {
@@ -1182,8 +1007,9 @@ public class EventManager {
             int killerStreak = killStreakManager.getStreak(killer);
 
             if (eventStatsManager != null) {
-                eventStatsManager.recordKill(killer.getUniqueId());
+                eventStatsManager.recordKill(killer.getUniqueId(), killerStreak);
             }
+            if (metrics != null) metrics.kill();
 
             broadcastKill(killer, victim, killerStreak);
 
@@ -1204,6 +1030,12 @@ public class EventManager {
             }
         }
 
+        MatchArchive matchArchive = plugin.getMatchArchive();
+        if (matchArchive != null) {
+            boolean playerKill = killer != null && !killer.equals(victim) && isPlayerInEvent(killer);
+            matchArchive.recordKill(playerKill ? killer.getUniqueId() : null, victim.getUniqueId());
+        }
+
         // Reset victim streak
         killStreakManager.resetStreak(victim);
 
@@ -1224,13 +1056,12 @@ public class EventManager {
 
         // Ensure spectator state persists for 3 seconds (protection against other plugins)
         for (int i = 1; i <= 6; i++) {
-            final int checkNum = i;
             Bukkit.getScheduler().runTaskLater(plugin, () -> {
                 if (!isEventRunning() || !victim.isOnline()) {
                     return;
                 }
                 if (isSpectator(victim)) {
-                    ensureSpectatorState(victim, checkNum);
+                    spectatorController.reapply(victim);
                 }
             }, 10L * i); // 10, 20, 30, 40, 50, 60 ticks
         }
@@ -1247,64 +1078,27 @@ public class EventManager {
     }
     
     /**
-     * Ensure spectator has correct state and items (protection against other plugins resetting state)
+     * Mark player as dead
      */
-    private void ensureSpectatorState(Player player, int checkNum) {
-        String gamemodeConfig = plugin.getConfigManager().getSpectatorGamemode();
-
-        if ("SPECTATOR".equalsIgnoreCase(gamemodeConfig)) {
-            if (player.getGameMode() != GameMode.SPECTATOR) {
-                player.setGameMode(GameMode.SPECTATOR);
-            }
-        } else {
-            if (player.getGameMode() != GameMode.ADVENTURE) {
-                player.setGameMode(GameMode.ADVENTURE);
-            }
-            if (!player.getAllowFlight()) {
-                player.setAllowFlight(true);
-            }
-            if (!player.isFlying()) {
-                player.setFlying(true);
-            }
+    public void markPlayerDead(Player player) {
+        if (!session.eliminate(player.getUniqueId())) return;
 
-            // Ensure spectator items
-            int compassSlot = plugin.getConfigManager().getCompassSlot();
-            int leaveSlot = plugin.getConfigManager().getLeaveSlot();
+        spatialIndex.remove(player.getUniqueId());
 
-            if (player.getInventory().getItem(compassSlot) == null) {
-                player.getInventory().setItem(compassSlot, SpectatorCompassListener.createSpectatorCompass());
-            }
-            if (player.getInventory().getItem(leaveSlot) == null) {
-                player.getInventory().setItem(leaveSlot, SpectatorCompassListener.createLeaveDye());
-            }
+        SpectatorGUI spectatorGUI = plugin.getSpectatorGUI();
+        if (spectatorGUI != null) {
+            spectatorGUI.markEliminated(player.getUniqueId());
         }
-
-        // Re-hide from non-spectators
-        for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-            if (!onlinePlayer.equals(player)) {
-                if (isSpectator(onlinePlayer)) {
-                    onlinePlayer.showPlayer(plugin, player);
-                    player.showPlayer(plugin, onlinePlayer);
-                } else {
-                    onlinePlayer.hidePlayer(plugin, player);
-                }
-            }
+        ReplayRecorder replayRecorder = plugin.getReplayRecorder();
+        if (replayRecorder != null) {
+            replayRecorder.markRemoved(player.getUniqueId());
         }
-    }
-
-    /**
-     * Mark player as dead
-     */
-    public void markPlayerDead(Player player) {
-        if (state != EventState.RUNNING && state != EventState.ENDING) return;
-        
-        alivePlayers.remove(player.getUniqueId());
 
         // Record death for placement tracking
-        eventStatsManager.recordDeath(player.getUniqueId());
+        eventStatsManager.recordDeath(player.getUniqueId(), teamManager.getTeam(player));
 
         if (plugin.getConfigManager().shouldLogPlayers()) {
-            plugin.getLogger().info("[DEBUG:PLAYER] " + player.getName() + " marked as dead. Remaining alive: " + alivePlayers.size() +
+            plugin.getLogger().info("[DEBUG:PLAYER] " + player.getName() + " marked as dead. Remaining alive: " + session.getAlivePlayers().size() +
                     " | Placement: #" + eventStatsManager.getPlacement(player.getUniqueId()));
         }
     }
@@ -1313,7 +1107,7 @@ public class EventManager {
      * Broadcast kill message with styled kill feed
      */
     public void broadcastKill(Player killer, Player victim, int killerRank) {
-        if (state != EventState.RUNNING) return;
+        if (!session.isRunning()) return;
 
         // Use the KillFeedManager for styled messages
         KillFeedManager killFeedManager = plugin.getKillFeedManager();
@@ -1332,11 +1126,18 @@ public class EventManager {
     // Getters and setters
 
     public boolean isEventRunning() {
-        return state == EventState.RUNNING;
+        return session.isRunning();
     }
 
     public EventState getState() {
-        return state;
+        return session.getState();
+    }
+
+    /**
+     * Id of the current or most recent event (its countdown start time), 0 before the first
+     */
+    public long getEventId() {
+        return session.getEventId();
     }
 
     public boolean isBuildingAllowed() {
@@ -1372,29 +1173,52 @@ public class EventManager {
     }
 
     public int getJoinedPlayerCount() {
-        return joinedPlayers.size();
+        return session.getJoinedPlayers().size();
     }
 
     /**
      * Get a copy of the joined players set
      */
     public Set<UUID> getJoinedPlayers() {
-        return new HashSet<>(joinedPlayers);
+        return new HashSet<>(session.getJoinedPlayers());
     }
 
     /**
      * Get a copy of the alive players set (for auto-balancing)
      */
     public Set<UUID> getAlivePlayers() {
-        return new HashSet<>(alivePlayers);
+        return new HashSet<>(session.getAlivePlayers());
+    }
+
+    /**
+     * Read-only live view of the alive players, for callers that only look (no copy)
+     */
+    public Set<UUID> getAliveView() {
+        return session.getAlivePlayers();
     }
 
     public int getAlivePlayerCount() {
-        return alivePlayers.size();
+        return session.getAlivePlayers().size();
     }
 
     public Set<UUID> getSpectators() {
-        return new HashSet<>(spectators);
+        return new HashSet<>(session.getSpectators());
+    }
+
+    /**
+     * Spatial index of alive player positions (main thread only)
+     */
+    public SpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+
+    // ==================== Role Flags ====================
+
+    /**
+     * Get the ROLE_* bits for a player (0 if not part of the event in any way)
+     */
+    public int getRoleFlags(UUID uuid) {
+        return session.getRoleFlags(uuid);
     }
 
     /**
@@ -1402,7 +1226,7 @@ public class EventManager {
      * Called after a player dies or disconnects
      */
     public void triggerAutoBalance() {
-        if (state != EventState.RUNNING || teamSize <= 1) {
+        if (!session.isRunning() || teamSize <= 1) {
             return; // Only balance in team mode
         }
 
@@ -1410,36 +1234,93 @@ public class EventManager {
             plugin.getLogger().info("[DEBUG:TEAM] Checking if auto-balance is needed...");
         }
 
-        if (teamManager.needsBalancing(alivePlayers)) {
+        if (teamManager.needsBalancing(session.getAlivePlayers())) {
             if (plugin.getConfigManager().shouldLogTeams()) {
                 plugin.getLogger().info("[DEBUG:TEAM] Teams unbalanced, triggering auto-balance");
             }
-            teamManager.autoBalanceTeams(alivePlayers);
+            if (teamManager.autoBalanceTeams(session.getAlivePlayers())) {
+                SpectatorGUI spectatorGUI = plugin.getSpectatorGUI();
+                if (spectatorGUI != null) {
+                    spectatorGUI.refreshTeams();
+                }
+            }
         }
     }
 
     // ==================== Pending Respawn Tracking ====================
 
     public void markPendingRespawn(Player player) {
-        pendingRespawn.add(player.getUniqueId());
+        session.markPendingRespawn(player.getUniqueId());
     }
 
     public boolean isPendingRespawn(Player player) {
-        return pendingRespawn.contains(player.getUniqueId());
+        return session.isPendingRespawn(player.getUniqueId());
     }
 
     public void clearPendingRespawn(Player player) {
-        pendingRespawn.remove(player.getUniqueId());
+        session.clearPendingRespawn(player.getUniqueId());
     }
 
     // ==================== Fall Damage Immunity ====================
 
     public boolean hasFallDamageImmunity(Player player) {
-        return fallDamageImmune.contains(player.getUniqueId());
+        return session.hasFallDamageImmunity(player.getUniqueId());
     }
 
     // ==================== Arena Integration ====================
 
+    /**
+     * Hand the finished event's results to the persistent stats store and the match
+     * history archive (both written off-thread). Called once per match, winner or not.
+     */
+    private void saveEventResults(Set<UUID> winners) {
+        PlayerStatsStore statsStore = plugin.getPlayerStatsStore();
+        if (statsStore != null) {
+            statsStore.recordEvent(eventStatsManager.buildResults(winners));
+        }
+        MatchArchive matchArchive = plugin.getMatchArchive();
+        if (matchArchive != null) {
+            ReplayRecorder replayRecorder = plugin.getReplayRecorder();
+            String replayName = replayRecorder != null ? replayRecorder.getCurrentName() : null;
+            matchArchive.finishMatch(eventStatsManager, teamManager, winners, replayName);
+        }
+    }
+
+    private void resetSpectatorGUI() {
+        SpectatorGUI spectatorGUI = plugin.getSpectatorGUI();
+        if (spectatorGUI != null) {
+            spectatorGUI.reset();
+        }
+    }
+
+    private void stopReplayRecording() {
+        ReplayRecorder replayRecorder = plugin.getReplayRecorder();
+        if (replayRecorder != null) {
+            replayRecorder.stop();
+        }
+    }
+
+    /**
+     * Border center: the active arena's center for a per-player border if one is set up,
+     * otherwise the event spawn (world mode always centers on the spawn)
+     */
+    private Location getBorderCenter(Location spawn) {
+        if (arenaManager == null || !plugin.getConfigManager().isPerPlayerBorder()) return spawn;
+        ArenaManager.Arena arena = arenaManager.getActiveArena();
+        if (arena == null || !arena.isComplete() || arena.getPos1().getWorld() != spawn.getWorld()) {
+            return spawn;
+        }
+
+        if (arena.getShape() == ArenaManager.Arena.Shape.CYLINDER) {
+            return new Location(spawn.getWorld(), arena.getCenterX(), spawn.getY(), arena.getCenterZ());
+        }
+        Location pos1 = arena.getPos1();
+        Location pos2 = arena.getPos2();
+        double centerX = (Math.min(pos1.getBlockX(), pos2.getBlockX()) + Math.max(pos1.getBlockX(), pos2.getBlockX()) + 1) / 2.0;
+        double centerZ = (Math.min(pos1.getBlockZ(), pos2.getBlockZ()) + Math.max(pos1.getBlockZ(), pos2.getBlockZ()) + 1) / 2.0;
+        return new Location(spawn.getWorld(), centerX, spawn.getY(), centerZ);
+    }
+
     public void setArenaManager(ArenaManager arenaManager) {
         this.arenaManager = arenaManager;
     }
@@ -0,0 +1,121 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.utils.MessageUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.Sound;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+/**
+ * Event statistics (see EventStats) plus the parts that talk to the server:
+ * persistent results and the end-of-event rankings broadcast
+ */
+public class EventStatsManager extends EventStats {
+
+    public EventStatsManager(MeowMCEvents plugin) {
+        super(plugin.getPlatform());
+    }
+
+    /**
+     * Outcome of every participant, for the persistent stats store
+     */
+    public List<PlayerStatsStore.EventResult> buildResults(Set<UUID> winners) {
+        List<PlayerStatsStore.EventResult> results = new ArrayList<>();
+        for (UUID uuid : getParticipants()) {
+            results.add(new PlayerStatsStore.EventResult(uuid, getPlayerName(uuid), getKills(uuid),
+                    getPlacement(uuid), winners.contains(uuid), hasDied(uuid)));
+        }
+        return results;
+    }
+
+    /**
+     * Announce final rankings at event end
+     * Uses styled RGB colors and emojis (grey emojis, yellow/orange text)
+     */
+    public void announceRankings(UUID winnerUuid, boolean isTeamMode, int winningTeam, TeamManager teamManager) {
+        // Styled colors
+        String grey = "&8";
+        String yellow = "&e";
+        String orange = "&6";
+        String red = "&c";
+        String white = "&f";
+
+        // Key symbols
+        String star = "★";
+        String skull = "☠";
+        
+        String title = MessageUtils.colorize("&6&lFINAL STANDINGS");
+        Bukkit.broadcastMessage("");
+        Bukkit.broadcastMessage(colorize(MessageUtils.center("&8★ " + title + " &8★")));
+
+        // Announce placements
+        List<UUID> placements = getPlacementsInOrder();
+        int displayCount = Math.min(placements.size(), 5); // Show top 5
+
+        for (int i = 0; i < displayCount; i++) {
+            UUID uuid = placements.get(i);
+            String name = getPlayerName(uuid);
+            int kills = getKills(uuid);
+
+            String prefix;
+            String color;
+            switch (i) {
+                case 0:
+                    prefix = yellow + star + " 1st ";
+                    color = yellow;
+                    break;
+                case 1:
+                    prefix = white + "  2nd ";
+                    color = white;
+                    break;
+                case 2:
+                    prefix = orange + "  3rd ";
+                    color = orange;
+                    break;
+                default:
+                    prefix = grey + "  " + (i + 1) + "th ";
+                    color = grey;
+                    break;
+            }
+
+            String teamInfo = "";
+            if (isTeamMode && teamManager != null) {
+                int team = teamManager.getTeam(uuid);
+                if (team != -1) {
+                    teamInfo = " " + grey + "(Team " + team + ")";
+                }
+            }
+
+            String killWord = (kills == 1) ? "kill" : "kills";
+            Bukkit.broadcastMessage(colorize(MessageUtils.center(prefix + color + name + grey + " - " +
+                    red + kills + " " + killWord + teamInfo)));
+        }
+
+        // Announce most kills if different from winner
+        UUID mostKillsPlayer = getMostKillsPlayer();
+        int mostKills = mostKillsPlayer != null ? getKills(mostKillsPlayer) : 0;
+
+        if (mostKillsPlayer != null && mostKills > 0) {
+            String mostKillsName = getPlayerName(mostKillsPlayer);
+            Bukkit.broadcastMessage("");
+            Bukkit.broadcastMessage(colorize(MessageUtils.center(grey + skull + " " + red + "Most Kills &f" + mostKillsName + " " + grey + "(" + red + mostKills + grey + ")")));
+        }
+
+        Bukkit.broadcastMessage(colorize(MessageUtils.center("&7Total Participants: &f" + getTotalParticipants())));
+        Bukkit.broadcastMessage("");
+
+        // Play sound to all players
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
+        }
+    }
+
+    /**
+     * Translate hex color codes (&#RRGGBB) to chat colors
+     */
+    private String colorize(String message) {
+        return MessageUtils.colorize(message);
+    }
+}
@@ -0,0 +1,141 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Handles stylized kill feed messages with weapon icons, randomized messages,
+ * distance tracking, and situational announcements.
+ *
+ * Message text is built by {@link KillFeedFormatter}; this class reads the players and
+ * weapon, tracks first blood and revenge, and broadcasts.
+ */
+public class KillFeedManager {
+
+    private final MeowMCEvents plugin;
+    private final KillFeedFormatter formatter = new KillFeedFormatter();
+
+    // Track kills for special messages
+    private final Map<UUID, UUID> lastKilledBy = new ConcurrentHashMap<>(); // victim -> killer
+    private boolean firstBloodAnnounced = false;
+
+    public KillFeedManager(MeowMCEvents plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Reset state for a new event
+     */
+    public void reset() {
+        lastKilledBy.clear();
+        firstBloodAnnounced = false;
+    }
+
+    /**
+     * Broadcast a stylized kill message with randomized text
+     */
+    public void broadcastKill(Player killer, Player victim, int killStreak) {
+        TeamManager teamManager = plugin.getTeamManager();
+
+        String killerColor = getPlayerColor(killer, teamManager);
+        String victimColor = getPlayerColor(victim, teamManager);
+
+        ItemStack weapon = killer.getInventory().getItemInMainHand();
+        String weaponType = weapon == null || weapon.getType() == Material.AIR ? null : weapon.getType().name();
+        String displayName = weaponType != null && weapon.hasItemMeta() && weapon.getItemMeta().hasDisplayName()
+                ? weapon.getItemMeta().getDisplayName() : null;
+
+        // Calculate distance
+        double distance = killer.getLocation().distance(victim.getLocation());
+
+        // Check for special situations
+        boolean isFirstBlood = !firstBloodAnnounced;
+        boolean isRevenge = isRevenge(killer, victim);
+        boolean isLongShot = KillFeedFormatter.isLongShot(weaponType, distance);
+
+        // Mark first blood
+        if (isFirstBlood) {
+            firstBloodAnnounced = true;
+        }
+
+        // Track for revenge
+        lastKilledBy.put(victim.getUniqueId(), killer.getUniqueId());
+
+        // Build and broadcast the main kill message
+        Bukkit.broadcastMessage(formatter.formatKill(killer.getName(), killerColor, victim.getName(), victimColor,
+                weaponType, displayName, distance));
+
+        // Special announcements
+        if (isFirstBlood) {
+            Bukkit.broadcastMessage(formatter.formatFirstBlood(killer.getName(), killerColor));
+        }
+
+        if (isRevenge) {
+            Bukkit.broadcastMessage(formatter.formatRevenge(killer.getName(), killerColor, victim.getName(), victimColor));
+        }
+
+        if (isLongShot) {
+            Bukkit.broadcastMessage(formatter.formatLongShot(killer.getName(), killerColor, distance));
+        }
+
+        // Streak announcement
+        if (killStreak >= 3) {
+            broadcastStreakMessage(killer, killerColor, killStreak);
+        }
+    }
+
+    /**
+     * Broadcast an environmental death message (no killer)
+     */
+    public void broadcastEnvironmentalDeath(Player victim, EntityDamageEvent.DamageCause cause) {
+        String victimColor = getPlayerColor(victim, plugin.getTeamManager());
+        Bukkit.broadcastMessage(formatter.formatEnvironmentalDeath(victim.getName(), victimColor,
+                cause != null ? cause.name() : null));
+    }
+
+    /**
+     * Broadcast a border damage death
+     */
+    public void broadcastBorderDeath(Player victim) {
+        String victimColor = getPlayerColor(victim, plugin.getTeamManager());
+        Bukkit.broadcastMessage(formatter.formatBorderDeath(victim.getName(), victimColor));
+    }
+
+    /**
+     * Broadcast a kill streak message
+     */
+    private void broadcastStreakMessage(Player killer, String killerColor, int streak) {
+        String message = formatter.formatStreak(killer.getName(), killerColor, streak);
+        if (message == null) return;
+        Bukkit.broadcastMessage(message);
+
+        if (streak >= 5) {
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                player.playSound(player.getLocation(),
+                    org.bukkit.Sound.ENTITY_ENDER_DRAGON_GROWL, 0.5f, 1.5f);
+            }
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean isRevenge(Player killer, Player victim) {
+        UUID lastKiller = lastKilledBy.get(killer.getUniqueId());
+        return lastKiller != null && lastKiller.equals(victim.getUniqueId());
+    }
+
+    private String getPlayerColor(Player player, TeamManager teamManager) {
+        if (teamManager == null) return ChatColor.WHITE.toString();
+        int team = teamManager.getTeam(player);
+        if (team != -1) return teamManager.getTeamColorCode(team);
+        return ChatColor.WHITE.toString();
+    }
+}
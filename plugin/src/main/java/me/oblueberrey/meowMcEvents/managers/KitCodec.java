@@ -0,0 +1,124 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.io.*;
+
+/**
+ * File format for kits/&lt;name&gt;.bin.
+ *
+ * A kit is a fixed row of inventory slots (36 storage, 4 armor, off hand), each holding the
+ * bytes of ItemStack.serializeAsBytes or nothing:
+ *   int magic, byte version, UTF display name (since version 2), short slot count,
+ *   then per slot an int length (0 = empty) + bytes
+ * Files are named by the lower-case key, so the name as typed lives inside the file.
+ * Kept free of Bukkit types so the format can be tested on its own.
+ */
+public final class KitCodec {
+
+    public static final int STORAGE_SLOTS = 36;
+    public static final int ARMOR_SLOTS = 4;
+    public static final int SLOT_COUNT = STORAGE_SLOTS + ARMOR_SLOTS + 1;
+    public static final int OFFHAND_SLOT = SLOT_COUNT - 1;
+
+    private static final int MAGIC = 0x4D4B4954; // "MKIT"
+    private static final int VERSION = 2;
+    private static final int VERSION_WITHOUT_NAME = 1;
+    private static final int MAX_SLOT_BYTES = 1 << 20;
+
+    private KitCodec() {
+    }
+
+    /**
+     * Contents of a kit file
+     */
+    public static final class Decoded {
+        private final String name;
+        private final byte[][] slots;
+
+        private Decoded(String name, byte[][] slots) {
+            this.name = name;
+            this.slots = slots;
+        }
+
+        /**
+         * Display name as saved, null for files written before names were stored
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Serialized slots (null = empty slot)
+         */
+        public byte[][] getSlots() {
+            return slots;
+        }
+    }
+
+    /**
+     * Kit names double as file names - letters, digits, '_' and '-' only
+     */
+    public static boolean isValidName(String name) {
+        return name != null && name.matches("[a-zA-Z0-9_-]{1,32}");
+    }
+
+    /**
+     * Encode a kit's display name and serialized slots (null or empty = empty slot)
+     */
+    public static byte[] encode(String name, byte[][] slots) {
+        if (!isValidName(name)) {
+            throw new IllegalArgumentException("Invalid kit name: " + name);
+        }
+        if (slots.length != SLOT_COUNT) {
+            throw new IllegalArgumentException("Expected " + SLOT_COUNT + " slots, got " + slots.length);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(name);
+            out.writeShort(SLOT_COUNT);
+            for (byte[] slot : slots) {
+                if (slot == null || slot.length == 0) {
+                    out.writeInt(0);
+                } else {
+                    out.writeInt(slot.length);
+                    out.write(slot);
+                }
+            }
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode a kit file into its display name and serialized slots
+     */
+    public static Decoded decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a kit file");
+            int version = in.readUnsignedByte();
+            if (version != VERSION && version != VERSION_WITHOUT_NAME) {
+                throw new IOException("Unsupported kit version " + version);
+            }
+            String name = version >= VERSION ? in.readUTF() : null;
+            if (name != null && !isValidName(name)) throw new IOException("Invalid kit name");
+
+            int count = in.readUnsignedShort();
+            byte[][] slots = new byte[SLOT_COUNT][];
+            for (int i = 0; i < count; i++) {
+                int length = in.readInt();
+                if (length < 0 || length > MAX_SLOT_BYTES) throw new IOException("Corrupt slot " + i);
+                if (length == 0) continue;
+                byte[] slot = new byte[length];
+                in.readFully(slot);
+                // Slots past what this version knows are skipped
+                if (i < SLOT_COUNT) slots[i] = slot;
+            }
+            return new Decoded(name, slots);
+        } catch (EOFException e) {
+            throw new IOException("Truncated kit file", e);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.utils.LogManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Hands out the selected kit at event start, spread over ticks.
+ *
+ * Each tick gives kits until either the player budget or the time budget is used up (at
+ * least one player per tick so the queue always drains). A kit that failed to apply is
+ * retried on a later pass, up to {@link #MAX_ATTEMPTS} times; a rejected kit (missing or
+ * invalid) fails at once, since another try would give the same answer. Once every participant has
+ * their kit, has left, or has run out of attempts, the completion callback runs with the
+ * failure count; EventManager keeps PvP locked until then.
+ */
+public class KitDistributor {
+
+    static final int MAX_ATTEMPTS = 3;
+
+    private final MeowMCEvents plugin;
+    private final KitManager kitManager;
+
+    private Player[] queue = new Player[0];
+    private int head;
+    private int attempt;
+    private final List<Player> retries = new ArrayList<>();
+    private final List<String> failedNames = new ArrayList<>();
+    private long startedAt;
+    private Predicate<Player> stillPlaying;
+    private IntConsumer onComplete;
+    private BukkitTask task;
+    private int applied;
+    private int skipped;
+    private int ticks;
+
+    // Queue wait (start -> kit applied) and the cost of each giveKit call
+    private final LatencyHistogram waitLatency = new LatencyHistogram();
+    private final LatencyHistogram applyLatency = new LatencyHistogram();
+
+    public KitDistributor(MeowMCEvents plugin, KitManager kitManager) {
+        this.plugin = plugin;
+        this.kitManager = kitManager;
+    }
+
+    private void debug(Supplier<String> message) {
+        if (plugin.getConfigManager().shouldLogKits()) {
+            plugin.getLogger().info("[DEBUG:KIT] " + message.get());
+        }
+    }
+
+    /**
+     * Queue kits for the participants
+     * @param stillPlaying players failing this when their turn comes are skipped
+     * @param onComplete   runs on the main thread once the queue is empty, with the number of
+     *                     players whose kit could not be given
+     */
+    public void distribute(Collection<Player> players, Predicate<Player> stillPlaying, IntConsumer onComplete) {
+        cancel();
+        this.queue = players.toArray(new Player[0]);
+        this.head = 0;
+        this.attempt = 1;
+        this.stillPlaying = stillPlaying;
+        this.onComplete = onComplete;
+        this.applied = 0;
+        this.skipped = 0;
+        this.ticks = 0;
+        this.startedAt = System.nanoTime();
+        waitLatency.clear();
+        applyLatency.clear();
+
+        // Short delay so teleports have settled before inventories change
+        task = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task kit-distribution", this::tick), plugin.getConfigManager().getKitStartDelayTicks(), 1L);
+        debug(() -> "Queued kits for " + queue.length + " players");
+    }
+
+    private void tick() {
+        ticks++;
+        int playerBudget = plugin.getConfigManager().getKitPlayersPerTick();
+        long timeBudget = (long) (plugin.getConfigManager().getKitMillisPerTick() * 1_000_000L);
+        long tickStart = System.nanoTime();
+        int given = 0;
+
+        while (head < queue.length) {
+            if (given > 0 && (given >= playerBudget || System.nanoTime() - tickStart >= timeBudget)) break;
+
+            Player player = queue[head];
+            queue[head++] = null;
+            if (player == null || !player.isOnline() || !stillPlaying.test(player)) {
+                skipped++;
+                continue;
+            }
+
+            long before = System.nanoTime();
+            KitManager.GiveResult result = kitManager.giveSelectedKit(player);
+            long after = System.nanoTime();
+            applyLatency.record(after - before);
+            given++;
+            switch (result) {
+                case GIVEN:
+                    waitLatency.record(after - startedAt);
+                    applied++;
+                    break;
+                case REJECTED:
+                    gaveUp(player, 1);
+                    break;
+                default:
+                    failed(player);
+                    break;
+            }
+        }
+
+        if (head >= queue.length) {
+            if (retries.isEmpty()) {
+                finish();
+            } else {
+                // Next pass starts on the next tick
+                queue = retries.toArray(new Player[0]);
+                retries.clear();
+                head = 0;
+                attempt++;
+            }
+        }
+    }
+
+    private void failed(Player player) {
+        if (attempt < MAX_ATTEMPTS) {
+            retries.add(player);
+            debug(() -> "Kit for " + player.getName() + " failed (attempt " + attempt + "/" + MAX_ATTEMPTS + "), retrying");
+            return;
+        }
+        gaveUp(player, attempt);
+    }
+
+    private void gaveUp(Player player, int attempts) {
+        failedNames.add(player.getName());
+        LogManager log = plugin.getLogManager();
+        if (log != null) {
+            log.warn(LogManager.Category.EVENTS, "Could not give kit to {} after {} attempts", player.getName(), attempts);
+        }
+    }
+
+    private void finish() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        int failed = failedNames.size();
+        String summary = "Kits applied to " + applied + " players (" + skipped + " skipped, " + failed + " failed"
+                + (failed > 0 ? ": " + String.join(", ", failedNames) : "") + ") over " + ticks
+                + " ticks - wait " + waitLatency.format() + ", apply " + applyLatency.format();
+        LogManager log = plugin.getLogManager();
+        if (log != null) {
+            if (failed > 0) log.warn(LogManager.Category.EVENTS, summary);
+            else log.info(LogManager.Category.EVENTS, summary);
+        }
+        debug(() -> summary);
+
+        IntConsumer callback = onComplete;
+        onComplete = null;
+        stillPlaying = null;
+        failedNames.clear();
+        if (callback != null) callback.accept(failed);
+    }
+
+    /**
+     * True while kits are still being handed out
+     */
+    public boolean isDistributing() {
+        return task != null;
+    }
+
+    /**
+     * Players still waiting for their kit
+     */
+    public int getRemaining() {
+        return queue.length - head + retries.size();
+    }
+
+    /**
+     * Drop the queue without running the completion callback (event stopped)
+     */
+    public void cancel() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+            debug(() -> "Kit distribution cancelled with " + (queue.length - head) + " players left");
+        }
+        queue = new Player[0];
+        head = 0;
+        retries.clear();
+        failedNames.clear();
+        onComplete = null;
+        stillPlaying = null;
+    }
+}
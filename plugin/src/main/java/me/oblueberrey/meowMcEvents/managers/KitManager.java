@@ -0,0 +1,195 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+public class KitManager {
+
+    /**
+     * Outcome of giving a kit
+     */
+    public enum GiveResult {
+        GIVEN,      // Applied (or handed to the external plugin)
+        REJECTED,   // Kit missing or name invalid - retrying won't help
+        FAILED      // Threw while applying - may work on a later try
+    }
+
+    private final MeowMCEvents plugin;
+    private final KitStore kitStore;
+    private String selectedKit;
+    private boolean xyrisKitsAvailable;
+
+    public KitManager(MeowMCEvents plugin) {
+        this.plugin = plugin;
+        this.kitStore = new KitStore(plugin);
+        this.selectedKit = plugin.getConfig().getString("selected-kit", "Warrior");
+        this.xyrisKitsAvailable = checkXyrisKitsAvailable();
+
+        if (!xyrisKitsAvailable && kitStore.getKitNames().isEmpty()) {
+            plugin.getLogger().warning("[KitManager] No built-in kits and XyrisKits plugin not found! Kit distribution will be disabled.");
+        } else if (xyrisKitsAvailable) {
+            debug(() -> "XyrisKits plugin detected and available");
+        }
+    }
+
+    /**
+     * Check if XyrisKits plugin is available
+     */
+    private boolean checkXyrisKitsAvailable() {
+        Plugin kitsPlugin = Bukkit.getPluginManager().getPlugin("XyrisKits");
+        return kitsPlugin != null && kitsPlugin.isEnabled();
+    }
+
+    /**
+     * Check if kit distribution is available
+     */
+    public boolean isKitSystemAvailable() {
+        return xyrisKitsAvailable || !kitStore.getKitNames().isEmpty();
+    }
+
+    /**
+     * Built-in kit storage (capture/delete)
+     */
+    public KitStore getKitStore() {
+        return kitStore;
+    }
+
+    private void debug(Supplier<String> message) {
+        if (plugin.getConfigManager().shouldLogKits()) {
+            plugin.getLogger().info("[DEBUG:KIT] " + message.get());
+        }
+    }
+
+    /**
+     * Give kit to player
+     * Built-in kits are copied straight into the inventory; other kits fall back to
+     * the external kit plugin via kit-command
+     * Only REJECTED tells the player; a FAILED kit is left to the caller to retry or report
+     */
+    public GiveResult giveKit(Player player, String kitName) {
+        try {
+            return applyKit(player, kitName);
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "[KitManager] Error giving kit '" + kitName + "' to " + player.getName(), e);
+            return GiveResult.FAILED;
+        }
+    }
+
+    private GiveResult applyKit(Player player, String kitName) {
+        if (kitStore.apply(player, kitName)) {
+            debug(() -> "Built-in kit '" + kitName + "' given to " + player.getName());
+            return GiveResult.GIVEN;
+        }
+
+        if (!xyrisKitsAvailable) {
+            debug(() -> "Cannot give kit - no built-in kit '" + kitName + "' and XyrisKits plugin not available");
+            player.sendMessage(ChatColor.RED + "Kit '" + kitName + "' does not exist!");
+            return GiveResult.REJECTED;
+        }
+
+        // SECURITY: Sanitize inputs to prevent command injection
+        String safeName = sanitizeInput(player.getName());
+        String safeKit = sanitizeInput(kitName);
+
+        // Validate inputs aren't empty after sanitization
+        if (safeName.isEmpty() || safeKit.isEmpty()) {
+            plugin.getLogger().warning("[SECURITY] Blocked potentially malicious kit command for: " + player.getName());
+            player.sendMessage(ChatColor.RED + "Invalid kit name!");
+            return GiveResult.REJECTED;
+        }
+
+        // Validate kit exists in our config
+        if (!kitExists(safeKit)) {
+            debug(() -> "Kit '" + safeKit + "' not found in config");
+            player.sendMessage(ChatColor.RED + "Kit '" + safeKit + "' does not exist!");
+            return GiveResult.REJECTED;
+        }
+
+        // Run command using kit-command format from config
+        String commandFormat = plugin.getConfig().getString("kit-command", "kits give %player% %kit%");
+        String command = commandFormat
+                .replace("%player%", safeName)
+                .replace("%kit%", safeKit);
+        debug(() -> "Executing command: /" + command);
+        Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
+        debug(() -> "Kit '" + safeKit + "' given to " + player.getName());
+        return GiveResult.GIVEN;
+    }
+
+    /**
+     * Sanitize input to prevent command injection
+     * Only allows alphanumeric characters, underscores, and hyphens
+     */
+    private String sanitizeInput(String input) {
+        if (input == null) return "";
+        // Remove any characters that could be used for command injection
+        // Only allow: a-z, A-Z, 0-9, underscore, hyphen
+        return input.replaceAll("[^a-zA-Z0-9_-]", "");
+    }
+
+    /**
+     * Give the selected kit to a player
+     */
+    public GiveResult giveSelectedKit(Player player) {
+        debug(() -> "Giving selected kit '" + selectedKit + "' to " + player.getName());
+        GiveResult result = giveKit(player, selectedKit);
+        if (result != GiveResult.GIVEN) return result;
+
+        player.sendMessage(ChatColor.translateAlternateColorCodes('&',
+                plugin.getConfigManager().getMessage("kit-given").replace("%kit%", selectedKit)));
+        return result;
+    }
+
+    /**
+     * Set the kit to be used for events
+     */
+    public void setSelectedKit(String kitName) {
+        String previousKit = this.selectedKit;
+        this.selectedKit = kitName;
+        plugin.getConfig().set("selected-kit", kitName);
+        plugin.saveConfig();
+        debug(() -> "Selected kit changed: " + previousKit + " -> " + kitName);
+    }
+
+    /**
+     * Get the currently selected kit
+     */
+    public String getSelectedKit() {
+        return selectedKit;
+    }
+
+    /**
+     * Check if a kit exists in config
+     */
+    public boolean kitExists(String kitName) {
+        return plugin.getConfig().getStringList("kits").contains(kitName);
+    }
+
+    /**
+     * Get all kit names - built-in kits first, then external kits from config
+     */
+    public List<String> getKitNames() {
+        List<String> names = new ArrayList<>(kitStore.getKitNames());
+        for (String name : plugin.getConfig().getStringList("kits")) {
+            if (!kitStore.hasKit(name)) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Finish pending kit writes (plugin disable)
+     */
+    public void shutdown() {
+        kitStore.shutdown();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,228 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Built-in kits stored as kits/&lt;name&gt;.bin (see {@link KitCodec}).
+ *
+ * Every kit is deserialized once at enable into template arrays; giving a kit copies the
+ * templates straight into the player's inventory (Bukkit copies each stack on set, so the
+ * templates are never shared). Saving and deleting touch disk on a background thread.
+ */
+public class KitStore {
+
+    private static final String EXTENSION = ".bin";
+
+    /**
+     * Deserialized kit contents, never handed out directly
+     */
+    private static final class Kit {
+        private final String name;
+        private final ItemStack[] storage;
+        private final ItemStack[] armor;
+        private final ItemStack offHand;
+
+        private Kit(String name, ItemStack[] storage, ItemStack[] armor, ItemStack offHand) {
+            this.name = name;
+            this.storage = storage;
+            this.armor = armor;
+            this.offHand = offHand;
+        }
+    }
+
+    private final MeowMCEvents plugin;
+    private final File folder;
+    private final ExecutorService writer;
+    private final Map<String, Kit> kits = new LinkedHashMap<>(); // lower-case name -> kit
+
+    public KitStore(MeowMCEvents plugin) {
+        this.plugin = plugin;
+        this.folder = new File(plugin.getDataFolder(), "kits");
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MeowMCEvents-Kits");
+            thread.setDaemon(true);
+            return thread;
+        });
+        load();
+    }
+
+    private void debug(Supplier<String> message) {
+        if (plugin.getConfigManager().shouldLogKits()) {
+            plugin.getLogger().info("[DEBUG:KIT] " + message.get());
+        }
+    }
+
+    /**
+     * Read every kit file once (enable)
+     */
+    private void load() {
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(EXTENSION));
+        if (files == null) return;
+        Arrays.sort(files, Comparator.comparing(File::getName));
+
+        for (File file : files) {
+            String name = file.getName().substring(0, file.getName().length() - EXTENSION.length());
+            // Files are named by the lower-case key
+            if (!KitCodec.isValidName(name) || !name.equals(name.toLowerCase(Locale.ROOT))) continue;
+            try {
+                KitCodec.Decoded decoded = KitCodec.decode(Files.readAllBytes(file.toPath()));
+                byte[][] slots = decoded.getSlots();
+                ItemStack[] items = new ItemStack[KitCodec.SLOT_COUNT];
+                for (int i = 0; i < slots.length; i++) {
+                    items[i] = slots[i] != null ? ItemStack.deserializeBytes(slots[i]) : null;
+                }
+                // Display name as typed; older files only have the key
+                String displayName = decoded.getName();
+                if (displayName == null || !displayName.equalsIgnoreCase(name)) {
+                    displayName = name;
+                }
+                kits.put(name, toKit(displayName, items));
+            } catch (IOException | RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "[Kits] Could not load " + file.getName(), e);
+            }
+        }
+        debug(() -> "Loaded " + kits.size() + " built-in kits");
+    }
+
+    private static Kit toKit(String name, ItemStack[] items) {
+        ItemStack[] storage = Arrays.copyOfRange(items, 0, KitCodec.STORAGE_SLOTS);
+        ItemStack[] armor = Arrays.copyOfRange(items, KitCodec.STORAGE_SLOTS, KitCodec.STORAGE_SLOTS + KitCodec.ARMOR_SLOTS);
+        return new Kit(name, storage, armor, items[KitCodec.OFFHAND_SLOT]);
+    }
+
+    // ==================== Kits ====================
+
+    public boolean hasKit(String name) {
+        return name != null && kits.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Names of built-in kits, in load/save order
+     */
+    public List<String> getKitNames() {
+        List<String> names = new ArrayList<>(kits.size());
+        for (Kit kit : kits.values()) {
+            names.add(kit.name);
+        }
+        return names;
+    }
+
+    /**
+     * Replace the player's inventory with the kit, false if there is no such kit
+     */
+    public boolean apply(Player player, String name) {
+        Kit kit = name != null ? kits.get(name.toLowerCase(Locale.ROOT)) : null;
+        if (kit == null) return false;
+
+        PlayerInventory inventory = player.getInventory();
+        inventory.setStorageContents(kit.storage);
+        inventory.setArmorContents(kit.armor);
+        inventory.setItemInOffHand(kit.offHand);
+        return true;
+    }
+
+    /**
+     * Capture the admin's current inventory as a kit (overwrites a kit of the same name)
+     */
+    public void save(String name, Player source) {
+        PlayerInventory inventory = source.getInventory();
+        ItemStack[] items = new ItemStack[KitCodec.SLOT_COUNT];
+        ItemStack[] storage = inventory.getStorageContents();
+        ItemStack[] armor = inventory.getArmorContents();
+        System.arraycopy(storage, 0, items, 0, Math.min(storage.length, KitCodec.STORAGE_SLOTS));
+        System.arraycopy(armor, 0, items, KitCodec.STORAGE_SLOTS, Math.min(armor.length, KitCodec.ARMOR_SLOTS));
+        items[KitCodec.OFFHAND_SLOT] = inventory.getItemInOffHand();
+
+        // Serialize on the main thread, only the file write goes off-thread
+        byte[][] slots = new byte[KitCodec.SLOT_COUNT][];
+        for (int i = 0; i < items.length; i++) {
+            ItemStack item = items[i];
+            if (item == null || item.getType() == Material.AIR) {
+                items[i] = null;
+                continue;
+            }
+            items[i] = item.clone();
+            slots[i] = item.serializeAsBytes();
+        }
+
+        String key = name.toLowerCase(Locale.ROOT);
+        kits.remove(key);
+        kits.put(key, toKit(name, items));
+        byte[] data = KitCodec.encode(name, slots);
+        File file = kitFile(key);
+        writer.execute(() -> write(file, data));
+        debug(() -> "Saved kit '" + name + "' from " + source.getName() + " (" + data.length + " bytes)");
+    }
+
+    /**
+     * Delete a built-in kit, false if there is no such kit
+     */
+    public boolean delete(String name) {
+        String key = name != null ? name.toLowerCase(Locale.ROOT) : null;
+        Kit kit = key != null ? kits.remove(key) : null;
+        if (kit == null) return false;
+
+        File file = kitFile(key);
+        writer.execute(() -> deleteFile(file));
+        debug(() -> "Deleted kit '" + kit.name + "'");
+        return true;
+    }
+
+    /**
+     * File of a kit, named by its lower-case key so renaming by case never leaves two files
+     */
+    private File kitFile(String key) {
+        return new File(folder, key + EXTENSION);
+    }
+
+    // ==================== Writer Thread ====================
+
+    private void deleteFile(File file) {
+        if (file.exists() && !file.delete()) {
+            plugin.getLogger().warning("[Kits] Could not delete " + file.getName());
+        }
+    }
+
+    private void write(File file, byte[] data) {
+        if (!folder.exists() && !folder.mkdirs()) {
+            plugin.getLogger().warning("[Kits] Could not create kits folder");
+            return;
+        }
+        // Write then rename so a crash never leaves a half-written kit
+        File temp = new File(folder, file.getName() + ".tmp");
+        try {
+            Files.write(temp.toPath(), data);
+            Files.move(temp.toPath(), file.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "[Kits] Could not save " + file.getName(), e);
+        }
+    }
+
+    /**
+     * Finish pending kit writes (plugin disable)
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("[Kits] Timed out waiting for kit writes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
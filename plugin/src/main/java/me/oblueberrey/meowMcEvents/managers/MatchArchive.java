@@ -0,0 +1,482 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import org.bukkit.Bukkit;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archive of finished events.
+ *
+ * Records are NDJSON lines, each compressed as its own gzip member and appended to
+ * history/segment-N.ndjson.gz (a segment is a valid multi-member gzip file). Two fixed-size
+ * binary indexes make lookups a seek instead of a re-parse:
+ *  - index.bin:   id, end time, offset, segment, length (sorted by id, binary searched)
+ *  - players.bin: player UUID -> match id, read once at startup into a per-player list of
+ *    match ids so a player's history never scans the whole file
+ * index.bin is read once and kept in memory on the io thread, so a lookup never maps or re-reads
+ * it. Segments rotate at history.segment-size-kb and only the newest history.max-segments are
+ * kept; index entries of deleted segments are dropped.
+ * All file access runs on one background thread.
+ */
+public class MatchArchive {
+
+    private static final int INDEX_ENTRY_SIZE = 32;   // id, endedAt, offset (longs), segment, length (ints)
+    private static final int PLAYER_ENTRY_SIZE = 24;  // uuid msb, lsb, match id
+
+    private final MeowMCEvents plugin;
+    private final File folder;
+    private final File indexFile;
+    private final File playerIndexFile;
+    private final ExecutorService io;
+
+    // Writer-thread state
+    private long nextId = 1;
+    private int currentSegment = 0;
+    private ByteBuffer index = ByteBuffer.allocate(0); // Copy of index.bin, first indexCount entries valid
+    private int indexCount;
+    private final Map<UUID, MatchIds> playerMatches = new HashMap<>();
+
+    // Match being recorded (main thread)
+    private long matchStart;
+    private int matchTeamSize;
+    private JsonArray killTimeline;
+
+    public MatchArchive(MeowMCEvents plugin) {
+        this.plugin = plugin;
+        this.folder = new File(plugin.getDataFolder(), "history");
+        this.indexFile = new File(folder, "index.bin");
+        this.playerIndexFile = new File(folder, "players.bin");
+        this.io = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MeowMCEvents-History");
+            thread.setDaemon(true);
+            return thread;
+        });
+        io.execute(this::initialize);
+    }
+
+    private void debug(Supplier<String> message) {
+        if (plugin.getConfigManager().shouldLogEvents()) {
+            plugin.getLogger().info("[DEBUG:HISTORY] " + message.get());
+        }
+    }
+
+    /**
+     * Summary of one archived match, as shown by /meowevent history
+     */
+    public static class MatchSummary {
+        private final JsonObject record;
+
+        MatchSummary(JsonObject record) {
+            this.record = record;
+        }
+
+        public long getId() { return record.get("id").getAsLong(); }
+        public long getEndedAt() { return record.get("endedAt").getAsLong(); }
+        public long getDurationSeconds() { return record.get("durationSeconds").getAsLong(); }
+        public int getTeamSize() { return record.get("teamSize").getAsInt(); }
+        public JsonArray getParticipants() { return record.getAsJsonArray("participants"); }
+        public JsonArray getKills() { return record.getAsJsonArray("kills"); }
+        public JsonArray getWinners() { return record.getAsJsonArray("winners"); }
+        /** Name of the replay recorded for this match, or null */
+        public String getReplay() { return record.has("replay") ? record.get("replay").getAsString() : null; }
+    }
+
+    // ==================== Recording (main thread) ====================
+
+    /**
+     * Start recording a match (event start)
+     */
+    public void beginMatch(int teamSize) {
+        matchStart = System.currentTimeMillis();
+        matchTeamSize = teamSize;
+        killTimeline = new JsonArray();
+    }
+
+    /**
+     * Add a kill to the timeline (killer may be null for environmental deaths)
+     */
+    public void recordKill(UUID killer, UUID victim) {
+        if (killTimeline == null) return;
+        JsonObject kill = new JsonObject();
+        kill.addProperty("t", System.currentTimeMillis() - matchStart);
+        if (killer != null) {
+            kill.addProperty("killer", killer.toString());
+        }
+        kill.addProperty("victim", victim.toString());
+        killTimeline.add(kill);
+    }
+
+    /**
+     * Snapshot the finished match and queue it for writing (replayName may be null)
+     */
+    public void finishMatch(EventStatsManager stats, TeamManager teamManager, Set<UUID> winners, String replayName) {
+        if (killTimeline == null) return;
+        long endedAt = System.currentTimeMillis();
+
+        JsonObject record = new JsonObject();
+        record.addProperty("startedAt", matchStart);
+        record.addProperty("endedAt", endedAt);
+        record.addProperty("durationSeconds", (endedAt - matchStart) / 1000);
+        record.addProperty("teamSize", matchTeamSize);
+        if (replayName != null) {
+            record.addProperty("replay", replayName);
+        }
+
+        JsonArray participants = new JsonArray();
+        List<UUID> participantIds = new ArrayList<>();
+        for (UUID uuid : stats.getPlacementsInOrder()) {
+            JsonObject participant = new JsonObject();
+            participant.addProperty("uuid", uuid.toString());
+            participant.addProperty("name", stats.getPlayerName(uuid));
+            participant.addProperty("team", teamManager.getTeam(uuid));
+            participant.addProperty("placement", stats.getPlacement(uuid));
+            participant.addProperty("kills", stats.getKills(uuid));
+            participants.add(participant);
+            participantIds.add(uuid);
+        }
+        record.add("participants", participants);
+
+        JsonArray winnerArray = new JsonArray();
+        for (UUID uuid : winners) {
+            winnerArray.add(uuid.toString());
+        }
+        record.add("winners", winnerArray);
+        record.add("kills", killTimeline);
+        killTimeline = null;
+
+        io.execute(() -> append(record, participantIds));
+    }
+
+    // ==================== Writer Thread ====================
+
+    private void initialize() {
+        if (!folder.exists() && !folder.mkdirs()) {
+            plugin.getLogger().warning("[History] Could not create history folder");
+            return;
+        }
+        try {
+            ByteBuffer stored = readAll(indexFile);
+            if (stored != null) {
+                index = stored;
+                indexCount = stored.capacity() / INDEX_ENTRY_SIZE;
+            }
+            if (indexCount > 0) {
+                nextId = index.getLong((indexCount - 1) * INDEX_ENTRY_SIZE) + 1;
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "[History] Could not read history index", e);
+        }
+        try {
+            loadPlayerIndex(readAll(playerIndexFile));
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "[History] Could not read player index", e);
+        }
+        for (int segment : listSegments()) {
+            currentSegment = Math.max(currentSegment, segment);
+        }
+        debug(() -> "History initialized, next id " + nextId + ", segment " + currentSegment
+                + ", " + playerMatches.size() + " players indexed");
+    }
+
+    private void append(JsonObject record, List<UUID> participants) {
+        long id = nextId++;
+        record.addProperty("id", id);
+
+        try {
+            File segmentFile = segmentFile(currentSegment);
+            long maxBytes = plugin.getConfigManager().getHistorySegmentSizeKb() * 1024L;
+            if (segmentFile.exists() && segmentFile.length() >= maxBytes) {
+                currentSegment++;
+                segmentFile = segmentFile(currentSegment);
+                applyRetention();
+            }
+
+            // One gzip member per record so it can be read back from its offset alone
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write((record.toString() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            byte[] bytes = compressed.toByteArray();
+
+            long offset = segmentFile.exists() ? segmentFile.length() : 0;
+            try (FileOutputStream out = new FileOutputStream(segmentFile, true)) {
+                out.write(bytes);
+            }
+
+            ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+            entry.putLong(id).putLong(record.get("endedAt").getAsLong()).putLong(offset)
+                    .putInt(currentSegment).putInt(bytes.length);
+            appendBytes(indexFile, entry.array());
+            cacheIndexEntry(entry.array());
+
+            ByteBuffer players = ByteBuffer.allocate(PLAYER_ENTRY_SIZE * participants.size());
+            for (UUID uuid : participants) {
+                players.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).putLong(id);
+            }
+            appendBytes(playerIndexFile, players.array());
+            for (UUID uuid : participants) {
+                playerMatches.computeIfAbsent(uuid, k -> new MatchIds()).add(id);
+            }
+
+            debug(() -> "Archived match #" + id + " (" + bytes.length + " bytes, segment " + currentSegment + ")");
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "[History] Failed to archive match #" + id, e);
+        }
+    }
+
+    /**
+     * Delete segments beyond history.max-segments and drop their index entries
+     */
+    private void applyRetention() throws IOException {
+        int maxSegments = plugin.getConfigManager().getHistoryMaxSegments();
+        List<Integer> segments = listSegments();
+        segments.add(currentSegment);
+        Collections.sort(segments);
+        int oldestKept = segments.get(Math.max(0, segments.size() - maxSegments));
+
+        boolean deleted = false;
+        for (int segment : segments) {
+            if (segment < oldestKept && segmentFile(segment).delete()) {
+                deleted = true;
+            }
+        }
+        if (!deleted) return;
+
+        // Compact the index: keep entries of surviving segments, remember which ids survive
+        Set<Long> keptIds = new HashSet<>();
+        ByteArrayOutputStream keptIndex = new ByteArrayOutputStream();
+        byte[] indexEntry = new byte[INDEX_ENTRY_SIZE];
+        for (int pos = 0; pos < indexCount * INDEX_ENTRY_SIZE; pos += INDEX_ENTRY_SIZE) {
+            if (index.getInt(pos + 24) >= oldestKept) {
+                index.get(pos, indexEntry);
+                keptIndex.write(indexEntry);
+                keptIds.add(index.getLong(pos));
+            }
+        }
+        byte[] keptIndexBytes = keptIndex.toByteArray();
+        replaceFile(indexFile, keptIndexBytes);
+        index = ByteBuffer.wrap(keptIndexBytes);
+        indexCount = keptIndexBytes.length / INDEX_ENTRY_SIZE;
+
+        ByteBuffer players = readAll(playerIndexFile);
+        ByteArrayOutputStream keptPlayers = new ByteArrayOutputStream();
+        if (players != null) {
+            byte[] entry = new byte[PLAYER_ENTRY_SIZE];
+            for (int pos = 0; pos + PLAYER_ENTRY_SIZE <= players.capacity(); pos += PLAYER_ENTRY_SIZE) {
+                if (keptIds.contains(players.getLong(pos + 16))) {
+                    players.get(pos, entry);
+                    keptPlayers.write(entry);
+                }
+            }
+        }
+        byte[] keptPlayerBytes = keptPlayers.toByteArray();
+        replaceFile(playerIndexFile, keptPlayerBytes);
+        loadPlayerIndex(ByteBuffer.wrap(keptPlayerBytes));
+        debug(() -> "History retention: kept segments from " + oldestKept);
+    }
+
+    /**
+     * Add an entry to the in-memory index, growing it by doubling
+     */
+    private void cacheIndexEntry(byte[] entry) {
+        int pos = indexCount * INDEX_ENTRY_SIZE;
+        if (pos + INDEX_ENTRY_SIZE > index.capacity()) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(INDEX_ENTRY_SIZE * 16, index.capacity() * 2));
+            grown.put(0, index, 0, pos);
+            index = grown;
+        }
+        index.put(pos, entry);
+        indexCount++;
+    }
+
+    /**
+     * Rebuild the per-player match lists from players.bin (entries are in match order)
+     */
+    private void loadPlayerIndex(ByteBuffer players) {
+        playerMatches.clear();
+        if (players == null) return;
+        for (int pos = 0; pos + PLAYER_ENTRY_SIZE <= players.capacity(); pos += PLAYER_ENTRY_SIZE) {
+            UUID uuid = new UUID(players.getLong(pos), players.getLong(pos + 8));
+            playerMatches.computeIfAbsent(uuid, k -> new MatchIds()).add(players.getLong(pos + 16));
+        }
+    }
+
+    private List<Integer> listSegments() {
+        List<Integer> segments = new ArrayList<>();
+        File[] files = folder.listFiles((dir, name) -> name.startsWith("segment-") && name.endsWith(".ndjson.gz"));
+        if (files == null) return segments;
+        for (File file : files) {
+            String number = file.getName().substring("segment-".length(), file.getName().length() - ".ndjson.gz".length());
+            try {
+                segments.add(Integer.parseInt(number));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return segments;
+    }
+
+    private File segmentFile(int segment) {
+        return new File(folder, "segment-" + segment + ".ndjson.gz");
+    }
+
+    private static void appendBytes(File file, byte[] bytes) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(bytes);
+        }
+    }
+
+    private static void replaceFile(File file, byte[] bytes) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            out.write(bytes);
+        }
+        if (!file.delete() && file.exists()) {
+            throw new IOException("Could not replace " + file.getName());
+        }
+        if (!temp.renameTo(file)) {
+            throw new IOException("Could not rename " + temp.getName());
+        }
+    }
+
+    private static ByteBuffer readAll(File file) throws IOException {
+        if (!file.exists()) return null;
+        return ByteBuffer.wrap(java.nio.file.Files.readAllBytes(file.toPath()));
+    }
+
+    // ==================== Lookups ====================
+
+    /**
+     * Binary search the in-memory index for a match id, then read just that record
+     */
+    private MatchSummary readMatch(long id) throws IOException {
+        int low = 0;
+        int high = indexCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = index.getLong(mid * INDEX_ENTRY_SIZE);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                int pos = mid * INDEX_ENTRY_SIZE;
+                return readRecord(index.getInt(pos + 24), index.getLong(pos + 16), index.getInt(pos + 28));
+            }
+        }
+        return null;
+    }
+
+    private MatchSummary readRecord(int segment, long offset, int length) throws IOException {
+        File file = segmentFile(segment);
+        if (!file.exists()) return null;
+
+        byte[] bytes = new byte[length];
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.seek(offset);
+            raf.readFully(bytes);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            return line != null ? new MatchSummary(JsonParser.parseString(line).getAsJsonObject()) : null;
+        }
+    }
+
+    /**
+     * Newest match ids, optionally only those a player took part in (from the per-player index)
+     */
+    private List<Long> recentIds(UUID player, int limit) {
+        List<Long> ids = new ArrayList<>();
+        if (player == null) {
+            for (int i = indexCount - 1; i >= 0 && ids.size() < limit; i--) {
+                ids.add(index.getLong(i * INDEX_ENTRY_SIZE));
+            }
+            return ids;
+        }
+
+        MatchIds matches = playerMatches.get(player);
+        if (matches == null) return ids;
+        for (int i = matches.size - 1; i >= 0 && ids.size() < limit; i--) {
+            ids.add(matches.ids[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * Growable list of one player's match ids, oldest first (writer thread only)
+     */
+    private static final class MatchIds {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = id;
+        }
+    }
+
+    /**
+     * Look up one match by id off the main thread; callback runs on the main thread (null if missing)
+     */
+    public void findMatch(long id, Consumer<MatchSummary> callback) {
+        io.execute(() -> {
+            MatchSummary summary = null;
+            try {
+                summary = readMatch(id);
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "[History] Failed to read match #" + id, e);
+            }
+            MatchSummary result = summary;
+            Bukkit.getScheduler().runTask(plugin, () -> callback.accept(result));
+        });
+    }
+
+    /**
+     * Newest matches (of a player, or overall if player is null); callback runs on the main thread
+     */
+    public void findRecent(UUID player, int limit, Consumer<List<MatchSummary>> callback) {
+        io.execute(() -> {
+            List<MatchSummary> matches = new ArrayList<>();
+            try {
+                for (long id : recentIds(player, limit)) {
+                    MatchSummary summary = readMatch(id);
+                    if (summary != null) {
+                        matches.add(summary);
+                    }
+                }
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "[History] Failed to read match history", e);
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> callback.accept(matches));
+        });
+    }
+
+    /**
+     * Finish pending writes (plugin disable)
+     */
+    public void shutdown() {
+        io.shutdown();
+        try {
+            if (!io.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("[History] Timed out waiting for pending history writes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
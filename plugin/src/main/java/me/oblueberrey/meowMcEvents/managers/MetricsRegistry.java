@@ -0,0 +1,214 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Counters and gauges rendered in the Prometheus text format.
+ *
+ * Counters are striped LongAdders, so the main thread only ever does an uncontended add
+ * and scraping never blocks it. A metric has at most one label; each label value gets its
+ * own adder. Gauges are plain volatile values set by whoever samples them.
+ */
+public final class MetricsRegistry {
+
+    private final String prefix;
+    private final List<Metric> metrics = new ArrayList<>();
+    private final List<Consumer<StringBuilder>> collectors = new ArrayList<>();
+
+    private abstract static class Metric {
+        final String name;
+        final String help;
+        final String type;
+        final String label;
+
+        Metric(String name, String help, String type, String label) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.label = label;
+        }
+
+        abstract void render(StringBuilder out);
+    }
+
+    /**
+     * Monotonic counter, optionally split by one label
+     */
+    public static final class Counter extends Metric {
+        private final LongAdder unlabelled = new LongAdder();
+        private final Map<String, LongAdder> byLabel = new ConcurrentHashMap<>();
+
+        Counter(String name, String help, String label) {
+            super(name, help, "counter", label);
+        }
+
+        public void inc() {
+            unlabelled.increment();
+        }
+
+        public void add(long amount) {
+            unlabelled.add(amount);
+        }
+
+        public void inc(String labelValue) {
+            add(labelValue, 1);
+        }
+
+        public void add(String labelValue, long amount) {
+            LongAdder adder = byLabel.get(labelValue);
+            if (adder == null) {
+                adder = byLabel.computeIfAbsent(labelValue, key -> new LongAdder());
+            }
+            adder.add(amount);
+        }
+
+        public long get() {
+            return unlabelled.sum();
+        }
+
+        public long get(String labelValue) {
+            LongAdder adder = byLabel.get(labelValue);
+            return adder == null ? 0 : adder.sum();
+        }
+
+        @Override
+        void render(StringBuilder out) {
+            if (label == null) {
+                sample(out, name, null, null, unlabelled.sum());
+                return;
+            }
+            for (Map.Entry<String, LongAdder> entry : new TreeMap<>(byLabel).entrySet()) {
+                sample(out, name, label, entry.getKey(), entry.getValue().sum());
+            }
+        }
+    }
+
+    /**
+     * Last sampled value, optionally split by one label
+     */
+    public static final class Gauge extends Metric {
+        private volatile long value;
+        private final Map<String, Long> byLabel = new ConcurrentHashMap<>();
+
+        Gauge(String name, String help, String label) {
+            super(name, help, "gauge", label);
+        }
+
+        public void set(long value) {
+            this.value = value;
+        }
+
+        public void set(String labelValue, long value) {
+            byLabel.put(labelValue, value);
+        }
+
+        @Override
+        void render(StringBuilder out) {
+            if (label == null) {
+                sample(out, name, null, null, value);
+                return;
+            }
+            for (Map.Entry<String, Long> entry : new TreeMap<>(byLabel).entrySet()) {
+                sample(out, name, label, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * @param prefix prepended to every metric name, e.g. "meowevents_"
+     */
+    public MetricsRegistry(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public synchronized Counter counter(String name, String help) {
+        return register(new Counter(prefix + name, help, null));
+    }
+
+    public synchronized Counter counter(String name, String help, String label) {
+        return register(new Counter(prefix + name, help, label));
+    }
+
+    public synchronized Gauge gauge(String name, String help) {
+        return register(new Gauge(prefix + name, help, null));
+    }
+
+    public synchronized Gauge gauge(String name, String help, String label) {
+        return register(new Gauge(prefix + name, help, label));
+    }
+
+    /**
+     * Extra output appended after the registered metrics (values owned elsewhere)
+     */
+    public synchronized void addCollector(Consumer<StringBuilder> collector) {
+        collectors.add(collector);
+    }
+
+    private <T extends Metric> T register(T metric) {
+        metrics.add(metric);
+        return metric;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Everything in the Prometheus text exposition format (version 0.0.4)
+     */
+    public synchronized String render() {
+        StringBuilder out = new StringBuilder(2048);
+        for (Metric metric : metrics) {
+            header(out, metric.name, metric.help, metric.type);
+            metric.render(out);
+        }
+        for (Consumer<StringBuilder> collector : collectors) {
+            collector.accept(out);
+        }
+        return out.toString();
+    }
+
+    public static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    public static void sample(StringBuilder out, String name, String label, String labelValue, long value) {
+        out.append(name);
+        if (label != null) {
+            out.append('{').append(label).append("=\"");
+            escape(out, labelValue);
+            out.append("\"}");
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    public static void sample(StringBuilder out, String name, String label, String labelValue, double value) {
+        out.append(name);
+        if (label != null) {
+            out.append('{').append(label).append("=\"");
+            escape(out, labelValue);
+            out.append("\"}");
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static void escape(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"') {
+                out.append('\\').append(c);
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else {
+                out.append(c);
+            }
+        }
+    }
+}
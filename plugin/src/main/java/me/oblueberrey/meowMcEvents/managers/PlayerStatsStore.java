@@ -0,0 +1,412 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Persistent cross-event player statistics (SQLite file, driver bundled with Paper).
+ *
+ * All database access happens on one background writer thread, so the main thread never
+ * touches disk: results of a finished event are written as one batched transaction, and
+ * reads go through an in-memory cache that is filled when a player joins.
+ * All-time leaderboards are served from a snapshot the writer refreshes periodically.
+ */
+public class PlayerStatsStore {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO player_stats (uuid, name, events_played, wins, kills, deaths, best_placement, rating) " +
+            "VALUES (?, ?, 1, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT(uuid) DO UPDATE SET " +
+            "name = excluded.name, " +
+            "events_played = events_played + 1, " +
+            "wins = wins + excluded.wins, " +
+            "kills = kills + excluded.kills, " +
+            "deaths = deaths + excluded.deaths, " +
+            "best_placement = MIN(best_placement, excluded.best_placement), " +
+            "rating = rating + ?";
+
+    private final MeowMCEvents plugin;
+    private final File databaseFile;
+    private final ExecutorService writer;
+
+    // Only touched from the writer thread
+    private Connection connection;
+
+    // Stats of online players, loaded on join; event participants stay until results are recorded
+    private final StatsCache<PlayerStats> cache = new StatsCache<>();
+
+    // Elo K factor for rating updates
+    private final double ratingKFactor;
+
+    /**
+     * All-time boards served from the snapshot
+     */
+    public enum Board {
+        KILLS("kills"), WINS("wins");
+
+        private final String column;
+
+        Board(String column) {
+            this.column = column;
+        }
+    }
+
+    // Replaced wholesale by the writer thread, read lock-free
+    private volatile Map<Board, List<PlayerStats>> topSnapshot = Collections.emptyMap();
+    private BukkitTask snapshotTask;
+
+    public PlayerStatsStore(MeowMCEvents plugin) {
+        this.plugin = plugin;
+        this.databaseFile = new File(plugin.getDataFolder(), plugin.getConfigManager().getStatsDatabaseFile());
+        this.ratingKFactor = plugin.getConfigManager().getRatingKFactor();
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MeowMCEvents-Stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.execute(this::openDatabase);
+
+        long refreshTicks = plugin.getConfigManager().getStatsLeaderboardRefreshMinutes() * 60L * 20L;
+        snapshotTask = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task stats-leaderboards", this::refreshLeaderboards), 20L, refreshTicks);
+    }
+
+    private void debug(Supplier<String> message) {
+        if (plugin.getConfigManager().shouldLogEvents()) {
+            plugin.getLogger().info("[DEBUG:STATS] " + message.get());
+        }
+    }
+
+    /**
+     * Lifetime stats of one player
+     */
+    public static class PlayerStats {
+        private final UUID uuid;
+        private String name;
+        private int eventsPlayed;
+        private int wins;
+        private int kills;
+        private int deaths;
+        private int bestPlacement;
+        private double rating;
+
+        public PlayerStats(UUID uuid, String name, int eventsPlayed, int wins, int kills, int deaths, int bestPlacement,
+                           double rating) {
+            this.uuid = uuid;
+            this.name = name;
+            this.eventsPlayed = eventsPlayed;
+            this.wins = wins;
+            this.kills = kills;
+            this.deaths = deaths;
+            this.bestPlacement = bestPlacement;
+            this.rating = rating;
+        }
+
+        public UUID getUuid() { return uuid; }
+        public String getName() { return name; }
+        public int getEventsPlayed() { return eventsPlayed; }
+        public int getWins() { return wins; }
+        public int getKills() { return kills; }
+        public int getDeaths() { return deaths; }
+        /** Best placement ever (1 = won), 0 if never played */
+        public int getBestPlacement() { return bestPlacement; }
+        /** Matchmaking rating (Elo, starts at 1000) */
+        public synchronized double getRating() { return rating; }
+
+        synchronized void apply(EventResult result) {
+            name = result.name;
+            eventsPlayed++;
+            if (result.won) wins++;
+            kills += result.kills;
+            if (result.died) deaths++;
+            bestPlacement = bestPlacement == 0 ? result.placement : Math.min(bestPlacement, result.placement);
+            rating += result.ratingDelta;
+        }
+    }
+
+    /**
+     * One participant's outcome of a finished event
+     */
+    public static class EventResult {
+        private final UUID uuid;
+        private final String name;
+        private final int kills;
+        private final int placement;
+        private final boolean won;
+        private final boolean died;
+        // Filled in by recordEvent once all participants' ratings are known
+        private double ratingDelta;
+
+        public EventResult(UUID uuid, String name, int kills, int placement, boolean won, boolean died) {
+            this.uuid = uuid;
+            this.name = name;
+            this.kills = kills;
+            this.placement = placement;
+            this.won = won;
+            this.died = died;
+        }
+    }
+
+    // ==================== Writer Thread ====================
+
+    private void openDatabase() {
+        try {
+            File parent = databaseFile.getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+            Class.forName("org.sqlite.JDBC");
+            connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getAbsolutePath());
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("CREATE TABLE IF NOT EXISTS player_stats (" +
+                        "uuid TEXT PRIMARY KEY, " +
+                        "name TEXT NOT NULL, " +
+                        "events_played INTEGER NOT NULL DEFAULT 0, " +
+                        "wins INTEGER NOT NULL DEFAULT 0, " +
+                        "kills INTEGER NOT NULL DEFAULT 0, " +
+                        "deaths INTEGER NOT NULL DEFAULT 0, " +
+                        "best_placement INTEGER NOT NULL DEFAULT 0, " +
+                        "rating REAL NOT NULL DEFAULT " + RatingEngine.DEFAULT_RATING + ")");
+                addRatingColumn(statement);
+            }
+            debug(() -> "Stats database opened: " + databaseFile.getName());
+        } catch (ClassNotFoundException | SQLException e) {
+            plugin.getLogger().log(Level.WARNING, "[Stats] Could not open stats database, persistent stats disabled", e);
+            connection = null;
+        }
+    }
+
+    /**
+     * Databases created before ratings existed lack the column
+     */
+    private void addRatingColumn(Statement statement) throws SQLException {
+        try (ResultSet columns = statement.executeQuery("PRAGMA table_info(player_stats)")) {
+            while (columns.next()) {
+                if ("rating".equals(columns.getString("name"))) return;
+            }
+        }
+        statement.execute("ALTER TABLE player_stats ADD COLUMN rating REAL NOT NULL DEFAULT " + RatingEngine.DEFAULT_RATING);
+        debug(() -> "Added rating column to stats database");
+    }
+
+    private PlayerStats queryStats(UUID uuid, String name) {
+        if (connection == null) return null;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT name, events_played, wins, kills, deaths, best_placement, rating FROM player_stats WHERE uuid = ?")) {
+            statement.setString(1, uuid.toString());
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    return new PlayerStats(uuid, name, 0, 0, 0, 0, 0, RatingEngine.DEFAULT_RATING);
+                }
+                return new PlayerStats(uuid, rs.getString(1), rs.getInt(2), rs.getInt(3),
+                        rs.getInt(4), rs.getInt(5), rs.getInt(6), rs.getDouble(7));
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, "[Stats] Failed to load stats for " + name, e);
+            return null;
+        }
+    }
+
+    private void writeBatch(List<EventResult> results) {
+        if (connection == null) return;
+        try {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL)) {
+                for (EventResult result : results) {
+                    statement.setString(1, result.uuid.toString());
+                    statement.setString(2, result.name);
+                    statement.setInt(3, result.won ? 1 : 0);
+                    statement.setInt(4, result.kills);
+                    statement.setInt(5, result.died ? 1 : 0);
+                    statement.setInt(6, result.placement);
+                    statement.setDouble(7, RatingEngine.DEFAULT_RATING + result.ratingDelta);
+                    statement.setDouble(8, result.ratingDelta);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            connection.commit();
+            debug(() -> "Saved results of " + results.size() + " players");
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.WARNING, "[Stats] Failed to save event results", e);
+            try {
+                connection.rollback();
+            } catch (SQLException ignored) {
+            }
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    private void loadSnapshot() {
+        if (connection == null) return;
+        Map<Board, List<PlayerStats>> snapshot = new EnumMap<>(Board.class);
+        for (Board board : Board.values()) {
+            List<PlayerStats> rows = new ArrayList<>();
+            // Column name comes from the enum, never from input
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT uuid, name, events_played, wins, kills, deaths, best_placement, rating FROM player_stats " +
+                    "WHERE " + board.column + " > 0 ORDER BY " + board.column + " DESC LIMIT ?")) {
+                statement.setInt(1, EventStatsManager.LEADERBOARD_SIZE);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        rows.add(new PlayerStats(UUID.fromString(rs.getString(1)), rs.getString(2), rs.getInt(3),
+                                rs.getInt(4), rs.getInt(5), rs.getInt(6), rs.getInt(7), rs.getDouble(8)));
+                    }
+                }
+            } catch (SQLException | IllegalArgumentException e) {
+                plugin.getLogger().log(Level.WARNING, "[Stats] Failed to refresh " + board.column + " leaderboard", e);
+                return;
+            }
+            snapshot.put(board, Collections.unmodifiableList(rows));
+        }
+        topSnapshot = snapshot;
+    }
+
+    // ==================== Main Thread API ====================
+
+    /**
+     * Queue a refresh of the all-time leaderboard snapshot
+     */
+    public void refreshLeaderboards() {
+        writer.execute(this::loadSnapshot);
+    }
+
+    /**
+     * All-time top players from the last snapshot (may lag by up to the refresh interval)
+     */
+    public List<PlayerStats> getAllTimeTop(Board board) {
+        return topSnapshot.getOrDefault(board, Collections.emptyList());
+    }
+
+    /**
+     * Load a player's stats into the cache (call on join)
+     */
+    public void load(UUID uuid, String name) {
+        writer.execute(() -> {
+            PlayerStats stats = queryStats(uuid, name);
+            if (stats == null) return;
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (Bukkit.getPlayer(uuid) != null) {
+                    cache.put(uuid, stats);
+                }
+            });
+        });
+    }
+
+    /**
+     * Drop a player's cached stats (call on quit); event participants are kept until
+     * {@link #recordEvent} so a quitter is rated from their real rating
+     */
+    public void unload(UUID uuid) {
+        cache.unload(uuid);
+    }
+
+    /**
+     * Keep the participants' cached stats until the event's results are recorded
+     */
+    public void holdParticipants(Collection<UUID> participants) {
+        cache.hold(participants);
+    }
+
+    /**
+     * Cached stats of an online player, or null if not loaded yet
+     */
+    public PlayerStats getStats(UUID uuid) {
+        return cache.get(uuid);
+    }
+
+    /**
+     * Rating of a player for team balancing (default rating if not loaded)
+     */
+    public double getRating(UUID uuid) {
+        PlayerStats stats = cache.get(uuid);
+        return stats != null ? stats.getRating() : RatingEngine.DEFAULT_RATING;
+    }
+
+    /**
+     * Record a finished event: ratings are updated from the placements (the whole winning
+     * team counts as first), the cache is updated immediately, the database in one
+     * transaction on the writer thread.
+     */
+    public void recordEvent(List<EventResult> results) {
+        if (results.isEmpty()) {
+            cache.release();
+            return;
+        }
+
+        double[] ratings = new double[results.size()];
+        int[] placements = new int[results.size()];
+        for (int i = 0; i < ratings.length; i++) {
+            EventResult result = results.get(i);
+            ratings[i] = getRating(result.uuid);
+            placements[i] = result.won ? 1 : result.placement;
+        }
+        double[] deltas = RatingEngine.computeDeltas(ratings, placements, ratingKFactor);
+        for (int i = 0; i < deltas.length; i++) {
+            results.get(i).ratingDelta = deltas[i];
+        }
+
+        List<UUID> reload = new ArrayList<>();
+        for (EventResult result : results) {
+            PlayerStats stats = cache.get(result.uuid);
+            if (stats != null) {
+                stats.apply(result);
+            } else if (Bukkit.getPlayer(result.uuid) != null) {
+                // Load still in flight - reload after the write so the cache includes this event
+                reload.add(result.uuid);
+            }
+        }
+        cache.release();
+
+        List<EventResult> batch = new ArrayList<>(results);
+        writer.execute(() -> {
+            writeBatch(batch);
+            loadSnapshot();
+        });
+        for (UUID uuid : reload) {
+            load(uuid, Bukkit.getPlayer(uuid).getName());
+        }
+    }
+
+    /**
+     * Finish pending writes and close the database (plugin disable)
+     */
+    public void shutdown() {
+        if (snapshotTask != null) {
+            snapshotTask.cancel();
+            snapshotTask = null;
+        }
+        writer.execute(() -> {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                }
+                connection = null;
+            }
+        });
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("[Stats] Timed out waiting for pending stats writes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        cache.clear();
+    }
+}
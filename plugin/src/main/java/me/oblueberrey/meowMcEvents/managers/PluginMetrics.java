@@ -0,0 +1,208 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.utils.LogManager;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Event and tick-cost counters served at http://127.0.0.1:&lt;metrics.port&gt;/metrics in the
+ * Prometheus text format.
+ *
+ * Only created when metrics.enabled is on, so call sites null-check {@code plugin.getMetrics()}.
+ * Counters are bumped from the main thread with a single LongAdder add; gauges that need
+ * Bukkit state (queue depths, player counts) are sampled on the main thread once a second.
+ * Scrapes are answered by one daemon thread and never touch the server.
+ * Per-section tick cost comes from the profiler's lifetime totals; the profiler keeps
+ * timing while metrics are running even when /meowevent profile is off.
+ */
+public class PluginMetrics {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final MeowMCEvents plugin;
+    private final MetricsRegistry registry = new MetricsRegistry("meowevents_");
+
+    private final MetricsRegistry.Counter eventsStarted = registry.counter("events_started_total", "Events that reached the running state");
+    private final MetricsRegistry.Counter eventsFinished = registry.counter("events_finished_total", "Events that ended, by outcome", "outcome");
+    private final MetricsRegistry.Counter playersJoined = registry.counter("players_joined_total", "Players that joined an event queue");
+    private final MetricsRegistry.Counter kills = registry.counter("kills_total", "Eliminations credited to a player");
+    private final MetricsRegistry.Counter eliminations = registry.counter("eliminations_total", "Eliminations by cause", "cause");
+    private final MetricsRegistry.Counter hudPackets = registry.counter("hud_packets_total", "Packet-equivalent HUD updates sent, by element", "hud");
+
+    private final MetricsRegistry.Gauge queueDepth = registry.gauge("queue_depth", "Work waiting in the plugin's queues", "queue");
+    private final MetricsRegistry.Gauge playersOnline = registry.gauge("players_online", "Players online");
+    private final MetricsRegistry.Gauge playersAlive = registry.gauge("players_alive", "Players alive in the current event");
+    private final MetricsRegistry.Gauge spectators = registry.gauge("spectators", "Spectators in the current event");
+    private final MetricsRegistry.Gauge logLinesDropped = registry.gauge("log_lines_dropped", "Log lines dropped by the file writer since it started");
+
+    private BukkitTask samplerTask;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public PluginMetrics(MeowMCEvents plugin) {
+        this.plugin = plugin;
+        registry.addCollector(this::renderSections);
+    }
+
+    // ==================== Counters (main thread) ====================
+
+    public void eventStarted() {
+        eventsStarted.inc();
+    }
+
+    /**
+     * @param outcome "winner" or "stopped"
+     */
+    public void eventFinished(String outcome) {
+        eventsFinished.inc(outcome);
+    }
+
+    public void playerJoined() {
+        playersJoined.inc();
+    }
+
+    public void kill() {
+        kills.inc();
+    }
+
+    /**
+     * @param cause short lowercase cause ("player", "void", "admin", a damage cause name...)
+     */
+    public void elimination(String cause) {
+        eliminations.inc(cause);
+    }
+
+    public void hudPackets(String hud, int packets) {
+        hudPackets.add(hud, packets);
+    }
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * Start sampling and bind the endpoint to localhost
+     */
+    public void start() {
+        Profiler profiler = plugin.getProfiler();
+        if (profiler != null) {
+            profiler.setExported(true);
+        }
+        samplerTask = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task metrics-sampler", this::sample), 20L, 20L);
+
+        int port = plugin.getConfigManager().getMetricsPort();
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            plugin.getLogger().warning("[Metrics] Could not bind 127.0.0.1:" + port + " - " + e.getMessage());
+            return;
+        }
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MeowMCEvents-Metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/metrics", this::handle);
+        server.start();
+        plugin.getLogger().info("[Metrics] Serving http://127.0.0.1:" + port + "/metrics");
+    }
+
+    public void shutdown() {
+        Profiler profiler = plugin.getProfiler();
+        if (profiler != null) {
+            profiler.setExported(false);
+        }
+        if (samplerTask != null) {
+            samplerTask.cancel();
+            samplerTask = null;
+        }
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    // ==================== Sampling (main thread) ====================
+
+    private void sample() {
+        int pending = 0;
+        for (BukkitTask task : Bukkit.getScheduler().getPendingTasks()) {
+            if (task.getOwner() == plugin) pending++;
+        }
+        queueDepth.set("scheduler", pending);
+
+        EventManager eventManager = plugin.getEventManager();
+        queueDepth.set("kit_distribution", eventManager != null ? eventManager.getKitDistributor().getRemaining() : 0);
+
+        LogManager log = plugin.getLogManager();
+        queueDepth.set("log_writer", log != null ? log.getQueuedLineCount() : 0);
+        logLinesDropped.set(log != null ? log.getDroppedLineCount() : 0);
+
+        playersOnline.set(Bukkit.getOnlinePlayers().size());
+        boolean running = eventManager != null && eventManager.isEventRunning();
+        playersAlive.set(running ? eventManager.getAlivePlayerCount() : 0);
+        spectators.set(running ? eventManager.getSpectatorCount() : 0);
+    }
+
+    // ==================== Endpoint (metrics thread) ====================
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = registry.render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Lifetime cost of every profiled section (listeners, tasks, elimination)
+     */
+    private void renderSections(StringBuilder out) {
+        Profiler profiler = plugin.getProfiler();
+        if (profiler == null) return;
+        List<ProfilerSection> sections = new ArrayList<>(profiler.getSections());
+        sections.sort(Comparator.comparing(ProfilerSection::getName));
+
+        String seconds = registry.getPrefix() + "section_seconds_total";
+        MetricsRegistry.header(out, seconds, "Main thread time spent in each profiled section", "counter");
+        for (ProfilerSection section : sections) {
+            MetricsRegistry.sample(out, seconds, "section", section.getName(), section.getTotalNanos() / 1_000_000_000.0);
+        }
+        String calls = registry.getPrefix() + "section_calls_total";
+        MetricsRegistry.header(out, calls, "Timed calls of each profiled section", "counter");
+        for (ProfilerSection section : sections) {
+            MetricsRegistry.sample(out, calls, "section", section.getName(), section.getTotalCount());
+        }
+    }
+}
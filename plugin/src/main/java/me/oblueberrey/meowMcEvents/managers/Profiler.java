@@ -0,0 +1,185 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Built-in hot path profiler.
+ *
+ * Listeners are registered through {@link #registerEvents(Listener)}, which wraps each
+ * handler's executor in a timer, and repeating tasks are wrapped with {@link #timed}.
+ * Every wrapped piece of code gets a {@link ProfilerSection}; while profiling is off a
+ * section costs one volatile read per call. Toggled with /meowevent profile on|off, and
+ * kept timing regardless while the metrics endpoint exports the section totals.
+ */
+public class Profiler {
+
+    private final MeowMCEvents plugin;
+    private final Map<String, ProfilerSection> sections = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    private volatile boolean exported; // Metrics endpoint reads the section totals
+
+    /**
+     * One section's numbers for the report
+     */
+    public static final class Result {
+        private final String name;
+        private final LatencyHistogram histogram;
+
+        Result(String name, LatencyHistogram histogram) {
+            this.name = name;
+            this.histogram = histogram;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+    }
+
+    public Profiler(MeowMCEvents plugin) {
+        this.plugin = plugin;
+        this.enabled = plugin.getConfigManager().isProfilerEnabled();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isExported() {
+        return exported;
+    }
+
+    /**
+     * Keep sections timing while metrics are enabled, whatever /meowevent profile says
+     */
+    public void setExported(boolean exported) {
+        this.exported = exported;
+    }
+
+    /**
+     * True while sections record (profiling on or metrics exporting)
+     */
+    public boolean isTiming() {
+        return enabled || exported;
+    }
+
+    public ProfilerSection section(String name) {
+        return sections.computeIfAbsent(name, key -> new ProfilerSection(key, this::isTiming));
+    }
+
+    /**
+     * Wrap a repeating task so each run is timed under the given section
+     */
+    public Runnable wrap(String name, Runnable task) {
+        ProfilerSection section = section(name);
+        return () -> {
+            long start = section.begin();
+            try {
+                task.run();
+            } finally {
+                section.end(start);
+            }
+        };
+    }
+
+    /**
+     * {@link #wrap} through the plugin's profiler, or the task itself when there is none
+     */
+    public static Runnable timed(MeowMCEvents plugin, String name, Runnable task) {
+        Profiler profiler = plugin.getProfiler();
+        return profiler != null ? profiler.wrap(name, task) : task;
+    }
+
+    /**
+     * Register a listener the way PluginManager.registerEvents does, with each
+     * handler timed as "listener Class#method"
+     */
+    public void registerEvents(Listener listener) {
+        for (Method method : handlerMethods(listener.getClass())) {
+            EventHandler handler = method.getAnnotation(EventHandler.class);
+            if (handler == null || method.isBridge() || method.isSynthetic()) continue;
+
+            Class<?>[] parameters = method.getParameterTypes();
+            if (parameters.length != 1 || !Event.class.isAssignableFrom(parameters[0])) {
+                plugin.getLogger().warning("[Profiler] " + listener.getClass().getSimpleName() + "#" + method.getName()
+                        + " is not a valid event handler - skipped");
+                continue;
+            }
+            Class<? extends Event> eventClass = parameters[0].asSubclass(Event.class);
+            method.setAccessible(true);
+
+            EventExecutor executor = EventExecutor.create(method, eventClass);
+            ProfilerSection section = section("listener " + listener.getClass().getSimpleName() + "#" + method.getName());
+            EventExecutor timedExecutor = (target, event) -> {
+                long start = section.begin();
+                try {
+                    executor.execute(target, event);
+                } finally {
+                    section.end(start);
+                }
+            };
+            plugin.getServer().getPluginManager().registerEvent(eventClass, listener, handler.priority(),
+                    timedExecutor, plugin, handler.ignoreCancelled());
+        }
+    }
+
+    /**
+     * Public methods (inherited ones included) plus the class's own private ones,
+     * the same set SimplePluginManager looks at
+     */
+    private static Set<Method> handlerMethods(Class<?> listenerClass) {
+        Set<Method> methods = new LinkedHashSet<>();
+        Collections.addAll(methods, listenerClass.getMethods());
+        Collections.addAll(methods, listenerClass.getDeclaredMethods());
+        return methods;
+    }
+
+    /**
+     * Sections with samples in roughly the last {@code seconds}, most total time first
+     */
+    public List<Result> report(int seconds) {
+        List<Result> results = new ArrayList<>();
+        for (ProfilerSection section : sections.values()) {
+            LatencyHistogram histogram = section.snapshot(seconds);
+            if (histogram.getCount() > 0) {
+                results.add(new Result(section.getName(), histogram));
+            }
+        }
+        results.sort((a, b) -> Long.compare(b.histogram.getSum(), a.histogram.getSum()));
+        return results;
+    }
+
+    /**
+     * Every section created so far, for exporters
+     */
+    public Collection<ProfilerSection> getSections() {
+        return sections.values();
+    }
+
+    public void reset() {
+        for (ProfilerSection section : sections.values()) {
+            section.reset();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Timings for one profiled piece of code (a listener method, a repeating task...).
+ *
+ * Samples go into a ring of 12 five-second histograms, so a section always holds the
+ * last minute in fixed memory and old slots are cleared as the ring comes around.
+ * While profiling is off {@link #begin()} returns {@link #NOT_TIMED} and nothing is recorded.
+ */
+public final class ProfilerSection {
+
+    public static final long NOT_TIMED = Long.MIN_VALUE;
+    static final long SLOT_NANOS = TimeUnit.SECONDS.toNanos(5);
+    static final int SLOTS = 12;
+    public static final int MAX_WINDOW_SECONDS = (int) (SLOTS * TimeUnit.NANOSECONDS.toSeconds(SLOT_NANOS));
+
+    private final String name;
+    private final BooleanSupplier enabled;
+    private final LatencyHistogram[] slots = new LatencyHistogram[SLOTS];
+    private final long[] slotIds = new long[SLOTS];
+    // Lifetime totals, read lock-free by the metrics exporter
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder totalCount = new LongAdder();
+
+    public ProfilerSection(String name, BooleanSupplier enabled) {
+        this.name = name;
+        this.enabled = enabled;
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new LatencyHistogram();
+            slotIds[i] = Long.MIN_VALUE;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Start timestamp to pass to {@link #end(long)}
+     */
+    public long begin() {
+        return enabled.getAsBoolean() ? System.nanoTime() : NOT_TIMED;
+    }
+
+    public void end(long start) {
+        if (start == NOT_TIMED) return;
+        long now = System.nanoTime();
+        record(now - start, now);
+    }
+
+    void record(long nanos, long now) {
+        long slot = Math.floorDiv(now, SLOT_NANOS);
+        int index = (int) Math.floorMod(slot, (long) SLOTS);
+        synchronized (this) {
+            if (slotIds[index] != slot) {
+                slots[index].clear();
+                slotIds[index] = slot;
+            }
+            slots[index].record(nanos);
+        }
+        totalNanos.add(nanos);
+        totalCount.increment();
+    }
+
+    /**
+     * Time recorded since startup; unlike the ring this is never cleared, so it can be
+     * exported as a monotonic counter
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Samples from roughly the last {@code seconds} (rounded up to whole 5s slots, at most a minute)
+     */
+    public LatencyHistogram snapshot(int seconds) {
+        return snapshot(seconds, System.nanoTime());
+    }
+
+    synchronized LatencyHistogram snapshot(int seconds, long now) {
+        long current = Math.floorDiv(now, SLOT_NANOS);
+        long wanted = Math.max(1, Math.min(SLOTS, (TimeUnit.SECONDS.toNanos(seconds) + SLOT_NANOS - 1) / SLOT_NANOS));
+        LatencyHistogram merged = new LatencyHistogram();
+        for (int i = 0; i < SLOTS; i++) {
+            if (slotIds[i] != Long.MIN_VALUE && slotIds[i] > current - wanted && slotIds[i] <= current) {
+                merged.add(slots[i]);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Clears the ring; the lifetime totals are kept
+     */
+    public synchronized void reset() {
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i].clear();
+            slotIds[i] = Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,517 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Binary replay format shared by the recorder and the playback.
+ *
+ * A replay is a header (participants, world, keyframe interval) followed by one frame per
+ * tick. Positions are fixed-point (1/32 block), angles are 256 steps per turn, equipment is
+ * an index into a palette of material names that is defined inline the first time a name
+ * is seen. Delta frames only carry players whose sample changed, with zigzag varint deltas
+ * against the previous tick; every keyframe carries everyone in absolute values, so a seek
+ * jumps to the nearest keyframe and decodes forward from there.
+ */
+public final class ReplayCodec {
+
+    public static final int MAGIC = 0x4D52504C; // "MRPL"
+    public static final int VERSION = 1;
+
+    public static final int POSITION_SCALE = 32;
+    public static final int ANGLE_STEPS = 256;
+    /** Main hand, off hand, head, chest, legs, feet */
+    public static final int EQUIPMENT_SLOTS = 6;
+
+    // Record types
+    private static final int RECORD_DELTA = 0;
+    private static final int RECORD_KEYFRAME = 1;
+    private static final int RECORD_PALETTE = 2;
+
+    // Entry flags
+    public static final int FLAG_POSITION = 1;
+    public static final int FLAG_ROTATION = 1 << 1;
+    public static final int FLAG_EQUIPMENT = 1 << 2;
+    public static final int FLAG_SWING = 1 << 3;
+    public static final int FLAG_DAMAGE = 1 << 4;
+    public static final int FLAG_REMOVED = 1 << 5;
+
+    private ReplayCodec() {
+    }
+
+    public static int toFixed(double coordinate) {
+        return (int) Math.round(coordinate * POSITION_SCALE);
+    }
+
+    public static int toAngle(float degrees) {
+        return Math.round(degrees * ANGLE_STEPS / 360f) & 0xFF;
+    }
+
+    /**
+     * Write the file header
+     */
+    public static byte[] header(long startedAt, String world, int keyframeInterval, UUID[] players, String[] names) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(startedAt);
+            out.writeUTF(world);
+            out.writeInt(keyframeInterval);
+            out.writeInt(players.length);
+            for (int i = 0; i < players.length; i++) {
+                out.writeLong(players[i].getMostSignificantBits());
+                out.writeLong(players[i].getLeastSignificantBits());
+                out.writeUTF(names[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // ==================== Encoder ====================
+
+    /**
+     * Turns per-tick samples into frames. Call {@link #beginTick()}, then {@link #sample}
+     * or {@link #remove} per player, then {@link #endTick()}; {@link #drain()} hands the
+     * encoded bytes to the writer.
+     */
+    public static final class Encoder {
+        private final int keyframeInterval;
+        private final int[] x, y, z, yaw, pitch;
+        private final int[][] equipment;
+        private final boolean[] removed;
+        private final boolean[] seen;
+        private final Map<String, Integer> palette = new HashMap<>();
+
+        private final ByteSink out = new ByteSink(4096);
+        private final ByteSink frame = new ByteSink(1024);
+        private int entries;
+        private int tick;
+        private boolean keyframe;
+
+        public Encoder(int players, int keyframeInterval) {
+            this.keyframeInterval = Math.max(1, keyframeInterval);
+            x = new int[players];
+            y = new int[players];
+            z = new int[players];
+            yaw = new int[players];
+            pitch = new int[players];
+            equipment = new int[players][EQUIPMENT_SLOTS];
+            removed = new boolean[players];
+            seen = new boolean[players];
+            palette.put("", 0);
+        }
+
+        public void beginTick() {
+            keyframe = tick % keyframeInterval == 0;
+            entries = 0;
+            frame.reset();
+        }
+
+        /**
+         * Record one player's sample.
+         *
+         * @param equipmentNames material names per slot ("" for empty), or null if not sampled this tick
+         */
+        public void sample(int index, int px, int py, int pz, int pyaw, int ppitch,
+                           String[] equipmentNames, boolean swing, boolean damage) {
+            if (removed[index]) return;
+
+            int flags = 0;
+            if (keyframe || !seen[index] || px != x[index] || py != y[index] || pz != z[index]) {
+                flags |= FLAG_POSITION;
+            }
+            if (keyframe || !seen[index] || pyaw != yaw[index] || ppitch != pitch[index]) {
+                flags |= FLAG_ROTATION;
+            }
+            if (equipmentNames != null) {
+                for (int slot = 0; slot < EQUIPMENT_SLOTS; slot++) {
+                    int id = paletteId(equipmentNames[slot]);
+                    if (id != equipment[index][slot]) {
+                        equipment[index][slot] = id;
+                        flags |= FLAG_EQUIPMENT;
+                    }
+                }
+            }
+            if (keyframe) flags |= FLAG_EQUIPMENT;
+            if (swing) flags |= FLAG_SWING;
+            if (damage) flags |= FLAG_DAMAGE;
+            if (flags == 0) return;
+
+            boolean absolute = keyframe || !seen[index];
+            frame.writeVarInt(index);
+            frame.writeVarInt(flags);
+            if ((flags & FLAG_POSITION) != 0) {
+                frame.writeZigZag(absolute ? px : px - x[index]);
+                frame.writeZigZag(absolute ? py : py - y[index]);
+                frame.writeZigZag(absolute ? pz : pz - z[index]);
+                x[index] = px;
+                y[index] = py;
+                z[index] = pz;
+            }
+            if ((flags & FLAG_ROTATION) != 0) {
+                frame.writeByte(pyaw);
+                frame.writeByte(ppitch);
+                yaw[index] = pyaw;
+                pitch[index] = ppitch;
+            }
+            if ((flags & FLAG_EQUIPMENT) != 0) {
+                for (int slot = 0; slot < EQUIPMENT_SLOTS; slot++) {
+                    frame.writeVarInt(equipment[index][slot]);
+                }
+            }
+            seen[index] = true;
+            entries++;
+        }
+
+        /**
+         * Player left the match (eliminated or disconnected)
+         */
+        public void remove(int index) {
+            if (removed[index]) return;
+            removed[index] = true;
+            frame.writeVarInt(index);
+            frame.writeVarInt(FLAG_REMOVED);
+            entries++;
+        }
+
+        public void endTick() {
+            if (keyframe) {
+                // Keyframes restate removals so a seek never sees a stale player
+                for (int i = 0; i < removed.length; i++) {
+                    if (removed[i]) {
+                        frame.writeVarInt(i);
+                        frame.writeVarInt(FLAG_REMOVED);
+                        entries++;
+                    }
+                }
+            }
+            out.writeByte(keyframe ? RECORD_KEYFRAME : RECORD_DELTA);
+            out.writeVarInt(entries);
+            out.write(frame);
+            tick++;
+        }
+
+        private int paletteId(String name) {
+            Integer id = palette.get(name);
+            if (id != null) return id;
+            int created = palette.size();
+            palette.put(name, created);
+            out.writeByte(RECORD_PALETTE);
+            out.writeVarInt(created);
+            out.writeUTF(name);
+            return created;
+        }
+
+        public int getTick() {
+            return tick;
+        }
+
+        public boolean isRemoved(int index) {
+            return removed[index];
+        }
+
+        /**
+         * Bytes encoded since the last drain
+         */
+        public byte[] drain() {
+            byte[] bytes = out.toByteArray();
+            out.reset();
+            return bytes;
+        }
+    }
+
+    // ==================== Decoder ====================
+
+    /**
+     * Reads a replay back. The whole file is indexed once on load (keyframe offsets, palette)
+     * so seeking is a jump plus at most one keyframe interval of decoding. A file cut short by
+     * a crash plays up to its last complete frame.
+     */
+    public static final class Decoder {
+        private final byte[] data;
+        private final long startedAt;
+        private final String world;
+        private final int keyframeInterval;
+        private final UUID[] players;
+        private final String[] names;
+        private final int framesStart;
+        private final int end;
+        private final int tickCount;
+        private final List<String> palette = new ArrayList<>();
+        private final List<int[]> keyframes = new ArrayList<>(); // {tick, offset}
+
+        // Decoded state
+        private final int[] x, y, z, yaw, pitch;
+        private final int[][] equipment;
+        private final boolean[] alive;
+        private final int[] frameFlags;
+        private int position;
+        private int tick = -1;
+
+        public Decoder(byte[] data) throws IOException {
+            this.data = data;
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            if (in.readInt() != MAGIC) throw new IOException("Not a replay file");
+            int version = in.readUnsignedShort();
+            if (version != VERSION) throw new IOException("Unsupported replay version " + version);
+            startedAt = in.readLong();
+            world = in.readUTF();
+            keyframeInterval = in.readInt();
+            int count = in.readInt();
+            if (count < 0 || count > 10_000) throw new IOException("Corrupt replay header");
+            players = new UUID[count];
+            names = new String[count];
+            for (int i = 0; i < count; i++) {
+                players[i] = new UUID(in.readLong(), in.readLong());
+                names[i] = in.readUTF();
+            }
+            framesStart = data.length - in.available();
+
+            x = new int[count];
+            y = new int[count];
+            z = new int[count];
+            yaw = new int[count];
+            pitch = new int[count];
+            equipment = new int[count][EQUIPMENT_SLOTS];
+            alive = new boolean[count];
+            frameFlags = new int[count];
+
+            // Index pass: palette, keyframes, last complete frame
+            position = framesStart;
+            int frames = 0;
+            int lastComplete = framesStart;
+            try {
+                while (position < data.length) {
+                    int recordStart = position;
+                    int type = readByte();
+                    if (type == RECORD_PALETTE) {
+                        setPalette(readVarInt(), readUTF());
+                    } else if (type == RECORD_DELTA || type == RECORD_KEYFRAME) {
+                        if (type == RECORD_KEYFRAME) {
+                            keyframes.add(new int[]{frames, recordStart});
+                        }
+                        readEntries(false);
+                        frames++;
+                    } else {
+                        break;
+                    }
+                    lastComplete = position;
+                }
+            } catch (EOFException ignored) {
+                // Truncated tail
+            }
+            end = lastComplete;
+            tickCount = frames;
+            rewind();
+        }
+
+        public long getStartedAt() { return startedAt; }
+        public String getWorld() { return world; }
+        public int getKeyframeInterval() { return keyframeInterval; }
+        public int getPlayerCount() { return players.length; }
+        public UUID getPlayer(int index) { return players[index]; }
+        public String getName(int index) { return names[index]; }
+        public int getTickCount() { return tickCount; }
+        /** Tick of the last decoded frame, -1 before the first */
+        public int getTick() { return tick; }
+
+        public double getX(int index) { return (double) x[index] / POSITION_SCALE; }
+        public double getY(int index) { return (double) y[index] / POSITION_SCALE; }
+        public double getZ(int index) { return (double) z[index] / POSITION_SCALE; }
+        public float getYaw(int index) { return (byte) yaw[index] * 360f / ANGLE_STEPS; }
+        public float getPitch(int index) { return (byte) pitch[index] * 360f / ANGLE_STEPS; }
+        public boolean isAlive(int index) { return alive[index]; }
+        /** Material name in a slot, "" if empty */
+        public String getEquipment(int index, int slot) { return palette.get(equipment[index][slot]); }
+        /** FLAG_* bits of this player in the last decoded frame */
+        public int getFrameFlags(int index) { return frameFlags[index]; }
+
+        /**
+         * Decode the next frame, false at the end of the replay
+         */
+        public boolean next() {
+            if (tick + 1 >= tickCount) return false;
+            try {
+                while (position < end) {
+                    int type = readByte();
+                    if (type == RECORD_PALETTE) {
+                        setPalette(readVarInt(), readUTF());
+                        continue;
+                    }
+                    if (type == RECORD_KEYFRAME) {
+                        Arrays.fill(alive, false);
+                    }
+                    Arrays.fill(frameFlags, 0);
+                    readEntries(true);
+                    tick++;
+                    return true;
+                }
+            } catch (EOFException e) {
+                // Unreachable below end, the index pass validated every frame
+            }
+            return false;
+        }
+
+        /**
+         * Jump so that the next {@link #next()} is the given tick's frame
+         */
+        public void seek(int target) {
+            target = Math.max(0, Math.min(target, tickCount));
+            int[] keyframe = null;
+            for (int[] candidate : keyframes) {
+                if (candidate[0] > target) break;
+                keyframe = candidate;
+            }
+            if (keyframe == null) {
+                rewind();
+            } else {
+                position = keyframe[1];
+                tick = keyframe[0] - 1;
+            }
+            while (tick + 1 < target && next()) {
+                // Decode forward to just before the target
+            }
+        }
+
+        private void rewind() {
+            position = framesStart;
+            tick = -1;
+            Arrays.fill(alive, false);
+            Arrays.fill(frameFlags, 0);
+        }
+
+        private void readEntries(boolean apply) throws EOFException {
+            int entries = readVarInt();
+            for (int e = 0; e < entries; e++) {
+                int index = readVarInt();
+                int flags = readVarInt();
+                if (index < 0 || index >= players.length) throw new EOFException("Bad player index");
+                boolean absolute = apply && !alive[index];
+                if ((flags & FLAG_REMOVED) != 0) {
+                    if (apply) {
+                        alive[index] = false;
+                        frameFlags[index] = flags;
+                    }
+                    continue;
+                }
+                if ((flags & FLAG_POSITION) != 0) {
+                    int dx = readZigZag(), dy = readZigZag(), dz = readZigZag();
+                    if (apply) {
+                        x[index] = absolute ? dx : x[index] + dx;
+                        y[index] = absolute ? dy : y[index] + dy;
+                        z[index] = absolute ? dz : z[index] + dz;
+                    }
+                }
+                if ((flags & FLAG_ROTATION) != 0) {
+                    int ryaw = readByte(), rpitch = readByte();
+                    if (apply) {
+                        yaw[index] = ryaw;
+                        pitch[index] = rpitch;
+                    }
+                }
+                if ((flags & FLAG_EQUIPMENT) != 0) {
+                    for (int slot = 0; slot < EQUIPMENT_SLOTS; slot++) {
+                        int id = readVarInt();
+                        if (apply) equipment[index][slot] = id < palette.size() ? id : 0;
+                    }
+                }
+                if (apply) {
+                    alive[index] = true;
+                    frameFlags[index] = flags;
+                }
+            }
+        }
+
+        private void setPalette(int id, String name) {
+            while (palette.size() <= id) palette.add("");
+            palette.set(id, name);
+        }
+
+        private int readByte() throws EOFException {
+            if (position >= data.length) throw new EOFException();
+            return data[position++] & 0xFF;
+        }
+
+        private int readVarInt() throws EOFException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new EOFException("VarInt too long");
+        }
+
+        private int readZigZag() throws EOFException {
+            int raw = readVarInt();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        private String readUTF() throws EOFException {
+            int length = readVarInt();
+            if (length < 0 || position + length > data.length) throw new EOFException();
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+
+    // ==================== Byte Sink ====================
+
+    /**
+     * Growable byte buffer with varint helpers (no per-write allocation)
+     */
+    static final class ByteSink {
+        private byte[] buffer;
+        private int size;
+
+        ByteSink(int capacity) {
+            buffer = new byte[capacity];
+        }
+
+        void writeByte(int value) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte(value);
+        }
+
+        void writeZigZag(int value) {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        void writeUTF(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            for (byte b : bytes) writeByte(b);
+        }
+
+        void write(ByteSink other) {
+            if (size + other.size > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + other.size));
+            }
+            System.arraycopy(other.buffer, 0, buffer, size, other.size);
+            size += other.size;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        void reset() {
+            size = 0;
+        }
+    }
+}
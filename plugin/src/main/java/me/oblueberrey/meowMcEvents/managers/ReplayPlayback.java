@@ -0,0 +1,250 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerArmorStandManipulateEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.EulerAngle;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Plays recorded replays back to a single viewer.
+ *
+ * Each participant is an armor stand that is hidden by default and shown only to the viewer,
+ * so other players on the server never see the playback. One frame is decoded per tick;
+ * seeking jumps to the nearest keyframe and re-applies the full state.
+ */
+public class ReplayPlayback implements Listener {
+
+    private final MeowMCEvents plugin;
+    private final Map<UUID, Session> sessions = new HashMap<>();
+    private final Set<UUID> standIds = new HashSet<>();
+
+    public ReplayPlayback(MeowMCEvents plugin) {
+        this.plugin = plugin;
+    }
+
+    private void debug(Supplier<String> message) {
+        if (plugin.getConfigManager().shouldLogEvents()) {
+            plugin.getLogger().info("[DEBUG:REPLAY] " + message.get());
+        }
+    }
+
+    /**
+     * One viewer watching one replay
+     */
+    private final class Session {
+        private final Player viewer;
+        private final ReplayCodec.Decoder decoder;
+        private final World world;
+        private final ArmorStand[] stands;
+        private BukkitTask task;
+        private boolean paused;
+
+        Session(Player viewer, ReplayCodec.Decoder decoder, World world) {
+            this.viewer = viewer;
+            this.decoder = decoder;
+            this.world = world;
+            this.stands = new ArmorStand[decoder.getPlayerCount()];
+        }
+
+        void tick() {
+            if (paused) return;
+            if (!decoder.next()) {
+                viewer.sendMessage(plugin.getConfigManager().getMessage("replay-finished"));
+                stop(viewer);
+                return;
+            }
+            apply(false);
+        }
+
+        /**
+         * Push the decoder state to the stands (full = after a seek)
+         */
+        void apply(boolean full) {
+            for (int i = 0; i < stands.length; i++) {
+                if (!decoder.isAlive(i)) {
+                    despawn(i);
+                    continue;
+                }
+                int flags = full ? ReplayCodec.FLAG_POSITION | ReplayCodec.FLAG_ROTATION | ReplayCodec.FLAG_EQUIPMENT
+                        : decoder.getFrameFlags(i);
+                ArmorStand stand = stands[i];
+                if (stand == null || !stand.isValid()) {
+                    stand = spawn(i);
+                    flags |= ReplayCodec.FLAG_EQUIPMENT;
+                } else if ((flags & (ReplayCodec.FLAG_POSITION | ReplayCodec.FLAG_ROTATION)) != 0) {
+                    stand.teleport(location(i));
+                    stand.setHeadPose(new EulerAngle(Math.toRadians(decoder.getPitch(i)), 0, 0));
+                }
+                if ((flags & ReplayCodec.FLAG_EQUIPMENT) != 0) {
+                    equip(stand, i);
+                }
+                if ((flags & ReplayCodec.FLAG_SWING) != 0) {
+                    stand.swingMainHand();
+                }
+                if ((flags & ReplayCodec.FLAG_DAMAGE) != 0) {
+                    stand.playHurtAnimation(0);
+                }
+            }
+        }
+
+        private Location location(int index) {
+            return new Location(world, decoder.getX(index), decoder.getY(index), decoder.getZ(index),
+                    decoder.getYaw(index), 0);
+        }
+
+        private ArmorStand spawn(int index) {
+            ArmorStand stand = world.spawn(location(index), ArmorStand.class, entity -> {
+                entity.setVisibleByDefault(false);
+                entity.setPersistent(false);
+                entity.setGravity(false);
+                entity.setInvulnerable(true);
+                entity.setArms(true);
+                entity.setBasePlate(false);
+                entity.setCustomName(decoder.getName(index));
+                entity.setCustomNameVisible(true);
+                entity.setHeadPose(new EulerAngle(Math.toRadians(decoder.getPitch(index)), 0, 0));
+            });
+            viewer.showEntity(plugin, stand);
+            stands[index] = stand;
+            standIds.add(stand.getUniqueId());
+            return stand;
+        }
+
+        private void despawn(int index) {
+            ArmorStand stand = stands[index];
+            if (stand == null) return;
+            standIds.remove(stand.getUniqueId());
+            stand.remove();
+            stands[index] = null;
+        }
+
+        private void equip(ArmorStand stand, int index) {
+            EntityEquipment equipment = stand.getEquipment();
+            equipment.setItemInMainHand(item(decoder.getEquipment(index, 0)));
+            equipment.setItemInOffHand(item(decoder.getEquipment(index, 1)));
+            equipment.setHelmet(item(decoder.getEquipment(index, 2)));
+            equipment.setChestplate(item(decoder.getEquipment(index, 3)));
+            equipment.setLeggings(item(decoder.getEquipment(index, 4)));
+            equipment.setBoots(item(decoder.getEquipment(index, 5)));
+        }
+
+        private ItemStack item(String materialName) {
+            Material material = materialName.isEmpty() ? null : Material.matchMaterial(materialName);
+            return material != null ? new ItemStack(material) : null;
+        }
+
+        void close() {
+            if (task != null) {
+                task.cancel();
+                task = null;
+            }
+            for (int i = 0; i < stands.length; i++) {
+                despawn(i);
+            }
+        }
+    }
+
+    // ==================== Controls ====================
+
+    /**
+     * Start playing a loaded replay to the viewer, replacing any playback they had
+     */
+    public boolean play(Player viewer, ReplayCodec.Decoder decoder) {
+        World world = Bukkit.getWorld(decoder.getWorld());
+        if (world == null) return false;
+        stop(viewer);
+
+        Session session = new Session(viewer, decoder, world);
+        sessions.put(viewer.getUniqueId(), session);
+
+        // Bring the viewer to the first recorded position
+        if (decoder.next()) {
+            session.apply(true);
+            for (int i = 0; i < decoder.getPlayerCount(); i++) {
+                if (decoder.isAlive(i)) {
+                    viewer.teleport(session.location(i).add(0, 3, 0));
+                    break;
+                }
+            }
+        }
+        session.task = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task replay-playback", session::tick), 1L, 1L);
+        debug(() -> viewer.getName() + " started a replay of " + decoder.getTickCount() + " ticks");
+        return true;
+    }
+
+    /**
+     * Jump to a point in the replay (seconds from start), false if not watching
+     */
+    public boolean seek(Player viewer, int seconds) {
+        Session session = sessions.get(viewer.getUniqueId());
+        if (session == null) return false;
+        session.decoder.seek(seconds * 20);
+        if (session.decoder.next()) {
+            session.apply(true);
+        }
+        return true;
+    }
+
+    /**
+     * Toggle pause, returns the new paused state or null if not watching
+     */
+    public Boolean togglePause(Player viewer) {
+        Session session = sessions.get(viewer.getUniqueId());
+        if (session == null) return null;
+        session.paused = !session.paused;
+        return session.paused;
+    }
+
+    /**
+     * Current position and length in seconds, or null if not watching
+     */
+    public int[] getProgress(Player viewer) {
+        Session session = sessions.get(viewer.getUniqueId());
+        if (session == null) return null;
+        return new int[]{Math.max(0, session.decoder.getTick()) / 20, session.decoder.getTickCount() / 20};
+    }
+
+    public boolean stop(Player viewer) {
+        Session session = sessions.remove(viewer.getUniqueId());
+        if (session == null) return false;
+        session.close();
+        return true;
+    }
+
+    /**
+     * End every playback (plugin disable)
+     */
+    public void stopAll() {
+        for (Session session : sessions.values()) {
+            session.close();
+        }
+        sessions.clear();
+        standIds.clear();
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        stop(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onManipulate(PlayerArmorStandManipulateEvent event) {
+        if (standIds.contains(event.getRightClicked().getUniqueId())) {
+            event.setCancelled(true);
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.player.PlayerAnimationEvent;
+import org.bukkit.event.player.PlayerAnimationType;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Records every running event into replays/&lt;start time&gt;.mrp (see {@link ReplayCodec}).
+ * Events started in the same second get -2, -3... appended, and files are only ever
+ * created new, so one recording never overwrites another.
+ *
+ * The main thread only samples: one location read per participant per tick into a reused
+ * Location, equipment every few ticks, swing/damage flags set by listeners. Encoding is
+ * array compares and varint writes into a reused buffer; the bytes are handed to a
+ * background writer once per second.
+ */
+public class ReplayRecorder implements Listener {
+
+    private static final String EXTENSION = ".mrp";
+    private static final int FLUSH_TICKS = 20;
+
+    private final MeowMCEvents plugin;
+    private final File folder;
+    private final ExecutorService writer;
+
+    // Writer-thread state
+    private OutputStream output;
+
+    // Recording state (main thread)
+    private BukkitTask task;
+    private ReplayCodec.Encoder encoder;
+    private Player[] players;
+    private final Map<UUID, Integer> indexOf = new HashMap<>();
+    private boolean[] swung;
+    private boolean[] damaged;
+    private boolean[] leaving;
+    private String currentName;
+    private String lastBaseName;
+    private int lastSuffix;
+    private int equipmentInterval;
+    private final Location scratch = new Location(null, 0, 0, 0);
+    private final String[] equipmentNames = new String[ReplayCodec.EQUIPMENT_SLOTS];
+
+    public ReplayRecorder(MeowMCEvents plugin) {
+        this.plugin = plugin;
+        this.folder = new File(plugin.getDataFolder(), "replays");
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MeowMCEvents-Replay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void debug(Supplier<String> message) {
+        if (plugin.getConfigManager().shouldLogEvents()) {
+            plugin.getLogger().info("[DEBUG:REPLAY] " + message.get());
+        }
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Start recording the given participants (event start)
+     */
+    public void start(Collection<Player> participants, World world) {
+        stop();
+        if (participants.isEmpty() || world == null) return;
+
+        int count = participants.size();
+        players = participants.toArray(new Player[0]);
+        UUID[] uuids = new UUID[count];
+        String[] names = new String[count];
+        indexOf.clear();
+        for (int i = 0; i < count; i++) {
+            uuids[i] = players[i].getUniqueId();
+            names[i] = players[i].getName();
+            indexOf.put(uuids[i], i);
+        }
+        swung = new boolean[count];
+        damaged = new boolean[count];
+        leaving = new boolean[count];
+
+        int keyframeInterval = plugin.getConfigManager().getReplayKeyframeIntervalTicks();
+        equipmentInterval = plugin.getConfigManager().getReplayEquipmentSampleTicks();
+        encoder = new ReplayCodec.Encoder(count, keyframeInterval);
+
+        long startedAt = System.currentTimeMillis();
+        currentName = nextName(startedAt);
+        File file = new File(folder, currentName + EXTENSION);
+        byte[] header = ReplayCodec.header(startedAt, world.getName(), keyframeInterval, uuids, names);
+        int maxFiles = plugin.getConfigManager().getReplayMaxFiles();
+        writer.execute(() -> open(file, header, maxFiles));
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task replay-record", this::tick), 1L, 1L);
+        debug(() -> "Recording " + count + " players to " + file.getName());
+    }
+
+    /**
+     * Start time name, with a -N suffix when an earlier recording already has it
+     */
+    private String nextName(long startedAt) {
+        String base = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(startedAt));
+        // Count in memory too - the previous file may not have been created by the writer yet
+        if (base.equals(lastBaseName)) {
+            lastSuffix++;
+        } else {
+            lastBaseName = base;
+            lastSuffix = 1;
+        }
+        while (new File(folder, withSuffix(base, lastSuffix) + EXTENSION).exists()) {
+            lastSuffix++;
+        }
+        return withSuffix(base, lastSuffix);
+    }
+
+    private static String withSuffix(String base, int suffix) {
+        return suffix == 1 ? base : base + "-" + suffix;
+    }
+
+    private void tick() {
+        encoder.beginTick();
+        boolean sampleEquipment = encoder.getTick() % equipmentInterval == 0;
+
+        for (int i = 0; i < players.length; i++) {
+            if (encoder.isRemoved(i)) continue;
+            Player player = players[i];
+            if (leaving[i] || !player.isOnline()) {
+                encoder.remove(i);
+                continue;
+            }
+            player.getLocation(scratch);
+            String[] equipment = sampleEquipment ? sampleEquipment(player) : null;
+            encoder.sample(i,
+                    ReplayCodec.toFixed(scratch.getX()),
+                    ReplayCodec.toFixed(scratch.getY()),
+                    ReplayCodec.toFixed(scratch.getZ()),
+                    ReplayCodec.toAngle(scratch.getYaw()),
+                    ReplayCodec.toAngle(scratch.getPitch()),
+                    equipment, swung[i], damaged[i]);
+            swung[i] = false;
+            damaged[i] = false;
+        }
+        encoder.endTick();
+
+        if (encoder.getTick() % FLUSH_TICKS == 0) {
+            flush();
+        }
+    }
+
+    private String[] sampleEquipment(Player player) {
+        EntityEquipment equipment = player.getEquipment();
+        equipmentNames[0] = materialName(equipment.getItemInMainHand());
+        equipmentNames[1] = materialName(equipment.getItemInOffHand());
+        equipmentNames[2] = materialName(equipment.getHelmet());
+        equipmentNames[3] = materialName(equipment.getChestplate());
+        equipmentNames[4] = materialName(equipment.getLeggings());
+        equipmentNames[5] = materialName(equipment.getBoots());
+        return equipmentNames;
+    }
+
+    private static String materialName(ItemStack item) {
+        return item == null || item.getType() == Material.AIR ? "" : item.getType().name();
+    }
+
+    /**
+     * Player is out of the match (eliminated or left)
+     */
+    public void markRemoved(UUID uuid) {
+        if (encoder == null) return;
+        Integer index = indexOf.get(uuid);
+        if (index != null) {
+            // Emitted with the next frame
+            leaving[index] = true;
+        }
+    }
+
+    /**
+     * Finish the current recording (event end), no-op if not recording
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        if (encoder == null) return;
+        flush();
+        writer.execute(this::close);
+        debug(() -> "Recording stopped after " + encoder.getTick() + " ticks");
+        encoder = null;
+        players = null;
+        indexOf.clear();
+        currentName = null;
+    }
+
+    /**
+     * Name of the replay being recorded, or null
+     */
+    public String getCurrentName() {
+        return currentName;
+    }
+
+    private void flush() {
+        byte[] bytes = encoder.drain();
+        if (bytes.length > 0) {
+            writer.execute(() -> write(bytes));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onAnimation(PlayerAnimationEvent event) {
+        if (encoder == null || event.getAnimationType() != PlayerAnimationType.ARM_SWING) return;
+        Integer index = indexOf.get(event.getPlayer().getUniqueId());
+        if (index != null) swung[index] = true;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDamage(EntityDamageEvent event) {
+        if (encoder == null || !(event.getEntity() instanceof Player)) return;
+        Integer index = indexOf.get(event.getEntity().getUniqueId());
+        if (index != null) damaged[index] = true;
+    }
+
+    // ==================== Writer Thread ====================
+
+    private void open(File file, byte[] header, int maxFiles) {
+        close();
+        if (!folder.exists() && !folder.mkdirs()) {
+            plugin.getLogger().warning("[Replay] Could not create replay folder");
+            return;
+        }
+        applyRetention(maxFiles - 1);
+        try {
+            // CREATE_NEW: fail rather than overwrite another recording
+            output = new BufferedOutputStream(Files.newOutputStream(file.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), 64 * 1024);
+            output.write(header);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "[Replay] Could not create " + file.getName(), e);
+            output = null;
+        }
+    }
+
+    private void write(byte[] bytes) {
+        if (output == null) return;
+        try {
+            output.write(bytes);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "[Replay] Write failed, recording dropped", e);
+            close();
+        }
+    }
+
+    private void close() {
+        if (output == null) return;
+        try {
+            output.close();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "[Replay] Could not close replay file", e);
+        }
+        output = null;
+    }
+
+    private void applyRetention(int keep) {
+        List<File> files = listFiles();
+        for (int i = 0; i < files.size() - Math.max(0, keep); i++) {
+            File file = files.get(i);
+            if (file.delete()) {
+                debug(() -> "Deleted old replay " + file.getName());
+            }
+        }
+    }
+
+    /**
+     * Replay files, oldest first (names sort by start time, then suffix)
+     */
+    private List<File> listFiles() {
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(EXTENSION));
+        if (files == null) return new ArrayList<>();
+        List<File> sorted = new ArrayList<>(Arrays.asList(files));
+        sorted.sort(Comparator.comparing(ReplayRecorder::sortKey));
+        return sorted;
+    }
+
+    /**
+     * Name without the extension - "x.mrp" would sort after "x-2.mrp"
+     */
+    private static String sortKey(File file) {
+        String name = file.getName();
+        return name.substring(0, name.length() - EXTENSION.length());
+    }
+
+    // ==================== Reading ====================
+
+    /**
+     * Names of stored replays, newest first
+     */
+    public void listReplays(int limit, Consumer<List<String>> callback) {
+        writer.execute(() -> {
+            List<File> files = listFiles();
+            List<String> names = new ArrayList<>();
+            for (int i = files.size() - 1; i >= 0 && names.size() < limit; i--) {
+                String name = files.get(i).getName();
+                names.add(name.substring(0, name.length() - EXTENSION.length()));
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> callback.accept(names));
+        });
+    }
+
+    /**
+     * Load and index a replay off-thread; the callback gets null if it is missing or unreadable
+     */
+    public void load(String name, Consumer<ReplayCodec.Decoder> callback) {
+        // Names are timestamps (plus a -N suffix) - never let a path through
+        if (!name.matches("[0-9-]+")) {
+            callback.accept(null);
+            return;
+        }
+        File file = new File(folder, name + EXTENSION);
+        writer.execute(() -> {
+            ReplayCodec.Decoder decoder = null;
+            if (file.isFile()) {
+                try {
+                    if (output != null) output.flush();
+                    decoder = new ReplayCodec.Decoder(Files.readAllBytes(file.toPath()));
+                } catch (IOException e) {
+                    plugin.getLogger().log(Level.WARNING, "[Replay] Could not read " + file.getName(), e);
+                }
+            }
+            ReplayCodec.Decoder result = decoder;
+            Bukkit.getScheduler().runTask(plugin, () -> callback.accept(result));
+        });
+    }
+
+    /**
+     * Stop recording and flush the file (plugin disable)
+     */
+    public void shutdown() {
+        stop();
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("[Replay] Timed out waiting for replay writes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.bukkit.scoreboard.*;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Manages the live sidebar scoreboard during events
@@ -54,9 +55,9 @@ public class ScoreboardManager {
         }
 
         // Start update task (every 20 ticks = 1 second)
-        updateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateAllScoreboards, 0L, 20L);
+        updateTask = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task scoreboard", this::updateAllScoreboards), 0L, 20L);
 
-        debug("Scoreboard started for " + players.size() + " players");
+        debug(() -> "Scoreboard started for " + players.size() + " players");
     }
 
     /**
@@ -108,7 +109,7 @@ public class ScoreboardManager {
         }
 
         playerScoreboards.clear();
-        debug("Scoreboard stopped");
+        debug(() -> "Scoreboard stopped");
     }
 
     /**
@@ -149,6 +150,7 @@ public class ScoreboardManager {
         int totalPlayers = eventManager.getJoinedPlayerCount();
         int teamSize = eventManager.getTeamSize();
         String elapsedTime = getElapsedTime();
+        int packets = 0;
 
         for (Map.Entry<UUID, Scoreboard> entry : playerScoreboards.entrySet()) {
             Player player = Bukkit.getPlayer(entry.getKey());
@@ -159,7 +161,7 @@ public class ScoreboardManager {
             if (objective == null) continue;
 
             // Update teams for name colors
-            updateNameColors(scoreboard, eventManager, teamManager);
+            packets += updateNameColors(scoreboard, eventManager, teamManager);
 
             // Clear old scores
             for (String s : scoreboard.getEntries()) {
@@ -173,6 +175,7 @@ public class ScoreboardManager {
                 }
                 if (!isTeamEntry) {
                     scoreboard.resetScores(s);
+                    packets++;
                 }
             }
 
@@ -199,7 +202,7 @@ public class ScoreboardManager {
             if (teamSize > 1) {
                 int teamNum = teamManager.getTeam(player);
                 if (teamNum != -1) {
-                    ChatColor teamColor = teamManager.getTeamColor(teamNum);
+                    String teamColor = teamManager.getTeamColorCode(teamNum);
                     int teamAlive = teamManager.getAliveTeamMemberCount(teamNum);
                     objective.getScore(ConfigManager.colorize("&d" + STAR + " &fTeam: " + teamColor + teamNum + " &7(" + teamAlive + " alive)")).setScore(score--);
                 }
@@ -216,47 +219,54 @@ public class ScoreboardManager {
             // Server/plugin branding with info icon
             String serverIP = plugin.getConfig().getString("server-ip", "meowmc.net");
             objective.getScore(ConfigManager.colorize("&7" + INFO + " &7" + serverIP)).setScore(score--);
+            packets += 10 - score;
         }
+
+        PluginMetrics metrics = plugin.getMetrics();
+        if (metrics != null) metrics.hudPackets("scoreboard", packets);
     }
 
     /**
-     * Update player name colors on the scoreboard
+     * Update player name colors on the scoreboard; only entries that change team are touched
+     * @return number of team entry changes sent
      */
-    private void updateNameColors(Scoreboard scoreboard, EventManager eventManager, TeamManager teamManager) {
+    private int updateNameColors(Scoreboard scoreboard, EventManager eventManager, TeamManager teamManager) {
         // Create/get teams for colors
         Team yellowTeam = getOrCreateTeam(scoreboard, "yellow", ChatColor.YELLOW);
         Team greyTeam = getOrCreateTeam(scoreboard, "grey", ChatColor.GRAY);
 
         // Team mode teams
         Map<Integer, Team> teamModeTeams = new HashMap<>();
+        int changes = 0;
 
         for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
             String entry = onlinePlayer.getName();
-            
-            // First, remove from all teams to avoid conflicts
-            for (Team team : scoreboard.getTeams()) {
-                if (team.hasEntry(entry)) {
-                    team.removeEntry(entry);
-                }
-            }
 
+            Team target = null;
             if (eventManager.isSpectator(onlinePlayer)) {
-                greyTeam.addEntry(entry);
+                target = greyTeam;
             } else if (eventManager.isPlayerInEvent(onlinePlayer)) {
-                if (teamManager.isTeamMode()) {
-                    int teamNum = teamManager.getTeam(onlinePlayer);
-                    if (teamNum != -1) {
-                        Team t = teamModeTeams.computeIfAbsent(teamNum, n -> 
-                            getOrCreateTeam(scoreboard, "team_" + n, teamManager.getTeamColor(n)));
-                        t.addEntry(entry);
-                    } else {
-                        yellowTeam.addEntry(entry);
-                    }
+                int teamNum = teamManager.isTeamMode() ? teamManager.getTeam(onlinePlayer) : -1;
+                if (teamNum != -1) {
+                    target = teamModeTeams.computeIfAbsent(teamNum, n ->
+                        getOrCreateTeam(scoreboard, "team_" + n, teamManager.getTeamColor(n)));
                 } else {
-                    yellowTeam.addEntry(entry);
+                    target = yellowTeam;
                 }
             }
+
+            Team current = scoreboard.getEntryTeam(entry);
+            if (current == target) continue;
+            if (current != null) {
+                current.removeEntry(entry);
+                changes++;
+            }
+            if (target != null) {
+                target.addEntry(entry);
+                changes++;
+            }
         }
+        return changes;
     }
 
     private Team getOrCreateTeam(Scoreboard scoreboard, String name, ChatColor color) {
@@ -264,7 +274,9 @@ public class ScoreboardManager {
         if (team == null) {
             team = scoreboard.registerNewTeam(name);
         }
-        team.setColor(color);
+        if (team.getColor() != color) {
+            team.setColor(color);
+        }
         return team;
     }
 
@@ -281,9 +293,9 @@ public class ScoreboardManager {
     /**
      * Debug logging
      */
-    private void debug(String message) {
+    private void debug(Supplier<String> message) {
         if (plugin.getConfigManager().isDebugEnabled()) {
-            plugin.getLogger().info("[DEBUG:SCOREBOARD] " + message);
+            plugin.getLogger().info("[DEBUG:SCOREBOARD] " + message.get());
         }
     }
 
@@ -0,0 +1,148 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.listeners.SpectatorCompassListener;
+import me.oblueberrey.meowMcEvents.utils.EventFeedback;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Puts players into and out of the spectator state: game mode and flight, spectator items,
+ * and visibility (spectators only see each other)
+ *
+ * Who is a spectator is decided by the event roster; this class only applies the result
+ * to the player.
+ */
+public class SpectatorController {
+
+    private final MeowMCEvents plugin;
+    private final EventFeedback eventFeedback;
+    private final Predicate<UUID> isSpectator;
+
+    public SpectatorController(MeowMCEvents plugin, EventFeedback eventFeedback, Predicate<UUID> isSpectator) {
+        this.plugin = plugin;
+        this.eventFeedback = eventFeedback;
+        this.isSpectator = isSpectator;
+    }
+
+    /**
+     * Uses adventure mode with flying enabled, locked inventory (or SPECTATOR mode from config)
+     * Compass and leave dye in their configured slots
+     */
+    public void apply(Player player) {
+        // Set gamemode from config (ADVENTURE or SPECTATOR)
+        boolean spectatorMode = isSpectatorGamemode();
+        if (spectatorMode) {
+            player.setGameMode(GameMode.SPECTATOR);
+        } else {
+            // Default to ADVENTURE mode with flying
+            player.setGameMode(GameMode.ADVENTURE);
+            player.setAllowFlight(true);
+            player.setFlying(true);
+            // Set flight speed from config
+            player.setFlySpeed(plugin.getConfigManager().getSpectatorFlightSpeed());
+        }
+
+        // Clear and give spectator items (only if not in SPECTATOR gamemode)
+        player.getInventory().clear();
+        if (!spectatorMode) {
+            player.getInventory().setItem(plugin.getConfigManager().getCompassSlot(), SpectatorCompassListener.createSpectatorCompass());
+            player.getInventory().setItem(plugin.getConfigManager().getLeaveSlot(), SpectatorCompassListener.createLeaveDye());
+        }
+
+        hideFromNonSpectators(player);
+    }
+
+    /**
+     * Ensure spectator has correct state and items (protection against other plugins resetting state)
+     */
+    public void reapply(Player player) {
+        if (isSpectatorGamemode()) {
+            if (player.getGameMode() != GameMode.SPECTATOR) {
+                player.setGameMode(GameMode.SPECTATOR);
+            }
+        } else {
+            if (player.getGameMode() != GameMode.ADVENTURE) {
+                player.setGameMode(GameMode.ADVENTURE);
+            }
+            if (!player.getAllowFlight()) {
+                player.setAllowFlight(true);
+            }
+            if (!player.isFlying()) {
+                player.setFlying(true);
+            }
+
+            // Ensure spectator items
+            int compassSlot = plugin.getConfigManager().getCompassSlot();
+            int leaveSlot = plugin.getConfigManager().getLeaveSlot();
+
+            if (player.getInventory().getItem(compassSlot) == null) {
+                player.getInventory().setItem(compassSlot, SpectatorCompassListener.createSpectatorCompass());
+            }
+            if (player.getInventory().getItem(leaveSlot) == null) {
+                player.getInventory().setItem(leaveSlot, SpectatorCompassListener.createLeaveDye());
+            }
+        }
+
+        // Re-hide from non-spectators
+        hideFromNonSpectators(player);
+    }
+
+    /**
+     * Back to survival, visible to everyone, with the spectator items, effects and HUD removed
+     */
+    public void restore(Player player) {
+        // Reset game mode and flight
+        player.setGameMode(GameMode.SURVIVAL);
+        player.setAllowFlight(false);
+        player.setFlying(false);
+        player.setFlySpeed(0.1f); // Reset to default flight speed
+        player.getInventory().clear();
+        clearEffects(player);
+
+        // Make visible to all players again
+        for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
+            onlinePlayer.showPlayer(plugin, player);
+        }
+
+        // Remove from boss bar
+        eventFeedback.removePlayerFromBossBar(player);
+
+        // Clear spectator compass tracking
+        if (plugin.getSpectatorCompassListener() != null) {
+            plugin.getSpectatorCompassListener().clearSpectatorIndex(player);
+        }
+    }
+
+    /**
+     * Hide a spectator from all non-spectators (alive players and non-event players)
+     * Only other spectators can see this spectator
+     */
+    private void hideFromNonSpectators(Player player) {
+        for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
+            if (!onlinePlayer.equals(player)) {
+                if (isSpectator.test(onlinePlayer.getUniqueId())) {
+                    // Other spectators can see this spectator
+                    onlinePlayer.showPlayer(plugin, player);
+                    player.showPlayer(plugin, onlinePlayer);
+                } else {
+                    // Non-spectators cannot see this spectator
+                    onlinePlayer.hidePlayer(plugin, player);
+                }
+            }
+        }
+    }
+
+    private boolean isSpectatorGamemode() {
+        return "SPECTATOR".equalsIgnoreCase(plugin.getConfigManager().getSpectatorGamemode());
+    }
+
+    static void clearEffects(Player player) {
+        player.getActivePotionEffects().forEach(effect ->
+            player.removePotionEffect(effect.getType()));
+    }
+}
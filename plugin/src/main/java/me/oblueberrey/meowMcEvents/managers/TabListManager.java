@@ -8,6 +8,7 @@ import org.bukkit.scheduler.BukkitTask;
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Manages the Tab List (player list) formatting during events.
@@ -45,9 +46,9 @@ public class TabListManager {
         active = true;
 
         // Start update task (every 20 ticks = 1 second)
-        updateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateTabList, 0L, 20L);
+        updateTask = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task tablist", this::updateTabList), 0L, 20L);
 
-        debug("Tab list started for event");
+        debug(() -> "Tab list started for event");
     }
 
     /**
@@ -76,7 +77,7 @@ public class TabListManager {
             clearHeaderFooter(player);
         }
 
-        debug("Tab list stopped");
+        debug(() -> "Tab list stopped");
     }
 
     /**
@@ -120,9 +121,14 @@ public class TabListManager {
                 modeText + "\n"
         );
 
+        int packets = 0;
         for (Player player : Bukkit.getOnlinePlayers()) {
             player.setPlayerListHeaderFooter(header, footer);
+            packets++;
         }
+
+        PluginMetrics metrics = plugin.getMetrics();
+        if (metrics != null) metrics.hudPackets("tablist", packets);
     }
 
     /**
@@ -135,9 +141,9 @@ public class TabListManager {
     /**
      * Debug logging
      */
-    private void debug(String message) {
+    private void debug(Supplier<String> message) {
         if (plugin.getConfigManager().isDebugEnabled()) {
-            plugin.getLogger().info("[DEBUG:TABLIST] " + message);
+            plugin.getLogger().info("[DEBUG:TABLIST] " + message.get());
         }
     }
 
@@ -0,0 +1,313 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.platform.PlatformAdapter;
+import me.oblueberrey.meowMcEvents.utils.MessageUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Team membership (see TeamRegistry) plus the server side: team colors and names,
+ * Player overloads and the auto-balance messages
+ */
+public class TeamManager extends TeamRegistry {
+
+    // Colors used when the config lists none (or for tests without a plugin)
+    private static final ChatColor[] DEFAULT_COLORS = {
+            ChatColor.RED,
+            ChatColor.BLUE,
+            ChatColor.GREEN,
+            ChatColor.YELLOW,
+            ChatColor.AQUA,
+            ChatColor.LIGHT_PURPLE,
+            ChatColor.GOLD,
+            ChatColor.WHITE
+    };
+
+    // Legacy colors a generated color can be approximated by (gray is reserved for "no team")
+    private static final ChatColor[] LEGACY_COLORS = {
+            ChatColor.RED, ChatColor.BLUE, ChatColor.GREEN, ChatColor.YELLOW,
+            ChatColor.AQUA, ChatColor.LIGHT_PURPLE, ChatColor.GOLD, ChatColor.WHITE,
+            ChatColor.DARK_RED, ChatColor.DARK_BLUE, ChatColor.DARK_GREEN,
+            ChatColor.DARK_AQUA, ChatColor.DARK_PURPLE
+    };
+    private static final int[] LEGACY_RGB = {
+            0xFF5555, 0x5555FF, 0x55FF55, 0xFFFF55,
+            0x55FFFF, 0xFF55FF, 0xFFAA00, 0xFFFFFF,
+            0xAA0000, 0x0000AA, 0x00AA00,
+            0x00AAAA, 0xAA00AA
+    };
+
+    // Precomputed per team number: legacy color (scoreboard), color code and name (chat)
+    private volatile ChatColor[] legacyColors;
+    private volatile String[] colorCodes;
+    private volatile String[] displayNames;
+    private volatile List<String> configuredColors = Collections.emptyList();
+    // Color codes of team numbers past the palette, built on first use
+    private final Map<Integer, String> extraColorCodes = new ConcurrentHashMap<>();
+
+    /**
+     * Without a platform (tests) - team debug output is dropped
+     */
+    public TeamManager() {
+        this(null);
+    }
+
+    public TeamManager(PlatformAdapter platform) {
+        super(platform);
+        buildPalette(INITIAL_CAPACITY + 1);
+    }
+
+    /**
+     * Set the configured team colors (color names or #RRGGBB, in team order);
+     * teams past the list get generated colors
+     */
+    public void setTeamColors(List<String> colors) {
+        synchronized (teamLock) {
+            configuredColors = colors != null ? new ArrayList<>(colors) : Collections.emptyList();
+            extraColorCodes.clear();
+            buildPalette(legacyColors.length);
+        }
+    }
+
+    /**
+     * Assign online players to teams (see {@link TeamRegistry#assignPlayers(Collection, int)})
+     */
+    public void assignTeams(List<Player> players, int teamSize) {
+        List<UUID> uuids = null;
+        if (players != null) {
+            uuids = new ArrayList<>(players.size());
+            for (Player player : players) {
+                if (player != null) uuids.add(player.getUniqueId());
+            }
+        }
+        assignPlayers(uuids, teamSize);
+    }
+
+    /**
+     * Get team number for a player
+     * Returns -1 if player is not in a team
+     */
+    public int getTeam(Player player) {
+        if (player == null) return -1;
+        return getTeam(player.getUniqueId());
+    }
+
+    /**
+     * Check if two players are on the same team
+     */
+    public boolean isSameTeam(Player player1, Player player2) {
+        if (player1 == null || player2 == null) return false;
+
+        int team1 = getTeam(player1);
+        int team2 = getTeam(player2);
+        return team1 != -1 && team1 == team2;
+    }
+
+    /**
+     * Remove player from their team
+     * Used when player disconnects or dies
+     */
+    public void removeFromTeam(Player player) {
+        if (player == null) return;
+        removeFromTeam(player.getUniqueId());
+    }
+
+    @Override
+    public boolean autoBalanceTeams(Set<UUID> alivePlayers) {
+        boolean balanced = super.autoBalanceTeams(alivePlayers);
+        if (balanced) {
+            Bukkit.broadcastMessage(me.oblueberrey.meowMcEvents.utils.ConfigManager.colorize(
+                    "&#AAAAAA&#FF9944teams auto-balanced"));
+        }
+        return balanced;
+    }
+
+    @Override
+    protected void onAutoBalanced(UUID uuid, int newTeam) {
+        // Notify the moved player
+        Player player = Bukkit.getPlayer(uuid);
+        if (player != null && player.isOnline()) {
+            String msg = me.oblueberrey.meowMcEvents.utils.ConfigManager.colorize(
+                    "&#AAAAAA-&#FF9944auto-balance &#AAAAAA-&#FFE566team " + newTeam);
+            player.sendMessage(msg);
+        }
+    }
+
+    @Override
+    protected void onCapacityChanged(int size) {
+        if (size > legacyColors.length) {
+            buildPalette(size);
+        }
+    }
+
+    // ==================== Team Colors ====================
+
+    /**
+     * Get the team's legacy color (scoreboard teams, name tags)
+     * Teams past the precomputed palette are approximated on the fly; gray means no team
+     */
+    public ChatColor getTeamColor(int teamNumber) {
+        if (teamNumber < 1) return ChatColor.GRAY;
+
+        ChatColor[] palette = legacyColors;
+        if (teamNumber < palette.length) {
+            return palette[teamNumber];
+        }
+        return nearestLegacy(generatedRgb(teamNumber - 1 - paletteBase(configuredColors)));
+    }
+
+    /**
+     * Get the team's chat color code (may be a hex color, unlike {@link #getTeamColor(int)})
+     */
+    public String getTeamColorCode(int teamNumber) {
+        if (teamNumber < 1) return ChatColor.GRAY.toString();
+
+        String[] codes = colorCodes;
+        if (teamNumber < codes.length) {
+            return codes[teamNumber];
+        }
+        return extraColorCodes.computeIfAbsent(teamNumber,
+                k -> hexCode(generatedRgb(k - 1 - paletteBase(configuredColors))));
+    }
+
+    /**
+     * Get formatted team name with color
+     */
+    public String getFormattedTeamName(int teamNumber) {
+        String[] names = displayNames;
+        if (teamNumber >= 1 && teamNumber < names.length) {
+            return names[teamNumber];
+        }
+        return getTeamColorCode(teamNumber) + "Team " + teamNumber;
+    }
+
+    /**
+     * Precompute colors and names for team numbers 1..size-1
+     * Configured colors come first, then generated ones spaced around the hue wheel
+     */
+    private void buildPalette(int size) {
+        List<String> configured = configuredColors;
+        ChatColor[] legacy = new ChatColor[size];
+        String[] codes = new String[size];
+        String[] names = new String[size];
+
+        int base = paletteBase(configured);
+        for (int teamNumber = 1; teamNumber < size; teamNumber++) {
+            int index = teamNumber - 1;
+            if (index >= base) {
+                int rgb = generatedRgb(index - base);
+                legacy[teamNumber] = nearestLegacy(rgb);
+                codes[teamNumber] = hexCode(rgb);
+            } else if (configured.isEmpty() || !resolveConfigured(configured.get(index), teamNumber, legacy, codes)) {
+                ChatColor color = DEFAULT_COLORS[index % DEFAULT_COLORS.length];
+                legacy[teamNumber] = color;
+                codes[teamNumber] = color.toString();
+            }
+            names[teamNumber] = codes[teamNumber] + "Team " + teamNumber;
+        }
+
+        legacyColors = legacy;
+        colorCodes = codes;
+        displayNames = names;
+    }
+
+    /**
+     * Number of leading teams colored from the config (or the defaults)
+     */
+    private static int paletteBase(List<String> configured) {
+        return configured.isEmpty() ? DEFAULT_COLORS.length : configured.size();
+    }
+
+    private boolean resolveConfigured(String value, int teamNumber, ChatColor[] legacy, String[] codes) {
+        if (value == null) return false;
+        String trimmed = value.trim();
+
+        if (trimmed.matches("#?[0-9a-fA-F]{6}")) {
+            int rgb = Integer.parseInt(trimmed.startsWith("#") ? trimmed.substring(1) : trimmed, 16);
+            legacy[teamNumber] = nearestLegacy(rgb);
+            codes[teamNumber] = hexCode(rgb);
+            return true;
+        }
+        try {
+            ChatColor color = ChatColor.valueOf(trimmed.toUpperCase(Locale.ROOT));
+            if (color.isColor()) {
+                legacy[teamNumber] = color;
+                codes[teamNumber] = color.toString();
+                return true;
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+        debug(() -> "Ignoring invalid team color '" + value + "' for Team " + teamNumber);
+        return false;
+    }
+
+    /**
+     * n-th generated color: golden-ratio hue steps keep neighbours far apart on the wheel,
+     * and every other lap is darker so colors stay distinct well past a hundred teams
+     */
+    private static int generatedRgb(int n) {
+        int index = Math.max(0, n);
+        float hue = (float) ((index * 0.618033988749895) % 1.0);
+        float saturation = (index / 3) % 2 == 0 ? 0.85f : 0.55f;
+        float brightness = (index / 6) % 2 == 0 ? 1.0f : 0.75f;
+        return hsbToRgb(hue, saturation, brightness);
+    }
+
+    /**
+     * HSB to 0xRRGGBB (same rounding as java.awt.Color.HSBtoRGB, without loading AWT)
+     */
+    private static int hsbToRgb(float hue, float saturation, float brightness) {
+        float h = (hue - (float) Math.floor(hue)) * 6.0f;
+        float f = h - (float) Math.floor(h);
+        float p = brightness * (1.0f - saturation);
+        float q = brightness * (1.0f - saturation * f);
+        float t = brightness * (1.0f - saturation * (1.0f - f));
+        float r, g, b;
+        switch ((int) h) {
+            case 0:
+                r = brightness; g = t; b = p;
+                break;
+            case 1:
+                r = q; g = brightness; b = p;
+                break;
+            case 2:
+                r = p; g = brightness; b = t;
+                break;
+            case 3:
+                r = p; g = q; b = brightness;
+                break;
+            case 4:
+                r = t; g = p; b = brightness;
+                break;
+            default:
+                r = brightness; g = p; b = q;
+                break;
+        }
+        return ((int) (r * 255.0f + 0.5f) << 16) | ((int) (g * 255.0f + 0.5f) << 8) | (int) (b * 255.0f + 0.5f);
+    }
+
+    private static ChatColor nearestLegacy(int rgb) {
+        int r = (rgb >> 16) & 0xFF, g = (rgb >> 8) & 0xFF, b = rgb & 0xFF;
+        ChatColor best = LEGACY_COLORS[0];
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < LEGACY_RGB.length; i++) {
+            int dr = r - ((LEGACY_RGB[i] >> 16) & 0xFF);
+            int dg = g - ((LEGACY_RGB[i] >> 8) & 0xFF);
+            int db = b - (LEGACY_RGB[i] & 0xFF);
+            int distance = dr * dr + dg * dg + db * db;
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = LEGACY_COLORS[i];
+            }
+        }
+        return best;
+    }
+
+    private static String hexCode(int rgb) {
+        return MessageUtils.colorize(String.format("&#%06x", rgb));
+    }
+}
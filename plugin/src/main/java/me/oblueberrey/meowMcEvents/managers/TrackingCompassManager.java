@@ -0,0 +1,165 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.utils.ConfigManager;
+import me.oblueberrey.meowMcEvents.utils.MessageUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Points alive players' compasses at their nearest non-teammate.
+ *
+ * Activates once the alive count drops to tracking-compass.max-alive-players.
+ * Work is staggered: each tick only a slice of the alive players is refreshed,
+ * so every player is updated once per update-interval-ticks. Targets come from
+ * the EventManager's SpatialIndex instead of scanning all alive players.
+ */
+public class TrackingCompassManager {
+
+    private static final String TRACKER_NAME = ConfigManager.colorize("&#FF5555⌖ &#FFE566Enemy Tracker");
+
+    private final MeowMCEvents plugin;
+    private final EventManager eventManager;
+    private final TeamManager teamManager;
+
+    private BukkitTask trackingTask;
+    private boolean activated;
+    private UUID[] roster = new UUID[0];
+    private int cursor;
+    private int sliceSize;
+
+    public TrackingCompassManager(MeowMCEvents plugin, EventManager eventManager, TeamManager teamManager) {
+        this.plugin = plugin;
+        this.eventManager = eventManager;
+        this.teamManager = teamManager;
+    }
+
+    private void debug(Supplier<String> message) {
+        if (plugin.getConfigManager().shouldLogPlayers()) {
+            plugin.getLogger().info("[DEBUG:TRACKER] " + message.get());
+        }
+    }
+
+    /**
+     * Start tracking for a new event (no-op if disabled in config)
+     */
+    public void start() {
+        stop();
+        if (!plugin.getConfigManager().isTrackingCompassEnabled()) {
+            return;
+        }
+
+        activated = false;
+        roster = new UUID[0];
+        cursor = 0;
+        trackingTask = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task tracking-compass", this::tick), 20L, 1L);
+        debug(() -> "Tracking compass task started");
+    }
+
+    /**
+     * Stop tracking and reset compass targets of anyone still tracked
+     */
+    public void stop() {
+        if (trackingTask != null) {
+            trackingTask.cancel();
+            trackingTask = null;
+        }
+        if (activated) {
+            for (UUID uuid : roster) {
+                Player player = Bukkit.getPlayer(uuid);
+                if (player != null && player.isOnline()) {
+                    player.setCompassTarget(player.getWorld().getSpawnLocation());
+                }
+            }
+        }
+        activated = false;
+        roster = new UUID[0];
+        cursor = 0;
+    }
+
+    public boolean isActive() {
+        return activated;
+    }
+
+    /**
+     * Runs every tick - refreshes one slice of the alive roster
+     */
+    private void tick() {
+        if (!eventManager.isEventRunning()) {
+            return;
+        }
+
+        if (!activated) {
+            int threshold = plugin.getConfigManager().getTrackingCompassMaxAlive();
+            if (threshold > 0 && eventManager.getAlivePlayerCount() > threshold) {
+                return;
+            }
+            activate();
+        }
+
+        // Start a new cycle: snapshot the alive players and size the per-tick slice
+        if (cursor >= roster.length) {
+            roster = eventManager.getAliveView().toArray(new UUID[0]);
+            cursor = 0;
+            int interval = plugin.getConfigManager().getTrackingCompassUpdateInterval();
+            sliceSize = Math.max(1, (roster.length + interval - 1) / interval);
+        }
+
+        SpatialIndex index = eventManager.getSpatialIndex();
+        int end = Math.min(roster.length, cursor + sliceSize);
+        for (; cursor < end; cursor++) {
+            Player player = Bukkit.getPlayer(roster[cursor]);
+            if (player == null || !player.isOnline() || !eventManager.isPlayerInEvent(player)) continue;
+            updateTarget(player, index);
+        }
+    }
+
+    private void updateTarget(Player player, SpatialIndex index) {
+        Location loc = player.getLocation();
+        int team = teamManager.isTeamMode() ? teamManager.getTeam(player) : -1;
+        UUID targetId = index.nearestEnemy(loc.getWorld().getUID(), loc.getX(), loc.getZ(), player.getUniqueId(), team);
+        if (targetId == null) return;
+
+        Player target = Bukkit.getPlayer(targetId);
+        if (target != null && target.isOnline()) {
+            player.setCompassTarget(target.getLocation());
+        }
+    }
+
+    /**
+     * First activation this event: announce and hand out tracker compasses
+     */
+    private void activate() {
+        activated = true;
+        boolean giveCompass = plugin.getConfigManager().isTrackingCompassGiveItem();
+
+        for (UUID uuid : eventManager.getAliveView()) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player == null || !player.isOnline()) continue;
+
+            if (giveCompass && !player.getInventory().contains(Material.COMPASS)) {
+                player.getInventory().addItem(createTrackerCompass());
+            }
+            MessageUtils.sendInfo(player, "&#FF5555Tracking enabled &#AAAAAA- your compass points to the nearest enemy.");
+        }
+        debug(() -> "Tracking compass activated at " + eventManager.getAlivePlayerCount() + " alive players");
+    }
+
+    public static ItemStack createTrackerCompass() {
+        ItemStack compass = new ItemStack(Material.COMPASS);
+        ItemMeta meta = compass.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName(TRACKER_NAME);
+            compass.setItemMeta(meta);
+        }
+        return compass;
+    }
+}
@@ -0,0 +1,70 @@
+package me.oblueberrey.meowMcEvents.platform;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.utils.ConfigManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * PlatformAdapter backed by the running Paper server
+ * Debug categories map onto the config's debug toggles
+ */
+public class PaperPlatform implements PlatformAdapter {
+
+    private final MeowMCEvents plugin;
+
+    public PaperPlatform(MeowMCEvents plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public long currentTick() {
+        return Bukkit.getCurrentTick();
+    }
+
+    @Override
+    public boolean isOnline(UUID player) {
+        Player online = Bukkit.getPlayer(player);
+        return online != null && online.isOnline();
+    }
+
+    @Override
+    public String getName(UUID player) {
+        Player online = Bukkit.getPlayer(player);
+        return online != null ? online.getName() : null;
+    }
+
+    @Override
+    public void debug(DebugCategory category, Supplier<String> message) {
+        ConfigManager config = plugin.getConfigManager();
+        if (config == null) return;
+
+        boolean enabled;
+        switch (category) {
+            case EVENT:
+            case STATS:
+                enabled = config.shouldLogEvents();
+                break;
+            case PLAYER:
+                enabled = config.shouldLogPlayers();
+                break;
+            case TEAM:
+                enabled = config.shouldLogTeams();
+                break;
+            default:
+                enabled = config.isDebugEnabled();
+                break;
+        }
+        if (enabled) {
+            plugin.getLogger().info("[DEBUG:" + category + "] " + message.get());
+        }
+    }
+}
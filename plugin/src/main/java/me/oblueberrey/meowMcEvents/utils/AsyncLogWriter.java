@@ -0,0 +1,424 @@
+package me.oblueberrey.meowMcEvents.utils;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Background writer for the plugin log files.
+ *
+ * Callers only enqueue: a lock-free queue with a size counter caps memory, and when it is
+ * full the overflow policy drops a line instead of blocking the tick. One writer thread
+ * keeps the day's file open, drains the queue in batches and flushes once per batch.
+ * At the first line of a new day the file is closed, gzipped and a new one is opened.
+ *
+ * Besides the plain text log it can write JSON lines (prefix-yyyy-MM-dd.jsonl) for log
+ * ingestion: typed fields travel in the queue as-is and are only serialized here.
+ */
+public class AsyncLogWriter {
+
+    /**
+     * What to drop when the queue is full
+     */
+    public enum OverflowPolicy {
+        DROP_NEWEST, DROP_OLDEST;
+
+        public static OverflowPolicy parse(String value) {
+            return "drop-oldest".equalsIgnoreCase(value) || "DROP_OLDEST".equalsIgnoreCase(value) ? DROP_OLDEST : DROP_NEWEST;
+        }
+    }
+
+    /**
+     * Which files are written: plain text, JSON lines or both
+     */
+    public enum Format {
+        TEXT, JSON, BOTH;
+
+        public static Format parse(String value) {
+            if ("json".equalsIgnoreCase(value)) return JSON;
+            if ("both".equalsIgnoreCase(value)) return BOTH;
+            return TEXT;
+        }
+
+        boolean writesText() {
+            return this != JSON;
+        }
+
+        boolean writesJson() {
+            return this != TEXT;
+        }
+    }
+
+    /**
+     * One queued log line
+     */
+    static final class Entry {
+        final long time;
+        final String level;
+        final String category;
+        final String message;
+        final Throwable throwable;
+        final long eventId;       // 0 = no event running
+        final LogFields fields;   // may be null
+
+        Entry(long time, String level, String category, String message, Throwable throwable,
+              long eventId, LogFields fields) {
+            this.time = time;
+            this.level = level;
+            this.category = category;
+            this.message = message;
+            this.throwable = throwable;
+            this.eventId = eventId;
+            this.fields = fields;
+        }
+    }
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String LOG_EXTENSION = ".log";
+    private static final String JSON_EXTENSION = ".jsonl";
+    private static final String ARCHIVE_EXTENSION = ".gz";
+
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final int capacity;
+    private final int batchWake;
+    private final OverflowPolicy policy;
+    private final long flushIntervalNanos;
+    private final File folder;
+    private final String prefix;
+    private final ZoneId zone;
+    private final int retentionDays;
+    private final Consumer<String> errorReporter;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private Format format = Format.TEXT;
+
+    // Writer-thread state
+    private Writer out;
+    private Writer jsonOut;
+    private LocalDate currentDate;
+    private final StringBuilder line = new StringBuilder(256);
+    private final JsonLineWriter json = new JsonLineWriter(512);
+
+    /**
+     * @param folder          log folder (files are prefix-yyyy-MM-dd.log)
+     * @param capacity        most queued lines before the overflow policy applies
+     * @param flushInterval   longest a line waits before it is written (ms)
+     * @param retentionDays   days of gzipped logs to keep, 0 = forever
+     * @param errorReporter   where writer failures go (console)
+     */
+    public AsyncLogWriter(File folder, String prefix, int capacity, OverflowPolicy policy, long flushInterval,
+                          int retentionDays, ZoneId zone, Consumer<String> errorReporter) {
+        this.folder = folder;
+        this.prefix = prefix;
+        this.capacity = Math.max(16, capacity);
+        this.batchWake = Math.max(1, this.capacity / 4);
+        this.policy = policy;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(10, flushInterval));
+        this.retentionDays = retentionDays;
+        this.zone = zone;
+        this.errorReporter = errorReporter;
+        this.thread = new Thread(this::run, "MeowMCEvents-Log");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Choose the output files, before {@link #start()}
+     */
+    public void setFormat(Format format) {
+        this.format = format;
+    }
+
+    /**
+     * Start the writer thread; lines offered before this are kept and written first
+     */
+    public void start() {
+        thread.start();
+    }
+
+    // ==================== Producers ====================
+
+    /**
+     * Queue a line; never blocks, returns false if it was dropped
+     */
+    public boolean offer(String level, String category, String message, Throwable throwable) {
+        return offer(level, category, message, throwable, 0L, null);
+    }
+
+    /**
+     * Queue a line with the event it belongs to and typed fields for the JSON log
+     */
+    public boolean offer(String level, String category, String message, Throwable throwable,
+                         long eventId, LogFields fields) {
+        if (!running) return false;
+
+        if (size.incrementAndGet() > capacity) {
+            if (policy == OverflowPolicy.DROP_OLDEST && queue.poll() != null) {
+                // Swapped an old line for this one - size is unchanged overall
+                size.decrementAndGet();
+                dropped.incrementAndGet();
+            } else {
+                size.decrementAndGet();
+                dropped.incrementAndGet();
+                return false;
+            }
+        }
+        queue.offer(new Entry(System.currentTimeMillis(), level, category, message, throwable, eventId, fields));
+
+        // Wake the writer early when a burst builds up
+        if (size.get() >= batchWake) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    /**
+     * Lines dropped by the overflow policy since start
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public int getQueuedCount() {
+        return size.get();
+    }
+
+    /**
+     * Write everything still queued and close the file
+     */
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==================== Writer Thread ====================
+
+    private void run() {
+        archiveOldFiles(LocalDate.now(zone));
+        long reportedDrops = 0;
+
+        while (running || !queue.isEmpty()) {
+            int written = drain();
+
+            long drops = dropped.get();
+            if (drops != reportedDrops && currentDate != null) {
+                write(new Entry(System.currentTimeMillis(), "WARN", "LOG", (drops - reportedDrops)
+                        + " log lines dropped (queue full)", null, 0L, LogFields.of().count("dropped", drops - reportedDrops)));
+                reportedDrops = drops;
+                written++;
+            }
+            if (written > 0) flush();
+
+            if (running) LockSupport.parkNanos(this, flushIntervalNanos);
+        }
+        closeFile();
+    }
+
+    /**
+     * Write every queued entry, returns how many were written
+     */
+    private int drain() {
+        int written = 0;
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            size.decrementAndGet();
+            LocalDate date = Instant.ofEpochMilli(entry.time).atZone(zone).toLocalDate();
+            if (!date.equals(currentDate)) {
+                rotate(date);
+            }
+            if (out == null && jsonOut == null) continue;
+
+            write(entry);
+            written++;
+        }
+        return written;
+    }
+
+    private void write(Entry entry) {
+        String trace = null;
+        if (entry.throwable != null) {
+            StringWriter writer = new StringWriter();
+            entry.throwable.printStackTrace(new PrintWriter(writer));
+            trace = writer.toString();
+        }
+
+        if (out != null) {
+            line.setLength(0);
+            line.append(timestamp(entry.time)).append(" [").append(entry.level).append("] [")
+                    .append(entry.category).append("] ").append(entry.message);
+            writeRaw(line);
+            if (trace != null) {
+                writeRaw(timestamp(entry.time) + " [STACKTRACE]");
+                writeRaw(trace);
+            }
+        }
+
+        if (jsonOut != null) {
+            json.begin();
+            StringBuilder ts = json.rawField("ts").append('"');
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME.formatTo(Instant.ofEpochMilli(entry.time).atZone(zone), ts);
+            ts.append('"');
+            json.field("level", entry.level)
+                    .field("category", entry.category)
+                    .field("message", entry.message);
+            if (entry.eventId != 0) json.field("event", entry.eventId);
+            if (entry.fields != null) entry.fields.writeTo(json);
+            if (trace != null) json.field("stacktrace", trace);
+            writeJson(json.end().line());
+        }
+    }
+
+    private String timestamp(long time) {
+        return TIMESTAMP.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(time), zone));
+    }
+
+    private void writeRaw(CharSequence text) {
+        if (out == null) return;
+        try {
+            out.append(text).append('\n');
+        } catch (IOException e) {
+            errorReporter.accept("[LogManager] Failed to write to log file: " + e.getMessage());
+            out = close(out);
+        }
+    }
+
+    private void writeJson(CharSequence text) {
+        if (jsonOut == null) return;
+        try {
+            jsonOut.append(text).append('\n');
+        } catch (IOException e) {
+            errorReporter.accept("[LogManager] Failed to write to JSON log file: " + e.getMessage());
+            jsonOut = close(jsonOut);
+        }
+    }
+
+    private void flush() {
+        try {
+            if (out != null) out.flush();
+            if (jsonOut != null) jsonOut.flush();
+        } catch (IOException e) {
+            errorReporter.accept("[LogManager] Failed to flush log file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Switch to the file for this date, archiving the previous day
+     */
+    private void rotate(LocalDate date) {
+        LocalDate previous = currentDate;
+        closeFile();
+        currentDate = date;
+
+        if (!folder.exists() && !folder.mkdirs()) {
+            errorReporter.accept("[LogManager] Failed to create log folder");
+            return;
+        }
+        if (format.writesText()) out = open(fileFor(date));
+        if (format.writesJson()) jsonOut = open(jsonFileFor(date));
+
+        if (previous != null && previous.isBefore(date)) {
+            archiveOldFiles(date);
+        }
+    }
+
+    private Writer open(File file) {
+        try {
+            FileChannel channel = FileChannel.open(file.toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            return new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), 64 * 1024);
+        } catch (IOException e) {
+            errorReporter.accept("[LogManager] Failed to open log file: " + e.getMessage());
+            return null;
+        }
+    }
+
+    File fileFor(LocalDate date) {
+        return new File(folder, prefix + "-" + date + LOG_EXTENSION);
+    }
+
+    File jsonFileFor(LocalDate date) {
+        return new File(folder, prefix + "-" + date + JSON_EXTENSION);
+    }
+
+    /**
+     * Gzip text and JSON logs from earlier days and delete archives past retention
+     */
+    private void archiveOldFiles(LocalDate today) {
+        File[] files = folder.listFiles((dir, name) -> name.startsWith(prefix + "-"));
+        if (files == null) return;
+
+        for (File file : files) {
+            String name = file.getName();
+            LocalDate date = parseDate(name);
+            if (date == null) continue;
+
+            if (name.endsWith(ARCHIVE_EXTENSION)) {
+                if (retentionDays > 0 && date.isBefore(today.minusDays(retentionDays)) && !file.delete()) {
+                    errorReporter.accept("[LogManager] Failed to delete old log " + name);
+                }
+            } else if ((name.endsWith(LOG_EXTENSION) || name.endsWith(JSON_EXTENSION)) && date.isBefore(today)) {
+                gzip(file);
+            }
+        }
+    }
+
+    private LocalDate parseDate(String name) {
+        int start = prefix.length() + 1;
+        if (name.length() < start + 10) return null;
+        try {
+            return LocalDate.parse(name.substring(start, start + 10));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void gzip(File file) {
+        File archive = new File(file.getParentFile(), file.getName() + ".gz");
+        try (InputStream in = Files.newInputStream(file.toPath());
+             OutputStream gz = new GZIPOutputStream(new FileOutputStream(archive, true), 64 * 1024)) {
+            in.transferTo(gz);
+        } catch (IOException e) {
+            errorReporter.accept("[LogManager] Failed to archive " + file.getName() + ": " + e.getMessage());
+            return;
+        }
+        if (!file.delete()) {
+            errorReporter.accept("[LogManager] Failed to remove archived log " + file.getName());
+        }
+    }
+
+    private void closeFile() {
+        out = close(out);
+        jsonOut = close(jsonOut);
+    }
+
+    private Writer close(Writer writer) {
+        if (writer == null) return null;
+        try {
+            writer.close();
+        } catch (IOException e) {
+            errorReporter.accept("[LogManager] Failed to close log file: " + e.getMessage());
+        }
+        return null;
+    }
+}
@@ -12,6 +12,16 @@ public class ConfigManager {
     private final MeowMCEvents plugin;
     private FileConfiguration config;
 
+    // Debug toggles cached as bits when the config loads - checked on hot paths
+    private static final int DEBUG_ENABLED = 1;
+    private static final int LOG_EVENTS = 1 << 1;
+    private static final int LOG_PLAYERS = 1 << 2;
+    private static final int LOG_TEAMS = 1 << 3;
+    private static final int LOG_BORDER = 1 << 4;
+    private static final int LOG_KITS = 1 << 5;
+    private static final int LOG_GUI = 1 << 6;
+    private volatile int debugFlags;
+
     public ConfigManager(MeowMCEvents plugin) {
         this.plugin = plugin;
     }
@@ -20,6 +30,7 @@ public class ConfigManager {
         plugin.saveDefaultConfig();
         config = plugin.getConfig();
         validateConfig();
+        cacheDebugFlags();
     }
 
     /**
@@ -253,6 +264,24 @@ public class ConfigManager {
     public void reload() {
         plugin.reloadConfig();
         config = plugin.getConfig();
+        cacheDebugFlags();
+    }
+
+    /**
+     * Read the debug section once; category bits are only set when debug mode is on
+     */
+    private void cacheDebugFlags() {
+        int flags = 0;
+        if (config.getBoolean("debug.enabled", false)) {
+            flags |= DEBUG_ENABLED;
+            if (config.getBoolean("debug.log-events", true)) flags |= LOG_EVENTS;
+            if (config.getBoolean("debug.log-players", true)) flags |= LOG_PLAYERS;
+            if (config.getBoolean("debug.log-teams", true)) flags |= LOG_TEAMS;
+            if (config.getBoolean("debug.log-border", true)) flags |= LOG_BORDER;
+            if (config.getBoolean("debug.log-kits", true)) flags |= LOG_KITS;
+            if (config.getBoolean("debug.log-gui", true)) flags |= LOG_GUI;
+        }
+        debugFlags = flags;
     }
 
     // ==================== Event Settings ====================
@@ -323,40 +352,57 @@ public class ConfigManager {
         return config.getInt("border.shrink-amount", 5);
     }
 
-    public double getBorderDamagePerSecond() {
-        return config.getDouble("border.damage-per-second", 1.0);
+    /**
+     * Per-player border: blocks past the border a player can go before taking damage (vanilla default 5)
+     */
+    public double getBorderDamageBuffer() {
+        return Math.max(0, config.getDouble("border.damage-buffer", 5.0));
+    }
+
+    /**
+     * Per-player border: damage per block past the buffer, per hit (vanilla default 0.2)
+     */
+    public double getBorderDamageAmount() {
+        return Math.max(0, config.getDouble("border.damage-amount", 0.2));
     }
 
     public int getBorderWarningTime() {
         return config.getInt("border.warning-time", 5);
     }
 
+    /**
+     * per-player: virtual border shown only to event players, world border untouched
+     */
+    public boolean isPerPlayerBorder() {
+        return "per-player".equalsIgnoreCase(config.getString("border.mode", "world"));
+    }
+
     public boolean isDebugEnabled() {
-        return config.getBoolean("debug.enabled", false);
+        return (debugFlags & DEBUG_ENABLED) != 0;
     }
 
     public boolean shouldLogEvents() {
-        return isDebugEnabled() && config.getBoolean("debug.log-events", true);
+        return (debugFlags & LOG_EVENTS) != 0;
     }
 
     public boolean shouldLogPlayers() {
-        return isDebugEnabled() && config.getBoolean("debug.log-players", true);
+        return (debugFlags & LOG_PLAYERS) != 0;
     }
 
     public boolean shouldLogTeams() {
-        return isDebugEnabled() && config.getBoolean("debug.log-teams", true);
+        return (debugFlags & LOG_TEAMS) != 0;
     }
 
     public boolean shouldLogBorder() {
-        return isDebugEnabled() && config.getBoolean("debug.log-border", true);
+        return (debugFlags & LOG_BORDER) != 0;
     }
 
     public boolean shouldLogKits() {
-        return isDebugEnabled() && config.getBoolean("debug.log-kits", true);
+        return (debugFlags & LOG_KITS) != 0;
     }
 
     public boolean shouldLogGui() {
-        return isDebugEnabled() && config.getBoolean("debug.log-gui", true);
+        return (debugFlags & LOG_GUI) != 0;
     }
 
     // ==================== Spectator Settings ====================
@@ -522,12 +568,139 @@ public class ConfigManager {
         return Math.max(0.5, config.getDouble("arena.damage-zone-max-damage", 4.0));
     }
 
+    // ==================== Waiting Area Settings ====================
+
+    public int getWaitingAreaRadius() {
+        return Math.max(0, config.getInt("waiting-area.radius", 0));
+    }
+
+    // ==================== Tracking Compass Settings ====================
+
+    public boolean isTrackingCompassEnabled() {
+        return config.getBoolean("tracking-compass.enabled", false);
+    }
+
+    public int getTrackingCompassMaxAlive() {
+        return Math.max(0, config.getInt("tracking-compass.max-alive-players", 5));
+    }
+
+    public int getTrackingCompassUpdateInterval() {
+        return Math.max(1, config.getInt("tracking-compass.update-interval-ticks", 20));
+    }
+
+    public boolean isTrackingCompassGiveItem() {
+        return config.getBoolean("tracking-compass.give-compass", true);
+    }
+
     // ==================== Results Settings ====================
 
     public int getMaxPlacements() {
         return config.getInt("results.max-placements", 5);
     }
 
+    // ==================== Persistent Stats Settings ====================
+
+    public boolean isPersistentStatsEnabled() {
+        return config.getBoolean("stats.enabled", true);
+    }
+
+    public String getStatsDatabaseFile() {
+        return config.getString("stats.database-file", "stats.db");
+    }
+
+    public int getStatsLeaderboardRefreshMinutes() {
+        return Math.max(1, config.getInt("stats.leaderboard-refresh-minutes", 5));
+    }
+
+    public boolean isBalanceTeamsByRating() {
+        return config.getBoolean("stats.balance-teams-by-rating", false);
+    }
+
+    public double getRatingKFactor() {
+        return Math.max(1.0, config.getDouble("stats.rating-k-factor", 32.0));
+    }
+
+    // ==================== Party Settings ====================
+
+    public boolean isPartyEnabled() {
+        return config.getBoolean("party.enabled", true);
+    }
+
+    public int getPartyMaxSize() {
+        return Math.max(2, config.getInt("party.max-size", 4));
+    }
+
+    public int getPartyInviteTimeout() {
+        return Math.max(5, config.getInt("party.invite-timeout", 60));
+    }
+
+    // ==================== Match History Settings ====================
+
+    public boolean isHistoryEnabled() {
+        return config.getBoolean("history.enabled", true);
+    }
+
+    public int getHistorySegmentSizeKb() {
+        return Math.max(16, config.getInt("history.segment-size-kb", 1024));
+    }
+
+    public int getHistoryMaxSegments() {
+        // At least two, so rotation never drops the newest finished segment
+        return Math.max(2, config.getInt("history.max-segments", 20));
+    }
+
+    // ==================== Replay Settings ====================
+
+    public boolean isReplayEnabled() {
+        return config.getBoolean("replay.enabled", true);
+    }
+
+    public int getReplayKeyframeIntervalTicks() {
+        return Math.max(1, config.getInt("replay.keyframe-interval-seconds", 5)) * 20;
+    }
+
+    public int getReplayEquipmentSampleTicks() {
+        return Math.max(1, config.getInt("replay.equipment-sample-ticks", 5));
+    }
+
+    public int getReplayMaxFiles() {
+        return Math.max(1, config.getInt("replay.max-files", 30));
+    }
+
+    // ==================== Kit Distribution Settings ====================
+
+    public int getKitStartDelayTicks() {
+        return Math.max(0, config.getInt("kit-distribution.start-delay-ticks", 5));
+    }
+
+    public int getKitPlayersPerTick() {
+        return Math.max(1, config.getInt("kit-distribution.players-per-tick", 10));
+    }
+
+    public double getKitMillisPerTick() {
+        return Math.max(0.1, config.getDouble("kit-distribution.max-millis-per-tick", 2.0));
+    }
+
+    // ==================== Profiler Settings ====================
+
+    public boolean isProfilerEnabled() {
+        return config.getBoolean("profiler.enabled", false);
+    }
+
+    public int getProfilerDefaultWindow() {
+        return Math.max(5, Math.min(60, config.getInt("profiler.default-window-seconds", 30)));
+    }
+
+    // ==================== Metrics Settings ====================
+
+    public boolean isMetricsEnabled() {
+        return config.getBoolean("metrics.enabled", false);
+    }
+
+    public int getMetricsPort() {
+        return Math.max(1, Math.min(65535, config.getInt("metrics.port", 9465)));
+    }
+
     // ==================== Command Settings ====================
 
     public java.util.List<String> getWhitelistedCommands() {
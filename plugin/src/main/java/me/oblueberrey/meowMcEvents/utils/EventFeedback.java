@@ -1,6 +1,8 @@
 package me.oblueberrey.meowMcEvents.utils;
 
 import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.managers.PluginMetrics;
+import me.oblueberrey.meowMcEvents.managers.Profiler;
 import net.md_5.bungee.api.ChatColor;
 import org.bukkit.*;
 import org.bukkit.boss.BarColor;
@@ -160,6 +162,10 @@ public class EventFeedback {
             eventBossBar.setTitle(ChatColor.translateAlternateColorCodes('&', title));
             eventBossBar.setProgress(Math.max(0, Math.min(1, progress)));
             eventBossBar.setColor(color);
+
+            // Title, progress and color each go out to every viewer
+            PluginMetrics metrics = plugin.getMetrics();
+            if (metrics != null) metrics.hudPackets("bossbar", 3 * eventBossBar.getPlayers().size());
         }
     }
 
@@ -169,7 +175,7 @@ public class EventFeedback {
     public void startBossBarUpdates(Set<UUID> alivePlayers, Set<UUID> spectators, int totalPlayers) {
         stopBossBarUpdates();
 
-        bossBarUpdateTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        bossBarUpdateTask = Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task bossbar", () -> {
             if (eventBossBar == null) return;
 
             int alive = alivePlayers.size();
@@ -177,7 +183,7 @@ public class EventFeedback {
 
             String title = colorize(GREY + "\u2694 " + BRIGHT_YELLOW + alive + " " + toSmallCaps("alive") + " " + GREY + "\u2694");
             updateBossBar(title, progress, alive <= 3 ? BarColor.RED : BarColor.GREEN);
-        }, 0L, 20L); // Update every second
+        }), 0L, 20L); // Update every second
     }
 
     private String toSmallCaps(String text) {
@@ -407,7 +413,7 @@ public class EventFeedback {
         world.spawnParticle(Particle.POOF, location.clone().add(0, 0.2, 0), 10, 0.3, 0.1, 0.3, 0.02);
 
         // Soul particles rising over time
-        Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
+        Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task kill-particles", new Runnable() {
             int tick = 0;
             final Location base = particleLoc.clone();
 
@@ -420,7 +426,7 @@ public class EventFeedback {
                 world.spawnParticle(Particle.SOUL_FIRE_FLAME, rising, 2, 0.1, 0.05, 0.1, 0.005);
                 tick++;
             }
-        }, 5L, 3L);
+        }), 5L, 3L);
     }
 
     /**
@@ -448,7 +454,7 @@ public class EventFeedback {
         }
 
         // Continuous particle spiral around the winner for 4 seconds
-        Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
+        Bukkit.getScheduler().runTaskTimer(plugin, Profiler.timed(plugin, "task winner-particles", new Runnable() {
             int tick = 0;
 
             @Override
@@ -475,7 +481,7 @@ public class EventFeedback {
 
                 tick += 2;
             }
-        }, 0L, 2L);
+        }), 0L, 2L);
     }
 
     /**
@@ -590,6 +596,53 @@ public class EventFeedback {
         playSoundAll(Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 0.8f, 1.0f);
     }
 
+    /**
+     * Victory announcement for a solo winner: chat banner, celebration, and a title for everyone else
+     */
+    public void announceSoloWinner(Player winner) {
+        String winTitle = MessageUtils.colorize("&6&lVICTORY");
+        broadcastAnnouncement(
+                "&#666666\u2B50 " + winTitle + " &#666666\u2B50",
+                "&#FFE566" + winner.getName() + " &#FF9944has won the event!",
+                "&#AAAAAAcongratulations on your triumph!"
+        );
+
+        // Full winner celebration effects
+        onWin(winner);
+
+        // Send winner title to all other players
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (!player.equals(winner)) {
+                sendTitle(player, "&6&lWINNER", "&e" + winner.getName(), 10, 70, 20);
+                playSound(player, Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
+            }
+        }
+    }
+
+    /**
+     * Victory announcement for a team: chat banner, celebration for the members, and a title
+     * for everyone else
+     */
+    public void announceTeamWinner(Set<UUID> teamMembers, int teamNumber, org.bukkit.ChatColor teamColor, String teamName) {
+        String teamWinTitle = MessageUtils.colorize("&6&lVICTORY");
+        broadcastAnnouncement(
+                "&#666666\u2B50 " + teamWinTitle + " &#666666\u2B50",
+                teamName + " &#FF9944has won the event!",
+                "&#AAAAAAteamwork led to success!"
+        );
+
+        // Full team winner celebration effects
+        onTeamWin(teamMembers, teamNumber, teamColor);
+
+        // Send title to all non-winning players
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (!teamMembers.contains(player.getUniqueId())) {
+                sendTitle(player, "&6&lWINNER", teamName, 10, 70, 20);
+                playSound(player, Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
+            }
+        }
+    }
+
     /**
      * Spectator mode feedback
      */
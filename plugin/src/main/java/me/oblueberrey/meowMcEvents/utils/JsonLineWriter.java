@@ -0,0 +1,135 @@
+package me.oblueberrey.meowMcEvents.utils;
+
+import java.util.UUID;
+
+/**
+ * Builds one JSON object per line into a reused buffer.
+ *
+ * Meant to be owned by a single thread (the log writer): numbers and UUIDs are appended
+ * digit by digit and strings are escaped in place, so a line costs no garbage beyond the
+ * values it is given.
+ */
+public final class JsonLineWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final StringBuilder buffer;
+    private boolean first;
+
+    public JsonLineWriter(int initialCapacity) {
+        this.buffer = new StringBuilder(initialCapacity);
+    }
+
+    /**
+     * Start a new object, discarding the previous line
+     */
+    public JsonLineWriter begin() {
+        buffer.setLength(0);
+        buffer.append('{');
+        first = true;
+        return this;
+    }
+
+    public JsonLineWriter field(String name, String value) {
+        name(name);
+        if (value == null) {
+            buffer.append("null");
+        } else {
+            string(value);
+        }
+        return this;
+    }
+
+    public JsonLineWriter field(String name, long value) {
+        name(name);
+        buffer.append(value);
+        return this;
+    }
+
+    public JsonLineWriter field(String name, UUID value) {
+        name(name);
+        if (value == null) {
+            buffer.append("null");
+            return this;
+        }
+        // 8-4-4-4-12 hex digits, same as UUID.toString()
+        buffer.append('"');
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        hex(msb >>> 32, 8);
+        buffer.append('-');
+        hex(msb >>> 16, 4);
+        buffer.append('-');
+        hex(msb, 4);
+        buffer.append('-');
+        hex(lsb >>> 48, 4);
+        buffer.append('-');
+        hex(lsb, 12);
+        buffer.append('"');
+        return this;
+    }
+
+    /**
+     * Close the object; the line (without newline) is available from {@link #line()}
+     */
+    public JsonLineWriter end() {
+        buffer.append('}');
+        return this;
+    }
+
+    public CharSequence line() {
+        return buffer;
+    }
+
+    /**
+     * Open a field whose value is appended by the caller, e.g. a formatted timestamp
+     */
+    public StringBuilder rawField(String name) {
+        name(name);
+        return buffer;
+    }
+
+    private void name(String name) {
+        if (!first) buffer.append(',');
+        first = false;
+        string(name);
+        buffer.append(':');
+    }
+
+    private void hex(long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            buffer.append(HEX[(int) (value >>> shift) & 0xF]);
+        }
+    }
+
+    private void string(CharSequence value) {
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    buffer.append("\\\"");
+                    break;
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    buffer.append("\\r");
+                    break;
+                case '\t':
+                    buffer.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        buffer.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        buffer.append(c);
+                    }
+            }
+        }
+        buffer.append('"');
+    }
+}
@@ -0,0 +1,58 @@
+package me.oblueberrey.meowMcEvents.utils;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Typed values attached to a log line for the JSON log.
+ *
+ * Kept as plain fields and parallel arrays so nothing is converted to text on the calling
+ * thread; the log writer thread serializes them. Build one per line, after checking
+ * {@link LogManager#isLoggable}, and don't reuse it once logged.
+ */
+public final class LogFields {
+
+    private UUID player;
+    private int team;
+    private String[] countNames = new String[4];
+    private long[] counts = new long[4];
+    private int countSize;
+
+    public static LogFields of() {
+        return new LogFields();
+    }
+
+    public LogFields player(UUID player) {
+        this.player = player;
+        return this;
+    }
+
+    /**
+     * Team number, 0 = none
+     */
+    public LogFields team(int team) {
+        this.team = team;
+        return this;
+    }
+
+    public LogFields count(String name, long value) {
+        if (countSize == countNames.length) {
+            countNames = Arrays.copyOf(countNames, countSize * 2);
+            counts = Arrays.copyOf(counts, countSize * 2);
+        }
+        countNames[countSize] = name;
+        counts[countSize++] = value;
+        return this;
+    }
+
+    /**
+     * Append the fields to a JSON line
+     */
+    void writeTo(JsonLineWriter json) {
+        if (player != null) json.field("player", player);
+        if (team > 0) json.field("team", team);
+        for (int i = 0; i < countSize; i++) {
+            json.field(countNames[i], counts[i]);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package me.oblueberrey.meowMcEvents.utils;
+
+/**
+ * "{}" placeholder formatting for log messages.
+ *
+ * Only called once a line is known to be logged, so disabled categories never build the
+ * string. Extra placeholders are left as-is, extra arguments are ignored.
+ */
+public final class LogFormat {
+
+    private LogFormat() {
+    }
+
+    public static String format(String pattern, Object arg) {
+        return format(pattern, new Object[]{arg});
+    }
+
+    public static String format(String pattern, Object arg1, Object arg2) {
+        return format(pattern, new Object[]{arg1, arg2});
+    }
+
+    public static String format(String pattern, Object... args) {
+        if (pattern == null) return "null";
+        if (args == null || args.length == 0) return pattern;
+
+        StringBuilder builder = new StringBuilder(pattern.length() + 16 * args.length);
+        int argIndex = 0;
+        int start = 0;
+        int index;
+        while (argIndex < args.length && (index = pattern.indexOf("{}", start)) >= 0) {
+            builder.append(pattern, start, index).append(args[argIndex++]);
+            start = index + 2;
+        }
+        builder.append(pattern, start, pattern.length());
+        return builder.toString();
+    }
+}
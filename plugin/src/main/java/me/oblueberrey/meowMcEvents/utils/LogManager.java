@@ -0,0 +1,372 @@
+package me.oblueberrey.meowMcEvents.utils;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.managers.EventManager;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+public class LogManager {
+
+    private final MeowMCEvents plugin;
+    private FileConfiguration logsConfig;
+    private volatile AsyncLogWriter fileWriter; // null when file logging is off
+
+    // logs.yml switches cached when it loads: one bit per category, one per level at LEVEL_SHIFT.
+    // A disabled line costs one volatile read and a mask check, nothing is formatted.
+    private static final int ENABLED = 1;
+    private static final int FILE_LOGGING = 1 << 1;
+    private static final int SHOW_STACKTRACE = 1 << 2;
+    private static final int NOTIFY_ADMINS = 1 << 3;
+    private static final int CATEGORY_SHIFT = 8;
+    private static final int LEVEL_SHIFT = 24;
+    private volatile int flags;
+
+    // Log levels
+    public enum LogLevel {
+        ERROR, WARN, INFO, DEBUG
+    }
+
+    // Log categories
+    public enum Category {
+        EVENTS, PLAYERS, TEAMS, SPECTATORS, COMMANDS, FORCESTART, ERRORS
+    }
+
+    public LogManager(MeowMCEvents plugin) {
+        this.plugin = plugin;
+        loadConfig();
+        setupLogFile();
+    }
+
+    private void loadConfig() {
+        File configFile = new File(plugin.getDataFolder(), "logs.yml");
+        if (!configFile.exists()) {
+            plugin.saveResource("logs.yml", false);
+        }
+        logsConfig = YamlConfiguration.loadConfiguration(configFile);
+        cacheFlags();
+    }
+
+    private void cacheFlags() {
+        int cached = 0;
+        if (logsConfig.getBoolean("logging.enabled", true)) cached |= ENABLED;
+        if (logsConfig.getBoolean("logging.file-logging", true)) cached |= FILE_LOGGING;
+        if (logsConfig.getBoolean("errors.show-stacktrace", true)) cached |= SHOW_STACKTRACE;
+        if (logsConfig.getBoolean("errors.notify-admins", false)) cached |= NOTIFY_ADMINS;
+
+        for (Category category : Category.values()) {
+            if (logsConfig.getBoolean("logging.categories." + category.name().toLowerCase(), true)) {
+                cached |= 1 << (CATEGORY_SHIFT + category.ordinal());
+            }
+        }
+
+        LogLevel threshold = LogLevel.INFO;
+        String configured = logsConfig.getString("logging.level", "INFO");
+        try {
+            threshold = LogLevel.valueOf(configured.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("[LogManager] Unknown logging.level '" + configured + "', using INFO");
+        }
+        for (LogLevel level : LogLevel.values()) {
+            if (level.ordinal() <= threshold.ordinal()) {
+                cached |= 1 << (LEVEL_SHIFT + level.ordinal());
+            }
+        }
+        flags = cached;
+    }
+
+    /**
+     * Start the background file writer (logs/meowevents-yyyy-MM-dd.log, rotated at midnight)
+     */
+    private void setupLogFile() {
+        if (!isFileLoggingEnabled()) return;
+
+        File logsFolder = new File(plugin.getDataFolder(), "logs");
+        fileWriter = new AsyncLogWriter(
+                logsFolder,
+                "meowevents",
+                logsConfig.getInt("logging.file.queue-capacity", 8192),
+                AsyncLogWriter.OverflowPolicy.parse(logsConfig.getString("logging.file.overflow", "drop-newest")),
+                logsConfig.getLong("logging.file.flush-interval-ms", 1000L),
+                logsConfig.getInt("logging.file.retention-days", 14),
+                ZoneId.systemDefault(),
+                plugin.getLogger()::severe
+        );
+        fileWriter.setFormat(AsyncLogWriter.Format.parse(logsConfig.getString("logging.file.format", "text")));
+        fileWriter.start();
+    }
+
+    /**
+     * Stop the file writer after it has written everything queued
+     */
+    private void closeLogFile() {
+        AsyncLogWriter writer = fileWriter;
+        fileWriter = null;
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    /**
+     * Lines waiting for the background writer (0 when file logging is off)
+     */
+    public int getQueuedLineCount() {
+        AsyncLogWriter writer = fileWriter;
+        return writer != null ? writer.getQueuedCount() : 0;
+    }
+
+    /**
+     * Lines dropped since the writer started because the queue was full
+     */
+    public long getDroppedLineCount() {
+        AsyncLogWriter writer = fileWriter;
+        return writer != null ? writer.getDroppedCount() : 0L;
+    }
+
+    public boolean isEnabled() {
+        return (flags & ENABLED) != 0;
+    }
+
+    public boolean isFileLoggingEnabled() {
+        return (flags & FILE_LOGGING) != 0;
+    }
+
+    public boolean isCategoryEnabled(Category category) {
+        return (flags & (1 << (CATEGORY_SHIFT + category.ordinal()))) != 0;
+    }
+
+    public boolean shouldShowStacktrace() {
+        return (flags & SHOW_STACKTRACE) != 0;
+    }
+
+    public boolean shouldNotifyAdmins() {
+        return (flags & NOTIFY_ADMINS) != 0;
+    }
+
+    /**
+     * Whether a line at this level and category would be written. DEBUG lines also pass
+     * below the configured level while debug mode is on in config.yml.
+     */
+    public boolean isLoggable(LogLevel level, Category category) {
+        int cached = flags;
+        int required = ENABLED | 1 << (CATEGORY_SHIFT + category.ordinal());
+        if ((cached & required) != required) return false;
+        if ((cached & (1 << (LEVEL_SHIFT + level.ordinal()))) != 0) return true;
+        return level == LogLevel.DEBUG && plugin.getConfigManager().isDebugEnabled();
+    }
+
+    // Main logging methods
+    public void log(LogLevel level, Category category, String message) {
+        log(level, category, message, null);
+    }
+
+    /**
+     * Build the message only if the line is going to be written
+     */
+    public void log(LogLevel level, Category category, Supplier<String> message) {
+        if (!isLoggable(level, category)) return;
+        write(level, category, message.get(), null);
+    }
+
+    private void log(LogLevel level, Category category, String message, Throwable throwable) {
+        if (!isLoggable(level, category)) return;
+        write(level, category, message, throwable);
+    }
+
+    private void write(LogLevel level, Category category, String message, Throwable throwable) {
+        write(level, category, message, throwable, null);
+    }
+
+    private void write(LogLevel level, Category category, String message, Throwable throwable, LogFields fields) {
+        String formattedMessage = formatMessage(level, category, message);
+
+        // Console output
+        switch (level) {
+            case ERROR:
+                plugin.getLogger().severe(formattedMessage);
+                break;
+            case WARN:
+                plugin.getLogger().warning(formattedMessage);
+                break;
+            case INFO:
+                plugin.getLogger().info(formattedMessage);
+                break;
+            case DEBUG:
+                if (plugin.getConfigManager().isDebugEnabled()) {
+                    plugin.getLogger().info("[DEBUG] " + formattedMessage);
+                }
+                break;
+        }
+
+        // File output (stacktrace follows the line)
+        writeToFile(level, category, message, throwable, fields);
+    }
+
+    public void error(Category category, String message) {
+        log(LogLevel.ERROR, category, message);
+    }
+
+    public void error(Category category, String message, Throwable throwable) {
+        log(LogLevel.ERROR, category, message, throwable);
+
+        if (shouldShowStacktrace()) {
+            throwable.printStackTrace();
+        }
+
+        // Notify admins if enabled
+        if (shouldNotifyAdmins()) {
+            notifyAdmins("[ERROR] " + category.name() + ": " + message);
+        }
+    }
+
+    public void error(Category category, Supplier<String> message) {
+        log(LogLevel.ERROR, category, message);
+    }
+
+    public void warn(Category category, String message) {
+        log(LogLevel.WARN, category, message);
+    }
+
+    public void warn(Category category, String message, LogFields fields) {
+        if (isLoggable(LogLevel.WARN, category)) write(LogLevel.WARN, category, message, null, fields);
+    }
+
+    public void warn(Category category, Supplier<String> message) {
+        log(LogLevel.WARN, category, message);
+    }
+
+    public void warn(Category category, String pattern, Object arg) {
+        if (isLoggable(LogLevel.WARN, category)) write(LogLevel.WARN, category, LogFormat.format(pattern, arg), null);
+    }
+
+    public void warn(Category category, String pattern, Object arg1, Object arg2) {
+        if (isLoggable(LogLevel.WARN, category)) write(LogLevel.WARN, category, LogFormat.format(pattern, arg1, arg2), null);
+    }
+
+    public void info(Category category, String message) {
+        log(LogLevel.INFO, category, message);
+    }
+
+    /**
+     * Log with typed fields for the JSON log (logging.file.format json/both)
+     */
+    public void info(Category category, String message, LogFields fields) {
+        if (isLoggable(LogLevel.INFO, category)) write(LogLevel.INFO, category, message, null, fields);
+    }
+
+    public void info(Category category, Supplier<String> message) {
+        log(LogLevel.INFO, category, message);
+    }
+
+    public void info(Category category, String pattern, Object arg) {
+        if (isLoggable(LogLevel.INFO, category)) write(LogLevel.INFO, category, LogFormat.format(pattern, arg), null);
+    }
+
+    public void info(Category category, String pattern, Object arg1, Object arg2) {
+        if (isLoggable(LogLevel.INFO, category)) write(LogLevel.INFO, category, LogFormat.format(pattern, arg1, arg2), null);
+    }
+
+    public void info(Category category, String pattern, Object... args) {
+        if (isLoggable(LogLevel.INFO, category)) write(LogLevel.INFO, category, LogFormat.format(pattern, args), null);
+    }
+
+    public void debug(Category category, String message) {
+        log(LogLevel.DEBUG, category, message);
+    }
+
+    public void debug(Category category, String message, LogFields fields) {
+        if (isLoggable(LogLevel.DEBUG, category)) write(LogLevel.DEBUG, category, message, null, fields);
+    }
+
+    public void debug(Category category, Supplier<String> message) {
+        log(LogLevel.DEBUG, category, message);
+    }
+
+    public void debug(Category category, String pattern, Object arg) {
+        if (isLoggable(LogLevel.DEBUG, category)) write(LogLevel.DEBUG, category, LogFormat.format(pattern, arg), null);
+    }
+
+    public void debug(Category category, String pattern, Object arg1, Object arg2) {
+        if (isLoggable(LogLevel.DEBUG, category)) write(LogLevel.DEBUG, category, LogFormat.format(pattern, arg1, arg2), null);
+    }
+
+    public void debug(Category category, String pattern, Object... args) {
+        if (isLoggable(LogLevel.DEBUG, category)) write(LogLevel.DEBUG, category, LogFormat.format(pattern, args), null);
+    }
+
+    // Convenience methods for specific categories
+    public void logEvent(String message) {
+        info(Category.EVENTS, message);
+    }
+
+    public void logPlayer(String message) {
+        info(Category.PLAYERS, message);
+    }
+
+    public void logTeam(String message) {
+        info(Category.TEAMS, message);
+    }
+
+    public void logSpectator(String message) {
+        info(Category.SPECTATORS, message);
+    }
+
+    public void logCommand(String message) {
+        info(Category.COMMANDS, message);
+    }
+
+    public void logForcestart(String message) {
+        info(Category.FORCESTART, message);
+    }
+
+    public void logError(String message) {
+        error(Category.ERRORS, message);
+    }
+
+    public void logError(String message, Throwable throwable) {
+        error(Category.ERRORS, message, throwable);
+    }
+
+    private String formatMessage(LogLevel level, Category category, String message) {
+        return "[" + category.name() + "] " + message;
+    }
+
+    /**
+     * Queue the line for the background writer - formatting and disk I/O happen off-thread
+     */
+    private void writeToFile(LogLevel level, Category category, String message, Throwable throwable, LogFields fields) {
+        AsyncLogWriter writer = fileWriter;
+        if (writer == null) return;
+        EventManager eventManager = plugin.getEventManager();
+        long eventId = eventManager != null ? eventManager.getEventId() : 0L;
+        writer.offer(level.name(), category.name(), message, throwable, eventId, fields);
+    }
+
+    private void notifyAdmins(String message) {
+        String colored = ConfigManager.colorize("&#FF5555[MeowEvents] " + message);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (player.hasPermission("meowevent.admin")) {
+                player.sendMessage(colored);
+            }
+        }
+    }
+
+    public void reload() {
+        closeLogFile();
+        loadConfig();
+        setupLogFile();
+        plugin.getLogger().info("[LogManager] Logging configuration reloaded");
+    }
+
+    /**
+     * Flush queued lines and close the log file (plugin disable)
+     */
+    public void shutdown() {
+        closeLogFile();
+    }
+}
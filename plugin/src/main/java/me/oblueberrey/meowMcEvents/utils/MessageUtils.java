@@ -1,12 +1,9 @@
 package me.oblueberrey.meowMcEvents.utils;
 
 import org.bukkit.ChatColor;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class MessageUtils {
 
-    private static final Pattern HEX_PATTERN = Pattern.compile("&#([A-Fa-f0-9]{6})");
     private static final String SMALL_CAPS = "ᴀʙᴄᴅᴇꜰɢʜɪᴊᴋʟᴍɴᴏᴘǫʀꜱᴛᴜᴠᴡxʏᴢ";
 
     // Improved RGB Color Palette
@@ -36,23 +33,7 @@ public class MessageUtils {
      * Colorize a message supporting both legacy & codes and &#FFFFFF hex codes
      */
     public static String colorize(String message) {
-        if (message == null || message.isEmpty()) return "";
-
-        // Handle Hex colors
-        Matcher matcher = HEX_PATTERN.matcher(message);
-        StringBuffer buffer = new StringBuffer();
-        while (matcher.find()) {
-            String color = matcher.group(1);
-            StringBuilder replacement = new StringBuilder("§x");
-            for (char c : color.toCharArray()) {
-                replacement.append('§').append(c);
-            }
-            matcher.appendReplacement(buffer, replacement.toString());
-        }
-        matcher.appendTail(buffer);
-
-        // Handle legacy & codes
-        return ChatColor.translateAlternateColorCodes('&', buffer.toString());
+        return ColorCodes.colorize(message);
     }
 
     /**
@@ -0,0 +1,88 @@
+package me.oblueberrey.meowMcEvents.listeners;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.managers.EventManager;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Void and /kill handling covers the players isPlayerInEvent covers (alive), not spectators
+ */
+class VoidAndCommandListenerTest {
+
+    private EventManager eventManager;
+    private VoidAndCommandListener listener;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        MeowMCEvents plugin = mock(MeowMCEvents.class, RETURNS_DEEP_STUBS);
+        eventManager = mock(EventManager.class);
+        listener = new VoidAndCommandListener(plugin, eventManager);
+
+        player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.getName()).thenReturn("Steve");
+        when(eventManager.isEventRunning()).thenReturn(true);
+    }
+
+    private PlayerMoveEvent fallIntoVoid() {
+        return new PlayerMoveEvent(player, new Location(null, 0, -60, 0), new Location(null, 0, -70, 0));
+    }
+
+    @Test
+    void getRoles_ShouldOnlyCoverAlivePlayers() {
+        assertEquals(EventManager.ROLE_ALIVE, listener.getRoles());
+    }
+
+    @Test
+    void onMove_ShouldEliminateAlivePlayerInVoid() {
+        when(eventManager.isPlayerInEvent(player)).thenReturn(true);
+        PlayerMoveEvent event = fallIntoVoid();
+
+        assertTrue(listener.onMove(event, player, EventManager.ROLE_ALIVE));
+        assertTrue(event.isCancelled());
+        verify(eventManager).eliminatePlayer(eq(player), any(), eq("void"));
+    }
+
+    @Test
+    void onMove_ShouldIgnoreSpectatorInVoid() {
+        when(eventManager.isPlayerInEvent(player)).thenReturn(false);
+        PlayerMoveEvent event = fallIntoVoid();
+
+        assertFalse(listener.onMove(event, player, EventManager.ROLE_SPECTATOR));
+        assertFalse(event.isCancelled());
+        verify(eventManager, never()).eliminatePlayer(any(), any(), anyString());
+    }
+
+    @Test
+    void onPlayerCommand_ShouldEliminateAlivePlayerInsteadOfKill() {
+        when(eventManager.isPlayerInEvent(player)).thenReturn(true);
+        PlayerCommandPreprocessEvent event = new PlayerCommandPreprocessEvent(player, "/kill");
+
+        listener.onPlayerCommand(event);
+
+        assertTrue(event.isCancelled());
+        verify(eventManager).eliminatePlayer(player, null, "command");
+    }
+
+    @Test
+    void onPlayerCommand_ShouldLeaveSpectatorsAlone() {
+        when(eventManager.isPlayerInEvent(player)).thenReturn(false);
+        PlayerCommandPreprocessEvent event = new PlayerCommandPreprocessEvent(player, "/kill");
+
+        listener.onPlayerCommand(event);
+
+        assertFalse(event.isCancelled());
+        verify(eventManager, never()).eliminatePlayer(any(), any(), anyString());
+    }
+}
@@ -0,0 +1,88 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArenaMaskTest {
+
+    @TempDir
+    File tempDir;
+
+    private static ArenaMask circle(int radius) {
+        double radiusSquared = (double) radius * radius;
+        return ArenaMask.compile("circle:" + radius, -radius, -radius, radius, radius, (x, z) -> {
+            double dx = x + 0.5;
+            double dz = z + 0.5;
+            return dx * dx + dz * dz <= radiusSquared;
+        });
+    }
+
+    // ==================== Containment Tests ====================
+
+    @Test
+    void contains_ShouldMatchCircleTest() {
+        ArenaMask mask = circle(20);
+
+        assertTrue(mask.contains(0, 0));
+        assertTrue(mask.contains(19, 0));
+        assertFalse(mask.contains(20, 0));
+        assertFalse(mask.contains(15, 15));
+        assertFalse(mask.contains(500, 500));
+    }
+
+    @Test
+    void signedDistance_ShouldMatchCuboidSemantics() {
+        // A full rectangle must behave exactly like the cuboid math in ArenaManager.Arena
+        ArenaMask mask = ArenaMask.compile("rect", 0, 0, 9, 4, (x, z) -> true);
+
+        assertEquals(0, mask.getSignedDistance(0, 0));   // on the edge
+        assertEquals(2, mask.getSignedDistance(4, 2));   // center row
+        assertEquals(-3, mask.getSignedDistance(-3, 1)); // 3 blocks outside
+        assertEquals(-96, mask.getSignedDistance(100, 100)); // beyond the grid
+    }
+
+    @Test
+    void signedDistance_ShouldGrowTowardsCenter() {
+        ArenaMask mask = circle(30);
+
+        int edge = mask.getSignedDistance(29, 0);
+        int middle = mask.getSignedDistance(15, 0);
+        int center = mask.getSignedDistance(0, 0);
+
+        assertEquals(0, edge);
+        assertTrue(middle > edge);
+        assertTrue(center > middle);
+    }
+
+    // ==================== Persistence Tests ====================
+
+    @Test
+    void read_ShouldRoundTrip() throws IOException {
+        ArenaMask mask = circle(12);
+        File file = new File(tempDir, "circle.mask");
+        mask.write(file);
+
+        ArenaMask loaded = ArenaMask.read(file, "circle:12");
+
+        assertNotNull(loaded);
+        for (int x = -50; x <= 50; x += 7) {
+            for (int z = -50; z <= 50; z += 5) {
+                assertEquals(mask.getSignedDistance(x, z), loaded.getSignedDistance(x, z));
+            }
+        }
+    }
+
+    @Test
+    void read_ShouldRejectChangedShape() throws IOException {
+        File file = new File(tempDir, "circle.mask");
+        circle(12).write(file);
+
+        assertNull(ArenaMask.read(file, "circle:13"));
+        assertNull(ArenaMask.read(new File(tempDir, "missing.mask"), "circle:12"));
+    }
+}
@@ -0,0 +1,107 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KitCodecTest {
+
+    private byte[][] sampleSlots() {
+        byte[][] slots = new byte[KitCodec.SLOT_COUNT][];
+        slots[0] = new byte[]{1, 2, 3};
+        slots[8] = new byte[300];
+        Arrays.fill(slots[8], (byte) 7);
+        slots[KitCodec.STORAGE_SLOTS] = new byte[]{42};
+        slots[KitCodec.OFFHAND_SLOT] = new byte[]{9, 9};
+        return slots;
+    }
+
+    @Test
+    void encodeDecode_ShouldRoundTripSlots() throws IOException {
+        byte[][] slots = sampleSlots();
+
+        byte[][] decoded = KitCodec.decode(KitCodec.encode("Warrior", slots)).getSlots();
+
+        assertEquals(KitCodec.SLOT_COUNT, decoded.length);
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] == null) {
+                assertNull(decoded[i], "slot " + i);
+            } else {
+                assertArrayEquals(slots[i], decoded[i], "slot " + i);
+            }
+        }
+    }
+
+    @Test
+    void encode_ShouldTreatEmptyArraysAsEmptySlots() throws IOException {
+        byte[][] slots = new byte[KitCodec.SLOT_COUNT][];
+        slots[3] = new byte[0];
+
+        assertNull(KitCodec.decode(KitCodec.encode("Warrior", slots)).getSlots()[3]);
+    }
+
+    @Test
+    void encodeDecode_ShouldKeepDisplayNameAsTyped() throws IOException {
+        assertEquals("Warrior", KitCodec.decode(KitCodec.encode("Warrior", sampleSlots())).getName());
+    }
+
+    @Test
+    void decode_ShouldReadVersionOneFilesWithoutName() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0x4D4B4954);
+            out.writeByte(1);
+            out.writeShort(KitCodec.SLOT_COUNT);
+            for (int i = 0; i < KitCodec.SLOT_COUNT; i++) {
+                if (i == 2) {
+                    out.writeInt(1);
+                    out.writeByte(5);
+                } else {
+                    out.writeInt(0);
+                }
+            }
+        }
+
+        KitCodec.Decoded decoded = KitCodec.decode(bytes.toByteArray());
+
+        assertNull(decoded.getName());
+        assertArrayEquals(new byte[]{5}, decoded.getSlots()[2]);
+    }
+
+    @Test
+    void encode_ShouldRejectWrongSlotCount() {
+        assertThrows(IllegalArgumentException.class, () -> KitCodec.encode("Warrior", new byte[5][]));
+    }
+
+    @Test
+    void encode_ShouldRejectInvalidName() {
+        assertThrows(IllegalArgumentException.class, () -> KitCodec.encode("../config", sampleSlots()));
+    }
+
+    @Test
+    void decode_ShouldRejectForeignData() {
+        assertThrows(IOException.class, () -> KitCodec.decode(new byte[]{0, 1, 2, 3, 4, 5, 6, 7}));
+    }
+
+    @Test
+    void decode_ShouldRejectTruncatedFile() {
+        byte[] data = KitCodec.encode("Warrior", sampleSlots());
+
+        assertThrows(IOException.class, () -> KitCodec.decode(Arrays.copyOf(data, data.length - 10)));
+    }
+
+    @Test
+    void isValidName_ShouldOnlyAllowFileSafeNames() {
+        assertTrue(KitCodec.isValidName("Diamond_Pot-2"));
+        assertFalse(KitCodec.isValidName("../config"));
+        assertFalse(KitCodec.isValidName("has space"));
+        assertFalse(KitCodec.isValidName(""));
+        assertFalse(KitCodec.isValidName(null));
+        assertFalse(KitCodec.isValidName("a".repeat(33)));
+    }
+}
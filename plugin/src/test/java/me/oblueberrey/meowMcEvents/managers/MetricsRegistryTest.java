@@ -0,0 +1,69 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    void render_ShouldWriteHelpTypeAndValue() {
+        MetricsRegistry registry = new MetricsRegistry("test_");
+        MetricsRegistry.Counter counter = registry.counter("kills_total", "Kills");
+        counter.inc();
+        counter.add(2);
+
+        String text = registry.render();
+
+        assertTrue(text.contains("# HELP test_kills_total Kills\n"));
+        assertTrue(text.contains("# TYPE test_kills_total counter\n"));
+        assertTrue(text.contains("test_kills_total 3\n"));
+    }
+
+    @Test
+    void render_ShouldWriteOneSamplePerLabelInOrder() {
+        MetricsRegistry registry = new MetricsRegistry("test_");
+        MetricsRegistry.Counter counter = registry.counter("eliminations_total", "Eliminations", "cause");
+        counter.inc("void");
+        counter.inc("admin");
+        counter.add("void", 4);
+
+        String text = registry.render();
+
+        assertEquals(5, counter.get("void"));
+        assertEquals(0, counter.get("lava"));
+        int admin = text.indexOf("test_eliminations_total{cause=\"admin\"} 1\n");
+        int voidLine = text.indexOf("test_eliminations_total{cause=\"void\"} 5\n");
+        assertTrue(admin >= 0 && voidLine > admin);
+    }
+
+    @Test
+    void render_ShouldEscapeLabelValues() {
+        MetricsRegistry registry = new MetricsRegistry("test_");
+        registry.gauge("queue_depth", "Depth", "queue").set("a\"b\\c\nd", 7);
+
+        assertTrue(registry.render().contains("test_queue_depth{queue=\"a\\\"b\\\\c\\nd\"} 7\n"));
+    }
+
+    @Test
+    void gauge_ShouldKeepLastValue() {
+        MetricsRegistry registry = new MetricsRegistry("test_");
+        MetricsRegistry.Gauge gauge = registry.gauge("players_online", "Online");
+        gauge.set(10);
+        gauge.set(4);
+
+        assertTrue(registry.render().contains("test_players_online 4\n"));
+        assertTrue(registry.render().contains("# TYPE test_players_online gauge\n"));
+    }
+
+    @Test
+    void addCollector_ShouldAppendAfterMetrics() {
+        MetricsRegistry registry = new MetricsRegistry("test_");
+        registry.counter("a_total", "A").inc();
+        registry.addCollector(out -> MetricsRegistry.sample(out, "test_section_seconds_total", "section", "task x", 0.5));
+
+        String text = registry.render();
+
+        assertTrue(text.indexOf("test_section_seconds_total{section=\"task x\"} 0.5\n") > text.indexOf("test_a_total 1"));
+    }
+}
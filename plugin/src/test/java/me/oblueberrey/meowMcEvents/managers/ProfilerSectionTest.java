@@ -0,0 +1,76 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfilerSectionTest {
+
+    private static final long SLOT = ProfilerSection.SLOT_NANOS;
+
+    @Test
+    void begin_ShouldNotTimeWhileDisabled() {
+        ProfilerSection section = new ProfilerSection("test", () -> false);
+        long start = section.begin();
+        section.end(start);
+
+        assertEquals(ProfilerSection.NOT_TIMED, start);
+        assertEquals(0, section.snapshot(60).getCount());
+    }
+
+    @Test
+    void end_ShouldRecordWhileEnabled() {
+        ProfilerSection section = new ProfilerSection("test", () -> true);
+        section.end(section.begin());
+        section.end(section.begin());
+
+        assertEquals(2, section.snapshot(60).getCount());
+    }
+
+    @Test
+    void snapshot_ShouldOnlyIncludeTheRequestedWindow() {
+        ProfilerSection section = new ProfilerSection("test", () -> true);
+        long base = 1000 * SLOT;
+        section.record(100, base);            // 50s before "now"
+        section.record(200, base + 8 * SLOT); // 10s before
+        section.record(300, base + 10 * SLOT);
+
+        long now = base + 10 * SLOT;
+        assertEquals(1, section.snapshot(5, now).getCount());
+        assertEquals(2, section.snapshot(15, now).getCount());
+        assertEquals(3, section.snapshot(60, now).getCount());
+        assertEquals(3, section.snapshot(600, now).getCount());
+    }
+
+    @Test
+    void record_ShouldReuseSlotsOlderThanTheRing() {
+        ProfilerSection section = new ProfilerSection("test", () -> true);
+        long base = 1000 * SLOT;
+        section.record(100, base);
+        section.record(200, base + ProfilerSection.SLOTS * SLOT); // same ring slot, one lap later
+
+        LatencyHistogram window = section.snapshot(60, base + ProfilerSection.SLOTS * SLOT);
+        assertEquals(1, window.getCount());
+        assertEquals(200, window.getMax());
+    }
+
+    @Test
+    void reset_ShouldDropSamples() {
+        ProfilerSection section = new ProfilerSection("test", () -> true);
+        section.end(section.begin());
+        section.reset();
+
+        assertEquals(0, section.snapshot(60).getCount());
+    }
+
+    @Test
+    void reset_ShouldKeepLifetimeTotals() {
+        ProfilerSection section = new ProfilerSection("test", () -> true);
+        section.record(100, SLOT);
+        section.record(250, 2 * SLOT);
+        section.reset();
+
+        assertEquals(350, section.getTotalNanos());
+        assertEquals(2, section.getTotalCount());
+    }
+}
@@ -0,0 +1,157 @@
+package me.oblueberrey.meowMcEvents.managers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayCodecTest {
+
+    private static final int PLAYERS = 3;
+    private static final int TICKS = 250;
+    private static final int KEYFRAME_INTERVAL = 40;
+
+    private UUID[] uuids;
+    private String[] names;
+
+    @BeforeEach
+    void setUp() {
+        uuids = new UUID[PLAYERS];
+        names = new String[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            uuids[i] = UUID.randomUUID();
+            names[i] = "Player" + i;
+        }
+    }
+
+    // Deterministic path per player and tick
+    private int posX(int player, int tick) { return ReplayCodec.toFixed(100.5 + player * 3 + Math.sin(tick * 0.1) * 5); }
+    private int posY(int player, int tick) { return ReplayCodec.toFixed(64 + (tick / 20 % 2)); }
+    private int posZ(int player, int tick) { return ReplayCodec.toFixed(-200.25 - tick * 0.2); }
+    private float yaw(int player, int tick) { return (tick * 7 + player * 40) % 360 - 180; }
+    private String weapon(int tick) { return tick < 100 ? "IRON_SWORD" : "DIAMOND_SWORD"; }
+
+    private byte[] record(int removePlayer, int removeTick) {
+        ReplayCodec.Encoder encoder = new ReplayCodec.Encoder(PLAYERS, KEYFRAME_INTERVAL);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(ReplayCodec.header(1000L, "arena", KEYFRAME_INTERVAL, uuids, names));
+        for (int tick = 0; tick < TICKS; tick++) {
+            encoder.beginTick();
+            for (int p = 0; p < PLAYERS; p++) {
+                if (p == removePlayer && tick == removeTick) {
+                    encoder.remove(p);
+                    continue;
+                }
+                String[] equipment = tick % 5 == 0
+                        ? new String[]{weapon(tick), "", "IRON_HELMET", "", "", ""}
+                        : null;
+                encoder.sample(p, posX(p, tick), posY(p, tick), posZ(p, tick),
+                        ReplayCodec.toAngle(yaw(p, tick)), ReplayCodec.toAngle(10f),
+                        equipment, tick % 13 == 0, false);
+            }
+            encoder.endTick();
+            if (tick % 20 == 19) {
+                out.writeBytes(encoder.drain());
+            }
+        }
+        out.writeBytes(encoder.drain());
+        return out.toByteArray();
+    }
+
+    private void assertState(ReplayCodec.Decoder decoder, int tick) {
+        for (int p = 0; p < PLAYERS; p++) {
+            if (!decoder.isAlive(p)) continue;
+            assertEquals(posX(p, tick), ReplayCodec.toFixed(decoder.getX(p)), "x of " + p + " at " + tick);
+            assertEquals(posY(p, tick), ReplayCodec.toFixed(decoder.getY(p)));
+            assertEquals(posZ(p, tick), ReplayCodec.toFixed(decoder.getZ(p)));
+            assertEquals(ReplayCodec.toAngle(yaw(p, tick)), ReplayCodec.toAngle(decoder.getYaw(p)));
+            assertEquals(weapon(tick - tick % 5), decoder.getEquipment(p, 0));
+            assertEquals("IRON_HELMET", decoder.getEquipment(p, 2));
+        }
+    }
+
+    @Test
+    void decoder_ShouldRoundTripEveryTick() throws IOException {
+        ReplayCodec.Decoder decoder = new ReplayCodec.Decoder(record(-1, -1));
+
+        assertEquals(TICKS, decoder.getTickCount());
+        assertEquals("arena", decoder.getWorld());
+        assertEquals(uuids[1], decoder.getPlayer(1));
+        assertEquals("Player2", decoder.getName(2));
+
+        int tick = 0;
+        while (decoder.next()) {
+            assertEquals(tick, decoder.getTick());
+            assertState(decoder, tick);
+            assertEquals(tick % 13 == 0, (decoder.getFrameFlags(0) & ReplayCodec.FLAG_SWING) != 0);
+            tick++;
+        }
+        assertEquals(TICKS, tick);
+    }
+
+    @Test
+    void seek_ShouldMatchSequentialDecoding() throws IOException {
+        ReplayCodec.Decoder decoder = new ReplayCodec.Decoder(record(-1, -1));
+
+        for (int target : new int[]{0, 39, 40, 41, 199, 120, 5, 249}) {
+            decoder.seek(target);
+            assertTrue(decoder.next());
+            assertEquals(target, decoder.getTick());
+            assertState(decoder, target);
+        }
+    }
+
+    @Test
+    void remove_ShouldHidePlayerAcrossSeeks() throws IOException {
+        ReplayCodec.Decoder decoder = new ReplayCodec.Decoder(record(1, 90));
+
+        decoder.seek(89);
+        decoder.next();
+        assertTrue(decoder.isAlive(1));
+
+        decoder.next();
+        assertFalse(decoder.isAlive(1));
+        assertTrue((decoder.getFrameFlags(1) & ReplayCodec.FLAG_REMOVED) != 0);
+
+        decoder.seek(200);
+        decoder.next();
+        assertFalse(decoder.isAlive(1));
+        assertTrue(decoder.isAlive(0));
+    }
+
+    @Test
+    void decoder_ShouldPlayTruncatedFileUpToLastFrame() throws IOException {
+        byte[] full = record(-1, -1);
+        ReplayCodec.Decoder decoder = new ReplayCodec.Decoder(Arrays.copyOf(full, full.length - 3));
+
+        assertTrue(decoder.getTickCount() < TICKS);
+        int frames = 0;
+        while (decoder.next()) frames++;
+        assertEquals(decoder.getTickCount(), frames);
+    }
+
+    @Test
+    void encoder_ShouldKeepIdleTicksSmall() {
+        ReplayCodec.Encoder encoder = new ReplayCodec.Encoder(PLAYERS, 1000);
+        for (int tick = 0; tick < 100; tick++) {
+            encoder.beginTick();
+            for (int p = 0; p < PLAYERS; p++) {
+                encoder.sample(p, 0, 0, 0, 0, 0, null, false, false);
+            }
+            encoder.endTick();
+        }
+        byte[] bytes = encoder.drain();
+
+        // One keyframe, then two bytes (type + empty entry count) per idle tick
+        assertTrue(bytes.length < 100 * 2 + 64, "size " + bytes.length);
+    }
+
+    @Test
+    void decoder_ShouldRejectForeignFile() {
+        assertThrows(IOException.class, () -> new ReplayCodec.Decoder(new byte[]{1, 2, 3, 4, 0, 1}));
+    }
+}
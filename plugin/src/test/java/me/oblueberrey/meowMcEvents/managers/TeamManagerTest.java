@@ -363,10 +363,36 @@ class TeamManagerTest {
     @Test
     void getTeamColor_ShouldReturnGrayForInvalidTeam() {
         assertEquals(ChatColor.GRAY, teamManager.getTeamColor(0));
-        assertEquals(ChatColor.GRAY, teamManager.getTeamColor(9));
         assertEquals(ChatColor.GRAY, teamManager.getTeamColor(-1));
     }
 
+    @Test
+    void getTeamColor_ShouldSupportTeamsPastConfiguredColors() {
+        for (int team = 9; team <= 150; team++) {
+            assertNotEquals(ChatColor.GRAY, teamManager.getTeamColor(team));
+            assertTrue(teamManager.getFormattedTeamName(team).endsWith("Team " + team));
+        }
+    }
+
+    @Test
+    void getTeamColorCode_ShouldBeDistinctForManyTeams() {
+        Set<String> codes = new HashSet<>();
+        for (int team = 1; team <= 100; team++) {
+            codes.add(teamManager.getTeamColorCode(team));
+        }
+        assertEquals(100, codes.size());
+    }
+
+    @Test
+    void setTeamColors_ShouldUseConfiguredColorsFirst() {
+        teamManager.setTeamColors(Arrays.asList("GOLD", "#00FF00", "not-a-color"));
+
+        assertEquals(ChatColor.GOLD, teamManager.getTeamColor(1));
+        assertEquals(ChatColor.GREEN, teamManager.getTeamColor(2));
+        assertEquals("\u00a7x\u00a70\u00a70\u00a7f\u00a7f\u00a70\u00a70", teamManager.getTeamColorCode(2));
+        assertNotEquals(ChatColor.GRAY, teamManager.getTeamColor(3));
+    }
+
     @Test
     void getFormattedTeamName_ShouldReturnColoredName() {
         String teamName = teamManager.getFormattedTeamName(1);
@@ -387,10 +413,49 @@ class TeamManagerTest {
         assertTrue(teamNumbers.contains(2));
     }
 
+    @Test
+    void assignTeams_ShouldSupportHundredSoloTeams() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Player player = mock(Player.class);
+            when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+            players.add(player);
+        }
+
+        teamManager.assignTeams(players, 1);
+
+        assertEquals(120, teamManager.getTeamCount());
+        assertEquals(120, teamManager.getHighestTeamNumber());
+        for (Player player : players) {
+            int team = teamManager.getTeam(player);
+            assertTrue(teamManager.hasTeam(team));
+            assertEquals(1, teamManager.getTeamMembers(team).size());
+        }
+
+        teamManager.removeFromTeam(players.get(0));
+        assertEquals(119, teamManager.getTeamCount());
+    }
+
     @Test
     void getTeamMembers_ShouldReturnEmptySetForInvalidTeam() {
         Set<UUID> members = teamManager.getTeamMembers(999);
         assertNotNull(members);
         assertTrue(members.isEmpty());
     }
+
+    @Test
+    void getAliveTeamMemberCount_ShouldCountOnlyAliveMembers() {
+        List<Player> players = Arrays.asList(player1, player2, player3, player4);
+        teamManager.assignTeams(players, 2);
+        int team = teamManager.getTeam(player1);
+
+        assertEquals(0, teamManager.getAliveTeamMemberCount(team)); // no source yet
+
+        Set<UUID> alive = new HashSet<>(Arrays.asList(uuid1, uuid2, uuid3, uuid4));
+        teamManager.setAliveSource(() -> alive);
+        assertEquals(2, teamManager.getAliveTeamMemberCount(team));
+
+        alive.remove(uuid1);
+        assertEquals(1, teamManager.getAliveTeamMemberCount(team));
+    }
 }
@@ -0,0 +1,704 @@
+package me.oblueberrey.meowMcEvents.simulation;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import me.oblueberrey.meowMcEvents.gui.SpectatorGUI;
+import me.oblueberrey.meowMcEvents.listeners.*;
+import me.oblueberrey.meowMcEvents.managers.*;
+import me.oblueberrey.meowMcEvents.platform.PaperPlatform;
+import me.oblueberrey.meowMcEvents.platform.PlatformAdapter;
+import me.oblueberrey.meowMcEvents.simulation.SimServer.SimPlayer;
+import me.oblueberrey.meowMcEvents.utils.ConfigManager;
+import me.oblueberrey.meowMcEvents.utils.EventFeedback;
+import me.oblueberrey.meowMcEvents.utils.EventState;
+import me.oblueberrey.meowMcEvents.utils.LicenseManager;
+import me.oblueberrey.meowMcEvents.utils.LogManager;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.player.PlayerAnimationEvent;
+import org.bukkit.event.player.PlayerAnimationType;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.mockito.Answers;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs one full event - countdown, joins, combat, deaths, quits - against a {@link SimServer}
+ * and measures the plugin's main-thread cost of every tick.
+ *
+ * Managers and listeners are the real classes, created and registered in the order
+ * MeowMCEvents.onEnable uses (stats, party, history, replay and metrics all on) and torn
+ * down like onDisable, inside a temporary data folder. An active cuboid arena surrounds
+ * the play area so the boundary rule does its checks. Each tick the script first decides
+ * what the players do (unmeasured), then hands it to the plugin the way the server would -
+ * moves, swings, hits and quits as events through the plugin manager - and advances the
+ * scheduler. CPU time, allocated bytes and packet-equivalent calls are taken around that
+ * second half only.
+ *
+ * Still stubbed: the license check and KitManager (kit storage and giving), commands, and
+ * the SQLite driver, which is not on the test classpath - PlayerStatsStore runs with its
+ * database disabled. Work on the plugin's own writer threads is not measured.
+ */
+final class LoadSimulation {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Per alive player, per tick
+    private static final double MOVE_CHANCE = 0.5;
+    private static final double HIT_CHANCE = 0.05;
+    private static final double QUIT_CHANCE = 0.00005;
+    // Per hit
+    private static final double LETHAL_CHANCE = 0.05;
+    private static final double HIT_DAMAGE = 4.0;
+    private static final double LETHAL_DAMAGE = 20.0;
+    private static final double ARENA_RADIUS = 100.0;
+    // Arena wall distance beyond the play area, outside the edge damage zone
+    private static final double ARENA_MARGIN = 10.0;
+    private static final int COUNTDOWN_SECONDS = 10;
+    private static final int MAX_FIGHT_TICKS = 20 * 60 * 10;
+    private static final int MAX_DRAIN_TICKS = 20 * 30;
+
+    private final int participants;
+    private final int teamSize;
+    private final Random random;
+
+    private SimServer server;
+    private MeowMCEvents plugin;
+    private File dataFolder;
+    private YamlConfiguration config;
+    private ConfigManager configManager;
+    private PlatformAdapter platform;
+    private LogManager logManager;
+    private LicenseManager licenseManager;
+    private KitManager kitManager;
+    private Profiler profiler;
+    private TeamManager teamManager;
+    private KillStreakManager killStreakManager;
+    private BorderManager borderManager;
+    private EventStatsManager eventStatsManager;
+    private EventFeedback eventFeedback;
+    private ScoreboardManager scoreboardManager;
+    private TabListManager tabListManager;
+    private KillFeedManager killFeedManager;
+    private DamageTracker damageTracker;
+    private PlayerStatsStore playerStatsStore;
+    private PartyManager partyManager;
+    private MatchArchive matchArchive;
+    private ReplayRecorder replayRecorder;
+    private ReplayPlayback replayPlayback;
+    private EventManager eventManager;
+    private TrackingCompassManager trackingCompassManager;
+    private ArenaManager arenaManager;
+    private ArenaBoundaryListener arenaBoundaryListener;
+    private WaitingAreaListener waitingAreaListener;
+    private SpectatorCompassListener spectatorCompassListener;
+    private SpectatorGUI spectatorGUI;
+    private PluginMetrics metrics;
+
+    // Tasks that live as long as the plugin, not the event
+    private Set<Integer> backgroundTasks = Collections.emptySet();
+    private final Map<UUID, SimPlayer> players = new HashMap<>();
+    private final List<Runnable> actions = new ArrayList<>();
+    private final Set<UUID> doomed = new HashSet<>();
+
+    LoadSimulation(int participants, int teamSize, long seed) {
+        this.participants = participants;
+        this.teamSize = teamSize;
+        this.random = new Random(seed);
+    }
+
+    Report run() {
+        try (SimServer simServer = new SimServer()) {
+            server = simServer;
+            dataFolder = Files.createTempDirectory("meowevents-loadsim").toFile();
+            try {
+                wire();
+                createArena();
+                backgroundTasks = server.getScheduler().getPendingIds();
+                return runEvent();
+            } finally {
+                shutdown();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteRecursively(dataFolder);
+        }
+    }
+
+    private Report runEvent() {
+        List<SimPlayer> roster = new ArrayList<>(participants);
+        for (int i = 0; i < participants; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            SimPlayer player = server.connect("Sim" + i, uuid, randomCoordinate(), randomCoordinate());
+            PlayerJoinEvent join = mock(PlayerJoinEvent.class, withSettings().stubOnly());
+            when(join.getPlayer()).thenReturn(player.getPlayer());
+            server.callEvent(join);
+            players.put(uuid, player);
+            roster.add(player);
+        }
+        formParties(roster);
+
+        Report report = new Report(participants, teamSize);
+        measure(report.countdown, eventManager::startCountdown);
+
+        // Everyone joins during the first half of the countdown
+        int countdownTicks = COUNTDOWN_SECONDS * 20;
+        int joinTicks = countdownTicks / 2;
+        int joined = 0;
+        for (int tick = 1; tick <= countdownTicks && eventManager.getState() == EventState.COUNTDOWN; tick++) {
+            actions.clear();
+            int joinUntil = (int) ((long) participants * tick / joinTicks);
+            while (joined < Math.min(joinUntil, participants)) {
+                SimPlayer player = roster.get(joined++);
+                actions.add(() -> eventManager.addPlayer(player.getPlayer()));
+            }
+            planMovement(roster);
+            measure(report.countdown, this::runActionsAndTick);
+        }
+
+        // Fight until a winner is found and the event has wound down
+        int fightTicks = 0;
+        while (eventManager.getState() != EventState.IDLE && fightTicks < MAX_FIGHT_TICKS) {
+            actions.clear();
+            if (eventManager.getState() == EventState.RUNNING) {
+                planFight();
+            }
+            measure(report.fight, this::runActionsAndTick);
+            fightTicks++;
+        }
+
+        report.finished = eventManager.getState() == EventState.IDLE;
+        if (!report.finished) {
+            eventManager.stopEvent();
+        }
+
+        // Let delayed cleanup (end commands, spectator checks) run; whatever is left is a leak
+        for (int tick = 0; tick < MAX_DRAIN_TICKS && eventTasksPending() > 0; tick++) {
+            actions.clear();
+            measure(report.fight, this::runActionsAndTick);
+        }
+        report.quits = participants - server.getOnlineCount();
+        report.pendingTasks = eventTasksPending();
+        report.sections.addAll(profiler.getSections());
+        report.sections.sort(Comparator.comparingLong(ProfilerSection::getTotalNanos).reversed());
+        return report;
+    }
+
+    // ==================== WIRING ====================
+
+    private void wire() {
+        config = loadDefaultConfig();
+        config.set("spawn.world", SimServer.WORLD_NAME);
+        config.set("event.countdown-seconds", COUNTDOWN_SECONDS);
+        config.set("event.default-mode", teamSize);
+        config.set("event.min-players", 2);
+        config.set("profiler.enabled", true);
+        config.set("stats.enabled", true);
+        config.set("party.enabled", true);
+        config.set("history.enabled", true);
+        config.set("replay.enabled", true);
+        config.set("metrics.enabled", true);
+        config.set("metrics.port", freePort());
+
+        plugin = mock(MeowMCEvents.class, withSettings().stubOnly().defaultAnswer(this::pluginCall));
+        server.install(plugin);
+
+        // Same order as MeowMCEvents.onEnable
+        configManager = new ConfigManager(plugin);
+        configManager.loadConfig();
+        platform = new PaperPlatform(plugin);
+        logManager = new LogManager(plugin);
+        profiler = new Profiler(plugin);
+        licenseManager = mock(LicenseManager.class, withSettings().stubOnly());
+        when(licenseManager.canStartEvent()).thenReturn(true);
+
+        teamManager = new TeamManager(platform);
+        teamManager.setTeamColors(configManager.getTeamColors());
+        killStreakManager = new KillStreakManager();
+        borderManager = new BorderManager(plugin);
+        kitManager = mock(KitManager.class, withSettings().stubOnly());
+        eventStatsManager = new EventStatsManager(plugin);
+        eventFeedback = new EventFeedback(plugin);
+        scoreboardManager = new ScoreboardManager(plugin);
+        tabListManager = new TabListManager(plugin);
+        killFeedManager = new KillFeedManager(plugin);
+        damageTracker = new DamageTracker(plugin);
+        if (configManager.isPersistentStatsEnabled()) {
+            playerStatsStore = new PlayerStatsStore(plugin);
+            if (configManager.isBalanceTeamsByRating()) {
+                teamManager.setRatingSource(playerStatsStore::getRating);
+            }
+        }
+        if (configManager.isPartyEnabled()) {
+            partyManager = new PartyManager(configManager.getPartyMaxSize(), configManager.getPartyInviteTimeout() * 1000L);
+            teamManager.setPartySource(partyManager::getPartyId);
+        }
+        if (configManager.isHistoryEnabled()) {
+            matchArchive = new MatchArchive(plugin);
+        }
+        if (configManager.isReplayEnabled()) {
+            replayRecorder = new ReplayRecorder(plugin);
+            replayPlayback = new ReplayPlayback(plugin);
+        }
+        eventManager = new EventManager(plugin, teamManager, killStreakManager, borderManager,
+                kitManager, eventStatsManager, eventFeedback);
+        teamManager.setAliveSource(eventManager::getAliveView);
+        trackingCompassManager = new TrackingCompassManager(plugin, eventManager, teamManager);
+
+        arenaManager = new ArenaManager(plugin);
+        arenaManager.loadArenas();
+        arenaBoundaryListener = new ArenaBoundaryListener(plugin, eventManager, arenaManager);
+        eventManager.setArenaManager(arenaManager);
+        eventManager.setArenaBoundaryListener(arenaBoundaryListener);
+
+        profiler.registerEvents(new PlayerDeathListener(plugin, eventManager, killStreakManager));
+        profiler.registerEvents(new PlayerQuitListener(eventManager, teamManager));
+        if (playerStatsStore != null) {
+            profiler.registerEvents(new PlayerJoinListener(playerStatsStore));
+        }
+        if (replayRecorder != null) {
+            profiler.registerEvents(replayRecorder);
+            profiler.registerEvents(replayPlayback);
+        }
+        profiler.registerEvents(new BlockListener(eventManager));
+        profiler.registerEvents(new CommandBlockListener(plugin, eventManager));
+        profiler.registerEvents(new RegenListener(eventManager));
+        waitingAreaListener = new WaitingAreaListener(plugin, eventManager);
+        profiler.registerEvents(waitingAreaListener);
+        profiler.registerEvents(new PvPListener(plugin, eventManager));
+        profiler.registerEvents(new PlayerRespawnListener(plugin, eventManager));
+        profiler.registerEvents(new DamageListener(plugin, eventManager));
+        spectatorCompassListener = new SpectatorCompassListener(plugin, eventManager, teamManager);
+        profiler.registerEvents(spectatorCompassListener);
+        spectatorGUI = new SpectatorGUI(plugin, eventManager, teamManager);
+        profiler.registerEvents(spectatorGUI);
+        profiler.registerEvents(new SpectatorProtectionListener(plugin, eventManager));
+        profiler.registerEvents(new FatalDamageListener(plugin, eventManager, killStreakManager));
+        VoidAndCommandListener voidAndCommandListener = new VoidAndCommandListener(plugin, eventManager);
+        profiler.registerEvents(voidAndCommandListener);
+        PlayerMoveListener playerMoveListener = new PlayerMoveListener(eventManager);
+        playerMoveListener.registerRule(voidAndCommandListener);
+        playerMoveListener.registerRule(arenaBoundaryListener);
+        playerMoveListener.registerRule(waitingAreaListener);
+        profiler.registerEvents(playerMoveListener);
+        profiler.registerEvents(new DamageAttributionListener(plugin, eventManager, damageTracker));
+
+        if (configManager.isMetricsEnabled()) {
+            metrics = new PluginMetrics(plugin);
+            metrics.start();
+        }
+    }
+
+    /**
+     * Cuboid arena around the play area, active so the boundary rule enforces it
+     */
+    private void createArena() {
+        double edge = ARENA_RADIUS + ARENA_MARGIN;
+        arenaManager.createArena("loadsim");
+        arenaManager.setPos1("loadsim", new Location(server.getWorld(), -edge, 0.0, -edge));
+        arenaManager.setPos2("loadsim", new Location(server.getWorld(), edge, 255.0, edge));
+        arenaManager.setActiveArena("loadsim");
+    }
+
+    /**
+     * Same order as MeowMCEvents.onDisable
+     */
+    private void shutdown() {
+        if (eventManager != null && eventManager.isEventRunning()) {
+            eventManager.stopEvent();
+        }
+        if (arenaBoundaryListener != null) {
+            arenaBoundaryListener.stopBoundaryCheck();
+        }
+        if (arenaManager != null) {
+            arenaManager.saveArenas();
+            arenaManager.shutdown();
+        }
+        if (eventFeedback != null) {
+            eventFeedback.removeBossBar();
+        }
+        if (scoreboardManager != null) {
+            scoreboardManager.stopScoreboard();
+        }
+        if (tabListManager != null) {
+            tabListManager.stopTabList();
+        }
+        if (trackingCompassManager != null) {
+            trackingCompassManager.stop();
+        }
+        if (damageTracker != null) {
+            damageTracker.shutdown();
+        }
+        if (playerStatsStore != null) {
+            playerStatsStore.shutdown();
+        }
+        if (matchArchive != null) {
+            matchArchive.shutdown();
+        }
+        if (replayPlayback != null) {
+            replayPlayback.stopAll();
+        }
+        if (replayRecorder != null) {
+            replayRecorder.shutdown();
+        }
+        if (metrics != null) {
+            metrics.shutdown();
+        }
+        if (logManager != null) {
+            logManager.shutdown();
+        }
+    }
+
+    private static YamlConfiguration loadDefaultConfig() {
+        InputStream stream = LoadSimulation.class.getResourceAsStream("/config.yml");
+        if (stream == null) {
+            throw new IllegalStateException("config.yml not found on the test classpath");
+        }
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            return YamlConfiguration.loadConfiguration(reader);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read config.yml", e);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * JavaPlugin.saveResource against the temporary data folder
+     */
+    private void saveResource(String name, boolean replace) throws IOException {
+        File target = new File(dataFolder, name);
+        if (target.exists() && !replace) return;
+        try (InputStream stream = LoadSimulation.class.getResourceAsStream("/" + name)) {
+            if (stream == null) {
+                throw new IllegalArgumentException(name + " not found on the test classpath");
+            }
+            Files.createDirectories(target.getParentFile().toPath());
+            Files.copy(stream, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteRecursively(File file) {
+        if (file == null) return;
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+
+    private Object pluginCall(InvocationOnMock invocation) throws Throwable {
+        Object[] args = invocation.getArguments();
+        switch (invocation.getMethod().getName()) {
+            case "getDataFolder": return dataFolder;
+            case "saveResource":
+                saveResource((String) args[0], (boolean) args[1]);
+                return null;
+            case "getResource": return LoadSimulation.class.getResourceAsStream("/" + args[0]);
+            case "getConfig": return config;
+            case "getConfigManager": return configManager;
+            case "getPlatform": return platform;
+            case "getLogger": return server.getLogger();
+            case "getServer": return server.getServer();
+            case "getName": return "MeowMCEvents";
+            case "isEnabled": return true;
+            case "getProfiler": return profiler;
+            case "getEventManager": return eventManager;
+            case "getTeamManager": return teamManager;
+            case "getKillStreakManager": return killStreakManager;
+            case "getBorderManager": return borderManager;
+            case "getKitManager": return kitManager;
+            case "getEventStatsManager": return eventStatsManager;
+            case "getEventFeedback": return eventFeedback;
+            case "getLicenseManager": return licenseManager;
+            case "getScoreboardManager": return scoreboardManager;
+            case "getTabListManager": return tabListManager;
+            case "getKillFeedManager": return killFeedManager;
+            case "getDamageTracker": return damageTracker;
+            case "getTrackingCompassManager": return trackingCompassManager;
+            case "getLogManager": return logManager;
+            case "getPlayerStatsStore": return playerStatsStore;
+            case "getPartyManager": return partyManager;
+            case "getMatchArchive": return matchArchive;
+            case "getReplayRecorder": return replayRecorder;
+            case "getReplayPlayback": return replayPlayback;
+            case "getArenaManager": return arenaManager;
+            case "getArenaBoundaryListener": return arenaBoundaryListener;
+            case "getWaitingAreaListener": return waitingAreaListener;
+            case "getSpectatorCompassListener": return spectatorCompassListener;
+            case "getSpectatorGUI": return spectatorGUI;
+            case "getMetrics": return metrics;
+            default: return Answers.RETURNS_DEFAULTS.answer(invocation);
+        }
+    }
+
+    // ==================== SCRIPT ====================
+
+    /**
+     * In team modes, half the roster arrives in parties of one team's size
+     */
+    private void formParties(List<SimPlayer> roster) {
+        if (partyManager == null || teamSize < 2) return;
+        long now = System.currentTimeMillis();
+        for (int leader = 0; leader + teamSize <= roster.size() / 2; leader += teamSize) {
+            UUID leaderId = roster.get(leader).getUniqueId();
+            for (int member = leader + 1; member < leader + teamSize; member++) {
+                UUID memberId = roster.get(member).getUniqueId();
+                partyManager.invite(leaderId, memberId, now);
+                partyManager.accept(memberId, now);
+            }
+        }
+    }
+
+    private void planMovement(Collection<SimPlayer> movers) {
+        for (SimPlayer player : movers) {
+            if (!player.isOnline() || random.nextDouble() >= MOVE_CHANCE) continue;
+            Location from = player.location();
+            double x = clamp(from.getX() + random.nextDouble() * 1.2 - 0.6);
+            double z = clamp(from.getZ() + random.nextDouble() * 1.2 - 0.6);
+            Location to = new Location(from.getWorld(), x, from.getY(), z);
+            PlayerMoveEvent event = new PlayerMoveEvent(player.getPlayer(), from, to);
+            actions.add(() -> {
+                player.moveTo(x, z);
+                server.callEvent(event);
+                if (event.isCancelled()) {
+                    player.moveTo(from.getX(), from.getZ());
+                }
+            });
+        }
+    }
+
+    private void planFight() {
+        List<SimPlayer> alive = new ArrayList<>();
+        for (UUID uuid : eventManager.getAlivePlayers()) {
+            SimPlayer player = players.get(uuid);
+            if (player != null && player.isOnline()) alive.add(player);
+        }
+        planMovement(alive);
+        if (alive.size() < 2) return;
+
+        doomed.clear();
+        boolean pvp = !eventManager.isGracePeriodActive();
+        for (SimPlayer attacker : alive) {
+            if (doomed.contains(attacker.getUniqueId())) continue;
+
+            if (random.nextDouble() < QUIT_CHANCE) {
+                doomed.add(attacker.getUniqueId());
+                PlayerQuitEvent event = mock(PlayerQuitEvent.class, withSettings().stubOnly());
+                when(event.getPlayer()).thenReturn(attacker.getPlayer());
+                actions.add(() -> {
+                    server.callEvent(event);
+                    server.disconnect(attacker);
+                });
+                continue;
+            }
+            if (!pvp || random.nextDouble() >= HIT_CHANCE) continue;
+
+            SimPlayer victim = pickEnemy(attacker, alive);
+            if (victim == null) continue;
+            boolean lethal = random.nextDouble() < LETHAL_CHANCE;
+            if (lethal) doomed.add(victim.getUniqueId());
+            PlayerAnimationEvent swing = new PlayerAnimationEvent(attacker.getPlayer(), PlayerAnimationType.ARM_SWING);
+            EntityDamageByEntityEvent hit = meleeHit(attacker, victim, lethal ? LETHAL_DAMAGE : HIT_DAMAGE);
+            actions.add(() -> {
+                server.callEvent(swing);
+                server.callEvent(hit);
+            });
+        }
+    }
+
+    /**
+     * Melee damage event with real damage and cancel state; lethal hits are turned into
+     * eliminations by FatalDamageListener
+     */
+    private static EntityDamageByEntityEvent meleeHit(SimPlayer attacker, SimPlayer victim, double damage) {
+        double[] amount = {damage};
+        boolean[] cancelled = {false};
+        return mock(EntityDamageByEntityEvent.class, withSettings().stubOnly().defaultAnswer(invocation -> {
+            Object[] args = invocation.getArguments();
+            switch (invocation.getMethod().getName()) {
+                case "getEntity": return victim.getPlayer();
+                case "getDamager": return attacker.getPlayer();
+                case "getCause": return EntityDamageEvent.DamageCause.ENTITY_ATTACK;
+                case "getDamage":
+                case "getFinalDamage": return amount[0];
+                case "setDamage":
+                    amount[0] = (double) args[args.length - 1];
+                    return null;
+                case "isCancelled": return cancelled[0];
+                case "setCancelled":
+                    cancelled[0] = (boolean) args[0];
+                    return null;
+                case "getEventName": return "EntityDamageByEntityEvent";
+                default: return Answers.RETURNS_DEFAULTS.answer(invocation);
+            }
+        }));
+    }
+
+    private SimPlayer pickEnemy(SimPlayer attacker, List<SimPlayer> alive) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            SimPlayer candidate = alive.get(random.nextInt(alive.size()));
+            if (candidate != attacker && !doomed.contains(candidate.getUniqueId())
+                    && !teamManager.isSameTeam(attacker.getPlayer(), candidate.getPlayer())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private int eventTasksPending() {
+        int pending = 0;
+        for (int id : server.getScheduler().getPendingIds()) {
+            if (!backgroundTasks.contains(id)) pending++;
+        }
+        return pending;
+    }
+
+    private void runActionsAndTick() {
+        for (Runnable action : actions) {
+            action.run();
+        }
+        server.getScheduler().tick();
+    }
+
+    private double randomCoordinate() {
+        return random.nextDouble() * ARENA_RADIUS * 2 - ARENA_RADIUS;
+    }
+
+    private static double clamp(double coordinate) {
+        return Math.max(-ARENA_RADIUS, Math.min(ARENA_RADIUS, coordinate));
+    }
+
+    // ==================== MEASUREMENT ====================
+
+    private void measure(Phase phase, Runnable work) {
+        PacketCounter packets = server.getPackets();
+        long[] before = packets.snapshot();
+        long bytesBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long cpuBefore = THREADS.getCurrentThreadCpuTime();
+
+        work.run();
+
+        long cpu = THREADS.getCurrentThreadCpuTime() - cpuBefore - server.getScheduler().drainAsyncCpuNanos();
+        long bytes = THREADS.getCurrentThreadAllocatedBytes() - bytesBefore;
+        phase.record(cpu, bytes, before, packets.snapshot());
+    }
+
+    /**
+     * Per-tick samples for one part of the event
+     */
+    static final class Phase {
+        final String name;
+        final LatencyHistogram cpuNanos = new LatencyHistogram();
+        final LatencyHistogram allocatedBytes = new LatencyHistogram();
+        final long[] packetTotals = new long[PacketCounter.KINDS.length];
+        final long[] packetMax = new long[PacketCounter.KINDS.length];
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        private void record(long cpu, long bytes, long[] before, long[] after) {
+            cpuNanos.record(cpu);
+            allocatedBytes.record(bytes);
+            for (int i = 0; i < packetTotals.length; i++) {
+                long delta = after[i] - before[i];
+                packetTotals[i] += delta;
+                packetMax[i] = Math.max(packetMax[i], delta);
+            }
+        }
+
+        long ticks() {
+            return cpuNanos.getCount();
+        }
+    }
+
+    /**
+     * Measurements for one simulated event
+     */
+    static final class Report {
+        final int participants;
+        final int teamSize;
+        final Phase countdown = new Phase("countdown");
+        final Phase fight = new Phase("fight");
+        final List<ProfilerSection> sections = new ArrayList<>();
+        boolean finished;
+        int quits;
+        int pendingTasks;
+
+        Report(int participants, int teamSize) {
+            this.participants = participants;
+            this.teamSize = teamSize;
+        }
+
+        boolean isFinished() {
+            return finished;
+        }
+
+        String format() {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format(Locale.ROOT, "=== %d players, team size %d: %d countdown + %d fight ticks, %d quits, %s ===%n",
+                    participants, teamSize, countdown.ticks(), fight.ticks(), quits,
+                    finished ? "finished" : "stopped at tick limit"));
+            out.append(String.format(Locale.ROOT, "%-10s %10s %10s %10s %10s %10s %10s%n",
+                    "phase", "cpu mean", "cpu p99", "cpu max", "alloc mean", "alloc p99", "alloc max"));
+            for (Phase phase : new Phase[]{countdown, fight}) {
+                out.append(String.format(Locale.ROOT, "%-10s %8.1fus %8.1fus %8.1fus %8.1fKB %8.1fKB %8.1fKB%n",
+                        phase.name,
+                        phase.cpuNanos.getMean() / 1_000.0,
+                        phase.cpuNanos.percentile(99) / 1_000.0,
+                        phase.cpuNanos.getMax() / 1_000.0,
+                        phase.allocatedBytes.getMean() / 1_024.0,
+                        phase.allocatedBytes.percentile(99) / 1_024.0,
+                        phase.allocatedBytes.getMax() / 1_024.0));
+            }
+            out.append(String.format(Locale.ROOT, "%-14s %12s %12s %12s%n", "packets", "total", "per tick", "max tick"));
+            for (PacketCounter.Kind kind : PacketCounter.KINDS) {
+                long total = countdown.packetTotals[kind.ordinal()] + fight.packetTotals[kind.ordinal()];
+                if (total == 0) continue;
+                long ticks = Math.max(1, countdown.ticks() + fight.ticks());
+                long max = Math.max(countdown.packetMax[kind.ordinal()], fight.packetMax[kind.ordinal()]);
+                out.append(String.format(Locale.ROOT, "%-14s %12d %12.2f %12d%n",
+                        kind.name().toLowerCase(Locale.ROOT), total, (double) total / ticks, max));
+            }
+            out.append(String.format(Locale.ROOT, "%-24s %10s %12s%n", "section", "calls", "total ms"));
+            for (int i = 0; i < Math.min(10, sections.size()); i++) {
+                ProfilerSection section = sections.get(i);
+                out.append(String.format(Locale.ROOT, "%-24s %10d %12.2f%n",
+                        section.getName(), section.getTotalCount(), section.getTotalNanos() / 1_000_000.0));
+            }
+            out.append("(includes Mockito dispatch for every Bukkit call; compare runs, not absolute values)");
+            if (pendingTasks > 0) {
+                out.append(String.format(Locale.ROOT, "%n%d tasks still scheduled %d ticks after the event", pendingTasks, MAX_DRAIN_TICKS));
+            }
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package me.oblueberrey.meowMcEvents.simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Headless load simulation: one full event per participant count, reported to stdout.
+ *
+ * Skipped in normal builds. Run with:
+ *   mvn -pl plugin test -Dtest=LoadSimulationTest -Dloadsim=true
+ * Optional: -Dloadsim.players=50,100,500 -Dloadsim.teamSize=2 -Dloadsim.seed=7
+ */
+@EnabledIfSystemProperty(named = "loadsim", matches = "true")
+@DisplayName("Load Simulation")
+class LoadSimulationTest {
+
+    @Test
+    void fullEvent_ShouldFinishAtEveryScale() {
+        int teamSize = Integer.getInteger("loadsim.teamSize", 1);
+        long seed = Long.getLong("loadsim.seed", 42L);
+
+        // Warm-up run so the first reported scale isn't paying for class loading and JIT
+        new LoadSimulation(20, teamSize, seed).run();
+
+        List<LoadSimulation.Report> reports = new ArrayList<>();
+        for (String size : System.getProperty("loadsim.players", "25,50,100,200,300").split(",")) {
+            LoadSimulation.Report report = new LoadSimulation(Integer.parseInt(size.trim()), teamSize, seed).run();
+            System.out.println(report.format());
+            System.out.println();
+            reports.add(report);
+        }
+
+        for (LoadSimulation.Report report : reports) {
+            assertTrue(report.isFinished(), "Event with " + report.participants + " players never ended");
+            assertTrue(report.fight.ticks() > 0, "Event with " + report.participants + " players never started");
+        }
+    }
+}
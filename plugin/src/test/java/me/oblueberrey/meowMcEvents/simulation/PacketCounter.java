@@ -0,0 +1,134 @@
+package me.oblueberrey.meowMcEvents.simulation;
+
+import org.bukkit.Server;
+import org.bukkit.WorldBorder;
+import org.bukkit.boss.BossBar;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Score;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+import org.mockito.Answers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Default answer for every simulated Bukkit object, counting calls that would put
+ * packets on the wire.
+ *
+ * Calls are sorted into kinds by method name first (sendMessage, teleport, playSound...),
+ * then by receiver: any mutator on a scoreboard, boss bar, inventory or world border
+ * counts for that kind. Broadcasts count once per online player. Methods returning a
+ * Bukkit interface get one shared mock per type so chained calls like
+ * {@code getScoreboardManager().getNewScoreboard().registerNewObjective(...)} keep counting.
+ */
+final class PacketCounter implements Answer<Object> {
+
+    enum Kind {
+        CHAT, TITLE, SOUND, PARTICLE, SCOREBOARD, TAB_LIST, BOSS_BAR,
+        VISIBILITY, PLAYER_STATE, INVENTORY, TELEPORT, BORDER
+    }
+
+    static final Kind[] KINDS = Kind.values();
+
+    private static final Map<String, Kind> BY_METHOD = new HashMap<>();
+
+    static {
+        for (String name : new String[]{"sendMessage", "sendActionBar", "sendRichMessage", "broadcastMessage", "broadcast"}) {
+            BY_METHOD.put(name, Kind.CHAT);
+        }
+        for (String name : new String[]{"sendTitle", "showTitle", "sendTitlePart", "resetTitle", "clearTitle"}) {
+            BY_METHOD.put(name, Kind.TITLE);
+        }
+        BY_METHOD.put("playSound", Kind.SOUND);
+        BY_METHOD.put("stopSound", Kind.SOUND);
+        BY_METHOD.put("spawnParticle", Kind.PARTICLE);
+        BY_METHOD.put("setScoreboard", Kind.SCOREBOARD);
+        BY_METHOD.put("setPlayerListHeaderFooter", Kind.TAB_LIST);
+        BY_METHOD.put("setPlayerListHeader", Kind.TAB_LIST);
+        BY_METHOD.put("setPlayerListFooter", Kind.TAB_LIST);
+        BY_METHOD.put("setPlayerListName", Kind.TAB_LIST);
+        BY_METHOD.put("sendPlayerListHeaderAndFooter", Kind.TAB_LIST);
+        for (String name : new String[]{"hidePlayer", "showPlayer", "hideEntity", "showEntity"}) {
+            BY_METHOD.put(name, Kind.VISIBILITY);
+        }
+        BY_METHOD.put("updateInventory", Kind.INVENTORY);
+        BY_METHOD.put("teleport", Kind.TELEPORT);
+        BY_METHOD.put("teleportAsync", Kind.TELEPORT);
+        BY_METHOD.put("setWorldBorder", Kind.BORDER);
+    }
+
+    private final long[] counts = new long[KINDS.length];
+    private final Map<Class<?>, Object> shared = new HashMap<>();
+    private final IntSupplier onlineCount;
+
+    PacketCounter(IntSupplier onlineCount) {
+        this.onlineCount = onlineCount;
+    }
+
+    @Override
+    public Object answer(InvocationOnMock invocation) throws Throwable {
+        count(invocation);
+        return fallback(invocation);
+    }
+
+    /**
+     * Count the call if it is packet-equivalent
+     */
+    void count(InvocationOnMock invocation) {
+        String name = invocation.getMethod().getName();
+        Kind kind = BY_METHOD.get(name);
+        if (kind == null) {
+            kind = byReceiver(invocation.getMock(), name);
+        }
+        if (kind == null) {
+            return;
+        }
+        counts[kind.ordinal()] += name.startsWith("broadcast") && invocation.getMock() instanceof Server
+                ? onlineCount.getAsInt() : 1;
+    }
+
+    /**
+     * Shared mock for Bukkit interface return types, Mockito's empty values otherwise
+     */
+    Object fallback(InvocationOnMock invocation) throws Throwable {
+        Class<?> type = invocation.getMethod().getReturnType();
+        if (type.isInterface() && isBukkitType(type)) {
+            return shared.computeIfAbsent(type, key -> mock(key, withSettings().stubOnly().defaultAnswer(this)));
+        }
+        return Answers.RETURNS_DEFAULTS.answer(invocation);
+    }
+
+    long[] snapshot() {
+        return counts.clone();
+    }
+
+    private static Kind byReceiver(Object receiver, String name) {
+        if (isQuery(name)) return null;
+        if (receiver instanceof Scoreboard || receiver instanceof Objective
+                || receiver instanceof Score || receiver instanceof Team) return Kind.SCOREBOARD;
+        if (receiver instanceof BossBar) return Kind.BOSS_BAR;
+        if (receiver instanceof Inventory) return Kind.INVENTORY;
+        if (receiver instanceof WorldBorder) return Kind.BORDER;
+        if (receiver instanceof Player) return Kind.PLAYER_STATE;
+        return null;
+    }
+
+    private static boolean isQuery(String name) {
+        return name.startsWith("get") || name.startsWith("is") || name.startsWith("has") || name.startsWith("can")
+                || name.equals("toString") || name.equals("spigot") || name.equals("contains");
+    }
+
+    private static boolean isBukkitType(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("org.bukkit.") || name.startsWith("io.papermc.") || name.startsWith("com.destroystokyo.");
+    }
+}
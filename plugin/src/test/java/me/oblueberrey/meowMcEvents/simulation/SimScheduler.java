@@ -0,0 +1,239 @@
+package me.oblueberrey.meowMcEvents.simulation;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Deterministic stand-in for the Bukkit scheduler, advanced one tick at a time.
+ *
+ * Follows CraftScheduler's rules: a delay below one tick runs on the next tick and
+ * only a period above zero repeats. Async tasks also run on the calling thread so
+ * runs are reproducible, but their CPU time is tracked separately because on a real
+ * server it would not land on the main thread. Tasks submitted from the plugin's own
+ * worker threads (stats, arenas, history) are queued and picked up at the next tick,
+ * like CraftScheduler's pending list.
+ */
+final class SimScheduler {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final PriorityQueue<SimTask> queue = new PriorityQueue<>(
+            Comparator.comparingLong((SimTask task) -> task.nextRun).thenComparingInt(task -> task.id));
+    private final Map<Integer, SimTask> tasks = new HashMap<>();
+    // Submitted off the main thread, scheduled at the start of the next tick
+    private final Queue<SimTask> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final Thread mainThread = Thread.currentThread();
+    private final BukkitScheduler bukkitScheduler;
+
+    private long currentTick;
+    private long asyncCpuNanos;
+
+    SimScheduler() {
+        this.bukkitScheduler = mock(BukkitScheduler.class, withSettings().stubOnly().defaultAnswer(this::answer));
+    }
+
+    BukkitScheduler getBukkitScheduler() {
+        return bukkitScheduler;
+    }
+
+    long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Ids of every task not yet finished or cancelled
+     */
+    Set<Integer> getPendingIds() {
+        Set<Integer> ids = new HashSet<>(tasks.keySet());
+        for (SimTask task : incoming) {
+            if (!task.cancelled) ids.add(task.id);
+        }
+        return ids;
+    }
+
+    /**
+     * CPU time spent in async tasks since the last call
+     */
+    long drainAsyncCpuNanos() {
+        long nanos = asyncCpuNanos;
+        asyncCpuNanos = 0;
+        return nanos;
+    }
+
+    /**
+     * Advance one tick and run every task that is due
+     */
+    void tick() {
+        currentTick++;
+        for (SimTask task; (task = incoming.poll()) != null; ) {
+            if (!task.cancelled) schedule(task);
+        }
+        while (!queue.isEmpty() && queue.peek().nextRun <= currentTick) {
+            SimTask task = queue.poll();
+            if (task.cancelled) {
+                continue;
+            }
+            task.run();
+            if (!task.cancelled && task.period > 0) {
+                task.nextRun = currentTick + task.period;
+                queue.add(task);
+            } else {
+                tasks.remove(task.id);
+            }
+        }
+    }
+
+    void cancelAll() {
+        for (SimTask task : tasks.values()) {
+            task.cancelled = true;
+        }
+        tasks.clear();
+        queue.clear();
+        incoming.clear();
+    }
+
+    // ==================== BUKKIT SCHEDULER ====================
+
+    private Object answer(InvocationOnMock invocation) {
+        Object[] args = invocation.getArguments();
+        Class<?> returnType = invocation.getMethod().getReturnType();
+        switch (invocation.getMethod().getName()) {
+            case "runTask":
+                return submit(args, 0L, 0L, true, returnType);
+            case "runTaskAsynchronously":
+                return submit(args, 0L, 0L, false, returnType);
+            case "runTaskLater":
+            case "scheduleSyncDelayedTask":
+                return submit(args, args.length > 2 ? (long) args[2] : 0L, 0L, true, returnType);
+            case "runTaskLaterAsynchronously":
+                return submit(args, (long) args[2], 0L, false, returnType);
+            case "runTaskTimer":
+            case "scheduleSyncRepeatingTask":
+                return submit(args, (long) args[2], (long) args[3], true, returnType);
+            case "runTaskTimerAsynchronously":
+                return submit(args, (long) args[2], (long) args[3], false, returnType);
+            case "cancelTask":
+                SimTask task = tasks.remove((int) args[0]);
+                if (task != null) task.cancelled = true;
+                return null;
+            case "cancelTasks":
+                cancelAll();
+                return null;
+            case "isQueued":
+            case "isCurrentlyRunning":
+                return tasks.containsKey((int) args[0]);
+            case "getPendingTasks":
+                return new ArrayList<BukkitTask>(tasks.values());
+            case "getActiveWorkers":
+                return Collections.emptyList();
+            case "callSyncMethod":
+                return callNow((Callable<?>) args[1]);
+            case "toString":
+                return "SimScheduler";
+            default:
+                throw new UnsupportedOperationException("SimScheduler does not support " + invocation.getMethod());
+        }
+    }
+
+    private Object submit(Object[] args, long delay, long period, boolean sync, Class<?> returnType) {
+        SimTask task = new SimTask(nextId.getAndIncrement(), (Plugin) args[0], args[1], sync, delay, period);
+        if (Thread.currentThread() == mainThread) {
+            schedule(task);
+        } else {
+            incoming.add(task);
+        }
+        if (returnType == int.class) return task.id;
+        if (returnType == void.class) return null;
+        return task;
+    }
+
+    private void schedule(SimTask task) {
+        task.nextRun = currentTick + Math.max(1L, task.delay);
+        tasks.put(task.id, task);
+        queue.add(task);
+    }
+
+    private static CompletableFuture<Object> callNow(Callable<?> callable) {
+        try {
+            return CompletableFuture.<Object>completedFuture(callable.call());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // ==================== TASK ====================
+
+    private final class SimTask implements BukkitTask {
+        private final int id;
+        private final Plugin owner;
+        private final Object body;
+        private final boolean sync;
+        private final long delay;
+        private final long period;
+        private long nextRun;
+        private volatile boolean cancelled;
+
+        private SimTask(int id, Plugin owner, Object body, boolean sync, long delay, long period) {
+            this.id = id;
+            this.owner = owner;
+            this.body = body;
+            this.sync = sync;
+            this.delay = delay;
+            this.period = period;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void run() {
+            long cpuStart = sync ? 0L : THREADS.getCurrentThreadCpuTime();
+            if (body instanceof Runnable) {
+                ((Runnable) body).run();
+            } else {
+                ((Consumer<? super BukkitTask>) body).accept(this);
+            }
+            if (!sync) {
+                asyncCpuNanos += THREADS.getCurrentThreadCpuTime() - cpuStart;
+            }
+        }
+
+        @Override
+        public int getTaskId() {
+            return id;
+        }
+
+        @Override
+        public Plugin getOwner() {
+            return owner;
+        }
+
+        @Override
+        public boolean isSync() {
+            return sync;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            tasks.remove(id);
+        }
+    }
+}
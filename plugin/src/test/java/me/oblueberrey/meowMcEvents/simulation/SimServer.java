@@ -0,0 +1,343 @@
+package me.oblueberrey.meowMcEvents.simulation;
+
+import me.oblueberrey.meowMcEvents.MeowMCEvents;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.PluginManager;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Mocked Bukkit server with one world, a tick-driven scheduler and synthetic players.
+ *
+ * Installed as Bukkit's server and MeowMCEvents' instance for the lifetime of one
+ * simulation, so static lookups in managers and listeners see it. Every mock answers
+ * through the shared {@link PacketCounter}. The plugin manager keeps the executors
+ * registered through it and {@link #callEvent} runs them the way Bukkit does: by
+ * priority, then registration order, skipping ignoreCancelled handlers once the event
+ * is cancelled.
+ */
+final class SimServer implements AutoCloseable {
+
+    static final String WORLD_NAME = "arena";
+
+    private final Logger logger = Logger.getLogger("MeowMCEvents-LoadSim");
+    private final Map<UUID, SimPlayer> online = new LinkedHashMap<>();
+    private final Collection<Player> onlineView = new AbstractCollection<>() {
+        @Override
+        public Iterator<Player> iterator() {
+            Iterator<SimPlayer> players = online.values().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return players.hasNext();
+                }
+
+                @Override
+                public Player next() {
+                    return players.next().getPlayer();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return online.size();
+        }
+    };
+    private final UUID worldId = new UUID(0L, 1L);
+    private final SimScheduler scheduler = new SimScheduler();
+    private final PacketCounter packets = new PacketCounter(online::size);
+    private final World world;
+    private final Server server;
+    private final PluginManager pluginManager;
+    // Replaced on registration, so handlers may register listeners while an event is dispatched
+    private Handler[] handlers = new Handler[0];
+
+    SimServer() {
+        this.world = mock(World.class, withSettings().stubOnly().defaultAnswer(this::worldCall));
+        this.server = mock(Server.class, withSettings().stubOnly().defaultAnswer(this::serverCall));
+        this.pluginManager = mock(PluginManager.class, withSettings().stubOnly().defaultAnswer(this::pluginManagerCall));
+    }
+
+    /**
+     * Point Bukkit and MeowMCEvents.getInstance() at this server and plugin
+     */
+    void install(MeowMCEvents plugin) {
+        setStatic(Bukkit.class, "server", server);
+        setStatic(MeowMCEvents.class, "instance", plugin);
+    }
+
+    @Override
+    public void close() {
+        scheduler.cancelAll();
+        setStatic(Bukkit.class, "server", null);
+        setStatic(MeowMCEvents.class, "instance", null);
+    }
+
+    Server getServer() {
+        return server;
+    }
+
+    World getWorld() {
+        return world;
+    }
+
+    Logger getLogger() {
+        return logger;
+    }
+
+    SimScheduler getScheduler() {
+        return scheduler;
+    }
+
+    PacketCounter getPackets() {
+        return packets;
+    }
+
+    int getOnlineCount() {
+        return online.size();
+    }
+
+    SimPlayer connect(String name, UUID uuid, double x, double z) {
+        SimPlayer player = new SimPlayer(name, uuid, x, z);
+        online.put(uuid, player);
+        return player;
+    }
+
+    void disconnect(SimPlayer player) {
+        player.connected = false;
+        online.remove(player.uuid);
+    }
+
+    /**
+     * Run every registered handler that accepts the event
+     */
+    void callEvent(Event event) {
+        for (Handler handler : handlers) {
+            if (!handler.eventClass.isInstance(event)) continue;
+            if (handler.ignoreCancelled && event instanceof Cancellable && ((Cancellable) event).isCancelled()) continue;
+            try {
+                handler.executor.execute(handler.listener, event);
+            } catch (EventException e) {
+                throw new IllegalStateException("Handler for " + event.getEventName() + " failed", e.getCause());
+            }
+        }
+    }
+
+    // ==================== ANSWERS ====================
+
+    private Object serverCall(InvocationOnMock invocation) throws Throwable {
+        packets.count(invocation);
+        Object[] args = invocation.getArguments();
+        switch (invocation.getMethod().getName()) {
+            case "getScheduler":
+                return scheduler.getBukkitScheduler();
+            case "getPluginManager":
+                return pluginManager;
+            case "getOnlinePlayers":
+                return onlineView;
+            case "getPlayer":
+            case "getPlayerExact":
+                SimPlayer player = args[0] instanceof UUID ? online.get(args[0]) : byName((String) args[0]);
+                return player != null ? player.getPlayer() : null;
+            case "getWorld":
+                return WORLD_NAME.equals(args[0]) || worldId.equals(args[0]) ? world : null;
+            case "getWorlds":
+                return List.of(world);
+            case "getCurrentTick":
+                return (int) scheduler.getCurrentTick();
+            case "getMaxPlayers":
+                return Integer.MAX_VALUE;
+            case "isPrimaryThread":
+                return true;
+            case "getLogger":
+                return logger;
+            case "getName":
+                return "SimServer";
+            default:
+                return packets.fallback(invocation);
+        }
+    }
+
+    private Object worldCall(InvocationOnMock invocation) throws Throwable {
+        packets.count(invocation);
+        switch (invocation.getMethod().getName()) {
+            case "getName":
+                return WORLD_NAME;
+            case "getUID":
+                return worldId;
+            case "getPlayers":
+                return new ArrayList<>(onlineView);
+            default:
+                return packets.fallback(invocation);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object pluginManagerCall(InvocationOnMock invocation) throws Throwable {
+        Object[] args = invocation.getArguments();
+        switch (invocation.getMethod().getName()) {
+            case "registerEvent":
+                // registerEvent(event, listener, priority, executor, plugin[, ignoreCancelled])
+                Handler handler = new Handler((Class<? extends Event>) args[0], (Listener) args[1],
+                        (EventPriority) args[2], (EventExecutor) args[3], args.length > 5 && (boolean) args[5]);
+                Handler[] grown = Arrays.copyOf(handlers, handlers.length + 1);
+                grown[handlers.length] = handler;
+                // Stable sort keeps registration order within a priority
+                Arrays.sort(grown, Comparator.comparingInt(h -> h.priority.getSlot()));
+                handlers = grown;
+                return null;
+            case "callEvent":
+                callEvent((Event) args[0]);
+                return null;
+            case "isPluginEnabled":
+                return true;
+            default:
+                return packets.fallback(invocation);
+        }
+    }
+
+    private SimPlayer byName(String name) {
+        for (SimPlayer player : online.values()) {
+            if (player.name.equalsIgnoreCase(name)) return player;
+        }
+        return null;
+    }
+
+    private static void setStatic(Class<?> owner, String name, Object value) {
+        try {
+            Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(null, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not set " + owner.getSimpleName() + "." + name, e);
+        }
+    }
+
+    private static final class Handler {
+        private final Class<? extends Event> eventClass;
+        private final Listener listener;
+        private final EventPriority priority;
+        private final EventExecutor executor;
+        private final boolean ignoreCancelled;
+
+        private Handler(Class<? extends Event> eventClass, Listener listener, EventPriority priority,
+                        EventExecutor executor, boolean ignoreCancelled) {
+            this.eventClass = eventClass;
+            this.listener = listener;
+            this.priority = priority;
+            this.executor = executor;
+            this.ignoreCancelled = ignoreCancelled;
+        }
+    }
+
+    // ==================== PLAYER ====================
+
+    /**
+     * A synthetic player: identity, position and game mode are real state, everything else is counted
+     */
+    final class SimPlayer {
+        private final String name;
+        private final UUID uuid;
+        private final Player player;
+        private double x;
+        private double z;
+        private GameMode gameMode = GameMode.SURVIVAL;
+        private boolean connected = true;
+
+        private SimPlayer(String name, UUID uuid, double x, double z) {
+            this.name = name;
+            this.uuid = uuid;
+            this.x = x;
+            this.z = z;
+            this.player = mock(Player.class, withSettings().stubOnly().defaultAnswer(this::playerCall));
+        }
+
+        Player getPlayer() {
+            return player;
+        }
+
+        UUID getUniqueId() {
+            return uuid;
+        }
+
+        boolean isOnline() {
+            return connected;
+        }
+
+        Location location() {
+            return new Location(world, x, 64.0, z);
+        }
+
+        void moveTo(double x, double z) {
+            this.x = x;
+            this.z = z;
+        }
+
+        private Object playerCall(InvocationOnMock invocation) throws Throwable {
+            packets.count(invocation);
+            Object[] args = invocation.getArguments();
+            switch (invocation.getMethod().getName()) {
+                case "getUniqueId":
+                    return uuid;
+                case "getName":
+                case "getDisplayName":
+                case "getPlayerListName":
+                    return name;
+                case "isOnline":
+                case "isValid":
+                case "isConnected":
+                    return connected;
+                case "isDead":
+                    return false;
+                case "getLocation":
+                    if (args.length == 0) return location();
+                    Location into = (Location) args[0];
+                    if (into != null) {
+                        into.setWorld(world);
+                        into.setX(x);
+                        into.setY(64.0);
+                        into.setZ(z);
+                    }
+                    return into;
+                case "getWorld":
+                    return world;
+                case "getServer":
+                    return server;
+                case "getHealth":
+                case "getMaxHealth":
+                    return 20.0;
+                case "getGameMode":
+                    return gameMode;
+                case "setGameMode":
+                    gameMode = (GameMode) args[0];
+                    return null;
+                case "teleport":
+                    if (args[0] instanceof Location) {
+                        Location to = (Location) args[0];
+                        moveTo(to.getX(), to.getZ());
+                    }
+                    return true;
+                default:
+                    return packets.fallback(invocation);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package me.oblueberrey.meowMcEvents.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncLogWriterTest {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private File folder;
+    private List<String> errors;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        folder = Files.createTempDirectory("meowlogs").toFile();
+        errors = new ArrayList<>();
+    }
+
+    private AsyncLogWriter writer(int capacity, AsyncLogWriter.OverflowPolicy policy, int retentionDays) {
+        return new AsyncLogWriter(folder, "meowevents", capacity, policy, 50, retentionDays, ZONE, errors::add);
+    }
+
+    private String todaysLog() throws IOException {
+        File file = new File(folder, "meowevents-" + LocalDate.now(ZONE) + ".log");
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void close_ShouldWriteEverythingQueued() throws IOException {
+        AsyncLogWriter writer = writer(1024, AsyncLogWriter.OverflowPolicy.DROP_NEWEST, 14);
+        writer.start();
+        for (int i = 0; i < 500; i++) {
+            assertTrue(writer.offer("INFO", "EVENTS", "line " + i, null));
+        }
+        writer.offer("ERROR", "ERRORS", "boom", new IllegalStateException("broken"));
+        writer.close();
+
+        String log = todaysLog();
+        assertTrue(log.contains("[INFO] [EVENTS] line 0\n"));
+        assertTrue(log.contains("[INFO] [EVENTS] line 499\n"));
+        assertTrue(log.contains("[ERROR] [ERRORS] boom\n"));
+        assertTrue(log.contains("[STACKTRACE]"));
+        assertTrue(log.contains("java.lang.IllegalStateException: broken"));
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    void offer_ShouldDropNewestWhenFull() throws IOException {
+        AsyncLogWriter writer = writer(16, AsyncLogWriter.OverflowPolicy.DROP_NEWEST, 14);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i < 16, writer.offer("INFO", "EVENTS", "line " + i, null));
+        }
+        assertEquals(4, writer.getDroppedCount());
+        assertEquals(16, writer.getQueuedCount());
+
+        writer.start();
+        writer.close();
+
+        String log = todaysLog();
+        assertTrue(log.contains("line 0\n"));
+        assertTrue(log.contains("line 15\n"));
+        assertFalse(log.contains("line 16\n"));
+        assertTrue(log.contains("4 log lines dropped"));
+    }
+
+    @Test
+    void offer_ShouldDropOldestWhenFull() throws IOException {
+        AsyncLogWriter writer = writer(16, AsyncLogWriter.OverflowPolicy.DROP_OLDEST, 14);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(writer.offer("INFO", "EVENTS", "line " + i, null));
+        }
+        assertEquals(4, writer.getDroppedCount());
+        assertEquals(16, writer.getQueuedCount());
+
+        writer.start();
+        writer.close();
+
+        String log = todaysLog();
+        assertFalse(log.contains("line 3\n"));
+        assertTrue(log.contains("line 4\n"));
+        assertTrue(log.contains("line 19\n"));
+    }
+
+    @Test
+    void start_ShouldGzipLogsFromEarlierDays() throws IOException {
+        File old = new File(folder, "meowevents-2020-01-01.log");
+        Files.write(old.toPath(), "old line\n".getBytes(StandardCharsets.UTF_8));
+        File expired = new File(folder, "meowevents-2019-01-01.log.gz");
+        Files.write(expired.toPath(), new byte[0]);
+
+        AsyncLogWriter writer = writer(64, AsyncLogWriter.OverflowPolicy.DROP_NEWEST, 30);
+        writer.start();
+        writer.offer("INFO", "EVENTS", "new line", null);
+        writer.close();
+
+        File archive = new File(folder, "meowevents-2020-01-01.log.gz");
+        assertFalse(old.exists());
+        assertTrue(archive.exists());
+        assertFalse(expired.exists());
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(archive.toPath()))) {
+            assertEquals("old line\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertTrue(todaysLog().contains("new line"));
+    }
+
+    @Test
+    void setFormat_ShouldWriteJsonLines() throws IOException {
+        AsyncLogWriter writer = writer(64, AsyncLogWriter.OverflowPolicy.DROP_NEWEST, 14);
+        writer.setFormat(AsyncLogWriter.Format.JSON);
+        writer.start();
+        UUID player = UUID.randomUUID();
+        writer.offer("INFO", "PLAYERS", "Eliminating \"Steve\"", null, 42L,
+                LogFields.of().player(player).team(2).count("alive", 7));
+        writer.close();
+
+        File json = new File(folder, "meowevents-" + LocalDate.now(ZONE) + ".jsonl");
+        String line = new String(Files.readAllBytes(json.toPath()), StandardCharsets.UTF_8);
+        assertTrue(line.startsWith("{\"ts\":\""));
+        assertTrue(line.contains("\"level\":\"INFO\",\"category\":\"PLAYERS\",\"message\":\"Eliminating \\\"Steve\\\"\""));
+        assertTrue(line.contains("\"event\":42,\"player\":\"" + player + "\",\"team\":2,\"alive\":7}\n"));
+        assertFalse(new File(folder, "meowevents-" + LocalDate.now(ZONE) + ".log").exists());
+    }
+
+    @Test
+    void offer_ShouldRejectAfterClose() {
+        AsyncLogWriter writer = writer(64, AsyncLogWriter.OverflowPolicy.DROP_NEWEST, 14);
+        writer.start();
+        writer.close();
+
+        assertFalse(writer.offer("INFO", "EVENTS", "late", null));
+    }
+}
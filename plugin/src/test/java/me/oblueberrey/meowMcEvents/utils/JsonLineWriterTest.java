@@ -0,0 +1,44 @@
+package me.oblueberrey.meowMcEvents.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLineWriterTest {
+
+    @Test
+    void line_ShouldWriteTypedFields() {
+        JsonLineWriter json = new JsonLineWriter(16);
+        json.begin().field("level", "INFO").field("team", 3).field("missing", (String) null).end();
+
+        assertEquals("{\"level\":\"INFO\",\"team\":3,\"missing\":null}", json.line().toString());
+    }
+
+    @Test
+    void field_ShouldEscapeStrings() {
+        JsonLineWriter json = new JsonLineWriter(16);
+        json.begin().field("message", "say \"hi\"\\\n\tdone\u0001").end();
+
+        assertEquals("{\"message\":\"say \\\"hi\\\"\\\\\\n\\tdone\\u0001\"}", json.line().toString());
+    }
+
+    @Test
+    void field_ShouldFormatUuidLikeToString() {
+        UUID uuid = UUID.fromString("0a1b2c3d-4e5f-6071-8293-a4b5c6d7e8f9");
+        JsonLineWriter json = new JsonLineWriter(16);
+        json.begin().field("player", uuid).end();
+
+        assertEquals("{\"player\":\"" + uuid + "\"}", json.line().toString());
+    }
+
+    @Test
+    void begin_ShouldResetTheBuffer() {
+        JsonLineWriter json = new JsonLineWriter(16);
+        json.begin().field("a", 1).end();
+        json.begin().field("b", 2).end();
+
+        assertEquals("{\"b\":2}", json.line().toString());
+    }
+}
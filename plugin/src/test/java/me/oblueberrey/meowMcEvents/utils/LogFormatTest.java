@@ -0,0 +1,34 @@
+package me.oblueberrey.meowMcEvents.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogFormatTest {
+
+    @Test
+    void format_ShouldReplacePlaceholdersInOrder() {
+        assertEquals("Steve joined team 3", LogFormat.format("{} joined team {}", "Steve", 3));
+        assertEquals("a-b-c", LogFormat.format("{}-{}-{}", "a", "b", "c"));
+    }
+
+    @Test
+    void format_ShouldLeaveExtraPlaceholders() {
+        assertEquals("x and {}", LogFormat.format("{} and {}", "x"));
+    }
+
+    @Test
+    void format_ShouldIgnoreExtraArguments() {
+        assertEquals("only x", LogFormat.format("only {}", "x", "y"));
+    }
+
+    @Test
+    void format_ShouldPrintNullArguments() {
+        assertEquals("value null", LogFormat.format("value {}", (Object) null));
+    }
+
+    @Test
+    void format_ShouldReturnPatternWithoutArguments() {
+        assertEquals("plain", LogFormat.format("plain"));
+    }
+}